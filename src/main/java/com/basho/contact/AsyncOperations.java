@@ -0,0 +1,162 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.actions.ActionParams;
+import com.basho.contact.commands.core.DeleteCommand;
+import com.basho.contact.commands.core.FetchCommand;
+import com.basho.contact.commands.core.Query2iCommand;
+import com.basho.contact.commands.core.StoreCommand;
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.bucket.Bucket;
+import com.basho.riak.client.builders.RiakObjectBuilder;
+import com.basho.riak.client.cap.VClock;
+import com.basho.riak.client.convert.ConversionException;
+import com.basho.riak.client.convert.Converter;
+import com.basho.riak.client.operations.StoreObject;
+import com.basho.riak.client.query.indexes.BinIndex;
+import com.basho.riak.client.query.indexes.FetchIndex;
+import com.basho.riak.client.query.indexes.IntIndex;
+
+import java.util.concurrent.Callable;
+
+// Riak operations for scripts, see contact.fetchAsync etc. Each operation
+// runs on the executor's bulk lane with its own pooled connection. They
+// don't run the pre/post actions, so they're safe to call from an action.
+public class AsyncOperations {
+
+    private static final String DEFAULT_CONTENT_TYPE = "text/plain";
+
+    private final RuntimeContext ctx;
+
+    public AsyncOperations(RuntimeContext ctx) {
+        this.ctx = ctx;
+    }
+
+    private static abstract class RiakTask {
+        final String bucket;
+
+        RiakTask(String bucket) {
+            this.bucket = bucket;
+        }
+
+        abstract Object call(Bucket b) throws Exception;
+    }
+
+    private ScriptFuture submit(Class<?> command, final RiakTask task) {
+        if (!ctx.getAccessPolicy().canAccess(command, null)) {
+            return ScriptFuture.failed(
+                    new SecurityException("The current Contact security policy has denied access to this command."));
+        }
+        ScriptFuture future = new ScriptFuture(new Callable<Object>() {
+            public Object call() throws Exception {
+                IRiakClient conn = ctx.getConnectionProvider().getDefaultClient(ctx);
+                if (conn == null) {
+                    throw new IllegalStateException("Not connected to Riak");
+                }
+                try {
+                    return task.call(ctx.getBucketCache().fetchBucket(conn, task.bucket));
+                } finally {
+                    ctx.getConnectionProvider().releaseClient(conn);
+                }
+            }
+        });
+        ctx.getExecutor().execute(future);
+        return future;
+    }
+
+    // the object, or null if the key isn't found
+    public ScriptFuture fetch(final String bucket, final String key) {
+        return submit(FetchCommand.class, new RiakTask(bucket) {
+            Object call(Bucket b) throws Exception {
+                ActionParams params = new ActionParams();
+                params.bucket = bucket;
+                return FetchCommand.newFetchObject(ctx, b, key, params).execute();
+            }
+        });
+    }
+
+    public ScriptFuture store(final String bucket, final String key, final String value, final String contentType) {
+        return submit(StoreCommand.class, new RiakTask(bucket) {
+            Object call(Bucket b) throws Exception {
+                IRiakObject obj = RiakObjectBuilder.newBuilder(bucket, key)
+                        .withContentType(contentType == null ? DEFAULT_CONTENT_TYPE : contentType)
+                        .withValue(value)
+                        .build();
+                StoreObject<IRiakObject> so = b.store(obj);
+                if (b.getAllowSiblings()) {
+                    so.withResolver(ctx.getActionListener().getResolverMill().getResolverForBucket(bucket));
+                    so.withConverter(new Converter<IRiakObject>() {
+                        public IRiakObject fromDomain(IRiakObject domainObject, VClock vclock) throws ConversionException {
+                            return domainObject;
+                        }
+
+                        public IRiakObject toDomain(IRiakObject riakObject) throws ConversionException {
+                            return riakObject;
+                        }
+                    });
+                }
+                return so.execute();
+            }
+        });
+    }
+
+    public ScriptFuture delete(final String bucket, final String key) {
+        return submit(DeleteCommand.class, new RiakTask(bucket) {
+            Object call(Bucket b) throws Exception {
+                b.delete(key).execute();
+                return null;
+            }
+        });
+    }
+
+    // the matching keys. Index names ending in _int take numbers, _bin strings.
+    public ScriptFuture query2i(final String bucket, final String index, final Object from, final Object to) {
+        return submit(Query2iCommand.class, new RiakTask(bucket) {
+            Object call(Bucket b) throws Exception {
+                FetchIndex<?> fi;
+                if (index.endsWith("_bin")) {
+                    fi = to == null ?
+                            b.fetchIndex(BinIndex.named(index)).withValue(from.toString()) :
+                            b.fetchIndex(BinIndex.named(index)).from(from.toString()).to(to.toString());
+                } else if (index.endsWith("_int")) {
+                    fi = to == null ?
+                            b.fetchIndex(IntIndex.named(index)).withValue(toLong(from)) :
+                            b.fetchIndex(IntIndex.named(index)).from(toLong(from)).to(toLong(to));
+                } else {
+                    throw new IllegalArgumentException("Index names must end in _bin or _int:" + index);
+                }
+                return fi.execute();
+            }
+        });
+    }
+
+    // Javascript numbers arrive as doubles
+    private static long toLong(Object o) {
+        if (o instanceof Number) {
+            return ((Number) o).longValue();
+        }
+        return Long.parseLong(o.toString());
+    }
+}
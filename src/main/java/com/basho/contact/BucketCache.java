@@ -0,0 +1,121 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.RiakRetryFailedException;
+import com.basho.riak.client.bucket.Bucket;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Caches fetched Buckets (and their props) per connection so single key
+// ops don't pay an extra round-trip. Entries expire after ttlMillis, and are
+// dropped whenever bucket properties are set from this session.
+public class BucketCache {
+    public static final long DEFAULT_TTL_MILLIS = 60 * 1000;
+
+    static class Entry {
+        Bucket bucket;
+        long expires;
+
+        Entry(Bucket bucket, long expires) {
+            this.bucket = bucket;
+            this.expires = expires;
+        }
+    }
+
+    private Map<IRiakClient, Map<String, Entry>> buckets =
+            new ConcurrentHashMap<IRiakClient, Map<String, Entry>>();
+
+    private volatile long ttlMillis = DEFAULT_TTL_MILLIS;
+    private AtomicLong hits = new AtomicLong();
+    private AtomicLong misses = new AtomicLong();
+
+    public Bucket fetchBucket(IRiakClient client, String bucket) throws RiakRetryFailedException {
+        if (ttlMillis <= 0) {
+            // caching disabled
+            misses.incrementAndGet();
+            return client.fetchBucket(bucket).execute();
+        }
+        Map<String, Entry> clientBuckets = getClientBuckets(client);
+        long now = System.currentTimeMillis();
+        Entry e = clientBuckets.get(bucket);
+        if (e != null && e.expires > now) {
+            hits.incrementAndGet();
+            return e.bucket;
+        }
+        misses.incrementAndGet();
+        Bucket b = client.fetchBucket(bucket).execute();
+        clientBuckets.put(bucket, new Entry(b, now + ttlMillis));
+        return b;
+    }
+
+    private synchronized Map<String, Entry> getClientBuckets(IRiakClient client) {
+        Map<String, Entry> clientBuckets = buckets.get(client);
+        if (clientBuckets == null) {
+            clientBuckets = new ConcurrentHashMap<String, Entry>();
+            buckets.put(client, clientBuckets);
+        }
+        return clientBuckets;
+    }
+
+    // bucket props are cluster wide, so drop the bucket for every connection
+    public void invalidate(String bucket) {
+        for (Map<String, Entry> clientBuckets : buckets.values()) {
+            clientBuckets.remove(bucket);
+        }
+    }
+
+    public void invalidate(IRiakClient client) {
+        buckets.remove(client);
+    }
+
+    public void clear() {
+        buckets.clear();
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    public void setTtlMillis(long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        if (ttlMillis <= 0) {
+            clear();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public String toString() {
+        return "<bucket_cache hits:" + hits.get() + " misses:" + misses.get() + " ttl:" + ttlMillis + "ms>";
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import java.util.Collection;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+// Pings every node of every pool in the background. Nodes that fail a ping
+// are taken out of rotation and retried with exponential backoff, and are put
+// back as soon as a ping succeeds.
+public class ConnectionHealthChecker implements Runnable {
+    public static final long DEFAULT_INTERVAL_MILLIS = 5 * 1000;
+    public static final long MAX_BACKOFF_MILLIS = 5 * 60 * 1000;
+
+    private final Collection<ConnectionPool> pools;
+    private final long intervalMillis;
+    private ScheduledExecutorService scheduler = null;
+
+    public ConnectionHealthChecker(Collection<ConnectionPool> pools, long intervalMillis) {
+        this.pools = pools;
+        this.intervalMillis = intervalMillis;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "contact-health-checker");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        scheduler.scheduleWithFixedDelay(this, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public void run() {
+        for (ConnectionPool pool : pools) {
+            for (ConnectionPool.Node node : pool.getNodes()) {
+                checkNode(node, System.currentTimeMillis());
+            }
+        }
+    }
+
+    public void checkNode(ConnectionPool.Node node, long now) {
+        if (!node.isHealthy() && now < node.getNextCheck()) {
+            // still backing off
+            return;
+        }
+        try {
+            node.getClient().ping();
+            node.markHealthy();
+        } catch (Throwable t) {
+            node.markUnhealthy(now, intervalMillis, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+}
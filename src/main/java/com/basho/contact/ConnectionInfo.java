@@ -29,8 +29,22 @@ public class ConnectionInfo {
     public int httpport;
     public String erlnode;
     public String id;
+    public ConnectionPool pool;
 
     public String toString() {
-        return "<connection:" + id + ":" + host + ":" + pbport + ":" + erlnode + ">";
+        if (pool == null) {
+            return "<connection:" + id + ":" + host + ":" + pbport + ":" + erlnode + ">";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("<connection:").append(id).append(":").append(host).append(":").append(pbport)
+          .append(":").append(erlnode)
+          .append(" strategy=").append(pool.getStrategy().toString().toLowerCase())
+          .append(" pool_size=").append(pool.getPoolSize())
+          .append(" in_use=").append(pool.getInUse());
+        for (ConnectionPool.Node n : pool.getNodes()) {
+            sb.append("\n    [").append(n).append("]");
+        }
+        sb.append(">");
+        return sb.toString();
     }
 }
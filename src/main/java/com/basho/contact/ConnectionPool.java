@@ -0,0 +1,245 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.RiakException;
+import com.basho.riak.client.RiakFactory;
+import com.basho.riak.client.raw.pbc.PBClientConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// A named connection: one bounded PB socket pool per Riak node, with
+// commands spread across the nodes by the selected strategy.
+public class ConnectionPool {
+    public static final int DEFAULT_POOL_SIZE = 16;
+
+    public enum Strategy {
+        ROUND_ROBIN,
+        LEAST_OUTSTANDING;
+
+        public static Strategy fromString(String s) {
+            if (s == null) {
+                return ROUND_ROBIN;
+            }
+            return Strategy.valueOf(s.trim().toUpperCase());
+        }
+    }
+
+    public static class Node {
+        private final String host;
+        private final int port;
+        private final IRiakClient client;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicLong requests = new AtomicLong();
+
+        // maintained by the ConnectionHealthChecker
+        private volatile boolean healthy = true;
+        private int failures = 0;
+        private long nextCheck = 0;
+
+        public Node(String host, int port, IRiakClient client) {
+            this.host = host;
+            this.port = port;
+            this.client = client;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public IRiakClient getClient() {
+            return client;
+        }
+
+        public int getOutstanding() {
+            return outstanding.get();
+        }
+
+        public long getRequests() {
+            return requests.get();
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public synchronized int getFailures() {
+            return failures;
+        }
+
+        synchronized long getNextCheck() {
+            return nextCheck;
+        }
+
+        synchronized void markHealthy() {
+            healthy = true;
+            failures = 0;
+            nextCheck = 0;
+        }
+
+        // eject the node, and back off exponentially before pinging it again
+        synchronized void markUnhealthy(long now, long intervalMillis, long maxBackoffMillis) {
+            healthy = false;
+            failures++;
+            long backoff = intervalMillis << Math.min(failures - 1, 20);
+            nextCheck = now + Math.min(backoff, maxBackoffMillis);
+        }
+
+        public String toString() {
+            return host + ":" + port + (healthy ? "" : " DOWN") +
+                    " requests=" + requests.get() + " in_use=" + outstanding.get();
+        }
+    }
+
+    private final List<Node> nodes;
+    private final int poolSize;
+    private final Strategy strategy;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ConnectionPool(List<Node> nodes, int poolSize, Strategy strategy) {
+        this.nodes = Collections.unmodifiableList(new ArrayList<Node>(nodes));
+        this.poolSize = poolSize;
+        this.strategy = strategy;
+    }
+
+    public static Node newNode(String host, int port, int poolSize) throws RiakException {
+        PBClientConfig pbconf = new PBClientConfig.Builder()
+                .withHost(host)
+                .withPort(port)
+                .withPoolSize(poolSize)
+                .build();
+        IRiakClient client = RiakFactory.newClient(pbconf);
+        return new Node(host, port, client);
+    }
+
+    // picks a node for a single command, call release() when the command is done
+    public Node acquire() {
+        if (nodes.isEmpty()) {
+            return null;
+        }
+        List<Node> candidates = healthyNodes();
+        if (candidates.isEmpty()) {
+            // nothing is known to be up, so let the command try its luck
+            candidates = nodes;
+        }
+        Node node;
+        if (strategy == Strategy.LEAST_OUTSTANDING) {
+            node = leastOutstanding(candidates);
+        } else {
+            node = candidates.get((counter.getAndIncrement() & Integer.MAX_VALUE) % candidates.size());
+        }
+        node.outstanding.incrementAndGet();
+        node.requests.incrementAndGet();
+        return node;
+    }
+
+    private List<Node> healthyNodes() {
+        for (Node n : nodes) {
+            if (!n.healthy) {
+                List<Node> healthy = new ArrayList<Node>(nodes.size());
+                for (Node h : nodes) {
+                    if (h.healthy) {
+                        healthy.add(h);
+                    }
+                }
+                return healthy;
+            }
+        }
+        return nodes;
+    }
+
+    private Node leastOutstanding(List<Node> candidates) {
+        // start at a rotating offset so ties don't always land on the first node
+        int start = (counter.getAndIncrement() & Integer.MAX_VALUE) % candidates.size();
+        Node best = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            Node n = candidates.get((start + i) % candidates.size());
+            if (best == null || n.outstanding.get() < best.outstanding.get()) {
+                best = n;
+            }
+        }
+        return best;
+    }
+
+    public boolean release(IRiakClient client) {
+        for (Node n : nodes) {
+            if (n.client == client) {
+                n.outstanding.decrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // a command got an IO error from client, so eject its node now instead of
+    // waiting for the next health check. Only the first failure of an outage
+    // counts towards the backoff. Returns false if client isn't from this pool.
+    public boolean markFailed(IRiakClient client, long now, long intervalMillis, long maxBackoffMillis) {
+        for (Node n : nodes) {
+            if (n.client == client) {
+                synchronized (n) {
+                    if (n.healthy) {
+                        n.markUnhealthy(now, intervalMillis, maxBackoffMillis);
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public int getInUse() {
+        int inUse = 0;
+        for (Node n : nodes) {
+            inUse += n.outstanding.get();
+        }
+        return inUse;
+    }
+
+    public void shutdown() {
+        for (Node n : nodes) {
+            n.client.shutdown();
+        }
+    }
+}
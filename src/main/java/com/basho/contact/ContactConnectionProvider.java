@@ -24,6 +24,7 @@ package com.basho.contact;
 
 import com.basho.riak.client.IRiakClient;
 
+import java.util.List;
 import java.util.Map;
 
 public interface ContactConnectionProvider {
@@ -40,5 +41,21 @@ public interface ContactConnectionProvider {
 
     public IRiakClient createNamedConnection(String host, int port, String clientname, RuntimeContext ctx);
 
+    public IRiakClient createNamedConnection(List<String> hosts, int poolSize, ConnectionPool.Strategy strategy,
+                                             String clientname, RuntimeContext ctx);
+
+    // clients handed out by getDefaultClient/getClientByName are returned here
+    // once the command using them is finished
+    public void releaseClient(IRiakClient client);
+
+    // a command got an IO error from client, take its node out of rotation
+    // until the health checker can reach it again
+    public void reportFailure(IRiakClient client);
+
+    // periodically ping every node, taking unhealthy nodes out of rotation
+    public void startHealthChecks(long intervalMillis);
+
+    public void stopHealthChecks();
+
     public Map<String, ConnectionInfo> getAllConnections();
 }
@@ -24,14 +24,15 @@ package com.basho.contact;
 
 // NOTE: source for the JLine v1 ANSIBuffer is in this project
 
+import com.basho.contact.actions.JSActionListener;
 import com.basho.contact.parser.ContactBaseListener;
-import com.basho.contact.parser.ContactLexer;
 import com.basho.contact.parser.ContactParser;
+import com.basho.contact.plan.Plan;
+import com.basho.contact.plan.PlanExecutor;
+import com.basho.contact.plan.PlanNode;
 import jline.ANSIBuffer;
 import jline.console.ConsoleReader;
 import jline.console.completer.CompletionHandler;
-import org.antlr.v4.runtime.ANTLRInputStream;
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.apache.commons.cli.*;
 
@@ -43,6 +44,9 @@ import java.util.Map;
 
 public class ContactConsole {
 
+    // the most --infile statements compiled into one plan
+    static final int SCRIPT_WINDOW = 64;
+
     static String[] keywords = {
             "let",
             "pb",
@@ -71,6 +75,7 @@ public class ContactConsole {
             "properties",
             "load",
             "script",
+            "plugin",
             "list",
             "buckets",
             "keys",
@@ -84,6 +89,15 @@ public class ContactConsole {
             "json",
             "text",
             "xml",
+            "async",
+            "await",
+            "executor",
+            "limits",
+            "prepare",
+            "execute",
+            "for",
+            "in",
+            "parallel",
 
             "exit",
             "quit",
@@ -132,26 +146,64 @@ public class ContactConsole {
         consoleOnlyCommands.put("clear", clear);
     }
 
-    // TODO: this is a waste... reuse objects!
-    private static void processInput(String line,  List<ContactBaseListener> walkers, RuntimeContext runtimeCtx) {
-        ANTLRInputStream input = new ANTLRInputStream(line);
-        ContactLexer lexer = new ContactLexer(input);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        ContactParser parser = new ContactParser(tokens);
+    // { minus } outside of strings and here documents, so a loop typed over
+    // several lines is only run once it's closed
+    private static int braceDepth(String line, boolean inHereDoc) {
+        int depth = 0;
+        boolean inString = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (line.startsWith("~%~", i) && (i == 0 || line.charAt(i - 1) != '\\') && !inString) {
+                inHereDoc = !inHereDoc;
+                i += 2;
+            } else if (inHereDoc) {
+                continue;
+            } else if (inString) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth--;
+            }
+        }
+        return depth;
+    }
 
-        // combine these two into one
-        parser.addErrorListener(new ContactErrorListener(runtimeCtx));
+    // compiles the input into a plan, then runs it
+    private static void processInput(String line, ParserPipeline parser, ContactWalker compiler,
+                                     PlanExecutor executor, List<ContactBaseListener> walkers) {
+        Plan plan = compileInput(line, parser, compiler, walkers);
+        if (plan == null) {
+            return;
+        }
+        try {
+            executor.execute(plan);
+        } catch (Throwable t) {
+            // ignore, as for parse errors
+        }
+    }
 
+    // null if the input couldn't be parsed or compiled
+    private static Plan compileInput(String input, ParserPipeline parser, ContactWalker compiler,
+                                     List<ContactBaseListener> walkers) {
         ParseTreeWalker walker = new ParseTreeWalker();
         try {
-            ContactParser.ProgContext prog = parser.prog();
+            ContactParser.ProgContext prog = parser.parse(input);
+            Plan plan = compiler.compile(prog);
             for(ContactBaseListener w: walkers) {
                 walker.walk(w, prog);
             }
+            return plan;
         } catch (Throwable t) {
             // catch parse errors. ANTLR will display a message for me.
+            return null;
         }
-
     }
 
     private static void processOutput(RuntimeContext runtimeCtx, PrintWriter out, boolean ansi) {
@@ -220,11 +272,67 @@ public class ContactConsole {
                 .withLongOpt("nosignals")
                 .withDescription("Don't catch the Ctrl-C (INT) signal").create();
 
+        Option bucketCacheTtl = OptionBuilder
+                .withLongOpt("bucketcachettl")
+                .withDescription("Seconds to cache bucket properties, 0 to disable (default 60)")
+                .hasArg()
+                .withArgName("seconds")
+                .create();
+
+        Option healthCheck = OptionBuilder
+                .withLongOpt("healthcheck")
+                .withDescription("Seconds between node health checks, 0 to disable (default 5)")
+                .hasArg()
+                .withArgName("seconds")
+                .create();
+
+        Option parallel = OptionBuilder
+                .withLongOpt("parallel")
+                .withDescription("Run independent --infile statements concurrently (default " + ParallelScheduler.DEFAULT_MAX_PARALLEL + ")")
+                .hasOptionalArg()
+                .withArgName("n")
+                .create();
+
+        Option executorType = OptionBuilder
+                .withLongOpt("executor")
+                .withDescription("Executor type: fixed, workstealing (Java 7+) or virtual (Java 21+) (default fixed)")
+                .hasArg()
+                .withArgName("type")
+                .create();
+
+        Option poolSize = OptionBuilder
+                .withLongOpt("poolsize")
+                .withDescription("Threads per executor lane (default " + ContactExecutor.DEFAULT_POOL_SIZE + ")")
+                .hasArg()
+                .withArgName("n")
+                .create();
+
+        Option jsEngine = OptionBuilder
+                .withLongOpt("jsengine")
+                .withDescription("Engine for actions and resolvers: rhino, or any JSR-223 engine name such as nashorn (default rhino)")
+                .hasArg()
+                .withArgName("name")
+                .create();
+
+        Option jsOpt = OptionBuilder
+                .withLongOpt("jsopt")
+                .withDescription("Rhino optimization level, -1 (interpreted) to 9 (default 0)")
+                .hasArg()
+                .withArgName("level")
+                .create();
+
         options.addOption(help);
         options.addOption(nocolor);
         options.addOption(noconfig);
         options.addOption(infile);
         options.addOption(nosignals);
+        options.addOption(bucketCacheTtl);
+        options.addOption(healthCheck);
+        options.addOption(parallel);
+        options.addOption(executorType);
+        options.addOption(poolSize);
+        options.addOption(jsEngine);
+        options.addOption(jsOpt);
         CommandLineParser parser = new org.apache.commons.cli.GnuParser();
         try {
             CommandLine line = parser.parse(options, args);
@@ -241,18 +349,80 @@ public class ContactConsole {
         return null;
     }
 
-    private static void readInputFile(String filename,  List<ContactBaseListener> walkers, RuntimeContext runtimeCtx) {
-        String input = null;
+    // parses and runs one statement at a time, so memory use doesn't grow with
+    // the size of the file and the first statement runs as soon as it's read.
+    // Stops at the first syntax error.
+    private static void readInputFile(String filename, ParserPipeline parser, ContactWalker compiler,
+                                      PlanExecutor executor, List<ContactBaseListener> walkers,
+                                      RuntimeContext runtimeCtx, PrintWriter out, boolean ansi) {
+        StatementReader reader = null;
         try {
-            File f = new File(filename);
-            input = org.apache.commons.io.FileUtils.readFileToString(f);
-        } catch (Exception e) {
+            reader = new StatementReader(new BufferedReader(new FileReader(filename), 64 * 1024));
+            runScript(reader, filename, parser, compiler, executor, walkers, runtimeCtx, out, ansi);
+        } catch (IOException e) {
             e.printStackTrace();
             System.exit(-1);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
         }
-        if (input != null && !input.trim().isEmpty()) {
-            processInput(input, walkers, runtimeCtx);
+    }
+
+    // Statements are compiled into one plan a window at a time, so passes
+    // such as MergeFetchesPass see the statements next to each other. A
+    // window holds up to SCRIPT_WINDOW statements, and a use or a loop
+    // starts a new one. Stops at the first syntax error, after running the
+    // statements before it.
+    static void runScript(StatementReader reader, String name, ParserPipeline parser, ContactWalker compiler,
+                          PlanExecutor executor, List<ContactBaseListener> walkers,
+                          RuntimeContext runtimeCtx, PrintWriter out, boolean ansi) throws IOException {
+        Plan window = new Plan();
+        int statements = 0;
+        String statement;
+        while ((statement = reader.next()) != null) {
+            if (statements == SCRIPT_WINDOW || (statements > 0 && startsWindow(statement))) {
+                runWindow(window, executor, runtimeCtx, out, ansi);
+                window = new Plan();
+                statements = 0;
+            }
+            Plan plan = compileInput(statement, parser, compiler, walkers);
+            if (runtimeCtx.isParseError()) {
+                runtimeCtx.setParseError(false);
+                runWindow(window, executor, runtimeCtx, out, ansi);
+                System.err.println("Syntax error in the statement at line " + reader.getLine() + " of " + name);
+                return;
+            }
+            if (plan != null) {
+                for (PlanNode node : plan.getNodes()) {
+                    window.add(node);
+                }
+            }
+            statements++;
+        }
+        runWindow(window, executor, runtimeCtx, out, ansi);
+    }
+
+    private static void runWindow(Plan window, PlanExecutor executor, RuntimeContext runtimeCtx,
+                                  PrintWriter out, boolean ansi) {
+        try {
+            executor.execute(window);
+        } catch (Throwable t) {
+            // ignore, as in processInput
         }
+        processOutput(runtimeCtx, out, ansi);
+    }
+
+    private static boolean startsWindow(String statement) {
+        return startsWithWord(statement, "use") || startsWithWord(statement, "for");
+    }
+
+    private static boolean startsWithWord(String s, String word) {
+        return s.startsWith(word) && s.length() > word.length() && Character.isWhitespace(s.charAt(word.length()));
     }
 
     // somewhat of a mess
@@ -268,14 +438,81 @@ public class ContactConsole {
         PrintWriter out = new PrintWriter(System.out);
         DefaultConnectionProvider connections = new DefaultConnectionProvider();
         RuntimeContext ctx = new RuntimeContext(connections, System.out, System.err);
+        if (commandLine.hasOption("executor") || commandLine.hasOption("poolsize")) {
+            ContactExecutor executor = ctx.getExecutor();
+            try {
+                ContactExecutor.PoolType type = ContactExecutor.PoolType.fromString(commandLine.getOptionValue("executor"));
+                int poolSize = executor.getPoolSize();
+                if (commandLine.hasOption("poolsize")) {
+                    poolSize = Integer.parseInt(commandLine.getOptionValue("poolsize"));
+                }
+                executor.configure(type, poolSize, executor.getQueueSize());
+            } catch (Exception e) {
+                System.err.println("Invalid executor settings: " + e.getMessage());
+                System.exit(-1);
+            }
+        }
+        if (commandLine.hasOption("jsengine") || commandLine.hasOption("jsopt")) {
+            try {
+                String engine = commandLine.getOptionValue("jsengine", JSActionListener.DEFAULT_ENGINE);
+                int level = JSActionListener.DEFAULT_OPTIMIZATION_LEVEL;
+                if (commandLine.hasOption("jsopt")) {
+                    level = Integer.parseInt(commandLine.getOptionValue("jsopt"));
+                }
+                ctx.configureScripting(engine, level);
+            } catch (Exception e) {
+                System.err.println("Invalid script engine settings: " + e.getMessage());
+                System.exit(-1);
+            }
+        }
+        ParallelScheduler scheduler = null;
+        if (commandLine.hasOption("infile") && commandLine.hasOption("parallel")) {
+            int maxParallel = ParallelScheduler.DEFAULT_MAX_PARALLEL;
+            if (commandLine.getOptionValue("parallel") != null) {
+                try {
+                    maxParallel = Integer.parseInt(commandLine.getOptionValue("parallel"));
+                } catch (NumberFormatException e) {
+                    maxParallel = 0;
+                }
+                if (maxParallel < 1) {
+                    System.err.println("Invalid parallel value: " + commandLine.getOptionValue("parallel"));
+                    System.exit(-1);
+                }
+            }
+            scheduler = new ParallelScheduler(ctx, maxParallel, System.out);
+            // capture action output so it can be written in statement order
+            ctx.resetIO(scheduler.getOutputStream(), System.err);
+        }
+        if (commandLine.hasOption("bucketcachettl")) {
+            try {
+                long ttl = Long.parseLong(commandLine.getOptionValue("bucketcachettl"));
+                ctx.getBucketCache().setTtlMillis(ttl * 1000);
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid bucketcachettl value: " + commandLine.getOptionValue("bucketcachettl"));
+                System.exit(-1);
+            }
+        }
+        long healthCheckSeconds = ConnectionHealthChecker.DEFAULT_INTERVAL_MILLIS / 1000;
+        if (commandLine.hasOption("healthcheck")) {
+            try {
+                healthCheckSeconds = Long.parseLong(commandLine.getOptionValue("healthcheck"));
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid healthcheck value: " + commandLine.getOptionValue("healthcheck"));
+                System.exit(-1);
+            }
+        }
+        if (healthCheckSeconds > 0) {
+            connections.startHealthChecks(healthCheckSeconds * 1000);
+        }
         if (!commandLine.hasOption("nosignals")) {
             ConsoleSignalHander.install("INT", ctx);
         }
         ContactWalker walker = new ContactWalker(ctx);
+        PlanExecutor executor = new PlanExecutor(ctx);
         ContactAdminWalker adminWalker = new ContactAdminWalker(ctx);
         List<ContactBaseListener> walkers = new ArrayList<ContactBaseListener>();
-        walkers.add(walker);
         walkers.add(adminWalker);
+        ParserPipeline parser = new ParserPipeline(ctx);
 
         boolean nextLinePrompt = false;
 
@@ -293,14 +530,20 @@ public class ContactConsole {
                 e.printStackTrace();
             }
             if (config != null && !config.trim().isEmpty()) {
-                processInput(config, walkers, ctx);
+                processInput(config, parser, walker, executor, walkers);
                 processOutput(ctx, out, !commandLine.hasOption("nocolor"));
             }
         }
 
         if (commandLine.hasOption("infile")) {
             String filename = commandLine.getOptionValue("infile");
-            readInputFile(filename, walkers, ctx);
+            ctx.setScheduler(scheduler);
+            readInputFile(filename, parser, walker, executor, walkers, ctx, out, !commandLine.hasOption("nocolor"));
+            if (scheduler != null) {
+                scheduler.barrier();
+            }
+            // don't exit out from under async commands
+            ctx.awaitAll();
             ctx.getActionListener().term();
             System.exit(0);
         }
@@ -312,6 +555,8 @@ public class ContactConsole {
         ansiprompt.green("> ");
         String prompt = ansiprompt.toString(!commandLine.hasOption("nocolor"));
         boolean inHereDoc = false;
+        // unclosed { of a loop
+        int braces = 0;
 
 
 
@@ -324,22 +569,25 @@ public class ContactConsole {
                 continue;
             }
 
+            braces += braceDepth(line, inHereDoc);
             if (line.contains("~%~") && !line.contains("\\~%~")) {
                 inHereDoc = !inHereDoc;
             }
 
-            if (!line.trim().endsWith(";")) {
+            boolean complete = line.trim().endsWith(";") || (braces == 0 && line.trim().endsWith("}"));
+            if (!complete || braces > 0) {
                 nextLinePrompt = true;
                 lines.append(line);
                 lines.append("\n");
-            } else if (line.trim().endsWith(";") && !inHereDoc) {
+            } else if (!inHereDoc) {
                 lines.append(line);
                 String input = lines.toString();
                 nextLinePrompt = false;
-                processInput(input, walkers, ctx);
+                processInput(input, parser, walker, executor, walkers);
                 processOutput(ctx, out, !commandLine.hasOption("nocolor"));
                 lines = new StringBuffer();
-            } else if (inHereDoc) {
+                braces = 0;
+            } else {
                 lines.append(line);
                 lines.append("\n");
             }
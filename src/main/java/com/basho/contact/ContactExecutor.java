@@ -24,22 +24,212 @@ package com.basho.contact;
 
 import com.basho.contact.symbols.ContactSymbol;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+// Commands run on one of two lanes: "interactive" for statements the user is
+// waiting on, and "bulk" for async commands and --parallel scripts, so a big
+// batch can't starve the prompt. Each lane has its own pool and, for fixed
+// pools, its own bounded queue. When a fixed pool's queue is full the
+// submitting thread runs the task itself, which slows the producer down.
+// configure() can replace the lanes at any time; a task that reaches a lane
+// after it has been shut down is passed on to the lane that replaced it.
 public class ContactExecutor {
 
-    ExecutorService executor = Executors.newFixedThreadPool(10);
+    public enum PoolType {
+        FIXED, WORKSTEALING, VIRTUAL;
 
-    Future<?> currentFuture = null;
+        public static PoolType fromString(String s) {
+            if (s == null) {
+                return FIXED;
+            }
+            return PoolType.valueOf(s.trim().toUpperCase());
+        }
+    }
+
+    public static final int DEFAULT_POOL_SIZE = 10;
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    private volatile Lane interactive;
+    private volatile Lane bulk;
+    private PoolType poolType;
+    private int poolSize;
+    private int queueSize;
+
+    volatile Future<?> currentFuture = null;
+
+    // commands started with "async" that haven't been waited on
+    private final List<Future<?>> asyncFutures = new ArrayList<Future<?>>();
+
+    public ContactExecutor() {
+        configure(PoolType.FIXED, DEFAULT_POOL_SIZE, DEFAULT_QUEUE_SIZE);
+    }
+
+    // replaces both lanes. Tasks already submitted finish on the old pools.
+    // Throws UnsupportedOperationException if this JVM can't create the pool type.
+    public synchronized void configure(PoolType type, int poolSize, int queueSize) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("pool_size must be > 0");
+        }
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("queue_size must be > 0");
+        }
+        Lane newInteractive = new Lane("interactive", newService(type, poolSize, queueSize, "contact-interactive"));
+        Lane newBulk = new Lane("bulk", newService(type, poolSize, queueSize, "contact-bulk"));
+        Lane oldInteractive = interactive;
+        Lane oldBulk = bulk;
+        interactive = newInteractive;
+        bulk = newBulk;
+        this.poolType = type;
+        this.poolSize = poolSize;
+        this.queueSize = queueSize;
+        if (oldInteractive != null) {
+            oldInteractive.service.shutdown();
+        }
+        if (oldBulk != null) {
+            oldBulk.service.shutdown();
+        }
+    }
+
+    private static ExecutorService newService(PoolType type, int poolSize, int queueSize, String name) {
+        switch (type) {
+            case WORKSTEALING:
+                // ForkJoinPool is Java 7+, look it up so we still run on 6
+                try {
+                    Class<?> fj = Class.forName("java.util.concurrent.ForkJoinPool");
+                    return (ExecutorService) fj.getConstructor(int.class).newInstance(poolSize);
+                } catch (Exception e) {
+                    throw new UnsupportedOperationException("Work stealing pools require Java 7 or later");
+                }
+            case VIRTUAL:
+                // one virtual thread per task, Java 21+. pool_size doesn't apply
+                try {
+                    return (ExecutorService) java.util.concurrent.Executors.class
+                            .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                } catch (Exception e) {
+                    throw new UnsupportedOperationException("Virtual threads require Java 21 or later");
+                }
+            default:
+                return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<Runnable>(queueSize),
+                        new NamedThreadFactory(name),
+                        new CallerRunsUnlessShutdown());
+        }
+    }
+
+    // CallerRunsPolicy silently drops tasks once the pool is shut down, which
+    // leaves their futures waiting forever. Reject them instead so they can go
+    // to the current lane.
+    private static class CallerRunsUnlessShutdown implements RejectedExecutionHandler {
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor pool) {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("Lane has been replaced");
+            }
+            r.run();
+        }
+    }
 
     public Future<?> submitTask(Callable<? extends ContactSymbol<?>> task) {
-        currentFuture = executor.submit(task);
+        currentFuture = submit(true, task);
         return currentFuture;
     }
 
+    // used by ParallelScheduler, which tracks its own statements
+    public void execute(Runnable task) {
+        execute(false, task);
+    }
+
+    // the lane read here may be replaced and shut down before the task gets
+    // to it, in which case the task is retried on the lane that replaced it
+    private void execute(boolean interactiveLane, Runnable task) {
+        while (true) {
+            Lane lane = interactiveLane ? interactive : bulk;
+            try {
+                lane.execute(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                if (lane == (interactiveLane ? interactive : bulk)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private <T> Future<T> submit(boolean interactiveLane, Callable<T> task) {
+        FutureTask<T> future = new FutureTask<T>(task);
+        try {
+            execute(interactiveLane, future);
+        } catch (RejectedExecutionException e) {
+            // don't leave anyone waiting on a task that will never run
+            future.cancel(false);
+        }
+        return future;
+    }
+
+    public <T extends ContactSymbol<?>> Future<T> submitAsyncTask(Callable<T> task) {
+        Future<T> future = submit(false, task);
+        synchronized (asyncFutures) {
+            // drop anything that's already finished
+            for (int i = asyncFutures.size() - 1; i >= 0; i--) {
+                if (asyncFutures.get(i).isDone()) {
+                    asyncFutures.remove(i);
+                }
+            }
+            asyncFutures.add(future);
+        }
+        return future;
+    }
+
+    // wait for every outstanding async command. Errors are reported by the
+    // commands themselves, or by whoever awaits the bound symbol.
+    public void awaitAsyncTasks() {
+        List<Future<?>> futures;
+        synchronized (asyncFutures) {
+            futures = new ArrayList<Future<?>>(asyncFutures);
+            asyncFutures.clear();
+        }
+        for (Future<?> f : futures) {
+            try {
+                f.get();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+    }
+
+    public int getAsyncTaskCount() {
+        synchronized (asyncFutures) {
+            int count = 0;
+            for (Future<?> f : asyncFutures) {
+                if (!f.isDone()) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    public void cancelAsyncTasks() {
+        synchronized (asyncFutures) {
+            for (Future<?> f : asyncFutures) {
+                f.cancel(true);
+            }
+            asyncFutures.clear();
+        }
+    }
+
     public Future<?> getCurrentFuture() {
         return currentFuture;
     }
@@ -47,4 +237,108 @@ public class ContactExecutor {
     public void cleanCurrentFuture() {
         currentFuture = null;
     }
+
+    public Lane getInteractiveLane() {
+        return interactive;
+    }
+
+    public Lane getBulkLane() {
+        return bulk;
+    }
+
+    public synchronized PoolType getPoolType() {
+        return poolType;
+    }
+
+    public synchronized int getPoolSize() {
+        return poolSize;
+    }
+
+    public synchronized int getQueueSize() {
+        return queueSize;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        synchronized (this) {
+            sb.append("<executor type:").append(poolType.toString().toLowerCase());
+            sb.append(" pool_size:").append(poolSize);
+            sb.append(" queue_size:").append(queueSize).append(">\n");
+        }
+        sb.append("  ").append(interactive).append("\n");
+        sb.append("  ").append(bulk);
+        return sb.toString();
+    }
+
+    // counts are kept here rather than asked of the pool so they work the
+    // same for every pool type
+    public static class Lane {
+        private final String name;
+        private final ExecutorService service;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicLong completed = new AtomicLong();
+
+        Lane(String name, ExecutorService service) {
+            this.name = name;
+            this.service = service;
+        }
+
+        // throws RejectedExecutionException if the lane has been shut down
+        void execute(final Runnable task) {
+            queued.incrementAndGet();
+            try {
+                service.execute(new Runnable() {
+                    public void run() {
+                        queued.decrementAndGet();
+                        active.incrementAndGet();
+                        try {
+                            task.run();
+                        } finally {
+                            active.decrementAndGet();
+                            completed.incrementAndGet();
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                queued.decrementAndGet();
+                throw e;
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getQueued() {
+            return queued.get();
+        }
+
+        public int getActive() {
+            return active.get();
+        }
+
+        public long getCompleted() {
+            return completed.get();
+        }
+
+        @Override
+        public String toString() {
+            return "<" + name + " active:" + active.get() + " queued:" + queued.get() + " completed:" + completed.get() + ">";
+        }
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger count = new AtomicInteger();
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public Thread newThread(Runnable r) {
+            return new Thread(r, prefix + "-" + count.incrementAndGet());
+        }
+    }
 }
@@ -22,27 +22,58 @@
 
 package com.basho.contact;
 
+import com.basho.contact.actions.ContactActionListener;
+import com.basho.contact.actions.ScriptLimits;
+import com.basho.contact.commands.CommandUtils;
+import com.basho.contact.commands.InvalidOptionValueException;
 import com.basho.contact.commands.RiakCommand;
 import com.basho.contact.commands.core.*;
 import com.basho.contact.parser.*;
 import com.basho.contact.parser.ContactParser.*;
+import com.basho.contact.plan.CommandNode;
+import com.basho.contact.plan.LoopNode;
+import com.basho.contact.plan.Plan;
+import com.basho.contact.plan.PlanNode;
+import com.basho.contact.plan.SetActionNode;
+import com.basho.contact.plan.UseNode;
 import com.basho.contact.symbols.ContactSymbol;
+import com.basho.contact.symbols.KeyIterator;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeProperty;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static junit.framework.Assert.assertEquals;
 
+// Compiles a parse tree into a Plan. Statements aren't run while the tree is
+// walked, each one becomes a PlanNode and PlanExecutor runs the plan once the
+// whole input has been seen.
 public class ContactWalker extends ContactBaseListener {
     ParseTreeProperty<Object> values = new ParseTreeProperty<Object>();
 
     public RuntimeContext runtimeCtx = null;
 
+    private Plan plan = new Plan();
+
+    // set while walking "prepare", which only records the statement
+    private boolean preparing = false;
+    // placeholder token index -> value, while execute walks a prepared statement
+    private Map<Integer, String> boundParams = null;
+    private boolean unboundPlaceholder = false;
+    // fetch keys from $binding in the current statement
+    private String keyBinding = null;
+    // > 0 while walking the body of a loop, which is compiled when the loop runs
+    private int loopDepth = 0;
+    // loop variable -> value, while a loop's body is compiled
+    private Map<String, String> loopVars = Collections.emptyMap();
+
     public ContactWalker(RuntimeContext ctx) {
         this.runtimeCtx = ctx;
     }
@@ -55,6 +86,83 @@ public class ContactWalker extends ContactBaseListener {
         return values.get(node);
     }
 
+    // synchronized as loops in a parallel loop compile their bodies from
+    // the loop's worker threads
+    public synchronized Plan compile(ParseTree tree) {
+        plan = new Plan();
+        ParseTreeWalker.DEFAULT.walk(this, tree);
+        return plan;
+    }
+
+    private synchronized Plan compileLoopBody(List<ParseTree> body, Map<String, String> vars) {
+        Plan outerPlan = plan;
+        Map<String, String> outerVars = loopVars;
+        plan = new Plan();
+        loopVars = vars;
+        try {
+            for (ParseTree t : body) {
+                ParseTreeWalker.DEFAULT.walk(this, t);
+            }
+            return plan;
+        } finally {
+            plan = outerPlan;
+            loopVars = outerVars;
+        }
+    }
+
+    private void addNode(PlanNode node) {
+        if (loopDepth == 0) {
+            plan.add(node);
+        }
+    }
+
+    // joins the parts of a value: strings, values bound to ? placeholders,
+    // loop variables and numbers. null if a part has no value yet.
+    private String valueOf(ValueContext ctx) {
+        StringBuilder sb = new StringBuilder();
+        for (Value_partContext part : ctx.parts) {
+            String s = valueOf(part);
+            if (s == null) {
+                return null;
+            }
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    private String valueOf(Value_partContext ctx) {
+        if (ctx.STRING() != null) {
+            return ParseUtils.stripQuotes(ctx.STRING().getText());
+        } else if (ctx.INT() != null) {
+            return ctx.INT().getText();
+        } else if (ctx.identifier() != null) {
+            String name = ctx.identifier().getText();
+            if (loopVars.containsKey(name)) {
+                return loopVars.get(name);
+            }
+            if (loopDepth == 0 && !preparing && !unboundPlaceholder) {
+                runtimeCtx.appendError("Unknown loop variable " + name);
+                unboundPlaceholder = true;
+            }
+            return null;
+        }
+        if (boundParams != null) {
+            return boundParams.get(ctx.QMARK().getSymbol().getTokenIndex());
+        }
+        if (loopDepth == 0 && !preparing && !unboundPlaceholder) {
+            runtimeCtx.appendError("? can only be used in a prepared statement");
+            unboundPlaceholder = true;
+        }
+        return null;
+    }
+
+
+    // nothing needs the values once the input has been compiled, and a long
+    // --infile script would otherwise keep every statement's parse tree alive
+    @Override
+    public void exitProg(ProgContext ctx) {
+        values = new ParseTreeProperty<Object>();
+    }
 
     @Override
     public void exitAssignment(AssignmentContext ctx) {
@@ -87,8 +195,23 @@ public class ContactWalker extends ContactBaseListener {
         setValue(ctx, o);
     }
 
+    // plain Riak commands can be handed to the scheduler, anything else may
+    // change state that earlier commands depend on
+    private boolean isSchedulable(StatContext ctx) {
+        return ctx.ASYNC() == null && (ctx.op_with_options() != null || ctx.using() != null || ctx.execute() != null);
+    }
+
+    @Override
+    public void enterStat(StatContext ctx) {
+        unboundPlaceholder = false;
+        keyBinding = null;
+    }
+
     @Override
     public void exitStat(StatContext ctx) {
+        if (loopDepth > 0) {
+            return;
+        }
         Object o = null;
         if (ctx.op_with_options() != null) {
             o = getValue(ctx.op_with_options());
@@ -104,34 +227,236 @@ public class ContactWalker extends ContactBaseListener {
             o = getValue(ctx.connections());
         }
 
-        if(runtimeCtx.isParseError()) {
+        if(runtimeCtx.isParseError() || unboundPlaceholder) {
             return;
         }
 
-        if (o != null) {
-            //System.out.println("Executing " + o.getClass().getName());
-            if (o instanceof RiakCommand) {
-                RiakCommand<?, ?> cmd = (RiakCommand<?, ?>) o;
+        if (ctx.execute() != null) {
+            addNode(newExecuteNode(ctx));
+            return;
+        }
+
+        if (ctx.ASYNC() != null && !(o instanceof RiakCommand)) {
+            runtimeCtx.appendError("async can only be used with Riak commands");
+            return;
+        }
+
+        if (o instanceof RiakCommand) {
+            addNode(newCommandNode(ctx, (RiakCommand<?, ?>) o));
+        }
+    }
+
+    private CommandNode newCommandNode(StatContext ctx, RiakCommand<?, ?> cmd) {
+        return newCommandNode(cmd, assignmentOf(ctx), connectionIdOf(ctx), ctx.ASYNC() != null, isSchedulable(ctx));
+    }
+
+    private CommandNode newCommandNode(RiakCommand<?, ?> cmd, String assignment, String connectionId,
+                                       boolean async, boolean schedulable) {
+        CommandNode node = new CommandNode(cmd, assignment, connectionId, async, schedulable);
+        node.setKeyBinding(keyBinding);
+        return node;
+    }
+
+    private String assignmentOf(StatContext ctx) {
+        return ctx.assignment() == null ? null : (String) getValue(ctx.assignment());
+    }
+
+    private String connectionIdOf(StatContext ctx) {
+        return ctx.connection_selector() == null ? null : (String) getValue(ctx.connection_selector());
+    }
+
+    @Override
+    public void enterFor_loop(For_loopContext ctx) {
+        loopDepth++;
+    }
+
+    @Override
+    public void exitFor_loop(For_loopContext ctx) {
+        loopDepth--;
+        if (loopDepth > 0 || runtimeCtx.isParseError()) {
+            return;
+        }
+        // the statements and loops between the braces
+        final List<ParseTree> body = new ArrayList<ParseTree>();
+        for (ParseTree child : ctx.children) {
+            if (child instanceof StatContext || child instanceof For_loopContext) {
+                body.add(child);
+            }
+        }
+        LoopNode.Body compiler = new LoopNode.Body() {
+            public Plan compile(Map<String, String> vars) {
+                return compileLoopBody(body, vars);
+            }
+        };
+        String var = ctx.var.getText();
+        int parallelism = 1;
+        if (ctx.parallelism != null) {
+            parallelism = Integer.parseInt(ctx.parallelism.getText());
+            if (parallelism < 1) {
+                runtimeCtx.appendError("parallel must be > 0");
+                return;
+            }
+        }
+        if (ctx.binding != null) {
+            addNode(LoopNode.overBinding(var, ctx.binding.getText(), parallelism, loopVars, compiler));
+        } else {
+            long from = Long.parseLong(ctx.from.getText());
+            long to = Long.parseLong(ctx.to.getText());
+            addNode(LoopNode.overRange(var, from, to, parallelism, loopVars, compiler));
+        }
+    }
+
+    @Override
+    public void enterPrepare(PrepareContext ctx) {
+        preparing = true;
+    }
 
-                if(ctx.connection_selector() != null) {
-                    String conn_id = (String)getValue(ctx.connection_selector());
-                    System.out.println("Using connection " + conn_id);
-                    cmd.params.connection_id = conn_id;
+    @Override
+    public void exitPrepare(PrepareContext ctx) {
+        preparing = false;
+        if (runtimeCtx.isParseError()) {
+            return;
+        }
+        ParseTree statement = ctx.op_with_options() != null ? ctx.op_with_options() : ctx.using();
+        final PreparedStatement prepared = new PreparedStatement(ctx.name.getText(), statement);
+        addNode(new PlanNode("prepare " + prepared.getName()) {
+            public void run(RuntimeContext runtimeCtx) {
+                runtimeCtx.prepare(prepared);
+            }
+        });
+    }
+
+    // builds and runs a command from the prepared statement for each set of
+    // parameters: the ones given, or each key in a binding. The statement is
+    // only looked up when the node runs, it may be prepared earlier in the plan.
+    // The assignment and connection are read now, the walker's values are
+    // reset once the plan is compiled.
+    private PlanNode newExecuteNode(StatContext ctx) {
+        ExecuteContext ex = ctx.execute();
+        final String name = ex.name.getText();
+        final String bindingName = ex.keybinding == null ? null : ex.keybinding.getText();
+        final List<String> params = new ArrayList<String>();
+        for (Token t : ex.params) {
+            params.add(ParseUtils.stripQuotes(t.getText()));
+        }
+        final ExecuteTarget target = new ExecuteTarget(assignmentOf(ctx), connectionIdOf(ctx),
+                ctx.ASYNC() != null, isSchedulable(ctx));
+        final Map<String, String> vars = loopVars;
+        return new PlanNode("execute " + name) {
+            public void run(RuntimeContext runtimeCtx) {
+                PreparedStatement prepared = runtimeCtx.getPreparedStatement(name);
+                if (prepared == null) {
+                    runtimeCtx.appendError("Unknown prepared statement " + name);
+                    return;
+                }
+                if (bindingName == null) {
+                    executePrepared(target, prepared, params, vars);
+                    return;
+                }
+                ContactSymbol<?> sym = runtimeCtx.getBinding(bindingName);
+                if (sym == null) {
+                    return;
                 }
-                if (cmd.params.bucket == null) {
-                    cmd.params.bucket = runtimeCtx.getCurrentBucket();
+                KeyIterator keys;
+                try {
+                    keys = MultiFetchCommand.keysFromSymbol(sym);
+                } catch (IOException e) {
+                    runtimeCtx.appendError("Can't read keys from " + bindingName, e);
+                    return;
                 }
-                cmd.params.ctx = runtimeCtx;
-                ContactSymbol<?> sym = cmd.doExec(runtimeCtx);
-                runtimeCtx.lastResult = sym;
-                if (ctx.assignment() != null) {
-                    String name = (String) getValue(ctx.assignment());
-                    runtimeCtx.bind(name, runtimeCtx.lastResult);
+                if (keys == null) {
+                    runtimeCtx.appendError("Binding " + bindingName + " doesn't contain a list of keys");
+                    return;
                 }
-                setValue(ctx, sym);
+                try {
+                    while (keys.hasNext()) {
+                        if (!executePrepared(target, prepared, Collections.singletonList(keys.next()), vars)) {
+                            return;
+                        }
+                    }
+                } finally {
+                    keys.close();
+                }
+            }
 
+            @Override
+            public boolean isSchedulable() {
+                return target.schedulable;
             }
+        };
+    }
+
+    // what an execute statement does with each command it builds
+    private static class ExecuteTarget {
+        final String assignment;
+        final String connectionId;
+        final boolean async;
+        final boolean schedulable;
+
+        ExecuteTarget(String assignment, String connectionId, boolean async, boolean schedulable) {
+            this.assignment = assignment;
+            this.connectionId = connectionId;
+            this.async = async;
+            this.schedulable = schedulable;
+        }
+    }
+
+    private boolean executePrepared(ExecuteTarget target, PreparedStatement prepared, List<String> params,
+                                    Map<String, String> vars) {
+        CommandNode node = null;
+        synchronized (this) {
+            try {
+                boundParams = prepared.bind(params);
+            } catch (IllegalArgumentException e) {
+                runtimeCtx.appendError(e.getMessage());
+                return false;
+            }
+            Map<String, String> outerVars = loopVars;
+            loopVars = vars;
+            keyBinding = null;
+            try {
+                ParseTreeWalker.DEFAULT.walk(this, prepared.getStatement());
+            } finally {
+                boundParams = null;
+                loopVars = outerVars;
+            }
+            Object o = getValue(prepared.getStatement());
+            if (o instanceof RiakCommand) {
+                node = newCommandNode((RiakCommand<?, ?>) o, target.assignment, target.connectionId,
+                        target.async, target.schedulable);
+            }
+        }
+        if (node == null) {
+            return true;
+        }
+        if (LoopNode.inParallelIteration()) {
+            node.runInline(runtimeCtx);
+        } else {
+            node.run(runtimeCtx);
         }
+        return true;
+    }
+
+    @Override
+    public void exitAwait_op(Await_opContext ctx) {
+        if (runtimeCtx.isParseError()) {
+            return;
+        }
+        final List<String> names = new ArrayList<String>();
+        for (IdentifierContext id : ctx.names) {
+            names.add(id.getText());
+        }
+        addNode(new PlanNode("await " + names) {
+            public void run(RuntimeContext runtimeCtx) {
+                if (names.isEmpty()) {
+                    runtimeCtx.awaitAll();
+                } else {
+                    for (String name : names) {
+                        runtimeCtx.lastResult = runtimeCtx.awaitBinding(name);
+                    }
+                }
+            }
+        });
     }
 
     @Override
@@ -156,63 +481,191 @@ public class ContactWalker extends ContactBaseListener {
 
     @Override
     public void exitGet(GetContext ctx) {
-        if (ctx.get_action() != null) {
-            setValue(ctx, getValue(ctx.get_action()));
-        } else if(ctx.BUCKET() != null) {
-                // TODO: This would be better in stmt.
-                GetBucketCommand cmd = new GetBucketCommand();
-                cmd.params.bucket = runtimeCtx.getCurrentBucket();
-                cmd.params.ctx = runtimeCtx;
-                ContactSymbol<?> sym = cmd.doExec(runtimeCtx);
-                runtimeCtx.lastResult = sym;
-                setValue(ctx, sym);
+        if(ctx.BUCKET() != null) {
+            // TODO: This would be better in stmt.
+            addNode(new CommandNode(new GetBucketCommand(), null, null, false, false));
+        } else if(ctx.EXECUTOR() != null) {
+            addNode(new PlanNode("get executor") {
+                public void run(RuntimeContext runtimeCtx) {
+                    System.out.println(runtimeCtx.getExecutor());
+                }
+            });
+        } else if(ctx.LIMITS() != null) {
+            addNode(new PlanNode("get script limits") {
+                public void run(RuntimeContext runtimeCtx) {
+                    System.out.println(runtimeCtx.getScriptLimits());
+                }
+            });
+        } else if(ctx.ENGINE() != null) {
+            addNode(new PlanNode("get script engine") {
+                public void run(RuntimeContext runtimeCtx) {
+                    System.out.println("<script_engine name:" + runtimeCtx.getScriptEngine() +
+                            " optimization_level:" + runtimeCtx.getOptimizationLevel() + ">");
+                }
+            });
         }
     }
 
     @Override
     public void exitGet_action(Get_actionContext ctx) {
-        String action = ctx.actionname.getText();
-        if (runtimeCtx.getJSActionListener().getAvailableActions().contains(action)) {
-            // print this directly to the console
-            System.out.println(runtimeCtx.getJSActionListener().getJSBody(action));
-        } else {
-            runtimeCtx.appendError(action + " is an invalid action");
-        }
+        final String action = ctx.actionname.getText();
+        addNode(new PlanNode("get action " + action) {
+            public void run(RuntimeContext runtimeCtx) {
+                if (runtimeCtx.getJSActionListener().getAvailableActions().contains(action)) {
+                    // print this directly to the console
+                    System.out.println(runtimeCtx.getJSActionListener().getJSBody(action));
+                } else {
+                    runtimeCtx.appendError(action + " is an invalid action");
+                }
+            }
+
+            @Override
+            public boolean runsScripts() {
+                return false;
+            }
+        });
     }
 
     @Override
     public void exitSet_action(Set_actionContext ctx) {
         String action = ctx.actionname.getText();
         String code = (String) getValue(ctx.code_string());
-        if (runtimeCtx.getJSActionListener().getAvailableActions().contains(action)) {
-            // print this directly to the console
-            runtimeCtx.getJSActionListener().setJSBody(action, code);
-        } else {
-            runtimeCtx.appendError(action + " is an invalid action");
+        addNode(new SetActionNode(action, code));
+    }
+
+
+
+    @Override
+    public void exitSet_executor(Set_executorContext ctx) {
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> options = (Map<String, Object>) getValue(ctx.optionslist());
+        addNode(new PlanNode("set executor") {
+            public void run(RuntimeContext runtimeCtx) {
+                configureExecutor(options);
+            }
+        });
+    }
+
+    private void configureExecutor(Map<String, Object> options) {
+        ContactExecutor executor = runtimeCtx.getExecutor();
+        ContactExecutor.PoolType type = executor.getPoolType();
+        int poolSize = executor.getPoolSize();
+        int queueSize = executor.getQueueSize();
+        for (String key : options.keySet()) {
+            Object val = options.get(key);
+            try {
+                if (key.equals("type")) {
+                    type = ContactExecutor.PoolType.fromString(val.toString());
+                } else if (key.equals("pool_size")) {
+                    poolSize = CommandUtils.objectToInt(val);
+                } else if (key.equals("queue_size")) {
+                    queueSize = CommandUtils.objectToInt(val);
+                } else {
+                    runtimeCtx.appendError("Unknown executor option:" + key);
+                    return;
+                }
+            } catch (Exception e) {
+                runtimeCtx.appendError(new InvalidOptionValueException("set executor", key, val.toString()));
+                return;
+            }
+        }
+        try {
+            executor.configure(type, poolSize, queueSize);
+        } catch (Exception e) {
+            runtimeCtx.appendError("Can't configure executor", e);
         }
     }
 
+    @Override
+    public void exitSet_limits(Set_limitsContext ctx) {
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> options = (Map<String, Object>) getValue(ctx.optionslist());
+        addNode(new PlanNode("set script limits") {
+            public void run(RuntimeContext runtimeCtx) {
+                configureLimits(options);
+            }
+        });
+    }
 
+    private void configureLimits(Map<String, Object> options) {
+        ScriptLimits limits = runtimeCtx.getScriptLimits();
+        long maxInstructions = limits.getMaxInstructions();
+        long timeoutMillis = limits.getTimeoutMillis();
+        int disableAfter = limits.getDisableAfter();
+        for (String key : options.keySet()) {
+            Object val = options.get(key);
+            try {
+                if (key.equals("max_instructions")) {
+                    maxInstructions = CommandUtils.objectToLong(val);
+                } else if (key.equals("timeout_ms")) {
+                    timeoutMillis = CommandUtils.objectToLong(val);
+                } else if (key.equals("disable_after")) {
+                    disableAfter = CommandUtils.objectToInt(val);
+                } else {
+                    runtimeCtx.appendError("Unknown script limits option:" + key);
+                    return;
+                }
+            } catch (Exception e) {
+                runtimeCtx.appendError(new InvalidOptionValueException("set script limits", key, val.toString()));
+                return;
+            }
+        }
+        limits.setMaxInstructions(maxInstructions);
+        limits.setTimeoutMillis(timeoutMillis);
+        limits.setDisableAfter(disableAfter);
+    }
+
+    @Override
+    public void exitSet_engine(Set_engineContext ctx) {
+        @SuppressWarnings("unchecked")
+        final Map<String, Object> options = (Map<String, Object>) getValue(ctx.optionslist());
+        addNode(new PlanNode("set script engine") {
+            public void run(RuntimeContext runtimeCtx) {
+                configureEngine(options);
+            }
+        });
+    }
+
+    private void configureEngine(Map<String, Object> options) {
+        String name = runtimeCtx.getScriptEngine();
+        int level = runtimeCtx.getOptimizationLevel();
+        for (String key : options.keySet()) {
+            Object val = options.get(key);
+            try {
+                if (key.equals("name")) {
+                    name = val.toString();
+                } else if (key.equals("optimization_level")) {
+                    level = CommandUtils.objectToInt(val);
+                } else {
+                    runtimeCtx.appendError("Unknown script engine option:" + key);
+                    return;
+                }
+            } catch (Exception e) {
+                runtimeCtx.appendError(new InvalidOptionValueException("set script engine", key, val.toString()));
+                return;
+            }
+        }
+        try {
+            runtimeCtx.configureScripting(name, level);
+        } catch (Exception e) {
+            runtimeCtx.appendError("Can't configure script engine", e);
+        }
+    }
 
     @SuppressWarnings("unchecked")
     @Override
     public void exitOp_with_options(Op_with_optionsContext ctx) {
         Object options = getValue(ctx.options());
         Object o = null;
-        Map<String, String> bucketOptions = null;
 
         if (ctx.fetch() != null) {
             o = getValue(ctx.fetch());
-            bucketOptions = runtimeCtx.getCurrentFetchOptions();
         } else if (ctx.store() != null) {
             o = getValue(ctx.store());
-            bucketOptions = runtimeCtx.getCurrentStoreOptions();
         } else if (ctx.delete() != null) {
             o = getValue(ctx.delete());
-            bucketOptions = runtimeCtx.getCurrentDeleteOptions();
         } else if (ctx.query2i() != null) {
             o = getValue(ctx.query2i());
-            bucketOptions = runtimeCtx.getCurrentQuery2iOptions();
         } else if (ctx.listkeys() != null) {
             o = getValue(ctx.listkeys());
         } else if(ctx.countkeys() != null) {
@@ -221,31 +674,39 @@ public class ContactWalker extends ContactBaseListener {
             o = getValue(ctx.bucketprops());
         }
 
+        // the use bucket options are laid underneath these by BucketScope
         if (o instanceof RiakCommand) {
             RiakCommand<?, ?> c = (RiakCommand<?, ?>) o;
-            if(bucketOptions != null && bucketOptions.size() > 0) {
-                if(!(o instanceof SetBucketPropsCommand)) {
-                    Map<String, String> combined = new HashMap<String, String>();
-                    // use all bucket options, then override with any options from
-                    // curent command
-                    combined.putAll(bucketOptions);
-                    combined.putAll((Map<String, String>) options);
-                    c.params.options = combined;
-                }
-            } else {
-                if(!(o instanceof SetBucketPropsCommand)) {
-                    c.params.options = (Map<String, String>) options;
-                }
+            if(!(o instanceof SetBucketPropsCommand)) {
+                c.params.options = (Map<String, String>) options;
             }
             setValue(ctx, c);
         }
     }
 
 
+    @SuppressWarnings("unchecked")
     @Override
     public void exitFetch(FetchContext ctx) {
-        FetchCommand fetch = new FetchCommand();
-        fetch.params.key = ParseUtils.stripQuotes(ctx.key.getText());
+        if (ctx.key != null) {
+            FetchCommand fetch = new FetchCommand();
+            fetch.params.key = valueOf(ctx.key);
+            fetch.params.fetchMetadataSelection = (List<String>)getValue(ctx.fetch_select());
+            setValue(ctx, fetch);
+            return;
+        }
+        List<String> keys = null;
+        if (ctx.keybinding != null) {
+            // the binding may be made earlier in the plan, see CommandNode
+            keyBinding = ctx.keybinding.getText();
+        } else {
+            keys = new ArrayList<String>();
+            for (Token t : ctx.keys) {
+                keys.add(ParseUtils.stripQuotes(t.getText()));
+            }
+        }
+        MultiFetchCommand fetch = new MultiFetchCommand();
+        fetch.params.keys = keys;
         fetch.params.fetchMetadataSelection = (List<String>)getValue(ctx.fetch_select());
         setValue(ctx, fetch);
     }
@@ -260,8 +721,8 @@ public class ContactWalker extends ContactBaseListener {
     @Override
     public void exitId_list(Id_listContext ctx) {
         List<String> str_ids = new ArrayList<String>();
-        for(Token t : ctx.ids) {
-             str_ids.add(t.getText());
+        for(IdentifierContext id : ctx.ids) {
+             str_ids.add(id.getText());
         }
         setValue(ctx, str_ids);
     }
@@ -270,7 +731,7 @@ public class ContactWalker extends ContactBaseListener {
     @Override
     public void exitStore(StoreContext ctx) {
         StoreCommand store = new StoreCommand();
-        store.params.key = ParseUtils.stripQuotes(ctx.key.getText());
+        store.params.key = valueOf(ctx.key);
         store.params.content = (Content) getValue(ctx.content_string());
         if (ctx.store_indexes() != null) {
             List<PairContext> pctxs = (List<PairContext>) getValue(ctx.store_indexes());
@@ -287,10 +748,10 @@ public class ContactWalker extends ContactBaseListener {
     public void exitContent_string(Content_stringContext ctx) {
         String value = "";
 
-        if (ctx.STRING() != null) {
-            value = ParseUtils.stripQuotes(ctx.STRING().getText());
-        } else if (ctx.DATA_CONTENT() != null) {
+        if (ctx.DATA_CONTENT() != null) {
             value = ParseUtils.getDataContent(ctx.DATA_CONTENT().getText());
+        } else if (ctx.value() != null) {
+            value = valueOf(ctx.value());
         }
 
         if (ctx.JSON() != null) {
@@ -313,7 +774,7 @@ public class ContactWalker extends ContactBaseListener {
     @Override
     public void exitDelete(DeleteContext ctx) {
         DeleteCommand cmd = new DeleteCommand();
-        cmd.params.key = ParseUtils.stripQuotes(ctx.key.getText());
+        cmd.params.key = valueOf(ctx.key);
         setValue(ctx, cmd);
     }
 
@@ -322,10 +783,10 @@ public class ContactWalker extends ContactBaseListener {
         Query2iCommand query = new Query2iCommand();
         query.params.indexName = ParseUtils.stripQuotes(ctx.index.getText());
         if (ctx.exact != null) {
-            query.params.indexVal = ParseUtils.stripQuotes(ctx.exact.getText());
+            query.params.indexVal = valueOf(ctx.exact);
         } else {
-            query.params.min = ParseUtils.stripQuotes(ctx.vmin.getText());
-            query.params.max = ParseUtils.stripQuotes(ctx.vmax.getText());
+            query.params.min = valueOf(ctx.vmin);
+            query.params.max = valueOf(ctx.vmax);
         }
         if(ctx.FETCH() != null) {
             query.params.doFetch = true;
@@ -381,6 +842,7 @@ public class ContactWalker extends ContactBaseListener {
     }
 
 
+    @SuppressWarnings("unchecked")
     @Override
     public void exitConnect(ConnectContext ctx) {
         String hostAndPort = ParseUtils.stripQuotes(ctx.host.getText());
@@ -403,6 +865,22 @@ public class ContactWalker extends ContactBaseListener {
            command.params.pbPort = pbPort;
         }
 
+        List<String> nodes = new ArrayList<String>();
+        nodes.add(command.params.host + ":" + command.params.pbPort);
+        for(Token t : ctx.hosts) {
+            String node = ParseUtils.stripQuotes(t.getText());
+            if(node.split(":").length != 2) {
+                runtimeCtx.appendError("Invalid node " + node + ", expected \"host:port\"");
+                return;
+            }
+            nodes.add(node);
+        }
+        command.params.nodes = nodes;
+
+        if(ctx.optionslist() != null) {
+            command.params.options = (Map<String, String>)getValue(ctx.optionslist());
+        }
+
         if(ctx.connname != null) {
             command.params.conn_id = ctx.connname.getText();
 
@@ -446,57 +924,33 @@ public class ContactWalker extends ContactBaseListener {
     public void exitUse(UseContext ctx) {
         if (ctx.BUCKET() != null) {
             String bucket = ParseUtils.stripQuotes(ctx.name.getText());
-            runtimeCtx.setCurrentBucket(bucket);
-            if(ctx.useBucketOptions() != null && getValue(ctx.useBucketOptions()) != null) {
-                String scriptBody = (String)getValue(ctx.useBucketOptions());
-                runtimeCtx.getActionListener().getResolverMill().defineResolver(bucket, scriptBody);
+            UseBucketOptionsContext opts = ctx.useBucketOptions();
+            if (opts == null) {
+                addNode(new UseNode(bucket));
+                return;
             }
+            UseNode use = new UseNode(bucket, true,
+                    useOptions(opts.fetchOptions), useOptions(opts.storeOptions),
+                    useOptions(opts.deleteOptions), useOptions(opts.query2iOptions));
+            if(opts.resolvername != null) {
+                use.setResolverName(ParseUtils.stripQuotes(opts.resolvername.getText()));
+            } else if(opts.code_string() != null) {
+                use.setResolverBody((String) getValue(opts.code_string()));
+            } else {
+                // TODO: clear resolver!
+                //runtimeCtx.getActionListener().getResolverMill().clearResolver();
+            }
+            addNode(use);
         }
     }
 
-    @Override
-    public void exitUseBucketOptions(UseBucketOptionsContext ctx) {
-        if(ctx.FETCH() != null) {
-            @SuppressWarnings("unchecked")
-            Map<String, String> fo = (Map<String, String>)getValue(ctx.fetchOptions);
-            runtimeCtx.setCurrentFetchOptions(fo);
-            System.out.println("Fetch options =" + fo);
-        } else {
-            runtimeCtx.setCurrentFetchOptions(new HashMap<String, String>());
-        }
-
-        if(ctx.STORE() != null) {
-            @SuppressWarnings("unchecked")
-            Map<String, String> so = (Map<String, String>)getValue(ctx.storeOptions);
-            runtimeCtx.setCurrentStoreOptions(so);
-            System.out.println("Store options =" + so);
-        } else {
-            runtimeCtx.setCurrentStoreOptions(new HashMap<String, String>());
-        }
-
-        if(ctx.DELETE() != null) {
-            @SuppressWarnings("unchecked")
-            Map<String, String> del_o = (Map<String, String>)getValue(ctx.deleteOptions);
-            runtimeCtx.setCurrentDeleteOptions(del_o);
-            System.out.println("Delete options =" + del_o);
-        } else {
-            runtimeCtx.setCurrentDeleteOptions(new HashMap<String, String>());
-        }
-
-        if(ctx.QUERY2I() != null) {
-            @SuppressWarnings("unchecked")
-            Map<String, String> qo = (Map<String, String>)getValue(ctx.query2iOptions);
-            runtimeCtx.setCurrentQuery2iOptions(qo);
-            System.out.println("Query2i options =" + qo);
-        } else {
-            runtimeCtx.setCurrentQuery2iOptions(new HashMap<String, String>());
-        }
-        if(ctx.RESOLVER() != null) {
-            setValue(ctx, getValue(ctx.code_string()));
-        } else {
-            // TODO: clear resolver!
-            //runtimeCtx.getActionListener().getResolverMill().clearResolver();
+    // options missing from a use bucket with clause are cleared
+    @SuppressWarnings("unchecked")
+    private Map<String, String> useOptions(OptionslistContext ctx) {
+        if (ctx == null) {
+            return new HashMap<String, String>();
         }
+        return (Map<String, String>) getValue(ctx);
     }
 
     @Override
@@ -507,8 +961,38 @@ public class ContactWalker extends ContactBaseListener {
 
     @Override
     public void exitLoadscript(LoadscriptContext ctx) {
-        String filename = ParseUtils.stripQuotes(ctx.filename.getText());
-        runtimeCtx.getActionListener().loadScript(filename);
+        final String filename = ParseUtils.stripQuotes(ctx.filename.getText());
+        addNode(new PlanNode("load script " + filename) {
+            public void run(RuntimeContext runtimeCtx) {
+                runtimeCtx.getActionListener().loadScript(filename);
+            }
+        });
+    }
+
+    @Override
+    public void exitLoadplugin(LoadpluginContext ctx) {
+        final String classname = ParseUtils.stripQuotes(ctx.classname.getText());
+        final boolean replace = ctx.REPLACE() != null;
+        addNode(new PlanNode("load plugin " + classname) {
+            public void run(RuntimeContext runtimeCtx) {
+                loadPlugin(classname, replace);
+            }
+        });
+    }
+
+    private void loadPlugin(String classname, boolean replace) {
+        try {
+            Object plugin = Class.forName(classname).newInstance();
+            if (plugin instanceof ContactActionListener) {
+                runtimeCtx.addActionListener((ContactActionListener) plugin, replace);
+            } else {
+                runtimeCtx.appendError(classname + " is not a ContactActionListener");
+            }
+        } catch (ClassNotFoundException e) {
+            runtimeCtx.appendError("Can't find plugin class " + classname);
+        } catch (Exception e) {
+            runtimeCtx.appendError("Can't load plugin " + classname + ":" + e.getMessage());
+        }
     }
 
     @Override
@@ -519,7 +1003,12 @@ public class ContactWalker extends ContactBaseListener {
         } else {
             content = ParseUtils.stripQuotes(ctx.STRING().getText());
         }
-        runtimeCtx.getActionListener().evalScript(content);
+        final String script = content;
+        addNode(new PlanNode("script") {
+            public void run(RuntimeContext runtimeCtx) {
+                runtimeCtx.getActionListener().evalScript(script);
+            }
+        });
     }
 
 
@@ -23,27 +23,31 @@
 package com.basho.contact;
 
 import com.basho.riak.client.IRiakClient;
-import com.basho.riak.client.RiakFactory;
-import com.basho.riak.client.raw.pbc.PBClientConfig;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DefaultConnectionProvider implements ContactConnectionProvider {
-    public static String DEFAULT_CONNECTION_NAME = "default";
+    public static final String DEFAULT_CONNECTION_NAME = "default";
 
-    private Map<String, IRiakClient>    pbclients = new HashMap<String, IRiakClient>();
-    private Map<String, ConnectionInfo> clientInfo = new HashMap<String, ConnectionInfo>();
-    private Map<String, String>         clientToNodeMap = new HashMap<String, String>();
+    private Map<String, ConnectionPool> pools = new ConcurrentHashMap<String, ConnectionPool>();
+    private Map<String, ConnectionInfo> clientInfo = new ConcurrentHashMap<String, ConnectionInfo>();
+    private Map<String, String>         clientToNodeMap = new ConcurrentHashMap<String, String>();
+
+    private ConnectionHealthChecker healthChecker = null;
+    private long healthCheckInterval = ConnectionHealthChecker.DEFAULT_INTERVAL_MILLIS;
 
     public IRiakClient getDefaultClient(RuntimeContext ctx) {
-        if(pbclients.containsKey(DEFAULT_CONNECTION_NAME)) {
+        if(pools.containsKey(DEFAULT_CONNECTION_NAME)) {
             return getClientByName(DEFAULT_CONNECTION_NAME, ctx);
         } else {
             // if there are only named connections, then get the first
-            if(pbclients.size() > 0) {
-                String key = pbclients.keySet().iterator().next();
-                return pbclients.get(key);
+            if(pools.size() > 0) {
+                String key = pools.keySet().iterator().next();
+                return getClientByName(key, ctx);
             } else {
                 return null;
             }
@@ -51,11 +55,39 @@ public class DefaultConnectionProvider implements ContactConnectionProvider {
     }
 
     public IRiakClient getClientByName(String name, RuntimeContext ctx) {
-        // TODO: conn might not exist
-        if (!pbclients.containsKey(name)) {
+        ConnectionPool pool = pools.get(name);
+        if (pool == null) {
             ctx.appendError("Not connected to Riak with connection " + name);
+            return null;
+        }
+        ConnectionPool.Node node = pool.acquire();
+        if (node == null) {
+            return null;
+        }
+        return node.getClient();
+    }
+
+    public void releaseClient(IRiakClient client) {
+        if (client == null) {
+            return;
+        }
+        for (ConnectionPool pool : pools.values()) {
+            if (pool.release(client)) {
+                return;
+            }
+        }
+    }
+
+    public synchronized void reportFailure(IRiakClient client) {
+        if (client == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (ConnectionPool pool : pools.values()) {
+            if (pool.markFailed(client, now, healthCheckInterval, ConnectionHealthChecker.MAX_BACKOFF_MILLIS)) {
+                return;
+            }
         }
-        return pbclients.get(name);
     }
 
     public IRiakClient createDefaultConnection(String host, int port, RuntimeContext ctx) {
@@ -64,23 +96,72 @@ public class DefaultConnectionProvider implements ContactConnectionProvider {
 
     public IRiakClient createNamedConnection(String host, int pbport,
                                              String name, RuntimeContext ctx) {
-        try {
-            PBClientConfig pbconf = new PBClientConfig.Builder().withHost(host)
-                    .withPort(pbport).build();
-            IRiakClient riakClient = RiakFactory.newClient(pbconf);
-            riakClient.ping();
-            ConnectionInfo ci = new ConnectionInfo();
-            ci.pbport = pbport;
-            ci.host = host;
-            ci.id = name;
-            clientInfo.put(name, ci);
-            pbclients.put(name, riakClient);
-            return riakClient;
-        } catch (Exception e) {
-            ctx.appendError("Error making pb connection to " + host + ":", e);
+        return createNamedConnection(Collections.singletonList(host + ":" + pbport),
+                ConnectionPool.DEFAULT_POOL_SIZE, ConnectionPool.Strategy.ROUND_ROBIN, name, ctx);
+    }
+
+    public IRiakClient createNamedConnection(List<String> hosts, int poolSize,
+                                             ConnectionPool.Strategy strategy,
+                                             String name, RuntimeContext ctx) {
+        List<ConnectionPool.Node> nodes = new ArrayList<ConnectionPool.Node>();
+        boolean reachable = false;
+        for (String hostAndPort : hosts) {
+            String chunks[] = hostAndPort.split(":");
+            ConnectionPool.Node node = null;
+            try {
+                node = ConnectionPool.newNode(chunks[0], Integer.parseInt(chunks[1]), poolSize);
+                node.getClient().ping();
+                reachable = true;
+            } catch (Exception e) {
+                ctx.appendError("Error making pb connection to " + hostAndPort + ":", e);
+                if (node != null) {
+                    // keep it around, the health checker will bring it back
+                    node.markUnhealthy(System.currentTimeMillis(), healthCheckInterval,
+                            ConnectionHealthChecker.MAX_BACKOFF_MILLIS);
+                }
+            }
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+        if (!reachable) {
+            for (ConnectionPool.Node node : nodes) {
+                node.getClient().shutdown();
+            }
+            // the devil
+            return null;
+        }
+        ConnectionPool pool = new ConnectionPool(nodes, poolSize, strategy);
+        ConnectionPool old = pools.put(name, pool);
+        if (old != null) {
+            old.shutdown();
+            // the old clients are gone, don't keep their buckets around
+            for (ConnectionPool.Node node : old.getNodes()) {
+                ctx.getBucketCache().invalidate(node.getClient());
+            }
+        }
+        ConnectionInfo ci = new ConnectionInfo();
+        ConnectionPool.Node first = nodes.get(0);
+        ci.pbport = first.getPort();
+        ci.host = first.getHost();
+        ci.id = name;
+        ci.pool = pool;
+        clientInfo.put(name, ci);
+        return first.getClient();
+    }
+
+    public synchronized void startHealthChecks(long intervalMillis) {
+        stopHealthChecks();
+        healthCheckInterval = intervalMillis;
+        healthChecker = new ConnectionHealthChecker(pools.values(), intervalMillis);
+        healthChecker.start();
+    }
+
+    public synchronized void stopHealthChecks() {
+        if (healthChecker != null) {
+            healthChecker.stop();
+            healthChecker = null;
         }
-        // the devil
-        return null;
     }
 
     public Map<String, ConnectionInfo> getAllConnections() {
@@ -0,0 +1,346 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.commands.RiakCommand;
+import com.basho.contact.commands.core.DeleteCommand;
+import com.basho.contact.commands.core.FetchCommand;
+import com.basho.contact.commands.core.SetBucketPropsCommand;
+import com.basho.contact.commands.core.StoreCommand;
+import com.basho.contact.symbols.ContactSymbol;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+// Runs Riak commands from a script concurrently. Each statement waits for
+// earlier statements that touch the same bucket/key (read after write, write
+// after read or write), bucket wide commands (list keys, count keys, 2i,
+// bucket props) order against everything else in the bucket. Statements that
+// change interpreter state (connect, use, set action, script, await...) are
+// preceded by barrier(). Output from each statement is buffered and written
+// out in statement order.
+public class ParallelScheduler {
+
+    public static final int DEFAULT_MAX_PARALLEL = 10;
+
+    private final RuntimeContext ctx;
+    private final int maxParallel;
+    private final PrintStream out;
+    private final ThreadLocal<ByteArrayOutputStream> capture = new ThreadLocal<ByteArrayOutputStream>();
+
+    private final Object lock = new Object();
+    // scheduled statements whose output hasn't been written yet, in order
+    private final LinkedList<Statement> pending = new LinkedList<Statement>();
+    private final LinkedList<Statement> ready = new LinkedList<Statement>();
+    private final Map<String, BucketState> buckets = new HashMap<String, BucketState>();
+    private int running = 0;
+    private long scheduled = 0;
+    private long maxRunning = 0;
+
+    public ParallelScheduler(RuntimeContext ctx, int maxParallel, PrintStream out) {
+        if (maxParallel < 1) {
+            throw new IllegalArgumentException("maxParallel must be > 0");
+        }
+        this.ctx = ctx;
+        this.maxParallel = maxParallel;
+        this.out = out;
+    }
+
+    // pass this to the RuntimeContext so action output can be captured
+    // per statement. Threads that aren't running a statement write straight
+    // through to the underlying stream.
+    public PrintStream getOutputStream() {
+        return new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                target().write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                target().write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (capture.get() == null) {
+                    out.flush();
+                }
+            }
+
+            private OutputStream target() {
+                OutputStream o = capture.get();
+                return o == null ? out : o;
+            }
+        }, true);
+    }
+
+    public Future<ContactSymbol<?>> schedule(RiakCommand<?, ?> cmd) {
+        Statement s = new Statement(cmd);
+        List<Statement> toStart;
+        synchronized (lock) {
+            addDependencies(s, cmd);
+            pending.add(s);
+            scheduled++;
+            if (s.waitingOn == 0) {
+                ready.add(s);
+            }
+            toStart = takeReady();
+        }
+        start(toStart);
+        return s;
+    }
+
+    // wait for every scheduled statement to finish and its output to be written
+    public void barrier() {
+        synchronized (lock) {
+            while (!pending.isEmpty()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            // everything before this point is done
+            buckets.clear();
+        }
+    }
+
+    public long getScheduledCount() {
+        synchronized (lock) {
+            return scheduled;
+        }
+    }
+
+    public long getMaxRunning() {
+        synchronized (lock) {
+            return maxRunning;
+        }
+    }
+
+    public int getMaxParallel() {
+        return maxParallel;
+    }
+
+    private void addDependencies(Statement s, RiakCommand<?, ?> cmd) {
+        String bucketName = cmd.params.bucket == null ? "" : cmd.params.bucket;
+        BucketState bucket = buckets.get(bucketName);
+        if (bucket == null) {
+            bucket = new BucketState();
+            buckets.put(bucketName, bucket);
+        }
+
+        String key = null;
+        boolean write = false;
+        if (cmd instanceof FetchCommand) {
+            key = ((FetchCommand) cmd).params.key;
+        } else if (cmd instanceof StoreCommand) {
+            key = ((StoreCommand) cmd).params.key;
+            write = true;
+        } else if (cmd instanceof DeleteCommand) {
+            key = ((DeleteCommand) cmd).params.key;
+            write = true;
+        } else if (cmd instanceof SetBucketPropsCommand) {
+            write = true;
+        }
+
+        if (key != null) {
+            Access k = bucket.keys.get(key);
+            if (k == null) {
+                k = new Access();
+                bucket.keys.put(key, k);
+            }
+            s.dependOn(bucket.whole.lastWrite);
+            s.dependOn(k.lastWrite);
+            if (write) {
+                s.dependOn(bucket.whole.reads);
+                s.dependOn(k.reads);
+                k.lastWrite = s;
+                k.reads.clear();
+            } else {
+                k.addRead(s);
+            }
+        } else {
+            s.dependOn(bucket.whole.lastWrite);
+            for (Access k : bucket.keys.values()) {
+                s.dependOn(k.lastWrite);
+                if (write) {
+                    s.dependOn(k.reads);
+                }
+            }
+            if (write) {
+                s.dependOn(bucket.whole.reads);
+                // everything later in this bucket waits on this statement,
+                // so the per-key history isn't needed anymore
+                bucket.keys.clear();
+                bucket.whole.lastWrite = s;
+                bucket.whole.reads.clear();
+            } else {
+                bucket.whole.addRead(s);
+            }
+        }
+    }
+
+    // lock must be held
+    private List<Statement> takeReady() {
+        List<Statement> toStart = new ArrayList<Statement>();
+        while (running < maxParallel && !ready.isEmpty()) {
+            Statement s = ready.removeFirst();
+            if (s.finished) {
+                // cancelled while waiting
+                continue;
+            }
+            s.started = true;
+            running++;
+            maxRunning = Math.max(maxRunning, running);
+            toStart.add(s);
+        }
+        return toStart;
+    }
+
+    // called without the lock, a full executor queue may run the statement
+    // on this thread
+    private void start(List<Statement> toStart) {
+        for (Statement s : toStart) {
+            ctx.getExecutor().execute(s);
+        }
+    }
+
+    private void finished(Statement s) {
+        List<Statement> toStart;
+        synchronized (lock) {
+            if (s.started) {
+                running--;
+            }
+            s.finished = true;
+            for (Statement d : s.dependents) {
+                d.waitingOn--;
+                if (d.waitingOn == 0) {
+                    ready.add(d);
+                }
+            }
+            s.dependents = null;
+            // write output in statement order
+            while (!pending.isEmpty() && pending.getFirst().finished) {
+                Statement done = pending.removeFirst();
+                try {
+                    done.output.writeTo(out);
+                } catch (IOException e) {
+                    ctx.appendError("Error writing output", e);
+                }
+                done.output = null;
+            }
+            out.flush();
+            toStart = takeReady();
+            lock.notifyAll();
+        }
+        start(toStart);
+    }
+
+    private static class BucketState {
+        final Access whole = new Access();
+        final Map<String, Access> keys = new HashMap<String, Access>();
+    }
+
+    private static class Access {
+        Statement lastWrite = null;
+        final List<Statement> reads = new ArrayList<Statement>();
+
+        void addRead(Statement s) {
+            // drop reads that have already finished so this doesn't grow
+            // for scripts that fetch the same key over and over
+            for (int i = reads.size() - 1; i >= 0; i--) {
+                if (reads.get(i).finished) {
+                    reads.remove(i);
+                }
+            }
+            reads.add(s);
+        }
+    }
+
+    private class Statement extends FutureTask<ContactSymbol<?>> {
+        // guarded by lock
+        List<Statement> dependents = new ArrayList<Statement>();
+        int waitingOn = 0;
+        boolean started = false;
+        boolean finished = false;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        Statement(final RiakCommand<?, ?> cmd) {
+            super(new Callable<ContactSymbol<?>>() {
+                public ContactSymbol<?> call() throws Exception {
+                    // grab the connection once the dependencies are done,
+                    // not when the statement is parsed
+                    Callable<? extends ContactSymbol<?>> task = cmd.newTask(ctx);
+                    if (task == null) {
+                        return null;
+                    }
+                    return task.call();
+                }
+            });
+        }
+
+        void dependOn(Statement other) {
+            if (other == null || other == this || other.finished) {
+                return;
+            }
+            int last = other.dependents.size() - 1;
+            if (last < 0 || other.dependents.get(last) != this) {
+                other.dependents.add(this);
+                waitingOn++;
+            }
+        }
+
+        void dependOn(List<Statement> others) {
+            for (Statement other : others) {
+                dependOn(other);
+            }
+        }
+
+        @Override
+        public void run() {
+            capture.set(output);
+            try {
+                super.run();
+            } finally {
+                capture.remove();
+            }
+        }
+
+        @Override
+        protected void done() {
+            finished(this);
+        }
+    }
+}
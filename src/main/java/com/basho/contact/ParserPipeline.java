@@ -0,0 +1,112 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.parser.ContactLexer;
+import com.basho.contact.parser.ContactParser;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionContextCache;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+// One lexer and parser, reset for each input instead of rebuilt. Input is
+// parsed with SLL prediction first, which is faster and handles nearly
+// everything, and only parsed again with full LL if SLL hits a syntax error.
+// Errors are only reported by the LL pass, so a real syntax error is still
+// reported once, with the usual message.
+public class ParserPipeline {
+
+    // ANTLR 4.0 can't share a DFA cache between SLL and LL prediction (it
+    // trips over states LL marked as needing full context), so SLL has its own
+    private static final DFA[] sllDecisionToDFA = new DFA[ContactParser._ATN.getNumberOfDecisions()];
+    private static final PredictionContextCache sllContextCache = new PredictionContextCache();
+
+    private final ContactLexer lexer = new ContactLexer(null);
+    private final ContactParser parser = new ContactParser(null);
+    private final ParserATNSimulator sll =
+            new ParserATNSimulator(parser, ContactParser._ATN, sllDecisionToDFA, sllContextCache);
+    private final ParserATNSimulator ll = parser.getInterpreter();
+    private final ContactErrorListener errorListener;
+
+    private long parses = 0;
+    private long llParses = 0;
+    private long parseNanos = 0;
+
+    public ParserPipeline(RuntimeContext runtimeCtx) {
+        this.errorListener = new ContactErrorListener(runtimeCtx);
+        sll.setPredictionMode(PredictionMode.SLL);
+        ll.setPredictionMode(PredictionMode.LL);
+    }
+
+    // throws a RuntimeException (after reporting it) on a syntax error
+    public synchronized ContactParser.ProgContext parse(String input) {
+        long start = System.nanoTime();
+        try {
+            lexer.setInputStream(new ANTLRInputStream(input));
+            // ANTLR 4.0's setTokenSource doesn't clear the EOF flag, so the
+            // token buffer is the one thing that isn't reused
+            parser.setTokenStream(new CommonTokenStream(lexer));
+            parses++;
+
+            parser.removeErrorListeners();
+            parser.setErrorHandler(new BailErrorStrategy());
+            parser.setInterpreter(sll);
+            try {
+                return parser.prog();
+            } catch (ParseCancellationException e) {
+                // fall through to LL, the tokens are already buffered
+            }
+
+            llParses++;
+            parser.reset();
+            parser.addErrorListener(errorListener);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.setInterpreter(ll);
+            return parser.prog();
+        } finally {
+            parseNanos += System.nanoTime() - start;
+        }
+    }
+
+    public synchronized long getParses() {
+        return parses;
+    }
+
+    // inputs SLL couldn't parse
+    public synchronized long getLLParses() {
+        return llParses;
+    }
+
+    public synchronized long getParseMillis() {
+        return parseNanos / 1000000;
+    }
+
+    public synchronized String toString() {
+        return "<parser parses:" + parses + " ll_parses:" + llParses + " parse_ms:" + getParseMillis() + ">";
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.parser.ContactLexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// A statement from "prepare name = ...;". The parse tree is kept and walked
+// again by each execute, with the ? placeholders bound to that execution's
+// parameters, so the statement is only lexed and parsed once.
+public class PreparedStatement {
+    private final String name;
+    private final ParseTree statement;
+    // token indexes of the ? placeholders, in the order they appear
+    private final List<Integer> placeholders = new ArrayList<Integer>();
+
+    public PreparedStatement(String name, ParseTree statement) {
+        this.name = name;
+        this.statement = statement;
+        findPlaceholders(statement);
+    }
+
+    private void findPlaceholders(ParseTree tree) {
+        if (tree instanceof TerminalNode) {
+            Token t = ((TerminalNode) tree).getSymbol();
+            if (t.getType() == ContactLexer.QMARK) {
+                placeholders.add(t.getTokenIndex());
+            }
+            return;
+        }
+        for (int i = 0; i < tree.getChildCount(); i++) {
+            findPlaceholders(tree.getChild(i));
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ParseTree getStatement() {
+        return statement;
+    }
+
+    public int getParameterCount() {
+        return placeholders.size();
+    }
+
+    // placeholder token index -> value
+    public Map<Integer, String> bind(List<String> params) {
+        if (params.size() != placeholders.size()) {
+            throw new IllegalArgumentException("Prepared statement " + name + " takes " +
+                    placeholders.size() + " parameter(s), got " + params.size());
+        }
+        Map<Integer, String> bound = new HashMap<Integer, String>();
+        for (int i = 0; i < params.size(); i++) {
+            bound.put(placeholders.get(i), params.get(i));
+        }
+        return bound;
+    }
+}
@@ -22,34 +22,48 @@
 
 package com.basho.contact;
 
+import com.basho.contact.actions.ActionEngine;
+import com.basho.contact.actions.ChainedActionListener;
 import com.basho.contact.actions.ContactActionListener;
 import com.basho.contact.actions.JSActionListener;
+import com.basho.contact.actions.ScriptLimits;
 import com.basho.contact.security.AccessPolicy;
 import com.basho.contact.security.DefaultAccessPolicy;
 import com.basho.contact.symbols.ContactSymbol;
+import com.basho.contact.symbols.KeysSymbol;
+import com.basho.contact.symbols.PendingSymbol;
 import com.basho.riak.client.IRiakObject;
 import com.basho.riak.client.cap.ConflictResolver;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 
 public class RuntimeContext {
 
-    private List<Throwable> errors = new ArrayList<Throwable>();
+    // async commands report errors from executor threads
+    private List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
     private boolean parseError = false;
 
     ContactConnectionProvider connections = null;
 
-    private Map<String, ContactSymbol<?>> bindings = new HashMap<String, ContactSymbol<?>>();
+    private Map<String, ContactSymbol<?>> bindings =
+            Collections.synchronizedMap(new HashMap<String, ContactSymbol<?>>());
 
     public ContactSymbol<?> lastResult = null;
 
     private StringBuilder output = new StringBuilder();
-    private ContactActionListener listener = null;
+    private volatile ContactActionListener listener = null;
     private ContactExecutor executor = new ContactExecutor();
+    private BucketCache bucketCache = new BucketCache();
+    // set for --infile --parallel, null when statements run one at a time
+    private ParallelScheduler scheduler = null;
 
     // use bucket "Foo" sets this value.
     // TODO: change it to a Bucket object
@@ -65,20 +79,132 @@ public class RuntimeContext {
 
     // this always needs to be instantiated
     JSActionListener jsActionListener;
+    // Java listeners from load plugin or ServiceLoader, run after (or instead of) the Javascript actions
+    private List<ContactActionListener> plugins = new ArrayList<ContactActionListener>();
+    private boolean replaceJSActions = false;
+    private String scriptEngine = JSActionListener.DEFAULT_ENGINE;
+    private int optimizationLevel = JSActionListener.DEFAULT_OPTIMIZATION_LEVEL;
+    // shared by every listener this context creates, so limits survive resetIO
+    private final ScriptLimits scriptLimits = new ScriptLimits();
+    private final AsyncOperations async = new AsyncOperations(this);
+    private PrintStream out;
+    private PrintStream err;
 
     private Map<String, ConflictResolver<IRiakObject>> bucketResolvers = new HashMap<String, ConflictResolver<IRiakObject>>();
 
     private Map<String, List<String>> definedClusters = new HashMap<String, List<String>>();
 
+    private Map<String, PreparedStatement> preparedStatements = new HashMap<String, PreparedStatement>();
+
     public RuntimeContext(ContactConnectionProvider connections, PrintStream out, PrintStream err) {
         this.connections = connections;
+        this.out = out;
+        this.err = err;
         this.jsActionListener = new JSActionListener(this, out, err);
-        this.listener = jsActionListener;
+        for (ContactActionListener plugin : ServiceLoader.load(ContactActionListener.class)) {
+            plugin.init();
+            plugins.add(plugin);
+        }
+        updateListener();
     }
 
     public void resetIO(PrintStream out, PrintStream err) {
-        this.jsActionListener = new JSActionListener(this, out, err);
-        this.listener = jsActionListener;
+        this.out = out;
+        this.err = err;
+        this.jsActionListener = new JSActionListener(this, out, err,
+                JSActionListener.newEngine(scriptEngine, optimizationLevel, out, err));
+        updateListener();
+    }
+
+    // Replaces the Javascript listener. Action bodies are compiled again on
+    // the new engine, but functions defined with script or load script and
+    // Javascript resolvers are dropped. Throws IllegalArgumentException for
+    // an unknown engine or an invalid optimization level.
+    public void configureScripting(String scriptEngine, int optimizationLevel) {
+        ActionEngine engine = JSActionListener.newEngine(scriptEngine, optimizationLevel, out, err);
+        JSActionListener old = this.jsActionListener;
+        JSActionListener replacement = new JSActionListener(this, out, err, engine);
+        for (String action : old.getAvailableActions()) {
+            String body = old.getJSBody(action);
+            if (!body.equals(replacement.getJSBody(action))) {
+                replacement.setJSBody(action, body);
+            }
+        }
+        this.scriptEngine = scriptEngine;
+        this.optimizationLevel = optimizationLevel;
+        this.jsActionListener = replacement;
+        updateListener();
+    }
+
+    public String getScriptEngine() {
+        return scriptEngine;
+    }
+
+    public int getOptimizationLevel() {
+        return optimizationLevel;
+    }
+
+    public ScriptLimits getScriptLimits() {
+        return scriptLimits;
+    }
+
+    // Riak operations for scripts, available as contact.fetchAsync(...) etc
+    public ScriptFuture fetchAsync(String bucket, String key) {
+        return async.fetch(bucket, key);
+    }
+
+    public ScriptFuture storeAsync(String bucket, String key, String value) {
+        return async.store(bucket, key, value, null);
+    }
+
+    public ScriptFuture storeAsync(String bucket, String key, String value, String contentType) {
+        return async.store(bucket, key, value, contentType);
+    }
+
+    public ScriptFuture deleteAsync(String bucket, String key) {
+        return async.delete(bucket, key);
+    }
+
+    public ScriptFuture query2iAsync(String bucket, String index, Object value) {
+        return async.query2i(bucket, index, value, null);
+    }
+
+    public ScriptFuture query2iAsync(String bucket, String index, Object from, Object to) {
+        return async.query2i(bucket, index, from, to);
+    }
+
+    public ScriptFuture all(List<?> futures) {
+        return ScriptFuture.all(futures);
+    }
+
+    public ScriptFuture any(List<?> futures) {
+        return ScriptFuture.any(futures);
+    }
+
+    public synchronized void addActionListener(ContactActionListener plugin, boolean replaceJSActions) {
+        plugin.init();
+        plugins.add(plugin);
+        if (replaceJSActions) {
+            this.replaceJSActions = true;
+        }
+        updateListener();
+    }
+
+    public synchronized List<ContactActionListener> getPlugins() {
+        return new ArrayList<ContactActionListener>(plugins);
+    }
+
+    private synchronized void updateListener() {
+        if (plugins.isEmpty()) {
+            listener = jsActionListener;
+            return;
+        }
+        List<ContactActionListener> chain = new ArrayList<ContactActionListener>();
+        if (!replaceJSActions) {
+            chain.add(jsActionListener);
+        }
+        chain.addAll(plugins);
+        listener = new ChainedActionListener(chain, jsActionListener);
     }
 
     public AccessPolicy getAccessPolicy() {
@@ -104,7 +230,7 @@ public class RuntimeContext {
 
     public void reset() {
         output = new StringBuilder();
-        errors = new ArrayList<Throwable>();
+        errors = Collections.synchronizedList(new ArrayList<Throwable>());
         parseError = false;
     }
 
@@ -143,13 +269,48 @@ public class RuntimeContext {
 
     public void bind(String name, ContactSymbol<?> sym) {
         // System.out.println("Binding " + name + " to " + sym);
-        bindings.put(name, sym);
+        synchronized (bindings) {
+            release(bindings.put(name, sym));
+        }
+    }
+
+    // deletes the spool file of a list keys result that is no longer bound
+    private void release(ContactSymbol<?> sym) {
+        if (sym instanceof KeysSymbol && !bindings.containsValue(sym)) {
+            ((KeysSymbol) sym).release();
+        }
+    }
+
+    // any type of binding, waiting for it if it's pending
+    public ContactSymbol<?> getBinding(String name) {
+        if (bindings.containsKey(name)) {
+            ContactSymbol<?> sym = bindings.get(name);
+            if (sym instanceof PendingSymbol) {
+                sym = awaitBinding(name);
+            }
+            return sym;
+        } else {
+            appendError("Unknown binding " + name);
+            return null;
+        }
     }
 
     public ContactSymbol<?> getBinding(String name,
                                        ContactSymbol.SymbolType expectedType) {
         if (bindings.containsKey(name)) {
             ContactSymbol<?> sym = bindings.get(name);
+            if (sym instanceof PendingSymbol && expectedType != ContactSymbol.SymbolType.PENDING) {
+                // implicit await on first use
+                sym = awaitBinding(name);
+                if (sym == null) {
+                    return null;
+                }
+            }
+            if (sym == null) {
+                // the command bound to name failed
+                appendError("No result bound to " + name);
+                return null;
+            }
             if (sym.type == expectedType) {
                 return sym;
             } else {
@@ -162,6 +323,51 @@ public class RuntimeContext {
         }
     }
 
+    // waits for an async binding, replacing it with the command's result
+    public ContactSymbol<?> awaitBinding(String name) {
+        ContactSymbol<?> sym = bindings.get(name);
+        if (sym == null) {
+            if (!bindings.containsKey(name)) {
+                appendError("Unknown binding " + name);
+            }
+            return null;
+        }
+        if (!(sym instanceof PendingSymbol)) {
+            return sym;
+        }
+        ContactSymbol<?> result = null;
+        try {
+            result = ((PendingSymbol) sym).await();
+        } catch (InterruptedException e) {
+            appendError("Interrupted waiting for " + name, e);
+        } catch (ExecutionException e) {
+            appendError("Error executing async command bound to " + name, e.getCause());
+        } catch (CancellationException e) {
+            appendError("Async command bound to " + name + " was cancelled");
+        }
+        if (result == null) {
+            // the error has been reported, don't leave a null binding behind
+            bindings.remove(name);
+        } else {
+            bindings.put(name, result);
+        }
+        return result;
+    }
+
+    // waits for every pending binding as well as unbound async commands
+    public void awaitAll() {
+        List<String> names;
+        synchronized (bindings) {
+            names = new ArrayList<String>(bindings.keySet());
+        }
+        for (String name : names) {
+            if (bindings.get(name) instanceof PendingSymbol) {
+                awaitBinding(name);
+            }
+        }
+        executor.awaitAsyncTasks();
+    }
+
     public String getCurrentBucket() {
         return currentBucket;
     }
@@ -206,6 +412,18 @@ public class RuntimeContext {
         return executor;
     }
 
+    public ParallelScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public void setScheduler(ParallelScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    public BucketCache getBucketCache() {
+        return bucketCache;
+    }
+
     public Map<String, ConflictResolver<IRiakObject>> getBucketResolvers() {
         return bucketResolvers;
     }
@@ -221,4 +439,13 @@ public class RuntimeContext {
     public List<String> getDefinedClusterNodes(String clusterid) {
         return definedClusters.get(clusterid);
     }
+
+    // replaces any statement already prepared with the same name
+    public void prepare(PreparedStatement statement) {
+        preparedStatements.put(statement.getName(), statement);
+    }
+
+    public PreparedStatement getPreparedStatement(String name) {
+        return preparedStatements.get(name);
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// The result of contact.fetchAsync and friends. Scripts call get() to wait
+// for it, or combine several with contact.all / contact.any. A task nobody
+// has started yet is run on the thread that waits for it, so a script
+// waiting from a pool thread can't deadlock the pool.
+public class ScriptFuture implements Runnable {
+
+    private final Callable<?> task;
+    // for all/any, the futures this one waits on
+    private final List<ScriptFuture> parts;
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final List<Runnable> listeners = new ArrayList<Runnable>();
+
+    private boolean done = false;
+    private Object value = null;
+    private Throwable error = null;
+
+    ScriptFuture(Callable<?> task) {
+        this.task = task;
+        this.parts = Collections.emptyList();
+    }
+
+    private ScriptFuture(List<ScriptFuture> parts) {
+        this.task = null;
+        this.parts = parts;
+    }
+
+    static ScriptFuture failed(Throwable error) {
+        ScriptFuture f = new ScriptFuture((Callable<?>) null);
+        f.fail(error);
+        return f;
+    }
+
+    // the values of every future, in order, or the first error
+    public static ScriptFuture all(List<?> futures) {
+        final List<ScriptFuture> parts = toFutures(futures);
+        final ScriptFuture combined = new ScriptFuture(parts);
+        final AtomicInteger remaining = new AtomicInteger(parts.size());
+        if (parts.isEmpty()) {
+            combined.complete(new ArrayList<Object>());
+        }
+        for (final ScriptFuture part : parts) {
+            part.onDone(new Runnable() {
+                public void run() {
+                    if (part.error != null) {
+                        combined.fail(part.error);
+                    } else if (remaining.decrementAndGet() == 0) {
+                        List<Object> values = new ArrayList<Object>();
+                        for (ScriptFuture p : parts) {
+                            values.add(p.value);
+                        }
+                        combined.complete(values);
+                    }
+                }
+            });
+        }
+        return combined;
+    }
+
+    // the value of the first future to succeed, or the last error if they all fail
+    public static ScriptFuture any(List<?> futures) {
+        List<ScriptFuture> parts = toFutures(futures);
+        final ScriptFuture combined = new ScriptFuture(parts);
+        final AtomicInteger remaining = new AtomicInteger(parts.size());
+        if (parts.isEmpty()) {
+            combined.fail(new IllegalArgumentException("any() needs at least one future"));
+        }
+        for (final ScriptFuture part : parts) {
+            part.onDone(new Runnable() {
+                public void run() {
+                    if (part.error == null) {
+                        combined.complete(part.value);
+                    } else if (remaining.decrementAndGet() == 0) {
+                        combined.fail(part.error);
+                    }
+                }
+            });
+        }
+        return combined;
+    }
+
+    private static List<ScriptFuture> toFutures(List<?> futures) {
+        List<ScriptFuture> parts = new ArrayList<ScriptFuture>();
+        for (Object o : futures) {
+            if (!(o instanceof ScriptFuture)) {
+                throw new IllegalArgumentException("Not a future:" + o);
+            }
+            parts.add((ScriptFuture) o);
+        }
+        return parts;
+    }
+
+    public void run() {
+        if (task == null || !started.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            complete(task.call());
+        } catch (Throwable t) {
+            fail(t);
+        }
+    }
+
+    // runs whatever this future is waiting on that hasn't started yet
+    private void help() {
+        run();
+        for (ScriptFuture part : parts) {
+            if (isDone()) {
+                return;
+            }
+            part.help();
+        }
+    }
+
+    public Object get() throws Exception {
+        help();
+        synchronized (this) {
+            while (!done) {
+                wait();
+            }
+        }
+        return result();
+    }
+
+    public Object get(long timeoutMillis) throws Exception {
+        help();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (this) {
+            while (!done) {
+                long left = deadline - System.currentTimeMillis();
+                if (left <= 0) {
+                    throw new TimeoutException("Timed out after " + timeoutMillis + "ms");
+                }
+                wait(left);
+            }
+        }
+        return result();
+    }
+
+    private synchronized Object result() throws Exception {
+        if (error == null) {
+            return value;
+        } else if (error instanceof Exception) {
+            throw (Exception) error;
+        } else {
+            throw new ExecutionException(error);
+        }
+    }
+
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    // null until the future fails
+    public synchronized Throwable getError() {
+        return error;
+    }
+
+    void onDone(Runnable listener) {
+        synchronized (this) {
+            if (!done) {
+                listeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    void complete(Object value) {
+        finish(value, null);
+    }
+
+    void fail(Throwable error) {
+        finish(null, error);
+    }
+
+    private void finish(Object value, Throwable error) {
+        List<Runnable> toRun;
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            this.value = value;
+            this.error = error;
+            this.done = true;
+            notifyAll();
+            toRun = new ArrayList<Runnable>(listeners);
+            listeners.clear();
+        }
+        for (Runnable listener : toRun) {
+            listener.run();
+        }
+    }
+
+    public synchronized String toString() {
+        if (!done) {
+            return "<future pending>";
+        } else if (error != null) {
+            return "<future error " + error.getMessage() + ">";
+        } else {
+            return "<future " + value + ">";
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import java.io.IOException;
+import java.io.Reader;
+
+// Splits a script into statements as it's read, so a big --infile script
+// can be parsed and run one statement at a time without holding the whole
+// file in memory. A statement ends at a ';' that isn't inside a string,
+// a ~%~ here document, a comment or a loop's { }. A loop ends at its
+// closing brace.
+public class StatementReader {
+
+    private enum State { CODE, STRING, HEREDOC, LINE_COMMENT, BLOCK_COMMENT }
+
+    private static final String HEREDOC = "~%~";
+
+    private final Reader in;
+    private int line = 1;
+    private int statementLine = 1;
+    private int pushback = -1;
+    // the last statement was a loop, which may be followed by a ';'
+    private boolean afterLoop = false;
+
+    public StatementReader(Reader in) {
+        this.in = in;
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pushback != -1) {
+            c = pushback;
+            pushback = -1;
+        } else {
+            c = in.read();
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        if (c == '\n') {
+            line--;
+        }
+        pushback = c;
+    }
+
+    // the next statement, including its ';' or '}', or null at the end of the
+    // input. Trailing text with no ';' is returned as is, so the parser
+    // can report it. Whitespace and comments between statements are dropped.
+    public String next() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        State state = State.CODE;
+        boolean hasCode = false;
+        int heredocStart = 0;
+        int depth = 0;
+        int c;
+        while ((c = read()) != -1) {
+            switch (state) {
+                case CODE:
+                    if (c == '/') {
+                        int n = read();
+                        if (n == '/') {
+                            state = State.LINE_COMMENT;
+                            sb.append("//");
+                            continue;
+                        } else if (n == '*') {
+                            state = State.BLOCK_COMMENT;
+                            sb.append("/*");
+                            continue;
+                        }
+                        unread(n);
+                    }
+                    if (!hasCode && afterLoop && c == ';') {
+                        afterLoop = false;
+                        continue;
+                    }
+                    if (!hasCode && !Character.isWhitespace(c)) {
+                        afterLoop = false;
+                        hasCode = true;
+                        // drop the whitespace and comments before the statement
+                        sb.setLength(0);
+                        statementLine = line;
+                    }
+                    sb.append((char) c);
+                    if (c == '"') {
+                        state = State.STRING;
+                    } else if (c == '~' && endsWith(sb, HEREDOC)) {
+                        state = State.HEREDOC;
+                        heredocStart = sb.length();
+                    } else if (c == '{') {
+                        depth++;
+                    } else if (c == '}' && depth > 0) {
+                        depth--;
+                        if (depth == 0) {
+                            afterLoop = true;
+                            return sb.toString();
+                        }
+                    } else if (c == ';' && depth == 0) {
+                        return sb.toString();
+                    }
+                    break;
+                case STRING:
+                    sb.append((char) c);
+                    if (c == '\\') {
+                        int n = read();
+                        if (n != -1) {
+                            sb.append((char) n);
+                        }
+                    } else if (c == '"') {
+                        state = State.CODE;
+                    }
+                    break;
+                case HEREDOC:
+                    sb.append((char) c);
+                    // \~%~ is an escaped delimiter
+                    if (c == '~' && sb.length() - heredocStart >= HEREDOC.length()
+                            && endsWith(sb, HEREDOC) && !endsWith(sb, "\\" + HEREDOC)) {
+                        state = State.CODE;
+                    }
+                    break;
+                case LINE_COMMENT:
+                    sb.append((char) c);
+                    if (c == '\n') {
+                        state = State.CODE;
+                    }
+                    break;
+                case BLOCK_COMMENT:
+                    sb.append((char) c);
+                    if (c == '/' && endsWith(sb, "*/")) {
+                        state = State.CODE;
+                    }
+                    break;
+            }
+        }
+        return hasCode ? sb.toString() : null;
+    }
+
+    private static boolean endsWith(StringBuilder sb, String s) {
+        int start = sb.length() - s.length();
+        return start >= 0 && sb.indexOf(s, start) == start;
+    }
+
+    // the line the last statement returned by next() started on
+    public int getLine() {
+        return statementLine;
+    }
+
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.actions;
+
+// Runs action bodies, scripts and resolver functions for JSActionListener.
+// Compiled scripts and functions are opaque handles owned by the engine.
+public interface ActionEngine {
+    public String getName();
+
+    public Object compile(String name, String source) throws Exception;
+
+    // binds the params named by the plan, then runs the compiled action
+    public void exec(Object compiled, Object params, BindingPlan plan) throws Exception;
+
+    // runs in the shared scope, so anything it defines is visible to every action
+    public void eval(String source, String sourceName) throws Exception;
+
+    // evaluates "var name = source" once and returns a handle for call()
+    public Object defineFunction(String name, String source) throws Exception;
+
+    public Object call(Object function, Object arg) throws Exception;
+
+    // a read only global, visible to actions, scripts and resolvers
+    public void putGlobal(String name, Object value);
+
+    // engines that can't enforce limits ignore them
+    public void setLimits(ScriptLimits limits);
+}
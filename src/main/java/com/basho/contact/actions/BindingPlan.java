@@ -0,0 +1,117 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.actions;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Scriptable;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+// the @Binding fields of an ActionParams class, looked up once per class
+public class BindingPlan {
+    private static final ConcurrentMap<Class<?>, BindingPlan> plans = new ConcurrentHashMap<Class<?>, BindingPlan>();
+
+    private final Class<?> type;
+    private final Field[] fields;
+    private final String[] names;
+
+    private BindingPlan(Class<?> type, Field[] fields, String[] names) {
+        this.type = type;
+        this.fields = fields;
+        this.names = names;
+    }
+
+    public static BindingPlan forClass(Class<?> type) {
+        BindingPlan plan = plans.get(type);
+        if (plan == null) {
+            List<Field> fields = new ArrayList<Field>();
+            List<String> names = new ArrayList<String>();
+            for (Field f : type.getFields()) {
+                if (f.isAnnotationPresent(Binding.class)) {
+                    fields.add(f);
+                    names.add(f.getAnnotation(Binding.class).name());
+                }
+            }
+            plan = new BindingPlan(type, fields.toArray(new Field[fields.size()]),
+                    names.toArray(new String[names.size()]));
+            BindingPlan existing = plans.putIfAbsent(type, plan);
+            if (existing != null) {
+                plan = existing;
+            }
+        }
+        return plan;
+    }
+
+    // only the bindings whose names appear in the script source
+    public BindingPlan referencedBy(String source) {
+        List<Field> fields = new ArrayList<Field>();
+        List<String> names = new ArrayList<String>();
+        for (int i = 0; i < this.names.length; i++) {
+            if (Pattern.compile("\\b" + Pattern.quote(this.names[i]) + "\\b").matcher(source).find()) {
+                fields.add(this.fields[i]);
+                names.add(this.names[i]);
+            }
+        }
+        return new BindingPlan(type, fields.toArray(new Field[fields.size()]),
+                names.toArray(new String[names.size()]));
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public String[] getNames() {
+        return names.clone();
+    }
+
+    public Map<String, Object> values(Object params) {
+        Map<String, Object> values = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < fields.length; i++) {
+            try {
+                values.put(names[i], fields[i].get(params));
+            } catch (IllegalAccessException e) {
+                e.printStackTrace();
+            }
+        }
+        return values;
+    }
+
+    // must be called with a Context entered
+    public void bind(Object params, Scriptable scope) {
+        for (int i = 0; i < fields.length; i++) {
+            try {
+                Object wrappedObj = Context.javaToJS(fields[i].get(params), scope);
+                scope.put(names[i], scope, wrappedObj);
+            } catch (IllegalAccessException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.actions;
+
+import com.basho.contact.commands.core.params.*;
+
+import java.util.List;
+
+// Passes each action to several listeners in order. Scripts and conflict
+// resolvers always belong to the Javascript listener, even when it isn't
+// one of the listeners running actions.
+public class ChainedActionListener implements ContactActionListener {
+    private final ContactActionListener[] listeners;
+    private final JSActionListener jsListener;
+
+    public ChainedActionListener(List<ContactActionListener> listeners, JSActionListener jsListener) {
+        this.listeners = listeners.toArray(new ContactActionListener[listeners.size()]);
+        this.jsListener = jsListener;
+    }
+
+    public void init() {
+        for (ContactActionListener l : listeners) {
+            l.init();
+        }
+    }
+
+    public void term() {
+        for (ContactActionListener l : listeners) {
+            l.term();
+        }
+    }
+
+    public void loadScript(String filename) {
+        jsListener.loadScript(filename);
+    }
+
+    public void evalScript(String script) {
+        jsListener.evalScript(script);
+    }
+
+    public ContactConflictResolverMill getResolverMill() {
+        return jsListener.getResolverMill();
+    }
+
+    public void preConnectAction(ConnectParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preConnectAction(params);
+        }
+    }
+
+    public void postConnectAction(ConnectParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postConnectAction(params);
+        }
+    }
+
+    public void preFetchAction(FetchParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preFetchAction(params);
+        }
+    }
+
+    public void postFetchAction(FetchParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postFetchAction(params);
+        }
+    }
+
+    public void postFetchBatchAction(FetchParams.Batch params) {
+        for (ContactActionListener l : listeners) {
+            l.postFetchBatchAction(params);
+        }
+    }
+
+    public void preStoreAction(StoreParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preStoreAction(params);
+        }
+    }
+
+    public void postStoreAction(StoreParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postStoreAction(params);
+        }
+    }
+
+    public void preDeleteAction(DeleteParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preDeleteAction(params);
+        }
+    }
+
+    public void postDeleteAction(DeleteParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postDeleteAction(params);
+        }
+    }
+
+    public void preQuery2iAction(Query2iParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preQuery2iAction(params);
+        }
+    }
+
+    public void postQuery2iAction(Query2iParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postQuery2iAction(params);
+        }
+    }
+
+    public void preMapredAction(MapRedParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preMapredAction(params);
+        }
+    }
+
+    public void postMapredAction(MapRedParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postMapredAction(params);
+        }
+    }
+
+    public void preListBucketsAction(ListBucketsParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preListBucketsAction(params);
+        }
+    }
+
+    public void postListBucketsAction(ListBucketsParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postListBucketsAction(params);
+        }
+    }
+
+    public void preListKeysAction(ListKeysParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preListKeysAction(params);
+        }
+    }
+
+    public void postListKeysAction(ListKeysParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postListKeysAction(params);
+        }
+    }
+
+    public void preGetBucketPropsAction(GetBucketPropsParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preGetBucketPropsAction(params);
+        }
+    }
+
+    public void postGetBucketPropsAction(GetBucketPropsParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postGetBucketPropsAction(params);
+        }
+    }
+
+    public void preSetBucketPropsAction(SetBucketPropsParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preSetBucketPropsAction(params);
+        }
+    }
+
+    public void postSetBucketPropsAction(SetBucketPropsParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postSetBucketPropsAction(params);
+        }
+    }
+
+    public void preConnections(ConnectionsParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preConnections(params);
+        }
+    }
+
+    public void postConnections(ConnectionsParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postConnections(params);
+        }
+    }
+
+    public void preCountKeys(CountKeysParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preCountKeys(params);
+        }
+    }
+
+    public void postCountKeys(CountKeysParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postCountKeys(params);
+        }
+    }
+
+    public void preGetBucket(GetBucketParams.Pre params) {
+        for (ContactActionListener l : listeners) {
+            l.preGetBucket(params);
+        }
+    }
+
+    public void postGetBucket(GetBucketParams.Post params) {
+        for (ContactActionListener l : listeners) {
+            l.postGetBucket(params);
+        }
+    }
+}
@@ -37,6 +37,8 @@ public interface ContactActionListener {
 
     public void postFetchAction(FetchParams.Post params);
 
+    public void postFetchBatchAction(FetchParams.Batch params);
+
     public void preStoreAction(StoreParams.Pre params);
 
     public void postStoreAction(StoreParams.Post params);
@@ -31,5 +31,6 @@ import java.util.Collection;
 public interface ContactConflictResolverMill {
     public ConflictResolver<IRiakObject> getResolverForBucket(String bucket);
     public void defineResolver(String bucket, String body);
+    public void useResolver(String bucket, String name);
     public void clearResolver(String bucket);
 }
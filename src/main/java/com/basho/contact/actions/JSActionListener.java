@@ -24,21 +24,20 @@ package com.basho.contact.actions;
 
 import com.basho.contact.RuntimeContext;
 import com.basho.contact.commands.core.params.*;
+import com.basho.contact.resolvers.NamedResolver;
+import com.basho.contact.resolvers.Resolvers;
 import com.basho.riak.client.IRiakObject;
 import com.basho.riak.client.cap.ConflictResolver;
-import org.mozilla.javascript.Context;
-import org.mozilla.javascript.Function;
-import org.mozilla.javascript.Scriptable;
-import org.mozilla.javascript.ScriptableObject;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
-import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class JSActionListener implements ContactActionListener, ContactConflictResolverMill {
 
@@ -52,6 +51,7 @@ public class JSActionListener implements ContactActionListener, ContactConflictR
 
     public static String PREFETCH = "prefetch";
     public static String POSTFETCH = "postfetch";
+    public static String POSTFETCHBATCH = "postfetchbatch";
     public static String PRESTORE = "prestore";
     public static String POSTSTORE = "poststore";
     public static String PREDELETE = "predelete";
@@ -79,28 +79,38 @@ public class JSActionListener implements ContactActionListener, ContactConflictR
     public static String POSTGETBUCKET = "postgetbucket";
 
 
-    Scriptable jsscope = null;
+    public static final String DEFAULT_ENGINE = "rhino";
+    public static final int DEFAULT_OPTIMIZATION_LEVEL = 0;
+
+    private final ActionEngine engine;
 
     private RuntimeContext runtimeCtx = null;
     private Map<String, String> js = new HashMap<String, String>();
-    private Map<String, ConflictResolver<IRiakObject>> resolversByBucket = new HashMap<String, ConflictResolver<IRiakObject>>();
+    // action bodies compiled on first use, dropped when the body changes
+    private Map<String, Object> compiled = new HashMap<String, Object>();
+    // per action, the params fields the body refers to
+    private Map<String, BindingPlan> plans = new HashMap<String, BindingPlan>();
+    private ConcurrentMap<String, ConflictResolver<IRiakObject>> resolversByBucket = new ConcurrentHashMap<String, ConflictResolver<IRiakObject>>();
     static int resolverid = 0;
 
     ConflictResolver<IRiakObject> defaultResolver;
+    private final ResolverStats resolverStats = new ResolverStats();
 
     public JSActionListener(RuntimeContext ctx, PrintStream out, PrintStream err) {
+        this(ctx, out, err, newEngine(DEFAULT_ENGINE, DEFAULT_OPTIMIZATION_LEVEL, out, err));
+    }
+
+    public JSActionListener(RuntimeContext ctx, PrintStream out, PrintStream err, ActionEngine engine) {
         this.runtimeCtx = ctx;
+        this.engine = engine;
+        this.engine.setLimits(ctx.getScriptLimits());
+        // actions bind their own contact, this one is for scripts and resolvers
+        this.engine.putGlobal("contact", ctx);
         setupDefaults();
-        Context cx = Context.enter();
-        jsscope = cx.initStandardObjects();
-        Object wrappedOut = Context.javaToJS(out, jsscope);
-        ScriptableObject.putProperty(jsscope, "out", wrappedOut);
-
-        Object wrappedErr = Context.javaToJS(err, jsscope);
-        ScriptableObject.putProperty(jsscope, "err", wrappedErr);
         defaultResolver = new ConflictResolver<IRiakObject>() {
             @Override
             public IRiakObject resolve(Collection<IRiakObject> siblings) {
+                resolverStats.record(siblings.size(), 0);
                 if (siblings.size() > 1) {
                     JSActionListener.this.runtimeCtx.appendError("Siblings detected, resolving with first sibling");
                     return siblings.iterator().next();
@@ -111,11 +121,25 @@ public class JSActionListener implements ContactActionListener, ContactConflictR
                 }
             }
         };
+    }
+
+    // "rhino" is the built in engine, anything else is looked up as a JSR-223 engine.
+    // The optimization level only applies to Rhino.
+    public static ActionEngine newEngine(String name, int optimizationLevel, PrintStream out, PrintStream err) {
+        if (DEFAULT_ENGINE.equals(name)) {
+            return new RhinoActionEngine(out, err, optimizationLevel);
+        }
+        try {
+            return new ScriptEngineActionEngine(name, out, err);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Can't start script engine " + name + ":" + e.getMessage(), e);
+        }
+    }
 
-        // setup some default objects
-        evalScript("var print = function(s) { out.print(s); };");
-        evalScript("var println = function(s) { out.println(s); };");
-        Context.exit();
+    public ActionEngine getEngine() {
+        return engine;
     }
 
     private void setupDefaults() {
@@ -123,6 +147,8 @@ public class JSActionListener implements ContactActionListener, ContactConflictR
 
         js.put(POSTFETCH, "if(fetchMetadata != undefined) { println(fetchMetadata); }");
 
+        js.put(POSTFETCHBATCH, "for(var i = 0; i < results.size(); i++) { println(results.get(i)); }");
+
         js.put(PRESTORE, "");
         js.put(POSTSTORE, "if(riak_object != undefined) { println(riak_object.getValueAsString()); }");
         js.put(PREDELETE, "");
@@ -134,7 +160,8 @@ public class JSActionListener implements ContactActionListener, ContactConflictR
         js.put(PRELISTBUCKETS, "");
         js.put(POSTLISTBUCKETS, "println(buckets);");
         js.put(PRELISTKEYS, "");
-        js.put(POSTLISTKEYS, "for(var i = 0; i < keys.size(); i++) { println(keys.get(i)); }");
+        js.put(POSTLISTKEYS, "if(key_file == undefined) { for(var i = 0; i < keys.size(); i++) { println(keys.get(i)); } }" +
+                             " else if(last_chunk) { println(key_count + ' keys written to ' + key_file); }");
         js.put(PREGETBUCKETPROPS, "");
         js.put(POSTGETBUCKETPROPS, "if(bucket_props != undefined) { println(bucket_props); }");
 
@@ -147,15 +174,24 @@ public class JSActionListener implements ContactActionListener, ContactConflictR
         js.put(POSTCONNECTIONS, "println('Connections'); println(connections);");
         js.put(PRECONNECTIONS, "");
         js.put(POSTCONNECTIONS, "println('Connections'); println(connections);");
-        js.put(PRECOUNTKEYS, "println('Counting keys for ' + bucket + '...');");
-        js.put(POSTCOUNTKEYS, "println('Bucket ' + bucket + ' contains ' + keycount + ' keys');");
+        js.put(PRECOUNTKEYS, "println('Counting keys for ' + bucket + ' (' + strategy + ')...');");
+        js.put(POSTCOUNTKEYS, "println('Bucket ' + bucket + ' contains ' + (approximate ? 'about ' : '') + keycount + ' keys' +" +
+                              " ' (' + strategy + ', ' + elapsed_ms + 'ms)');");
         js.put(PREGETBUCKET, "");
         js.put(POSTGETBUCKET, "println(bucket);");
     }
 
-    public void setJSBody(String name, String body) {
+    public synchronized void setJSBody(String name, String body) {
         if (js.containsKey(name)) {
             js.put(name, body);
+            compiled.remove(name);
+            plans.remove(name);
+            runtimeCtx.getScriptLimits().reset(name);
+            try {
+                compileAction(name);
+            } catch (Exception e) {
+                runtimeCtx.appendError("Error compiling Javascript for " + name + ":" + e.getMessage());
+            }
         } else {
             runtimeCtx.appendError("Trying to set a body for an invalid action:" + name);
         }
@@ -183,44 +219,50 @@ public class JSActionListener implements ContactActionListener, ContactConflictR
     }
 
     private void evalWithParams(Object params, String commandName) {
-        wrapObjectWithAnnotations(params);
-
-        // TODO: introduce a scope (via a function?) to contain objects
-        // so we don't leak!
-
         try {
-            String body = js.get(commandName);
-            if (body != null && !body.isEmpty()) {
-                Context localContext = Context.enter();
-                localContext.evaluateString(jsscope, body, commandName, 1, null);
-                Context.exit();
+            Object script = compileAction(commandName);
+            if (script != null) {
+                engine.exec(script, params, bindingPlan(commandName, params.getClass()));
+            }
+        } catch (ScriptLimitError e) {
+            runtimeCtx.appendError("Action " + commandName + " aborted:" + e.getMessage());
+            if (runtimeCtx.getScriptLimits().recordAbort(commandName)) {
+                disableAction(commandName);
             }
         } catch (Exception e) {
             runtimeCtx.appendError("Error processing Javascript:" + e.getMessage());
         }
     }
 
-    private void wrapObjectWithAnnotations(Object o) {
-        try {
-            Context.enter();
-            Field[] fields = o.getClass().getFields();
-            for (Field f : fields) {
-                if (f.isAnnotationPresent(Binding.class)) {
-                    Binding b = f.getAnnotation(Binding.class);
-                    String boundName = b.name();
-                    try {
-                        //System.out.println("Binding " + boundName);
-                        Object fieldValue = f.get(o);
-                        Object wrappedObj = Context.javaToJS(fieldValue, jsscope);
-                        ScriptableObject.putProperty(jsscope, boundName, wrappedObj);
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
-                }
+    // a disabled action has an empty body, setting a new one enables it again
+    private synchronized void disableAction(String name) {
+        js.put(name, "");
+        compiled.remove(name);
+        plans.remove(name);
+        runtimeCtx.appendError("Action " + name + " disabled after " +
+                runtimeCtx.getScriptLimits().getAborted(name) + " aborted runs");
+    }
+
+    synchronized BindingPlan bindingPlan(String name, Class<?> paramsType) {
+        BindingPlan plan = plans.get(name);
+        if (plan == null || plan.getType() != paramsType) {
+            plan = BindingPlan.forClass(paramsType).referencedBy(js.get(name));
+            plans.put(name, plan);
+        }
+        return plan;
+    }
+
+    synchronized Object compileAction(String name) throws Exception {
+        Object script = compiled.get(name);
+        if (script == null) {
+            String body = js.get(name);
+            if (body == null || body.isEmpty()) {
+                return null;
             }
-        } finally {
-            Context.exit();
+            script = engine.compile(name, body);
+            compiled.put(name, script);
         }
+        return script;
     }
 
     @Override
@@ -233,6 +275,11 @@ public class JSActionListener implements ContactActionListener, ContactConflictR
         evalWithParams(params, POSTFETCH);
     }
 
+    @Override
+    public void postFetchBatchAction(FetchParams.Batch params) {
+        evalWithParams(params, POSTFETCHBATCH);
+    }
+
     @Override
     public void preConnectAction(ConnectParams.Pre params) {
         evalWithParams(params, PRECONNECT);
@@ -317,13 +364,16 @@ public class JSActionListener implements ContactActionListener, ContactConflictR
         if(f.exists()) {
             try {
                 String content = org.apache.commons.io.FileUtils.readFileToString(f);
-                Context cx = Context.enter();
-                cx.evaluateString(jsscope, content, "<script: " + filename + ">", 1, null);
+                engine.eval(content, "<script: " + filename + ">");
+            } catch (ScriptLimitError e) {
+                // scripts are counted but there's nothing to disable
+                runtimeCtx.getScriptLimits().recordAbort(filename);
+                runtimeCtx.appendError("Script " + filename + " aborted:" + e.getMessage());
             } catch (IOException e) {
                 // TODO: report these to the runtimeCtx?
                 System.err.println("Error loading script: " + e.getMessage());
-            } finally {
-                Context.exit();
+            } catch (Exception e) {
+                runtimeCtx.appendError(e);
             }
         } else {
             // TODO: report these to the runtimeCtx?
@@ -332,35 +382,27 @@ public class JSActionListener implements ContactActionListener, ContactConflictR
     }
 
     public void evalScript(String script) {
-        Context cx = Context.enter();
-
         try {
-            cx.evaluateString(jsscope, script, "<contact_script>", 1, null);
+            engine.eval(script, "<contact_script>");
+        } catch (ScriptLimitError e) {
+            runtimeCtx.getScriptLimits().recordAbort("<contact_script>");
+            runtimeCtx.appendError("Script aborted:" + e.getMessage());
         } catch (Exception e) {
             runtimeCtx.appendError(e);
-        } finally {
-            Context.exit();
         }
     }
 
-    public Object evalResolverScript(Collection<IRiakObject> siblings, String script, String fnname) {
-        Context cx = Context.enter();
-        Object wrappedObj = Context.javaToJS(siblings, jsscope);
-        ScriptableObject.putProperty(jsscope, "siblings", wrappedObj);
-        Object result = null;
+    private IRiakObject callResolver(Object resolverFn, Collection<IRiakObject> siblings) throws Exception {
+        long start = System.nanoTime();
         try {
-            cx.evaluateString(jsscope, script, "<js_resolver>", 1, null);
-            Object fObj = jsscope.get(fnname, jsscope);
-            Object functionArgs[] = { wrappedObj };
-            Function f = (Function)fObj;
-            result = f.call(cx, jsscope, jsscope, functionArgs);
-            result = Context.jsToJava(result,IRiakObject.class);
-        } catch (Exception e) {
-            runtimeCtx.appendError(e);
+            return (IRiakObject) engine.call(resolverFn, siblings);
         } finally {
-            Context.exit();
+            resolverStats.record(siblings.size(), System.nanoTime() - start);
         }
-        return result;
+    }
+
+    public ResolverStats getResolverStats() {
+        return resolverStats;
     }
 
     @Override
@@ -413,26 +455,64 @@ public class JSActionListener implements ContactActionListener, ContactConflictR
     }
 
     @Override
-    public void defineResolver(String bucket, String body) {
+    public synchronized void defineResolver(final String bucket, String body) {
+        // evaluate the definition once and keep the function around
         final String fnname = "resolver_" + (resolverid++);
-        final String jsBody = "var " + fnname + " = " + body;
+        final Object resolverFn;
+        try {
+            resolverFn = engine.defineFunction(fnname, body);
+        } catch (Exception e) {
+            runtimeCtx.appendError("Can't define resolver for bucket " + bucket + ":" + e.getMessage());
+            return;
+        }
+
+        final String limitsName = "resolver:" + bucket;
+        runtimeCtx.getScriptLimits().reset(limitsName);
         ConflictResolver<IRiakObject> resolver = new ConflictResolver<IRiakObject>() {
             @Override
             public IRiakObject resolve(Collection<IRiakObject> siblings) {
-                Object result = null;
                 try {
-                    result = evalResolverScript(siblings, jsBody, fnname);
+                    return callResolver(resolverFn, siblings);
+                } catch (ScriptLimitError e) {
+                    runtimeCtx.appendError("Resolver for bucket " + bucket + " aborted:" + e.getMessage());
+                    if (runtimeCtx.getScriptLimits().recordAbort(limitsName) &&
+                            resolversByBucket.remove(bucket, this)) {
+                        runtimeCtx.appendError("Resolver for bucket " + bucket + " disabled after " +
+                                runtimeCtx.getScriptLimits().getAborted(limitsName) + " aborted runs");
+                    }
+                    // already counted in the stats, fall back to the first sibling
+                    return siblings.isEmpty() ? null : siblings.iterator().next();
                 } catch (Exception e) {
-                    System.out.println(e.getMessage());
                     JSActionListener.this.runtimeCtx.appendError(e);
+                    return null;
                 }
-                return (IRiakObject)result;
             }
         };
 
         resolversByBucket.put(bucket, resolver);
     }
 
+    @Override
+    public void useResolver(String bucket, String name) {
+        final NamedResolver named = Resolvers.get(name);
+        if (named == null) {
+            runtimeCtx.appendError("Unknown resolver:" + name);
+            return;
+        }
+        ConflictResolver<IRiakObject> resolver = new ConflictResolver<IRiakObject>() {
+            @Override
+            public IRiakObject resolve(Collection<IRiakObject> siblings) {
+                long start = System.nanoTime();
+                try {
+                    return named.resolve(siblings);
+                } finally {
+                    resolverStats.record(siblings.size(), System.nanoTime() - start);
+                }
+            }
+        };
+        resolversByBucket.put(bucket, resolver);
+    }
+
     @Override
     public ContactConflictResolverMill getResolverMill() {
         return this;
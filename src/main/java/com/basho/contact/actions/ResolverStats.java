@@ -0,0 +1,62 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.actions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// counters for conflict resolution, shared by every resolver of a listener
+public class ResolverStats {
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong siblings = new AtomicLong();
+    private final AtomicLong nanos = new AtomicLong();
+
+    public void record(int siblingCount, long elapsedNanos) {
+        calls.incrementAndGet();
+        siblings.addAndGet(siblingCount);
+        nanos.addAndGet(elapsedNanos);
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+
+    public long getSiblings() {
+        return siblings.get();
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(nanos.get());
+    }
+
+    public void reset() {
+        calls.set(0);
+        siblings.set(0);
+        nanos.set(0);
+    }
+
+    public String toString() {
+        return "<resolver_stats calls:" + getCalls() + " siblings:" + getSiblings() +
+                " time:" + getElapsedMillis() + "ms>";
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.actions;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextFactory;
+import org.mozilla.javascript.Function;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+
+import java.io.PrintStream;
+
+// The built in engine, using Rhino directly. Actions and resolvers can run
+// concurrently: each invocation gets its own child scope for its bindings and
+// vars, on top of a shared scope.
+public class RhinoActionEngine implements ActionEngine {
+
+    // Rhino contexts are kept per thread and re-entered for each action
+    private static final ThreadLocal<Context> contexts = new ThreadLocal<Context>();
+
+    // how often, in Rhino instructions, running scripts check their budget
+    static final int OBSERVER_THRESHOLD = 10000;
+    private static final Object BUDGET = new Object();
+    private static final ContextFactory factory = new ContextFactory() {
+        @Override
+        protected void observeInstructionCount(Context cx, int instructionCount) {
+            Budget budget = (Budget) cx.getThreadLocal(BUDGET);
+            if (budget != null) {
+                budget.check(instructionCount);
+            }
+        }
+    };
+
+    private static class Budget {
+        final ScriptLimits limits;
+        final long deadline;
+        long instructions = 0;
+
+        Budget(ScriptLimits limits) {
+            this.limits = limits;
+            this.deadline = limits.getTimeoutMillis() > 0 ?
+                    System.currentTimeMillis() + limits.getTimeoutMillis() : Long.MAX_VALUE;
+        }
+
+        void check(int count) {
+            instructions += count;
+            if (limits.getMaxInstructions() > 0 && instructions > limits.getMaxInstructions()) {
+                throw new ScriptLimitError("over the limit of " + limits.getMaxInstructions() + " instructions");
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new ScriptLimitError("over the limit of " + limits.getTimeoutMillis() + "ms");
+            }
+        }
+    }
+
+    private volatile ScriptLimits limits = new ScriptLimits();
+
+    // shared by every action; bindings go into a child scope per invocation
+    final Scriptable scope;
+    private final int optimizationLevel;
+
+    public RhinoActionEngine(PrintStream out, PrintStream err, int optimizationLevel) {
+        if (!Context.isValidOptimizationLevel(optimizationLevel)) {
+            throw new IllegalArgumentException("Invalid Rhino optimization level:" + optimizationLevel);
+        }
+        this.optimizationLevel = optimizationLevel;
+        Context cx = enterContext();
+        try {
+            // sealed, so actions running at the same time can't modify the standard objects
+            scope = cx.initStandardObjects(null, true);
+            ScriptableObject.putProperty(scope, "out", Context.javaToJS(out, scope));
+            ScriptableObject.putProperty(scope, "err", Context.javaToJS(err, scope));
+            cx.evaluateString(scope, "var print = function(s) { out.print(s); };", "<contact>", 1, null);
+            cx.evaluateString(scope, "var println = function(s) { out.println(s); };", "<contact>", 1, null);
+            for (String name : new String[] { "out", "err", "print", "println" }) {
+                ((ScriptableObject) scope).setAttributes(name, ScriptableObject.READONLY | ScriptableObject.PERMANENT);
+            }
+        } finally {
+            Context.exit();
+        }
+    }
+
+    public String getName() {
+        return "rhino";
+    }
+
+    public int getOptimizationLevel() {
+        return optimizationLevel;
+    }
+
+    private Context enterContext() {
+        Context cx = contexts.get();
+        if (cx == null) {
+            cx = factory.enterContext();
+            contexts.set(cx);
+        } else {
+            cx = factory.enterContext(cx);
+        }
+        cx.setOptimizationLevel(optimizationLevel);
+        // always on, so compiled scripts include the instruction counting
+        cx.setInstructionObserverThreshold(OBSERVER_THRESHOLD);
+        return cx;
+    }
+
+    public synchronized void putGlobal(String name, Object value) {
+        enterContext();
+        try {
+            ScriptableObject.putProperty(scope, name, Context.javaToJS(value, scope));
+            ((ScriptableObject) scope).setAttributes(name, ScriptableObject.READONLY | ScriptableObject.PERMANENT);
+        } finally {
+            Context.exit();
+        }
+    }
+
+    public void setLimits(ScriptLimits limits) {
+        this.limits = limits;
+    }
+
+    // returns the budget it replaced, for nested runs
+    private Object startBudget(Context cx) {
+        Object previous = cx.getThreadLocal(BUDGET);
+        if (limits.isLimited()) {
+            cx.putThreadLocal(BUDGET, new Budget(limits));
+        } else {
+            cx.removeThreadLocal(BUDGET);
+        }
+        return previous;
+    }
+
+    private void endBudget(Context cx, Object previous) {
+        if (previous == null) {
+            cx.removeThreadLocal(BUDGET);
+        } else {
+            cx.putThreadLocal(BUDGET, previous);
+        }
+    }
+
+    // must be called with a Context entered
+    private Scriptable newLocalScope(Context cx) {
+        Scriptable local = cx.newObject(scope);
+        local.setPrototype(scope);
+        local.setParentScope(null);
+        return local;
+    }
+
+    public Object compile(String name, String source) {
+        Context cx = enterContext();
+        try {
+            return cx.compileString(source, name, 1, null);
+        } finally {
+            Context.exit();
+        }
+    }
+
+    public void exec(Object compiled, Object params, BindingPlan plan) {
+        Context cx = enterContext();
+        try {
+            Scriptable local = newLocalScope(cx);
+            plan.bind(params, local);
+            Object previous = startBudget(cx);
+            try {
+                ((Script) compiled).exec(cx, local);
+            } finally {
+                endBudget(cx, previous);
+            }
+        } finally {
+            Context.exit();
+        }
+    }
+
+    public synchronized void eval(String source, String sourceName) {
+        Context cx = enterContext();
+        Object previous = startBudget(cx);
+        try {
+            cx.evaluateString(scope, source, sourceName, 1, null);
+        } finally {
+            endBudget(cx, previous);
+            Context.exit();
+        }
+    }
+
+    public synchronized Object defineFunction(String name, String source) {
+        Context cx = enterContext();
+        try {
+            cx.evaluateString(scope, "var " + name + " = " + source, "<js_resolver>", 1, null);
+            Object f = scope.get(name, scope);
+            if (!(f instanceof Function)) {
+                throw new IllegalArgumentException(name + " is not a function");
+            }
+            return f;
+        } finally {
+            Context.exit();
+        }
+    }
+
+    public Object call(Object function, Object arg) {
+        Context cx = enterContext();
+        try {
+            Scriptable local = newLocalScope(cx);
+            Object args[] = { Context.javaToJS(arg, local) };
+            Object previous = startBudget(cx);
+            try {
+                Object result = ((Function) function).call(cx, local, local, args);
+                return Context.jsToJava(result, Object.class);
+            } finally {
+                endBudget(cx, previous);
+            }
+        } finally {
+            Context.exit();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.actions;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.Invocable;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import java.io.PrintStream;
+import java.util.Map;
+
+// Runs actions on any JSR-223 engine, such as Nashorn. Bindings go into the
+// engine's own scope, so actions run one at a time.
+public class ScriptEngineActionEngine implements ActionEngine {
+    private final ScriptEngine engine;
+    private final String name;
+
+    public ScriptEngineActionEngine(String name, PrintStream out, PrintStream err) throws Exception {
+        this.engine = new ScriptEngineManager().getEngineByName(name);
+        if (engine == null) {
+            throw new IllegalArgumentException("Unknown script engine:" + name);
+        }
+        this.name = name;
+        engine.put("out", out);
+        engine.put("err", err);
+        engine.eval("var print = function(s) { out.print(s); };");
+        engine.eval("var println = function(s) { out.println(s); };");
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // a CompiledScript if the engine supports it, otherwise the source
+    public Object compile(String name, String source) throws Exception {
+        if (engine instanceof Compilable) {
+            return ((Compilable) engine).compile(source);
+        }
+        return source;
+    }
+
+    public synchronized void exec(Object compiled, Object params, BindingPlan plan) throws Exception {
+        for (Map.Entry<String, Object> e : plan.values(params).entrySet()) {
+            engine.put(e.getKey(), e.getValue());
+        }
+        if (compiled instanceof CompiledScript) {
+            ((CompiledScript) compiled).eval();
+        } else {
+            engine.eval((String) compiled);
+        }
+    }
+
+    public synchronized void eval(String source, String sourceName) throws Exception {
+        engine.eval(source);
+    }
+
+    public synchronized Object defineFunction(String name, String source) throws Exception {
+        if (!(engine instanceof Invocable)) {
+            throw new UnsupportedOperationException(this.name + " can't call Javascript functions");
+        }
+        engine.eval("var " + name + " = " + source);
+        return name;
+    }
+
+    public synchronized void putGlobal(String name, Object value) {
+        engine.put(name, value);
+    }
+
+    public void setLimits(ScriptLimits limits) {
+        // JSR-223 has no portable way to interrupt a script
+    }
+
+    public synchronized Object call(Object function, Object arg) throws Exception {
+        return ((Invocable) engine).invokeFunction((String) function, arg);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.actions;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// CPU budgets for each action, script or resolver run. 0 means no limit.
+public class ScriptLimits {
+    private volatile long maxInstructions = 0;
+    private volatile long timeoutMillis = 0;
+    // disable an action or resolver after this many aborted runs
+    private volatile int disableAfter = 0;
+
+    private final AtomicLong aborted = new AtomicLong();
+    private final ConcurrentMap<String, AtomicInteger> abortsByName = new ConcurrentHashMap<String, AtomicInteger>();
+
+    public long getMaxInstructions() {
+        return maxInstructions;
+    }
+
+    public void setMaxInstructions(long maxInstructions) {
+        this.maxInstructions = Math.max(0, maxInstructions);
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public void setTimeoutMillis(long timeoutMillis) {
+        this.timeoutMillis = Math.max(0, timeoutMillis);
+    }
+
+    public int getDisableAfter() {
+        return disableAfter;
+    }
+
+    public void setDisableAfter(int disableAfter) {
+        this.disableAfter = Math.max(0, disableAfter);
+    }
+
+    public boolean isLimited() {
+        return maxInstructions > 0 || timeoutMillis > 0;
+    }
+
+    // returns true if name should now be disabled
+    public boolean recordAbort(String name) {
+        aborted.incrementAndGet();
+        abortsByName.putIfAbsent(name, new AtomicInteger());
+        int n = abortsByName.get(name).incrementAndGet();
+        return disableAfter > 0 && n >= disableAfter;
+    }
+
+    public void reset(String name) {
+        abortsByName.remove(name);
+    }
+
+    public long getAborted() {
+        return aborted.get();
+    }
+
+    public int getAborted(String name) {
+        AtomicInteger count = abortsByName.get(name);
+        return count == null ? 0 : count.get();
+    }
+
+    public String toString() {
+        return "<script_limits max_instructions:" + maxInstructions + " timeout_ms:" + timeoutMillis +
+                " disable_after:" + disableAfter + " aborted:" + aborted.get() + ">";
+    }
+}
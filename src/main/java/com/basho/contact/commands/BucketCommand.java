@@ -53,6 +53,7 @@ public abstract class BucketCommand<K extends ContactSymbol<?>, O extends Action
                     // should be taken care of in the command
                     // famous last words...
                 }
+                return val;
 
             } else {
                 runtimeCtx.appendError("Bucket not selected for " + name + " op.");
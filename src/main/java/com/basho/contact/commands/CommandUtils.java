@@ -22,8 +22,30 @@
 
 package com.basho.contact.commands;
 
+import com.basho.riak.pbc.RiakError;
+
+import java.io.IOException;
+
 public class CommandUtils {
 
+    // true if talking to the node failed (a refused or dropped connection, a
+    // timeout), as opposed to an error message sent back by Riak
+    public static boolean isConnectionError(Throwable t) {
+        while (t != null) {
+            if (t instanceof RiakError) {
+                return false;
+            }
+            if (t instanceof IOException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+            t = t.getCause();
+        }
+        return false;
+    }
+
     // TODO: don't throw a runtime exception here
     public static int objectToInt(Object o) throws Exception {
         if (o instanceof String) {
@@ -35,6 +57,16 @@ public class CommandUtils {
         }
     }
 
+    public static long objectToLong(Object o) throws Exception {
+        if (o instanceof String) {
+            return Long.parseLong((String) o);
+        } else if (o instanceof Integer || o instanceof Long) {
+            return ((Number) o).longValue();
+        } else {
+            throw new Exception("Invalid option value " + o);
+        }
+    }
+
     // TODO: don't throw a runtime exception here
     public static boolean objectToBoolean(Object o) throws Exception {
         if (o instanceof String) {
@@ -22,6 +22,7 @@
 
 package com.basho.contact.commands;
 
+import com.basho.contact.ContactConnectionProvider;
 import com.basho.contact.RuntimeContext;
 import com.basho.contact.actions.ActionParams;
 import com.basho.contact.symbols.ContactSymbol;
@@ -32,55 +33,129 @@ import com.basho.riak.client.operations.DeleteObject;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public abstract class RiakCommand<K extends ContactSymbol<?>, O extends ActionParams> {
     public O params;
     private Class<O> clazz;
     protected IRiakClient conn;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+    private boolean retried = false;
+    private Throwable reported = null;
 
     protected abstract K exec(RuntimeContext ctx);
     protected abstract boolean requiresConnection();
 
     public final K doExec(RuntimeContext ctx) {
+        Future<K> future = submit(ctx, false);
+        if(future == null) {
+            return null;
+        }
+        try {
+            K result = future.get();
+            return result;
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+            return null;
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            ctx.getExecutor().cleanCurrentFuture();
+            releaseConnection(ctx);
+        }
+    }
+
+    // submit the command without waiting for it, see PendingSymbol
+    public final Future<K> doExecAsync(RuntimeContext ctx) {
+        return submit(ctx, true);
+    }
+
+    private Future<K> submit(final RuntimeContext ctx, boolean async) {
+        Callable<K> task = newTask(ctx);
+        if(task == null) {
+            return null;
+        }
+        if(async) {
+            return ctx.getExecutor().submitAsyncTask(task);
+        } else {
+            return (Future<K>)ctx.getExecutor().submitTask(task);
+        }
+    }
+
+    // checks access and grabs a connection, returning null (with an error
+    // appended) if the command can't run. Used by ParallelScheduler to run
+    // the command once its dependencies have finished.
+    public final Callable<K> newTask(final RuntimeContext ctx) {
         if(checkAccess(ctx)) {
-            if(this.params.connection_id != null) {
-                conn = ctx.getConnectionProvider().getClientByName(this.params.connection_id, ctx);
-            } else {
-                conn = ctx.getConnectionProvider().getDefaultClient(ctx);
-            }
+            conn = acquireClient(ctx);
 
             if(requiresConnection() && conn == null) {
                 ctx.appendError("Not connected to Riak");
                 return null;
             }
 
-            final RuntimeContext c = ctx;
-            Callable<K> task = new Callable<K>() {
+            return new Callable<K>() {
                 public K call() throws Exception {
-                    return exec(c);
+                    try {
+                        return exec(ctx);
+                    } finally {
+                        releaseConnection(ctx);
+                    }
                 }
             };
-
-            Future<K> future = (Future<K>)ctx.getExecutor().submitTask(task);
-            try {
-
-                K result = future.get();
-                return result;
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-                return null;
-            } catch (ExecutionException e) {
-                e.printStackTrace();
-                return null;
-            } finally {
-                ctx.getExecutor().cleanCurrentFuture();
-            }
         } else {
             ctx.appendError("The current Contact security policy has denied access to this command.");
             return null;
         }
     }
 
+    private IRiakClient acquireClient(RuntimeContext ctx) {
+        if(this.params.connection_id != null) {
+            return ctx.getConnectionProvider().getClientByName(this.params.connection_id, ctx);
+        } else {
+            return ctx.getConnectionProvider().getDefaultClient(ctx);
+        }
+    }
+
+    // called by exec when talking to Riak failed. A connection error takes the
+    // node out of rotation right away. If retry is set (commands that are safe
+    // to run twice) and the pool has another node, conn is switched to it and
+    // true is returned so the request can be sent once more. Retry the
+    // request itself, never the actions around it.
+    protected boolean connectionFailed(RuntimeContext ctx, Throwable t, boolean retry) {
+        if(conn == null || t == reported || !CommandUtils.isConnectionError(t)) {
+            return false;
+        }
+        reported = t;
+        ContactConnectionProvider provider = ctx.getConnectionProvider();
+        provider.reportFailure(conn);
+        if(!retry || retried) {
+            return false;
+        }
+        retried = true;
+        IRiakClient other = acquireClient(ctx);
+        if(other == null) {
+            return false;
+        }
+        if(other == conn) {
+            // no other node to go to
+            provider.releaseClient(other);
+            return false;
+        }
+        provider.releaseClient(conn);
+        conn = other;
+        return true;
+    }
+
+    // the pooled connection goes back as soon as exec is done, but a
+    // cancelled command may never run, so doExec releases it too
+    private void releaseConnection(RuntimeContext ctx) {
+        if(conn != null && released.compareAndSet(false, true)) {
+            ctx.getConnectionProvider().releaseClient(conn);
+        }
+    }
+
     public boolean checkAccess(RuntimeContext ctx) {
         return ctx.getAccessPolicy().canAccess(this.getClass(), null);
     }
@@ -0,0 +1,303 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.commands.core;
+
+import com.basho.contact.ContactConnectionProvider;
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.actions.ActionParams;
+import com.basho.contact.commands.CommandUtils;
+import com.basho.contact.commands.core.params.FetchParams;
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.bucket.Bucket;
+import com.basho.riak.client.operations.FetchObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// Fetches many keys on the ContactExecutor's bulk lane, for fetch [...],
+// fetch keys from $binding and query2i and fetch. Workers take the keys a
+// batch at a time and borrow a client from the connection provider for
+// each batch, so a big fetch is spread over the nodes of a pooled
+// connection. The calling thread fetches batches too and only waits for
+// batches that have started, so a fetch that is itself running on the bulk
+// lane can't deadlock on workers queued behind it. Batches reach the listener
+// in key order, and workers stop taking keys while they're too far ahead of
+// the oldest unfinished batch, so few results are held back.
+// A batch whose node can't be reached reports the node to the provider and
+// moves the rest of its keys to another node, once.
+class BulkFetcher {
+
+    // the most keys fetched with one borrowed client
+    static final int KEYS_PER_CLIENT = 10;
+
+    interface Listener {
+        // called for one batch at a time, in key order, as soon as the batch
+        // and every batch before it have been fetched. index is the batch's
+        // position in key order.
+        void fetched(int index, List<MultiFetchCommand.KeyResult> results);
+    }
+
+    private final RuntimeContext ctx;
+    private final String connectionId;
+    private final ActionParams fetchParams;
+    private final int concurrency;
+    private final boolean preFetchEachKey;
+
+    // fetchParams holds the bucket and fetch options. preFetchEachKey runs
+    // the prefetch action for every key, for query2i.
+    BulkFetcher(RuntimeContext ctx, String connectionId, ActionParams fetchParams, int concurrency,
+                boolean preFetchEachKey) {
+        this.ctx = ctx;
+        this.connectionId = connectionId;
+        this.fetchParams = fetchParams;
+        this.concurrency = concurrency;
+        this.preFetchEachKey = preFetchEachKey;
+    }
+
+    // the state of one call to fetch, workers that start late see it finished
+    private static class Run {
+        final Iterator<String> keys;
+        final Listener listener;
+        final int batchSize;
+        // how far workers may get ahead of the oldest batch still being
+        // fetched, which bounds the batches held back to keep key order
+        final int window;
+        int nextIndex = 0;
+        int running = 0;
+        boolean stopped = false;
+        RuntimeException error = null;
+
+        // guarded by listener
+        final Map<Integer, List<MultiFetchCommand.KeyResult>> finished =
+                new HashMap<Integer, List<MultiFetchCommand.KeyResult>>();
+        int nextToDeliver = 0;
+        // guarded by this, a copy of nextToDeliver for workers to wait on
+        int delivered = 0;
+
+        Run(Iterator<String> keys, Listener listener, int batchSize, int window) {
+            this.keys = keys;
+            this.listener = listener;
+            this.batchSize = batchSize;
+            this.window = window;
+        }
+    }
+
+    // fetches every key, returning once every batch has been passed to the
+    // listener. sizeHint is the number of keys, or -1 if it isn't known;
+    // small fetches use smaller batches so they still run concurrently.
+    void fetch(Iterator<String> keys, int sizeHint, Listener listener) throws InterruptedException {
+        int batchSize = KEYS_PER_CLIENT;
+        int workers = concurrency;
+        if (sizeHint >= 0) {
+            batchSize = Math.max(1, Math.min(KEYS_PER_CLIENT, (sizeHint + concurrency - 1) / concurrency));
+            workers = Math.min(concurrency, (sizeHint + batchSize - 1) / batchSize);
+        }
+        final Run run = new Run(keys, listener, batchSize, 2 * Math.max(1, workers));
+        Runnable worker = new Runnable() {
+            public void run() {
+                work(run);
+            }
+        };
+        for (int i = 1; i < workers; i++) {
+            ctx.getExecutor().execute(worker);
+        }
+        work(run);
+        synchronized (run) {
+            try {
+                while (run.running > 0) {
+                    run.wait();
+                }
+            } catch (InterruptedException e) {
+                run.stopped = true;
+                throw e;
+            }
+            if (run.error != null) {
+                throw run.error;
+            }
+        }
+    }
+
+    private void work(Run run) {
+        while (true) {
+            List<String> batch = new ArrayList<String>(run.batchSize);
+            int index;
+            synchronized (run) {
+                try {
+                    while (!run.stopped && run.nextIndex - run.delivered >= run.window) {
+                        run.wait();
+                    }
+                } catch (InterruptedException e) {
+                    run.stopped = true;
+                    run.notifyAll();
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (run.stopped) {
+                    return;
+                }
+                try {
+                    while (batch.size() < run.batchSize && run.keys.hasNext()) {
+                        batch.add(run.keys.next());
+                    }
+                } catch (RuntimeException e) {
+                    // a key file that can't be read
+                    run.error = e;
+                    run.stopped = true;
+                    run.notifyAll();
+                    return;
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+                index = run.nextIndex++;
+                run.running++;
+            }
+            try {
+                deliver(run, index, fetchBatch(batch));
+            } catch (RuntimeException e) {
+                synchronized (run) {
+                    run.error = e;
+                    run.stopped = true;
+                }
+            } finally {
+                synchronized (run) {
+                    run.running--;
+                    run.notifyAll();
+                }
+            }
+        }
+    }
+
+    // hands the listener this batch and any later ones that were waiting on
+    // it, in key order
+    private static void deliver(Run run, int index, List<MultiFetchCommand.KeyResult> results) {
+        int delivered;
+        synchronized (run.listener) {
+            run.finished.put(index, results);
+            List<MultiFetchCommand.KeyResult> next;
+            while ((next = run.finished.remove(run.nextToDeliver)) != null) {
+                run.listener.fetched(run.nextToDeliver, next);
+                run.nextToDeliver++;
+            }
+            delivered = run.nextToDeliver;
+        }
+        synchronized (run) {
+            run.delivered = delivered;
+            run.notifyAll();
+        }
+    }
+
+    // a batch that stopped because its node couldn't be reached
+    private static class Failure {
+        final IRiakClient client;
+        final Exception error;
+
+        Failure(IRiakClient client, Exception error) {
+            this.client = client;
+            this.error = error;
+        }
+    }
+
+    private List<MultiFetchCommand.KeyResult> fetchBatch(List<String> batch) {
+        List<MultiFetchCommand.KeyResult> results = new ArrayList<MultiFetchCommand.KeyResult>(batch.size());
+        Failure failure = fetchKeys(batch, results, null);
+        if (failure != null) {
+            // the node is out of rotation now, the rest of the batch gets one
+            // more try on another node
+            fetchKeys(batch, results, failure);
+        }
+        return results;
+    }
+
+    // fetches the keys of batch that aren't in results yet. The first try
+    // stops at a connection error and returns it; a retry doesn't use the
+    // client that failed and records every error against its key.
+    private Failure fetchKeys(List<String> batch, List<MultiFetchCommand.KeyResult> results, Failure retrying) {
+        ContactConnectionProvider provider = ctx.getConnectionProvider();
+        IRiakClient client;
+        if (connectionId != null) {
+            client = provider.getClientByName(connectionId, ctx);
+        } else {
+            client = provider.getDefaultClient(ctx);
+        }
+        if (client == null || (retrying != null && client == retrying.client)) {
+            Exception e = client == null ? new Exception("Not connected to Riak") : retrying.error;
+            provider.releaseClient(client);
+            addErrors(batch, results, e);
+            return null;
+        }
+        try {
+            Bucket b = ctx.getBucketCache().fetchBucket(client, fetchParams.bucket);
+            while (results.size() < batch.size()) {
+                String key = batch.get(results.size());
+                try {
+                    results.add(new MultiFetchCommand.KeyResult(key, fetchKey(b, key), null));
+                } catch (Exception e) {
+                    if (CommandUtils.isConnectionError(e)) {
+                        provider.reportFailure(client);
+                        if (retrying == null) {
+                            return new Failure(client, e);
+                        }
+                    }
+                    results.add(new MultiFetchCommand.KeyResult(key, null, e));
+                }
+            }
+        } catch (Exception e) {
+            // the bucket couldn't be fetched
+            if (CommandUtils.isConnectionError(e)) {
+                provider.reportFailure(client);
+                if (retrying == null) {
+                    return new Failure(client, e);
+                }
+            }
+            addErrors(batch, results, e);
+        } finally {
+            provider.releaseClient(client);
+        }
+        return null;
+    }
+
+    private static void addErrors(List<String> batch, List<MultiFetchCommand.KeyResult> results, Exception e) {
+        for (int i = results.size(); i < batch.size(); i++) {
+            results.add(new MultiFetchCommand.KeyResult(batch.get(i), null, e));
+        }
+    }
+
+    private IRiakObject fetchKey(Bucket b, String key) throws Exception {
+        FetchObject<IRiakObject> fo = FetchCommand.newFetchObject(ctx, b, key, fetchParams);
+        if (preFetchEachKey) {
+            FetchParams.Pre pre = new FetchParams.Pre();
+            pre.bucket = fetchParams.bucket;
+            pre.key = key;
+            pre.options = fetchParams.options;
+            pre.fetchObj = fo;
+            pre.ctx = ctx;
+            ctx.getActionListener().preFetchAction(pre);
+        }
+        return fo.execute();
+    }
+}
@@ -22,7 +22,11 @@
 
 package com.basho.contact.commands.core;
 
+import com.basho.contact.ConnectionPool;
 import com.basho.contact.ContactConnectionProvider;
+import com.basho.contact.DefaultConnectionProvider;
+import com.basho.contact.commands.CommandUtils;
+import com.basho.contact.commands.InvalidOptionValueException;
 import com.basho.contact.commands.RiakCommand;
 import com.basho.contact.RuntimeContext;
 import com.basho.contact.commands.core.params.ConnectParams;
@@ -48,8 +52,39 @@ public class ConnectCommand extends RiakCommand<ConnectionSymbol, ConnectParams.
         ContactConnectionProvider connections =
                 runtimeCtx.getConnectionProvider();
 
+        int poolSize = ConnectionPool.DEFAULT_POOL_SIZE;
+        ConnectionPool.Strategy strategy = ConnectionPool.Strategy.ROUND_ROBIN;
+        if(params.options != null) {
+            for(String key : params.options.keySet()) {
+                Object val = params.options.get(key);
+                try {
+                    if(key.equals("pool_size")) {
+                        poolSize = CommandUtils.objectToInt(val);
+                    } else if(key.equals("strategy")) {
+                        strategy = ConnectionPool.Strategy.fromString(val.toString());
+                    } else {
+                        runtimeCtx.appendError("Unknown connect option:" + key);
+                    }
+                } catch (Exception e) {
+                    runtimeCtx.appendError(new InvalidOptionValueException("connect", key, val.toString()));
+                    return null;
+                }
+            }
+        }
+        boolean pooled = (params.nodes != null && params.nodes.size() > 1) || params.options != null;
+
         IRiakClient client;
-        if(params.conn_id != null) {
+        if(pooled) {
+            String name = params.conn_id != null ? params.conn_id : DefaultConnectionProvider.DEFAULT_CONNECTION_NAME;
+            client = connections.createNamedConnection(params.nodes, poolSize, strategy, name, runtimeCtx);
+            if(params.node_name != null) {
+                if(params.conn_id != null) {
+                    connections.registerClientWithErlangNode(params.conn_id, params.node_name);
+                } else {
+                    runtimeCtx.appendError("Can't set an node name without a connection name");
+                }
+            }
+        } else if(params.conn_id != null) {
             client = connections.createNamedConnection(params.host, params.pbPort, params.conn_id, runtimeCtx);
             if(params.node_name != null) {
                 // only named connections can set an erlang node
@@ -66,6 +101,7 @@ public class ConnectCommand extends RiakCommand<ConnectionSymbol, ConnectParams.
         postParams.client = client;
         postParams.host = params.host;
         postParams.pbPort = params.pbPort;
+        postParams.nodes = params.nodes;
         runtimeCtx.getActionListener().postConnectAction(postParams);
 
         ConnectionSymbol sym = new ConnectionSymbol(params.host, params.pbPort);
@@ -2,42 +2,137 @@ package com.basho.contact.commands.core;
 
 import com.basho.contact.commands.BucketCommand;
 import com.basho.contact.RuntimeContext;
+import com.basho.contact.commands.HyperLogLog;
 import com.basho.contact.commands.core.params.CountKeysParams;
 import com.basho.contact.symbols.VoidSymbol;
 import com.basho.riak.client.RiakException;
+import com.basho.riak.client.bucket.Bucket;
+import com.basho.riak.client.query.MapReduce;
 import com.basho.riak.client.query.MapReduceResult;
+import com.basho.riak.client.query.functions.Function;
 import com.basho.riak.client.query.functions.JSSourceFunction;
+import com.basho.riak.client.query.functions.NamedErlangFunction;
 import com.basho.riak.client.query.functions.NamedJSFunction;
+import com.basho.riak.client.query.indexes.BucketIndex;
 
 import java.util.Collection;
 
 public class CountKeysCommand extends BucketCommand<VoidSymbol, CountKeysParams.Pre> {
+
+    public enum Strategy {
+        // count a streamed key listing on the client
+        STREAM,
+        // the $bucket 2i index, needs a 2i capable backend
+        INDEX,
+        // reduce_count_inputs over the bucket's keys, no objects are read
+        ERLANG,
+        // the original Javascript map/reduce, reads every object
+        JAVASCRIPT,
+        // HyperLogLog estimate over a streamed key listing
+        APPROXIMATE;
+
+        public static Strategy fromString(String s) {
+            if (s == null) {
+                return STREAM;
+            }
+            return Strategy.valueOf(s.trim().toUpperCase());
+        }
+    }
+
     public CountKeysCommand() {
         super("count keys", CountKeysParams.Pre.class);
     }
 
     @Override
     protected VoidSymbol bucketExec(RuntimeContext runtimeCtx, String bucket) {
+        Strategy strategy = Strategy.STREAM;
+        if (params.options != null) {
+            for (String key : params.options.keySet()) {
+                Object val = params.options.get(key);
+                if (key.equals("strategy")) {
+                    try {
+                        strategy = Strategy.fromString(val.toString());
+                    } catch (IllegalArgumentException e) {
+                        runtimeCtx.appendError("Unknown count keys strategy:" + val);
+                        return null;
+                    }
+                } else {
+                    runtimeCtx.appendError("Unknown count keys option:" + key);
+                }
+            }
+        }
         try {
+            params.strategy = strategy.toString().toLowerCase();
             runtimeCtx.getActionListener().preCountKeys(this.params);
-            MapReduceResult result =  this.conn.mapReduce(this.params.bucket)
-                  .addMapPhase(new JSSourceFunction("function(riakobj) {return [1]; }"), false)
-                  .addReducePhase(new NamedJSFunction("Riak.reduceSum"), true).execute();
-            String rawResult = result.getResultRaw();
-            Collection<Long> results = result.getResult(Long.class);
-            long count = -1;
-            if(!results.isEmpty()) {
-                Long l = results.iterator().next();
-                count = l;
+            long start = System.currentTimeMillis();
+            long count;
+            switch (strategy) {
+                case INDEX:
+                    count = countIndex(runtimeCtx);
+                    break;
+                case ERLANG:
+                    count = countMapReduce(new NamedErlangFunction("riak_kv_mapreduce", "reduce_count_inputs"), false);
+                    break;
+                case JAVASCRIPT:
+                    count = countMapReduce(new NamedJSFunction("Riak.reduceSum"), true);
+                    break;
+                case APPROXIMATE:
+                    count = countApproximate(runtimeCtx);
+                    break;
+                default:
+                    count = countStream(runtimeCtx);
             }
             CountKeysParams.Post postParams = new CountKeysParams.Post();
             postParams.keyCount = count;
             postParams.bucket = this.params.bucket;
+            postParams.strategy = params.strategy;
+            postParams.elapsedMillis = System.currentTimeMillis() - start;
+            postParams.approximate = strategy == Strategy.APPROXIMATE;
             runtimeCtx.getActionListener().postCountKeys(postParams);
         } catch (RiakException e) {
+            connectionFailed(runtimeCtx, e, false);
             runtimeCtx.appendError(e);
 
         }
         return new VoidSymbol();
     }
+
+    private long countStream(RuntimeContext runtimeCtx) throws RiakException {
+        Bucket b = runtimeCtx.getBucketCache().fetchBucket(conn, params.bucket);
+        long count = 0;
+        for (String k : b.keys()) {
+            count++;
+        }
+        return count;
+    }
+
+    private long countApproximate(RuntimeContext runtimeCtx) throws RiakException {
+        Bucket b = runtimeCtx.getBucketCache().fetchBucket(conn, params.bucket);
+        HyperLogLog hll = new HyperLogLog();
+        for (String k : b.keys()) {
+            hll.add(k);
+        }
+        return hll.estimate();
+    }
+
+    private long countIndex(RuntimeContext runtimeCtx) throws RiakException {
+        Bucket b = runtimeCtx.getBucketCache().fetchBucket(conn, params.bucket);
+        // this client has no streaming 2i, so the keys do come back as a list
+        return b.fetchIndex(BucketIndex.index).withValue(params.bucket).execute().size();
+    }
+
+    private long countMapReduce(Function reduce, boolean jsMap) throws RiakException {
+        MapReduce mr = this.conn.mapReduce(this.params.bucket);
+        if (jsMap) {
+            mr.addMapPhase(new JSSourceFunction("function(riakobj) {return [1]; }"), false);
+        }
+        MapReduceResult result = mr.addReducePhase(reduce, true).execute();
+        Collection<Long> results = result.getResult(Long.class);
+        long count = -1;
+        if(!results.isEmpty()) {
+            Long l = results.iterator().next();
+            count = l;
+        }
+        return count;
+    }
 }
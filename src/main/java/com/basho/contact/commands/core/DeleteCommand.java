@@ -114,8 +114,7 @@ public class DeleteCommand extends BucketCommand<VoidSymbol, DeleteParams.Pre> {
     @Override
     protected VoidSymbol bucketExec(RuntimeContext runtimeCtx, String bucket) {
         try {
-            // TODO: optimize this to skip fetch/create bucket every time
-            Bucket b = conn.fetchBucket(this.params.bucket).execute();
+            Bucket b = runtimeCtx.getBucketCache().fetchBucket(conn, this.params.bucket);
             DeleteObject deleteObj = commandOptions.processOptions(runtimeCtx, b.delete(params.key), params);
             params.deleteObject = deleteObj;
             params.ctx = runtimeCtx;
@@ -131,6 +130,7 @@ public class DeleteCommand extends BucketCommand<VoidSymbol, DeleteParams.Pre> {
             runtimeCtx.getActionListener().postDeleteAction(postParams);
             return sym;
         } catch (RiakException e) {
+            connectionFailed(runtimeCtx, e, false);
             runtimeCtx.appendError("Can't delete object", e);
         } catch (InvalidOptionValueException e) {
             runtimeCtx.appendError(e);
@@ -24,6 +24,7 @@ package com.basho.contact.commands.core;
 
 import com.basho.contact.commands.*;
 import com.basho.contact.RuntimeContext;
+import com.basho.contact.actions.ActionParams;
 import com.basho.contact.commands.core.params.FetchParams;
 import com.basho.contact.symbols.ResultSymbol;
 import com.basho.riak.client.IRiakObject;
@@ -136,9 +137,9 @@ public class FetchCommand extends BucketCommand<ResultSymbol, FetchParams.Pre> {
         });
     }
 
-    private void checkMd(RuntimeContext runtimeCtx, List<String> userSelections) throws Exception {
+    static void checkMd(List<String> userSelections) throws Exception {
         if(userSelections != null) {
-            for(String s: this.params.fetchMetadataSelection) {
+            for(String s: userSelections) {
                 if(!fetchSelectMap.containsKey(s)) {
                     throw new Exception("Unknown fetch metadata:" + s);
                 }
@@ -146,7 +147,7 @@ public class FetchCommand extends BucketCommand<ResultSymbol, FetchParams.Pre> {
         }
     }
 
-    private void mapSelections(RuntimeContext runtimeCtx, List<String> md, IRiakObject obj, FetchParams.Post postParams) {
+    static void mapSelections(RuntimeContext runtimeCtx, List<String> md, IRiakObject obj, FetchParams.Post postParams) {
         if(md != null) {
             postParams.fetchMetadata = new HashMap<String, String>();
             for(String m : md) {
@@ -160,17 +161,33 @@ public class FetchCommand extends BucketCommand<ResultSymbol, FetchParams.Pre> {
         }
     }
 
+    // applies the command options and, if the bucket allows siblings, the bucket's resolver
+    public static FetchObject<IRiakObject> newFetchObject(RuntimeContext runtimeCtx, Bucket b, String key, ActionParams params)
+            throws InvalidOptionValueException {
+        FetchObject<IRiakObject> fo = commandOptions.processOptions(runtimeCtx, b.fetch(key), params);
+        if(b.getAllowSiblings()) {
+            fo = fo.withResolver(runtimeCtx.getActionListener().getResolverMill().getResolverForBucket(params.bucket));
+        }
+        return fo;
+    }
+
     @Override
     protected ResultSymbol bucketExec(RuntimeContext runtimeCtx, String bucket) {
         try {
-            // TODO: optimize this to skip fetch/create bucket every time
-            Bucket b = conn.fetchBucket(this.params.bucket).execute();
-            FetchObject<IRiakObject> fo =
-                    commandOptions.processOptions(runtimeCtx, b.fetch(params.key), params);
-            if(b.getAllowSiblings()) {
-                fo = fo.withResolver(runtimeCtx.getActionListener().getResolverMill().getResolverForBucket(bucket));
-
+            Bucket b;
+            while (true) {
+                try {
+                    b = runtimeCtx.getBucketCache().fetchBucket(conn, this.params.bucket);
+                    break;
+                } catch (RiakException e) {
+                    // prefetch hasn't run yet, so another node can have a go.
+                    // Once it has, the fetch isn't retried.
+                    if (!connectionFailed(runtimeCtx, e, true)) {
+                        throw e;
+                    }
+                }
             }
+            FetchObject<IRiakObject> fo = newFetchObject(runtimeCtx, b, params.key, params);
             params.fetchObj = fo;
             params.ctx = runtimeCtx;
             if(params.fetchMetadataSelection == null || params.fetchMetadataSelection.size() == 0) {
@@ -178,7 +195,7 @@ public class FetchCommand extends BucketCommand<ResultSymbol, FetchParams.Pre> {
                 params.fetchMetadataSelection = new ArrayList<String>();
                 params.fetchMetadataSelection.add("content");
             }
-            checkMd(runtimeCtx, params.fetchMetadataSelection);
+            checkMd(params.fetchMetadataSelection);
             runtimeCtx.getActionListener().preFetchAction(params);
             ResultSymbol sym = new ResultSymbol(fo.execute());
             FetchParams.Post postParams = new FetchParams.Post();
@@ -192,6 +209,7 @@ public class FetchCommand extends BucketCommand<ResultSymbol, FetchParams.Pre> {
             return sym;
 
         } catch (Exception e) {
+            connectionFailed(runtimeCtx, e, false);
             runtimeCtx.appendError("Can't fetch object from bucket:" + e.getMessage());
         }
         return null;
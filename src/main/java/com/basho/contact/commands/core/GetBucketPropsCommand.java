@@ -26,6 +26,7 @@ import com.basho.contact.commands.BucketCommand;
 import com.basho.contact.RuntimeContext;
 import com.basho.contact.commands.core.params.GetBucketPropsParams;
 import com.basho.contact.symbols.VoidSymbol;
+import com.basho.riak.client.RiakException;
 import com.basho.riak.client.bucket.Bucket;
 import com.basho.riak.client.query.functions.NamedErlangFunction;
 import com.basho.riak.client.query.functions.NamedFunction;
@@ -50,7 +51,18 @@ public class GetBucketPropsCommand extends BucketCommand<VoidSymbol, GetBucketPr
     protected VoidSymbol bucketExec(RuntimeContext runtimeCtx, String bucket) {
         try {
             runtimeCtx.getActionListener().preGetBucketPropsAction(this.params);
-            Bucket b = conn.fetchBucket(bucket).execute();
+            Bucket b;
+            while (true) {
+                try {
+                    b = conn.fetchBucket(bucket).execute();
+                    break;
+                } catch (RiakException e) {
+                    // only the request is sent again, not the action
+                    if (!connectionFailed(runtimeCtx, e, true)) {
+                        throw e;
+                    }
+                }
+            }
             Map<String, Object> props = new HashMap<String, Object>();
             props.put("allow_siblings", b.getAllowSiblings());
             props.put("backend", b.getBackend());
@@ -46,7 +46,18 @@ public class ListBucketsCommand extends RiakCommand<StringSetSymbol, ListBuckets
         try {
             params.ctx = runtimeCtx;
             runtimeCtx.getActionListener().preListBucketsAction(params);
-            Set<String> buckets = (Set<String>) conn.listBuckets();
+            Set<String> buckets;
+            while (true) {
+                try {
+                    buckets = (Set<String>) conn.listBuckets();
+                    break;
+                } catch (RiakException e) {
+                    // only the request is sent again, not the action
+                    if (!connectionFailed(runtimeCtx, e, true)) {
+                        throw e;
+                    }
+                }
+            }
             ListBucketsParams.Post postParams = new ListBucketsParams.Post();
             postParams.ctx = runtimeCtx;
             postParams.buckets = buckets;
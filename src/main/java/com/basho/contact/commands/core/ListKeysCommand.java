@@ -19,46 +19,123 @@
  * under the License.
  * -------------------------------------------------------------------
  */
-
 package com.basho.contact.commands.core;
 
 import com.basho.contact.commands.BucketCommand;
 import com.basho.contact.RuntimeContext;
+import com.basho.contact.commands.CommandUtils;
+import com.basho.contact.commands.InvalidOptionValueException;
 import com.basho.contact.commands.core.params.ListKeysParams;
-import com.basho.contact.symbols.ResultSymbol;
+import com.basho.contact.symbols.KeysSymbol;
 import com.basho.riak.client.RiakException;
 import com.basho.riak.client.bucket.Bucket;
 
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
-public class ListKeysCommand extends BucketCommand<ResultSymbol, ListKeysParams.Pre> {
+// Keys are handed to the postlistkeys action in chunks as the server
+// streams them, so memory use doesn't depend on the size of the bucket.
+public class ListKeysCommand extends BucketCommand<KeysSymbol, ListKeysParams.Pre> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
 
     public ListKeysCommand() {
         super("list keys", ListKeysParams.Pre.class);
     }
 
     @Override
-    protected ResultSymbol bucketExec(RuntimeContext runtimeCtx, String bucket) {
+    protected KeysSymbol bucketExec(RuntimeContext runtimeCtx, String bucket) {
+        Writer out = null;
+        File keyFile = null;
         try {
-            // TODO: optimize this to skip fetch/create bucket every time
+            int chunkSize = DEFAULT_CHUNK_SIZE;
+            String toFile = null;
+            if (params.options != null) {
+                for (String key : params.options.keySet()) {
+                    Object val = params.options.get(key);
+                    if (key.equals("chunk_size")) {
+                        try {
+                            chunkSize = CommandUtils.objectToInt(val);
+                        } catch (Exception e) {
+                            chunkSize = 0;
+                        }
+                        if (chunkSize < 1) {
+                            throw new InvalidOptionValueException("list keys", key, val.toString());
+                        }
+                    } else if (key.equals("to_file")) {
+                        toFile = val.toString();
+                    } else {
+                        runtimeCtx.appendError("Unknown list keys option:" + key);
+                    }
+                }
+            }
+            if (toFile != null) {
+                keyFile = new File(toFile);
+            } else if (params.spool) {
+                // deleted as soon as the result is no longer bound, see KeysSymbol.release
+                keyFile = File.createTempFile("contact-keys", ".txt");
+                keyFile.deleteOnExit();
+            }
+            if (keyFile != null) {
+                out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(keyFile), "UTF-8"));
+            }
+
             params.ctx = runtimeCtx;
             runtimeCtx.getActionListener().preListKeysAction(params);
 
-            Bucket b = conn.fetchBucket(params.bucket).execute();
-            List<String> keys = new ArrayList<String>();
-            // DO I need a copy here? Seems like it
-            for (String k : b.keys()) {
-                keys.add(k);
+            Bucket b = runtimeCtx.getBucketCache().fetchBucket(conn, params.bucket);
+            Iterator<String> keys = b.keys().iterator();
+            long count = 0;
+            List<String> chunk = new ArrayList<String>(chunkSize);
+            do {
+                chunk.clear();
+                while (chunk.size() < chunkSize && keys.hasNext()) {
+                    String k = keys.next();
+                    chunk.add(k);
+                    if (out != null) {
+                        out.write(k);
+                        out.write('\n');
+                    }
+                }
+                count += chunk.size();
+                ListKeysParams.Post postParams = new ListKeysParams.Post();
+                postParams.ctx = runtimeCtx;
+                postParams.keys = chunk;
+                postParams.keyCount = count;
+                postParams.lastChunk = !keys.hasNext();
+                postParams.keyFile = toFile;
+                postParams.bucket = params.bucket;
+                runtimeCtx.getActionListener().postListKeysAction(postParams);
+            } while (keys.hasNext());
+
+            if (out != null) {
+                out.close();
+                out = null;
             }
-            ListKeysParams.Post postParams = new ListKeysParams.Post();
-            postParams.ctx = runtimeCtx;
-            postParams.keys = keys;
-            postParams.bucket = params.bucket;
-            runtimeCtx.getActionListener().postListKeysAction(postParams);
-            return null;
+            return new KeysSymbol(keyFile, count, toFile == null);
         } catch (RiakException e) {
+            connectionFailed(runtimeCtx, e, false);
             runtimeCtx.appendError("Can't list keys in bucket", e);
+        } catch (IOException e) {
+            runtimeCtx.appendError("Can't write keys to " + keyFile, e);
+        } catch (Exception e) {
+            connectionFailed(runtimeCtx, e, false);
+            runtimeCtx.appendError("Can't list keys in bucket:" + e.getMessage());
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
         }
 
         return null;
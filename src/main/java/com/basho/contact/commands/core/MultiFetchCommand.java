@@ -0,0 +1,285 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.commands.core;
+
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.actions.ActionParams;
+import com.basho.contact.commands.BucketCommand;
+import com.basho.contact.commands.CommandUtils;
+import com.basho.contact.commands.core.params.FetchParams;
+import com.basho.contact.symbols.ContactSymbol;
+import com.basho.contact.symbols.KeyIterator;
+import com.basho.contact.symbols.KeysSymbol;
+import com.basho.contact.symbols.ResultsSymbol;
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.bucket.Bucket;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// fetch ["k1", "k2"] and fetch keys from $binding. The keys are fetched
+// concurrently on the bulk lane by a BulkFetcher, and the result is a
+// ResultsSymbol of KeyResults in the order the keys were given.
+public class MultiFetchCommand extends BucketCommand<ResultsSymbol, FetchParams.Pre> {
+
+    public static final int DEFAULT_CONCURRENCY = 10;
+
+    private KeyIterator keySource = null;
+    private boolean reportEachKey = false;
+
+    public MultiFetchCommand() {
+        super("fetch", FetchParams.Pre.class);
+    }
+
+    public static class KeyResult {
+        private final String key;
+        private final IRiakObject object;
+        private final Throwable error;
+
+        public KeyResult(String key, IRiakObject object, Throwable error) {
+            this.key = key;
+            this.object = object;
+            this.error = error;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        // null if the key wasn't found or the fetch failed
+        public IRiakObject getObject() {
+            return object;
+        }
+
+        public Throwable getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        public String toString() {
+            if (error != null) {
+                return key + ": error " + error.getMessage();
+            } else if (object == null) {
+                return key + ": not found";
+            } else {
+                return key + ": " + object.getValueAsString();
+            }
+        }
+    }
+
+    // keys from a list keys, query2i or multi-key fetch result, null if the
+    // symbol doesn't hold keys. Close the iterator when done.
+    public static KeyIterator keysFromSymbol(ContactSymbol<?> sym) throws IOException {
+        if (sym instanceof KeysSymbol) {
+            return ((KeysSymbol) sym).iterateKeys();
+        }
+        if (sym == null || !(sym.value instanceof Collection)) {
+            return null;
+        }
+        List<String> keys = new ArrayList<String>();
+        for (Object o : (Collection<?>) sym.value) {
+            if (o instanceof KeyResult) {
+                keys.add(((KeyResult) o).getKey());
+            } else if (o != null) {
+                keys.add(o.toString());
+            }
+        }
+        return KeyIterator.of(keys);
+    }
+
+    // fetch keys from $binding: the keys are read as they're fetched, and
+    // params.keys is left null. The iterator is closed when the command runs.
+    public void setKeys(KeyIterator keys) {
+        this.keySource = keys;
+    }
+
+    // set for the fetch MergeFetchesPass makes out of single key fetches, so
+    // failures are reported the way those fetches would have reported them:
+    // one error per key, with its cause, rather than a count
+    public void setReportEachKey(boolean reportEachKey) {
+        this.reportEachKey = reportEachKey;
+    }
+
+    public boolean isReportEachKey() {
+        return reportEachKey;
+    }
+
+    private static void keyError(RuntimeContext runtimeCtx, String key, Throwable t) {
+        runtimeCtx.appendError("Can't fetch object from bucket:" + t.getMessage() + " (key " + key + ")");
+    }
+
+    // concurrency and batch_size are handled here rather than passed on to
+    // each key's fetch
+    private int intOption(String name, int defaultValue) throws Exception {
+        if (params.options != null && params.options.containsKey(name)) {
+            int i = CommandUtils.objectToInt(params.options.get(name));
+            if (i < 1) {
+                throw new Exception(name + " must be > 0");
+            }
+            return i;
+        }
+        return defaultValue;
+    }
+
+    static void postBatch(RuntimeContext runtimeCtx, String bucket, Map<String, String> options,
+                          List<KeyResult> batch, boolean last) {
+        FetchParams.Batch batchParams = new FetchParams.Batch();
+        batchParams.bucket = bucket;
+        batchParams.options = options;
+        batchParams.results = batch;
+        batchParams.lastBatch = last;
+        batchParams.ctx = runtimeCtx;
+        runtimeCtx.getActionListener().postFetchBatchAction(batchParams);
+    }
+
+    // runs the actions as batches arrive, in key order, so output doesn't
+    // depend on timing and starts before the last key has been fetched
+    private class Collector implements BulkFetcher.Listener {
+        final RuntimeContext runtimeCtx;
+        // 0 runs postfetch once per key
+        final int batchSize;
+        final List<KeyResult> results = new ArrayList<KeyResult>();
+        List<KeyResult> batch = new ArrayList<KeyResult>();
+        int failures = 0;
+
+        Collector(RuntimeContext runtimeCtx, int batchSize) {
+            this.runtimeCtx = runtimeCtx;
+            this.batchSize = batchSize;
+        }
+
+        public void fetched(int index, List<KeyResult> fetched) {
+            for (KeyResult r : fetched) {
+                results.add(r);
+                if (!r.isSuccess()) {
+                    failures++;
+                    if (reportEachKey) {
+                        keyError(runtimeCtx, r.getKey(), r.getError());
+                    }
+                }
+                if (batchSize > 0) {
+                    // a full batch waits for the next result, so the final
+                    // one can be flagged as the last
+                    if (batch.size() == batchSize) {
+                        postBatch(runtimeCtx, params.bucket, params.options, batch, false);
+                        batch = new ArrayList<KeyResult>();
+                    }
+                    batch.add(r);
+                } else if (r.isSuccess()) {
+                    postFetch(runtimeCtx, r);
+                }
+            }
+        }
+
+        void finish() {
+            if (!batch.isEmpty()) {
+                postBatch(runtimeCtx, params.bucket, params.options, batch, true);
+            }
+            if (failures > 0 && !reportEachKey) {
+                runtimeCtx.appendError(failures + " of " + results.size() + " keys could not be fetched");
+            }
+        }
+    }
+
+    private void postFetch(RuntimeContext runtimeCtx, KeyResult r) {
+        FetchParams.Post postParams = new FetchParams.Post();
+        postParams.bucket = this.params.bucket;
+        postParams.key = r.getKey();
+        postParams.options = this.params.options;
+        postParams.object = r.getObject();
+        postParams.ctx = runtimeCtx;
+        if (r.getObject() != null) {
+            FetchCommand.mapSelections(runtimeCtx, params.fetchMetadataSelection, r.getObject(), postParams);
+        }
+        runtimeCtx.getActionListener().postFetchAction(postParams);
+    }
+
+    @Override
+    protected ResultsSymbol bucketExec(final RuntimeContext runtimeCtx, String bucket) {
+        KeyIterator keys = keySource != null ? keySource : KeyIterator.of(params.keys);
+        // once the fetch starts, the BulkFetcher deals with node failures
+        boolean fetching = false;
+        try {
+            final Bucket b = runtimeCtx.getBucketCache().fetchBucket(conn, this.params.bucket);
+            int concurrency = intOption("concurrency", DEFAULT_CONCURRENCY);
+            int batchSize = intOption("batch_size", 0);
+            if (params.fetchMetadataSelection == null || params.fetchMetadataSelection.size() == 0) {
+                // always show content
+                params.fetchMetadataSelection = new ArrayList<String>();
+                params.fetchMetadataSelection.add("content");
+            }
+            FetchCommand.checkMd(params.fetchMetadataSelection);
+
+            // report unknown options once, not once per key
+            final ActionParams keyParams = new ActionParams();
+            keyParams.bucket = params.bucket;
+            if (params.options != null) {
+                keyParams.options = new HashMap<String, String>();
+                for (Map.Entry<String, String> e : params.options.entrySet()) {
+                    if (FetchCommand.commandOptions.getOptionsMap().containsKey(e.getKey())) {
+                        keyParams.options.put(e.getKey(), e.getValue());
+                    } else if (!e.getKey().equals("concurrency") && !e.getKey().equals("batch_size")) {
+                        runtimeCtx.appendError("Unknown fetch option:" + e.getKey());
+                    }
+                }
+            }
+
+            if (keys.hasNext()) {
+                // fail once on a bad option value rather than once per key
+                FetchCommand.newFetchObject(runtimeCtx, b, keys.peek(), keyParams);
+            }
+
+            params.ctx = runtimeCtx;
+            fetching = true;
+            runtimeCtx.getActionListener().preFetchAction(params);
+
+            Collector collector = new Collector(runtimeCtx, batchSize);
+            BulkFetcher fetcher = new BulkFetcher(runtimeCtx, params.connection_id, keyParams, concurrency, false);
+            fetcher.fetch(keys, (int) Math.min(keys.getCount(), Integer.MAX_VALUE), collector);
+            collector.finish();
+            return new ResultsSymbol(collector.results);
+        } catch (InterruptedException e) {
+            runtimeCtx.appendError("Fetch interrupted");
+        } catch (Exception e) {
+            if (!fetching && connectionFailed(runtimeCtx, e, true)) {
+                return bucketExec(runtimeCtx, bucket);
+            }
+            if (reportEachKey && params.keys != null) {
+                for (String key : params.keys) {
+                    keyError(runtimeCtx, key, e);
+                }
+            } else {
+                runtimeCtx.appendError("Can't fetch objects from bucket:" + e.getMessage());
+            }
+        } finally {
+            keys.close();
+        }
+        return null;
+    }
+}
@@ -22,8 +22,12 @@
 
 package com.basho.contact.commands.core;
 
+import com.basho.contact.actions.ActionParams;
 import com.basho.contact.commands.BucketCommand;
 import com.basho.contact.RuntimeContext;
+import com.basho.contact.commands.CommandUtils;
+import com.basho.contact.commands.InvalidOptionValueException;
+import com.basho.contact.commands.core.params.FetchParams;
 import com.basho.contact.commands.core.params.Query2iParams;
 import com.basho.contact.symbols.Query2IResultsSymbol;
 import com.basho.riak.client.RiakException;
@@ -32,6 +36,7 @@ import com.basho.riak.client.query.indexes.BinIndex;
 import com.basho.riak.client.query.indexes.FetchIndex;
 import com.basho.riak.client.query.indexes.IntIndex;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class Query2iCommand extends BucketCommand<Query2IResultsSymbol, Query2iParams.Pre> {
@@ -43,8 +48,7 @@ public class Query2iCommand extends BucketCommand<Query2IResultsSymbol, Query2iP
     @Override
     protected Query2IResultsSymbol bucketExec(RuntimeContext runtimeCtx, String bucket) {
         try {
-            // TODO: optimize this to skip fetch/create bucket every time
-            Bucket b = conn.fetchBucket(params.bucket).execute();
+            Bucket b = runtimeCtx.getBucketCache().fetchBucket(conn, params.bucket);
 
             FetchIndex<?> index = null;
             if (params.indexVal != null) {
@@ -103,30 +107,121 @@ public class Query2iCommand extends BucketCommand<Query2IResultsSymbol, Query2iP
             postParams.indexVal = params.indexVal;
             postParams.max = params.max;
             postParams.min = params.min;
+            postParams.doFetch = params.doFetch;
             runtimeCtx.getActionListener().postQuery2iAction(postParams);
             if(params.doFetch) {
-                doFetch(results.value);
+                doFetch(runtimeCtx, results.value);
             }
             return results;
         } catch (RiakException e) {
+            connectionFailed(runtimeCtx, e, false);
             runtimeCtx.appendError("Error executing 2i query", e);
+        } catch (InterruptedException e) {
+            runtimeCtx.appendError("2i fetch interrupted");
+        } catch (Exception e) {
+            connectionFailed(runtimeCtx, e, false);
+            runtimeCtx.appendError("Error executing 2i query:" + e.getMessage());
         }
 
         return null;
     }
 
-    private void doFetch(List<?> results) {
-        List<String> stringResults = (List<String>)results;
-        for(String key : stringResults) {
-            FetchCommand fetch = new FetchCommand();
-            fetch.params.key = key;
-            fetch.params.bucket = this.params.bucket;
-            fetch.params.ctx = this.params.ctx;
-            // TODO: check into this
-            // default to the bucket fetch options
-            fetch.params.options = this.params.ctx.getCurrentFetchOptions();
-            // throw out the result
-            fetch.doExec(this.params.ctx);
+    private int intOption(String name, int defaultValue) throws InvalidOptionValueException {
+        Object val = params.options.get(name);
+        if(val == null) {
+            return defaultValue;
+        }
+        try {
+            int i = CommandUtils.objectToInt(val);
+            if(i < 1) {
+                throw new Exception();
+            }
+            return i;
+        } catch (Exception e) {
+            throw new InvalidOptionValueException("query2i", name, val.toString());
+        }
+    }
+
+    // fetch the index results with a BulkFetcher, a page at a time, writing
+    // each batch of objects out as soon as it arrives
+    private void doFetch(final RuntimeContext runtimeCtx, List<?> results) throws Exception {
+        int concurrency = MultiFetchCommand.DEFAULT_CONCURRENCY;
+        int limit = Integer.MAX_VALUE;
+        int pageSize = Integer.MAX_VALUE;
+        // 0 runs postfetch once per key
+        int batchSize = 0;
+        if(params.options != null) {
+            for(String key : params.options.keySet()) {
+                if(!key.equals("concurrency") && !key.equals("limit") && !key.equals("page_size")
+                        && !key.equals("batch_size")) {
+                    runtimeCtx.appendError("Unknown query2i option:" + key);
+                }
+            }
+            concurrency = intOption("concurrency", concurrency);
+            limit = intOption("limit", limit);
+            pageSize = intOption("page_size", pageSize);
+            batchSize = intOption("batch_size", batchSize);
+        }
+
+        final List<String> keys = new ArrayList<String>();
+        for(Object o : results) {
+            if(keys.size() >= limit) {
+                break;
+            }
+            keys.add(o.toString());
+        }
+        if(keys.isEmpty()) {
+            return;
+        }
+
+        // default to the bucket fetch options
+        final ActionParams fetchParams = new ActionParams();
+        fetchParams.bucket = params.bucket;
+        fetchParams.options = runtimeCtx.getCurrentFetchOptions();
+        final List<String> md = new ArrayList<String>();
+        md.add("content");
+
+        final int postBatchSize = batchSize;
+        BulkFetcher.Listener listener = new BulkFetcher.Listener() {
+            List<MultiFetchCommand.KeyResult> batch = new ArrayList<MultiFetchCommand.KeyResult>();
+            int seen = 0;
+
+            public void fetched(int index, List<MultiFetchCommand.KeyResult> fetched) {
+                for(MultiFetchCommand.KeyResult r : fetched) {
+                    seen++;
+                    if(!r.isSuccess()) {
+                        runtimeCtx.appendError("Can't fetch " + r.getKey() + ":" + r.getError().getMessage());
+                    }
+                    if(postBatchSize > 0) {
+                        // batches include failed keys so every key is seen exactly once
+                        batch.add(r);
+                        boolean last = seen == keys.size();
+                        if(batch.size() == postBatchSize || last) {
+                            MultiFetchCommand.postBatch(runtimeCtx, params.bucket, fetchParams.options, batch, last);
+                            batch = new ArrayList<MultiFetchCommand.KeyResult>();
+                        }
+                        continue;
+                    }
+                    if(!r.isSuccess()) {
+                        continue;
+                    }
+                    FetchParams.Post postParams = new FetchParams.Post();
+                    postParams.bucket = params.bucket;
+                    postParams.key = r.getKey();
+                    postParams.options = fetchParams.options;
+                    postParams.object = r.getObject();
+                    postParams.ctx = runtimeCtx;
+                    if(r.getObject() != null) {
+                        FetchCommand.mapSelections(runtimeCtx, md, r.getObject(), postParams);
+                    }
+                    runtimeCtx.getActionListener().postFetchAction(postParams);
+                }
+            }
+        };
+        BulkFetcher fetcher = new BulkFetcher(runtimeCtx, params.connection_id, fetchParams, concurrency, true);
+        for(int start = 0; start < keys.size(); start += pageSize) {
+            int end = (int)Math.min((long)start + pageSize, keys.size());
+            fetcher.fetch(keys.subList(start, end).iterator(), end - start, listener);
         }
     }
 }
@@ -69,7 +69,9 @@ public class SetBucketPropsCommand extends BucketCommand<VoidSymbol, SetBucketPr
                     WriteBucket b = conn.createBucket(bucket);
                     b = commandOptions.processOptions(runtimeCtx, b, params);
                     b.execute();
+                    runtimeCtx.getBucketCache().invalidate(bucket);
                 } catch (RiakRetryFailedException e) {
+                    connectionFailed(runtimeCtx, e, false);
                     runtimeCtx.appendError(e);
                 } catch (InvalidOptionValueException e) {
                     runtimeCtx.appendError(e);
@@ -131,8 +131,7 @@ public class StoreCommand extends BucketCommand<ResultSymbol, StoreParams.Pre> {
 
             IRiakObject obj = builder.build();
 
-            // TODO: cache this
-            Bucket b = conn.fetchBucket(params.bucket).execute();
+            Bucket b = runtimeCtx.getBucketCache().fetchBucket(conn, params.bucket);
 
             StoreObject<IRiakObject> so = commandOptions.processOptions(runtimeCtx, b.store(obj), params);
 
@@ -164,6 +163,7 @@ public class StoreCommand extends BucketCommand<ResultSymbol, StoreParams.Pre> {
 //					}
             return result;
         } catch (RiakRetryFailedException e) {
+            connectionFailed(runtimeCtx, e, false);
             runtimeCtx.appendError("Can't store object in bucket", e);
             return null;
         } catch (InvalidOptionValueException e) {
@@ -27,6 +27,8 @@ import com.basho.contact.actions.ActionParams;
 import com.basho.contact.actions.Binding;
 import com.basho.riak.client.IRiakClient;
 
+import java.util.List;
+
 public class ConnectParams {
     public static class Pre extends ActionParams {
         @Binding(name = "riak_host")
@@ -41,6 +43,10 @@ public class ConnectParams {
         // erlang node name
         @Binding(name = "node_name")
         public String node_name;
+
+        // all "host:port" pairs when connecting to more than one node
+        @Binding(name = "riak_nodes")
+        public List<String> nodes;
     }
 
     public static class Post extends ActionParams {
@@ -48,6 +54,8 @@ public class ConnectParams {
         public String host;
         @Binding(name = "riak_pb_port")
         public int pbPort;
+        @Binding(name = "riak_nodes")
+        public List<String> nodes;
         @Binding(name = "riak_client", javadoc = true)
         public IRiakClient client;
     }
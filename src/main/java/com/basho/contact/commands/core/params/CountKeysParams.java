@@ -27,11 +27,22 @@ import com.basho.contact.actions.Binding;
 
 public class CountKeysParams {
         public static class Pre extends ActionParams {
-
+            @Binding(name="strategy")
+            public String strategy;
         }
 
         public static class Post extends ActionParams {
             @Binding(name="keycount")
             public long keyCount;
+
+            @Binding(name="strategy")
+            public String strategy;
+
+            @Binding(name="elapsed_ms")
+            public long elapsedMillis;
+
+            // true for the HyperLogLog estimate
+            @Binding(name="approximate")
+            public boolean approximate;
         }
 }
@@ -25,6 +25,7 @@ package com.basho.contact.commands.core.params;
 
 import com.basho.contact.actions.ActionParams;
 import com.basho.contact.actions.Binding;
+import com.basho.contact.commands.core.MultiFetchCommand;
 import com.basho.riak.client.IRiakObject;
 import com.basho.riak.client.operations.FetchObject;
 
@@ -36,6 +37,11 @@ public class FetchParams {
         @Binding(name = "key")
         public String key;
 
+        // set instead of key for fetch ["k1", "k2"]. Null for fetch keys from
+        // $binding, where the keys are only read as they're fetched
+        @Binding(name = "keys")
+        public List<String> keys;
+
         @Binding(name = "fetchObj")
         public FetchObject<IRiakObject> fetchObj;
 
@@ -54,4 +60,13 @@ public class FetchParams {
         public Map<String, String> fetchMetadata;
 
     }
+
+    // fetch ... with options batch_size = n hands results to postfetchbatch n at a time
+    public static class Batch extends ActionParams {
+        @Binding(name = "results")
+        public List<MultiFetchCommand.KeyResult> results;
+
+        @Binding(name = "last_batch")
+        public boolean lastBatch;
+    }
 }
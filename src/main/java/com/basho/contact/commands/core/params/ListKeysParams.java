@@ -29,10 +29,24 @@ import java.util.List;
 
 public class ListKeysParams {
     public static class Pre extends ActionParams {
+        // keep the keys in a temp file, set when the result is bound
+        public boolean spool = false;
     }
 
+    // sent once per chunk of keys
     public static class Post extends ActionParams {
         @Binding(name = "keys")
         public List<String> keys;
+
+        // keys seen so far, including this chunk
+        @Binding(name = "key_count")
+        public long keyCount;
+
+        @Binding(name = "last_chunk")
+        public boolean lastChunk;
+
+        // set when listing to_file
+        @Binding(name = "key_file")
+        public String keyFile;
     }
 }
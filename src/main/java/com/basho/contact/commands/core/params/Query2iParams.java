@@ -61,5 +61,8 @@ public class Query2iParams {
 
         @Binding(name = "results")
         public List<?> results;
+
+        @Binding(name = "doFetch")
+        public boolean doFetch = false;
     }
 }
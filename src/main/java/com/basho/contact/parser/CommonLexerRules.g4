@@ -45,6 +45,17 @@ NODE        :    'node';
 VERSIONS    :    'versions';
 DISCOVER    :    'discover';
 CLUSTER     :    'cluster';
+ASYNC       :    'async';
+AWAIT       :    'await';
+EXECUTOR    :    'executor';
+LIMITS      :    'limits';
+ENGINE      :    'engine';
+PLUGIN      :    'plugin';
+PREPARE     :    'prepare';
+EXECUTE     :    'execute';
+FOR         :    'for';
+IN          :    'in';
+PARALLEL    :    'parallel';
 
 // admin stuff
 ADMIN       :    'admin';
@@ -69,6 +80,11 @@ RPAREN      :    ')';
 EQUALS      :    '=';
 DOT         :    '.';
 SEMI        :    ';';
+QMARK       :    '?';
+PLUS        :    '+';
+RANGE       :    '..';
+LBRACE      :    '{';
+RBRACE      :    '}';
 ID          :       LOWER (UPPER | LOWER | DIGIT | '_')*;
 
 
@@ -80,7 +96,8 @@ fragment UPPER : 'A' .. 'Z';
 INT             :   DIGIT+;
 fragment DIGIT  : '0' .. '9';
 
-FLOAT       :       DIGIT+ DOT DIGIT*
+// not DIGIT* after the dot, so 1..10 is a range
+FLOAT       :       DIGIT+ DOT DIGIT+
                     | DOT DIGIT+
                        ;
 
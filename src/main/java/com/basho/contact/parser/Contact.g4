@@ -1,27 +1,47 @@
 grammar Contact;
 import CommonLexerRules;
 
-prog        :  (stat)+ EOF;
+prog        :  (stat | for_loop)+ EOF;
 
 /*  connection_selector might be better off somewhere else, as some commands
     don't make sense with it */
-stat        :  assignment? (connect |
+stat        :  assignment? ASYNC? (connect |
                             use |
                             using |
                             op_with_options |
                             listbuckets |
                             console_op |
-                            connections
+                            connections |
+                            await_op |
+                            prepare |
+                            execute
                             ) connection_selector? SEMI;
 
 connection_selector:
     AT connname=node_name;
 
-console_op: get | set | loadscript | script;
+console_op: get | set | loadscript | loadplugin | script;
 
 connections: CONNS;
 
-assignment: LET name=ID EQUALS;
+assignment: LET name=identifier EQUALS;
+
+await_op: AWAIT (names+=identifier (COMMA names+=identifier)*)?;
+
+// ? placeholders are only valid in a prepared statement
+prepare: PREPARE name=identifier EQUALS (op_with_options | using);
+
+execute: EXECUTE name=identifier (with ( params+=STRING (COMMA params+=STRING)*
+                               | KEYS FROM DOLLAR keybinding=identifier ))?;
+
+// the body is only parsed once, it is walked again for each value
+for_loop: FOR var=identifier IN (DOLLAR binding=identifier | from=INT RANGE to=INT) (PARALLEL parallelism=INT)?
+          LBRACE (stat | for_loop)+ RBRACE SEMI?;
+
+// strings, ? placeholders, loop variables and numbers joined with +
+value: parts+=value_part (PLUS parts+=value_part)*;
+
+value_part: STRING | QMARK | identifier | INT;
 
 using       :   USING BUCKET bucket=STRING op_with_options;
 
@@ -37,7 +57,7 @@ op_with_options: (  fetch           |
                     update
                   ) options?;
 
-options: with OPTIONS (optionslist | ID);
+options: with OPTIONS (optionslist | identifier);
 
 listbuckets:   LIST BUCKETS;
 
@@ -47,13 +67,15 @@ countkeys:     COUNT KEYS;
 
 optionslist: opts+=pair (COMMA opts+=pair)*;
 
-fetch:    FETCH fetch_select? key=STRING;
+fetch:    FETCH fetch_select? ( key=value
+                              | LSQUARE keys+=STRING (COMMA keys+=STRING)* RSQUARE
+                              | KEYS FROM DOLLAR keybinding=identifier );
 
 fetch_select: id_list with;
 
-id_list: ids+=ID (COMMA ids+=ID)*;
+id_list: ids+=identifier (COMMA ids+=identifier)*;
 
-store:    STORE (key=STRING | existing_obj=ID) store_indexes with content_string;
+store:    STORE (key=value | existing_obj=identifier) store_indexes with content_string;
 
 update: UPDATE;
 
@@ -61,24 +83,24 @@ update: UPDATE;
 
 store_indexes: (with INDEX pair)*;
 
-content_string: (TEXT | JSON | XML | user_content) (STRING | DATA_CONTENT);
+content_string: (TEXT | JSON | XML | user_content) (DATA_CONTENT | value);
 
 user_content: CONTENTTYPE content_type=STRING AND;
 
-delete:    DELETE key=STRING;
+delete:    DELETE key=value;
 
 query2i: QUERY2I (AND FETCH)? with INDEX index=STRING
-            (with VALUE exact=STRING | FROM vmin=STRING TO vmax=STRING);
+            (with VALUE exact=value | FROM vmin=value TO vmax=value);
 
 use:    USE ( (BUCKET name=STRING useBucketOptions?)
-              | (CONN var=ID) );
+              | (CONN var=identifier) );
 
 useBucketOptions:
         (with FETCH OPTIONS fetchOptions=optionslist)?
         (with STORE OPTIONS storeOptions=optionslist)?
         (with DELETE OPTIONS deleteOptions=optionslist)?
         (with QUERY2I OPTIONS query2iOptions=optionslist)?
-        (with RESOLVER code_string)?
+        (with RESOLVER (code_string | resolvername=STRING))?
         ;
 
 bucketprops: (get_bucketprops | set_bucketprops);
@@ -86,16 +108,20 @@ bucketprops: (get_bucketprops | set_bucketprops);
 get_bucketprops: GET PROPERTIES;
 set_bucketprops: SET PROPERTIES optionslist;
 
-connect: CONNECT host=STRING (PB pbport=INT)? (HTTP httpport=INT)? (NODE erlnode=STRING)? (AS connname=node_name)?;
+connect: CONNECT host=STRING (COMMA hosts+=STRING)* (PB pbport=INT)? (HTTP httpport=INT)? (NODE erlnode=STRING)?
+            (with OPTIONS optionslist)? (AS connname=node_name)?;
 
-set: SET set_action;
+set: SET (set_action | set_executor | set_limits | set_engine);
 set_action: ACTION actionname=ID WITH code_string;
+set_executor: EXECUTOR optionslist;
+set_limits: SCRIPT LIMITS optionslist;
+set_engine: SCRIPT ENGINE optionslist;
 
-get: GET (get_action | BUCKET);
+get: GET (get_action | BUCKET | EXECUTOR | SCRIPT LIMITS | SCRIPT ENGINE);
 
 get_action: ACTION actionname=ID;
 
-node_name: DOLLAR ID;
+node_name: DOLLAR identifier;
 
 /*
 admin:
@@ -138,9 +164,10 @@ clusterid: SPLAT ID;
 noderef: (nodename=STRING | nodeid=ID);
 
 loadscript: LOAD SCRIPT filename=STRING;
+loadplugin: LOAD PLUGIN classname=STRING REPLACE?;
 script: SCRIPT content=(STRING | DATA_CONTENT);
 
-pair: (name=STRING | id=ID) EQUALS pairValue;
+pair: (name=STRING | id=identifier) EQUALS pairValue;
 
 pairValue: stringValue=STRING #PairStringValue 
             | intValue=INT    #PairIntValue
@@ -153,3 +180,8 @@ code_string: JAVASCRIPT (STRING | DATA_CONTENT);
 
 bool : TRUE | FALSE;
 
+// keywords added after the first release are still allowed as names, so
+// existing let, connection and option names keep working
+identifier: ID | ASYNC | AWAIT | EXECUTOR | LIMITS | ENGINE | PLUGIN
+          | PREPARE | EXECUTE | FOR | IN | PARALLEL;
+
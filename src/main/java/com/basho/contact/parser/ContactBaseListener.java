@@ -7,140 +7,173 @@ import org.antlr.v4.runtime.tree.TerminalNode;
 import org.antlr.v4.runtime.tree.ErrorNode;
 
 public class ContactBaseListener implements ContactListener {
-	@Override public void enterListkeys(ContactParser.ListkeysContext ctx) { }
-	@Override public void exitListkeys(ContactParser.ListkeysContext ctx) { }
-
-	@Override public void enterUpdate(ContactParser.UpdateContext ctx) { }
-	@Override public void exitUpdate(ContactParser.UpdateContext ctx) { }
+	@Override public void enterPrepare(ContactParser.PrepareContext ctx) { }
+	@Override public void exitPrepare(ContactParser.PrepareContext ctx) { }
 
-	@Override public void enterStore_indexes(ContactParser.Store_indexesContext ctx) { }
-	@Override public void exitStore_indexes(ContactParser.Store_indexesContext ctx) { }
-
-	@Override public void enterUsing(ContactParser.UsingContext ctx) { }
-	@Override public void exitUsing(ContactParser.UsingContext ctx) { }
+	@Override public void enterConsole_op(ContactParser.Console_opContext ctx) { }
+	@Override public void exitConsole_op(ContactParser.Console_opContext ctx) { }
 
-	@Override public void enterConnect(ContactParser.ConnectContext ctx) { }
-	@Override public void exitConnect(ContactParser.ConnectContext ctx) { }
+	@Override public void enterCode_string(ContactParser.Code_stringContext ctx) { }
+	@Override public void exitCode_string(ContactParser.Code_stringContext ctx) { }
 
-	@Override public void enterConnection_selector(ContactParser.Connection_selectorContext ctx) { }
-	@Override public void exitConnection_selector(ContactParser.Connection_selectorContext ctx) { }
+	@Override public void enterOptionslist(ContactParser.OptionslistContext ctx) { }
+	@Override public void exitOptionslist(ContactParser.OptionslistContext ctx) { }
 
-	@Override public void enterStore(ContactParser.StoreContext ctx) { }
-	@Override public void exitStore(ContactParser.StoreContext ctx) { }
+	@Override public void enterUse(ContactParser.UseContext ctx) { }
+	@Override public void exitUse(ContactParser.UseContext ctx) { }
 
-	@Override public void enterPair(ContactParser.PairContext ctx) { }
-	@Override public void exitPair(ContactParser.PairContext ctx) { }
+	@Override public void enterFetch_select(ContactParser.Fetch_selectContext ctx) { }
+	@Override public void exitFetch_select(ContactParser.Fetch_selectContext ctx) { }
 
-	@Override public void enterPairStringValue(ContactParser.PairStringValueContext ctx) { }
-	@Override public void exitPairStringValue(ContactParser.PairStringValueContext ctx) { }
+	@Override public void enterGet_action(ContactParser.Get_actionContext ctx) { }
+	@Override public void exitGet_action(ContactParser.Get_actionContext ctx) { }
 
-	@Override public void enterClusterid(ContactParser.ClusteridContext ctx) { }
-	@Override public void exitClusterid(ContactParser.ClusteridContext ctx) { }
+	@Override public void enterUseBucketOptions(ContactParser.UseBucketOptionsContext ctx) { }
+	@Override public void exitUseBucketOptions(ContactParser.UseBucketOptionsContext ctx) { }
 
-	@Override public void enterSet(ContactParser.SetContext ctx) { }
-	@Override public void exitSet(ContactParser.SetContext ctx) { }
+	@Override public void enterOp_with_options(ContactParser.Op_with_optionsContext ctx) { }
+	@Override public void exitOp_with_options(ContactParser.Op_with_optionsContext ctx) { }
 
-	@Override public void enterOptionslist(ContactParser.OptionslistContext ctx) { }
-	@Override public void exitOptionslist(ContactParser.OptionslistContext ctx) { }
+	@Override public void enterSet_action(ContactParser.Set_actionContext ctx) { }
+	@Override public void exitSet_action(ContactParser.Set_actionContext ctx) { }
 
-	@Override public void enterQuery2i(ContactParser.Query2iContext ctx) { }
-	@Override public void exitQuery2i(ContactParser.Query2iContext ctx) { }
+	@Override public void enterOptions(ContactParser.OptionsContext ctx) { }
+	@Override public void exitOptions(ContactParser.OptionsContext ctx) { }
 
-	@Override public void enterUse(ContactParser.UseContext ctx) { }
-	@Override public void exitUse(ContactParser.UseContext ctx) { }
+	@Override public void enterConnections(ContactParser.ConnectionsContext ctx) { }
+	@Override public void exitConnections(ContactParser.ConnectionsContext ctx) { }
 
-	@Override public void enterCode_string(ContactParser.Code_stringContext ctx) { }
-	@Override public void exitCode_string(ContactParser.Code_stringContext ctx) { }
+	@Override public void enterCountkeys(ContactParser.CountkeysContext ctx) { }
+	@Override public void exitCountkeys(ContactParser.CountkeysContext ctx) { }
 
-	@Override public void enterOp_with_options(ContactParser.Op_with_optionsContext ctx) { }
-	@Override public void exitOp_with_options(ContactParser.Op_with_optionsContext ctx) { }
+	@Override public void enterBucketprops(ContactParser.BucketpropsContext ctx) { }
+	@Override public void exitBucketprops(ContactParser.BucketpropsContext ctx) { }
 
-	@Override public void enterUseBucketOptions(ContactParser.UseBucketOptionsContext ctx) { }
-	@Override public void exitUseBucketOptions(ContactParser.UseBucketOptionsContext ctx) { }
+	@Override public void enterPairIntValue(ContactParser.PairIntValueContext ctx) { }
+	@Override public void exitPairIntValue(ContactParser.PairIntValueContext ctx) { }
 
-	@Override public void enterFetch_select(ContactParser.Fetch_selectContext ctx) { }
-	@Override public void exitFetch_select(ContactParser.Fetch_selectContext ctx) { }
+	@Override public void enterIdentifier(ContactParser.IdentifierContext ctx) { }
+	@Override public void exitIdentifier(ContactParser.IdentifierContext ctx) { }
 
-	@Override public void enterProg(ContactParser.ProgContext ctx) { }
-	@Override public void exitProg(ContactParser.ProgContext ctx) { }
+	@Override public void enterUsing(ContactParser.UsingContext ctx) { }
+	@Override public void exitUsing(ContactParser.UsingContext ctx) { }
 
 	@Override public void enterUser_content(ContactParser.User_contentContext ctx) { }
 	@Override public void exitUser_content(ContactParser.User_contentContext ctx) { }
 
-	@Override public void enterDelete(ContactParser.DeleteContext ctx) { }
-	@Override public void exitDelete(ContactParser.DeleteContext ctx) { }
-
-	@Override public void enterNoderef(ContactParser.NoderefContext ctx) { }
-	@Override public void exitNoderef(ContactParser.NoderefContext ctx) { }
+	@Override public void enterConnection_selector(ContactParser.Connection_selectorContext ctx) { }
+	@Override public void exitConnection_selector(ContactParser.Connection_selectorContext ctx) { }
 
 	@Override public void enterListbuckets(ContactParser.ListbucketsContext ctx) { }
 	@Override public void exitListbuckets(ContactParser.ListbucketsContext ctx) { }
 
-	@Override public void enterLoadscript(ContactParser.LoadscriptContext ctx) { }
-	@Override public void exitLoadscript(ContactParser.LoadscriptContext ctx) { }
+	@Override public void enterSet_limits(ContactParser.Set_limitsContext ctx) { }
+	@Override public void exitSet_limits(ContactParser.Set_limitsContext ctx) { }
 
-	@Override public void enterConnections(ContactParser.ConnectionsContext ctx) { }
-	@Override public void exitConnections(ContactParser.ConnectionsContext ctx) { }
+	@Override public void enterLoadplugin(ContactParser.LoadpluginContext ctx) { }
+	@Override public void exitLoadplugin(ContactParser.LoadpluginContext ctx) { }
 
-	@Override public void enterCountkeys(ContactParser.CountkeysContext ctx) { }
-	@Override public void exitCountkeys(ContactParser.CountkeysContext ctx) { }
+	@Override public void enterExecute(ContactParser.ExecuteContext ctx) { }
+	@Override public void exitExecute(ContactParser.ExecuteContext ctx) { }
+
+	@Override public void enterListkeys(ContactParser.ListkeysContext ctx) { }
+	@Override public void exitListkeys(ContactParser.ListkeysContext ctx) { }
 
 	@Override public void enterContent_string(ContactParser.Content_stringContext ctx) { }
 	@Override public void exitContent_string(ContactParser.Content_stringContext ctx) { }
 
-	@Override public void enterOptions(ContactParser.OptionsContext ctx) { }
-	@Override public void exitOptions(ContactParser.OptionsContext ctx) { }
+	@Override public void enterScript(ContactParser.ScriptContext ctx) { }
+	@Override public void exitScript(ContactParser.ScriptContext ctx) { }
 
-	@Override public void enterConsole_op(ContactParser.Console_opContext ctx) { }
-	@Override public void exitConsole_op(ContactParser.Console_opContext ctx) { }
+	@Override public void enterAwait_op(ContactParser.Await_opContext ctx) { }
+	@Override public void exitAwait_op(ContactParser.Await_opContext ctx) { }
 
-	@Override public void enterFetch(ContactParser.FetchContext ctx) { }
-	@Override public void exitFetch(ContactParser.FetchContext ctx) { }
+	@Override public void enterGet_bucketprops(ContactParser.Get_bucketpropsContext ctx) { }
+	@Override public void exitGet_bucketprops(ContactParser.Get_bucketpropsContext ctx) { }
 
-	@Override public void enterWith(ContactParser.WithContext ctx) { }
-	@Override public void exitWith(ContactParser.WithContext ctx) { }
+	@Override public void enterSet_engine(ContactParser.Set_engineContext ctx) { }
+	@Override public void exitSet_engine(ContactParser.Set_engineContext ctx) { }
+
+	@Override public void enterQuery2i(ContactParser.Query2iContext ctx) { }
+	@Override public void exitQuery2i(ContactParser.Query2iContext ctx) { }
+
+	@Override public void enterStore_indexes(ContactParser.Store_indexesContext ctx) { }
+	@Override public void exitStore_indexes(ContactParser.Store_indexesContext ctx) { }
+
+	@Override public void enterId_list(ContactParser.Id_listContext ctx) { }
+	@Override public void exitId_list(ContactParser.Id_listContext ctx) { }
+
+	@Override public void enterBool(ContactParser.BoolContext ctx) { }
+	@Override public void exitBool(ContactParser.BoolContext ctx) { }
+
+	@Override public void enterValue_part(ContactParser.Value_partContext ctx) { }
+	@Override public void exitValue_part(ContactParser.Value_partContext ctx) { }
+
+	@Override public void enterUpdate(ContactParser.UpdateContext ctx) { }
+	@Override public void exitUpdate(ContactParser.UpdateContext ctx) { }
+
+	@Override public void enterDelete(ContactParser.DeleteContext ctx) { }
+	@Override public void exitDelete(ContactParser.DeleteContext ctx) { }
+
+	@Override public void enterPairStringValue(ContactParser.PairStringValueContext ctx) { }
+	@Override public void exitPairStringValue(ContactParser.PairStringValueContext ctx) { }
 
 	@Override public void enterGet(ContactParser.GetContext ctx) { }
 	@Override public void exitGet(ContactParser.GetContext ctx) { }
 
-	@Override public void enterSet_action(ContactParser.Set_actionContext ctx) { }
-	@Override public void exitSet_action(ContactParser.Set_actionContext ctx) { }
+	@Override public void enterNoderef(ContactParser.NoderefContext ctx) { }
+	@Override public void exitNoderef(ContactParser.NoderefContext ctx) { }
 
-	@Override public void enterBucketprops(ContactParser.BucketpropsContext ctx) { }
-	@Override public void exitBucketprops(ContactParser.BucketpropsContext ctx) { }
+	@Override public void enterFor_loop(ContactParser.For_loopContext ctx) { }
+	@Override public void exitFor_loop(ContactParser.For_loopContext ctx) { }
 
-	@Override public void enterGet_bucketprops(ContactParser.Get_bucketpropsContext ctx) { }
-	@Override public void exitGet_bucketprops(ContactParser.Get_bucketpropsContext ctx) { }
+	@Override public void enterSet_bucketprops(ContactParser.Set_bucketpropsContext ctx) { }
+	@Override public void exitSet_bucketprops(ContactParser.Set_bucketpropsContext ctx) { }
 
-	@Override public void enterScript(ContactParser.ScriptContext ctx) { }
-	@Override public void exitScript(ContactParser.ScriptContext ctx) { }
+	@Override public void enterValue(ContactParser.ValueContext ctx) { }
+	@Override public void exitValue(ContactParser.ValueContext ctx) { }
+
+	@Override public void enterConnect(ContactParser.ConnectContext ctx) { }
+	@Override public void exitConnect(ContactParser.ConnectContext ctx) { }
+
+	@Override public void enterPairBoolValue(ContactParser.PairBoolValueContext ctx) { }
+	@Override public void exitPairBoolValue(ContactParser.PairBoolValueContext ctx) { }
 
 	@Override public void enterStat(ContactParser.StatContext ctx) { }
 	@Override public void exitStat(ContactParser.StatContext ctx) { }
 
-	@Override public void enterId_list(ContactParser.Id_listContext ctx) { }
-	@Override public void exitId_list(ContactParser.Id_listContext ctx) { }
-
-	@Override public void enterGet_action(ContactParser.Get_actionContext ctx) { }
-	@Override public void exitGet_action(ContactParser.Get_actionContext ctx) { }
+	@Override public void enterSet(ContactParser.SetContext ctx) { }
+	@Override public void exitSet(ContactParser.SetContext ctx) { }
 
 	@Override public void enterAssignment(ContactParser.AssignmentContext ctx) { }
 	@Override public void exitAssignment(ContactParser.AssignmentContext ctx) { }
 
-	@Override public void enterSet_bucketprops(ContactParser.Set_bucketpropsContext ctx) { }
-	@Override public void exitSet_bucketprops(ContactParser.Set_bucketpropsContext ctx) { }
+	@Override public void enterNode_name(ContactParser.Node_nameContext ctx) { }
+	@Override public void exitNode_name(ContactParser.Node_nameContext ctx) { }
 
-	@Override public void enterPairIntValue(ContactParser.PairIntValueContext ctx) { }
-	@Override public void exitPairIntValue(ContactParser.PairIntValueContext ctx) { }
+	@Override public void enterSet_executor(ContactParser.Set_executorContext ctx) { }
+	@Override public void exitSet_executor(ContactParser.Set_executorContext ctx) { }
 
-	@Override public void enterBool(ContactParser.BoolContext ctx) { }
-	@Override public void exitBool(ContactParser.BoolContext ctx) { }
+	@Override public void enterStore(ContactParser.StoreContext ctx) { }
+	@Override public void exitStore(ContactParser.StoreContext ctx) { }
 
-	@Override public void enterNode_name(ContactParser.Node_nameContext ctx) { }
-	@Override public void exitNode_name(ContactParser.Node_nameContext ctx) { }
+	@Override public void enterClusterid(ContactParser.ClusteridContext ctx) { }
+	@Override public void exitClusterid(ContactParser.ClusteridContext ctx) { }
 
-	@Override public void enterPairBoolValue(ContactParser.PairBoolValueContext ctx) { }
-	@Override public void exitPairBoolValue(ContactParser.PairBoolValueContext ctx) { }
+	@Override public void enterProg(ContactParser.ProgContext ctx) { }
+	@Override public void exitProg(ContactParser.ProgContext ctx) { }
+
+	@Override public void enterPair(ContactParser.PairContext ctx) { }
+	@Override public void exitPair(ContactParser.PairContext ctx) { }
+
+	@Override public void enterWith(ContactParser.WithContext ctx) { }
+	@Override public void exitWith(ContactParser.WithContext ctx) { }
+
+	@Override public void enterFetch(ContactParser.FetchContext ctx) { }
+	@Override public void exitFetch(ContactParser.FetchContext ctx) { }
+
+	@Override public void enterLoadscript(ContactParser.LoadscriptContext ctx) { }
+	@Override public void exitLoadscript(ContactParser.LoadscriptContext ctx) { }
 
 	@Override public void enterEveryRule(ParserRuleContext ctx) { }
 	@Override public void exitEveryRule(ParserRuleContext ctx) { }
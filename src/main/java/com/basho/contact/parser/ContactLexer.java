@@ -20,11 +20,14 @@ public class ContactLexer extends Lexer {
 		OPTIONS=18, QUERY2I=19, COUNT=20, FROM=21, INDEX=22, TO=23, JAVASCRIPT=24, 
 		PROPERTIES=25, RESOLVER=26, LOAD=27, SCRIPT=28, LIST=29, BUCKETS=30, KEYS=31, 
 		TRUE=32, FALSE=33, DEFAULT=34, SET=35, GET=36, ACTION=37, AS=38, JSON=39, 
-		TEXT=40, XML=41, NODE=42, VERSIONS=43, DISCOVER=44, CLUSTER=45, ADMIN=46, 
-		JOIN=47, LEAVE=48, FORCE=49, REMOVE=50, REPLACE=51, PLAN=52, COMMIT=53, 
-		CLEAR=54, STATUS=55, AT=56, DOLLAR=57, SPLAT=58, COMMA=59, LSQUARE=60, 
-		RSQUARE=61, LPAREN=62, RPAREN=63, EQUALS=64, DOT=65, SEMI=66, ID=67, INT=68, 
-		FLOAT=69, STRING=70, DATA_CONTENT=71, LINE_COMMENT=72, COMMENT=73, WS=74;
+		TEXT=40, XML=41, NODE=42, VERSIONS=43, DISCOVER=44, CLUSTER=45, ASYNC=46, 
+		AWAIT=47, EXECUTOR=48, LIMITS=49, ENGINE=50, PLUGIN=51, PREPARE=52, EXECUTE=53, 
+		FOR=54, IN=55, PARALLEL=56, ADMIN=57, JOIN=58, LEAVE=59, FORCE=60, REMOVE=61, 
+		REPLACE=62, PLAN=63, COMMIT=64, CLEAR=65, STATUS=66, AT=67, DOLLAR=68, 
+		SPLAT=69, COMMA=70, LSQUARE=71, RSQUARE=72, LPAREN=73, RPAREN=74, EQUALS=75, 
+		DOT=76, SEMI=77, QMARK=78, PLUS=79, RANGE=80, LBRACE=81, RBRACE=82, ID=83, 
+		INT=84, FLOAT=85, STRING=86, DATA_CONTENT=87, LINE_COMMENT=88, COMMENT=89, 
+		WS=90;
 	public static String[] modeNames = {
 		"DEFAULT_MODE"
 	};
@@ -38,10 +41,12 @@ public class ContactLexer extends Lexer {
 		"'resolver'", "'load'", "'script'", "'list'", "'buckets'", "'keys'", "'true'", 
 		"'false'", "'default'", "'set'", "'get'", "'action'", "'as'", "'json'", 
 		"'text'", "'xml'", "'node'", "'versions'", "'discover'", "'cluster'", 
-		"'admin'", "'join'", "'leave'", "'force'", "'remove'", "'replace'", "'plan'", 
-		"'commit'", "'clear'", "'status'", "'@'", "'$'", "'*'", "','", "'['", 
-		"']'", "'('", "')'", "'='", "'.'", "';'", "ID", "INT", "FLOAT", "STRING", 
-		"DATA_CONTENT", "LINE_COMMENT", "COMMENT", "WS"
+		"'async'", "'await'", "'executor'", "'limits'", "'engine'", "'plugin'", 
+		"'prepare'", "'execute'", "'for'", "'in'", "'parallel'", "'admin'", "'join'", 
+		"'leave'", "'force'", "'remove'", "'replace'", "'plan'", "'commit'", "'clear'", 
+		"'status'", "'@'", "'$'", "'*'", "','", "'['", "']'", "'('", "')'", "'='", 
+		"'.'", "';'", "'?'", "'+'", "'..'", "'{'", "'}'", "ID", "INT", "FLOAT", 
+		"STRING", "DATA_CONTENT", "LINE_COMMENT", "COMMENT", "WS"
 	};
 	public static final String[] ruleNames = {
 		"LET", "PB", "HTTP", "FETCH", "STORE", "UPDATE", "DELETE", "VALUE", "CONTENTTYPE", 
@@ -49,11 +54,13 @@ public class ContactLexer extends Lexer {
 		"QUERY2I", "COUNT", "FROM", "INDEX", "TO", "JAVASCRIPT", "PROPERTIES", 
 		"RESOLVER", "LOAD", "SCRIPT", "LIST", "BUCKETS", "KEYS", "TRUE", "FALSE", 
 		"DEFAULT", "SET", "GET", "ACTION", "AS", "JSON", "TEXT", "XML", "NODE", 
-		"VERSIONS", "DISCOVER", "CLUSTER", "ADMIN", "JOIN", "LEAVE", "FORCE", 
-		"REMOVE", "REPLACE", "PLAN", "COMMIT", "CLEAR", "STATUS", "AT", "DOLLAR", 
-		"SPLAT", "COMMA", "LSQUARE", "RSQUARE", "LPAREN", "RPAREN", "EQUALS", 
-		"DOT", "SEMI", "ID", "LOWER", "UPPER", "INT", "DIGIT", "FLOAT", "STRING", 
-		"ESC", "DATA_CONTENT", "DATA_ESC", "LINE_COMMENT", "COMMENT", "WS"
+		"VERSIONS", "DISCOVER", "CLUSTER", "ASYNC", "AWAIT", "EXECUTOR", "LIMITS", 
+		"ENGINE", "PLUGIN", "PREPARE", "EXECUTE", "FOR", "IN", "PARALLEL", "ADMIN", 
+		"JOIN", "LEAVE", "FORCE", "REMOVE", "REPLACE", "PLAN", "COMMIT", "CLEAR", 
+		"STATUS", "AT", "DOLLAR", "SPLAT", "COMMA", "LSQUARE", "RSQUARE", "LPAREN", 
+		"RPAREN", "EQUALS", "DOT", "SEMI", "QMARK", "PLUS", "RANGE", "LBRACE", 
+		"RBRACE", "ID", "LOWER", "UPPER", "INT", "DIGIT", "FLOAT", "STRING", "ESC", 
+		"DATA_CONTENT", "DATA_ESC", "LINE_COMMENT", "COMMENT", "WS"
 	};
 
 
@@ -80,11 +87,16 @@ public class ContactLexer extends Lexer {
 	@Override
 	public void action(RuleContext _localctx, int ruleIndex, int actionIndex) {
 		switch (ruleIndex) {
-		case 76: LINE_COMMENT_action((RuleContext)_localctx, actionIndex); break;
+		case 92: LINE_COMMENT_action((RuleContext)_localctx, actionIndex); break;
 
-		case 77: COMMENT_action((RuleContext)_localctx, actionIndex); break;
+		case 93: COMMENT_action((RuleContext)_localctx, actionIndex); break;
 
-		case 78: WS_action((RuleContext)_localctx, actionIndex); break;
+		case 94: WS_action((RuleContext)_localctx, actionIndex); break;
+		}
+	}
+	private void LINE_COMMENT_action(RuleContext _localctx, int actionIndex) {
+		switch (actionIndex) {
+		case 0: skip();  break;
 		}
 	}
 	private void WS_action(RuleContext _localctx, int actionIndex) {
@@ -97,14 +109,9 @@ public class ContactLexer extends Lexer {
 		case 1: skip();  break;
 		}
 	}
-	private void LINE_COMMENT_action(RuleContext _localctx, int actionIndex) {
-		switch (actionIndex) {
-		case 0: skip();  break;
-		}
-	}
 
 	public static final String _serializedATN =
-		"\2\4L\u0292\b\1\4\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t"+
+		"\2\4\\\u0306\b\1\4\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t"+
 		"\b\4\t\t\t\4\n\t\n\4\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20"+
 		"\t\20\4\21\t\21\4\22\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27"+
 		"\t\27\4\30\t\30\4\31\t\31\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36"+
@@ -112,216 +119,255 @@ public class ContactLexer extends Lexer {
 		"(\t(\4)\t)\4*\t*\4+\t+\4,\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62"+
 		"\t\62\4\63\t\63\4\64\t\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4"+
 		":\t:\4;\t;\4<\t<\4=\t=\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\t"+
-		"E\4F\tF\4G\tG\4H\tH\4I\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\3"+
-		"\2\3\2\3\2\3\2\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3\5\3\5\3\5"+
-		"\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3"+
-		"\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n"+
-		"\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13\3\13"+
-		"\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3"+
-		"\r\3\r\3\r\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3\17\3\17\3\17\3\20\3\20"+
-		"\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\22\3\22"+
-		"\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\24\3\24\3\24\3\24\3\24\3\24"+
-		"\3\24\3\24\3\25\3\25\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\27"+
-		"\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31\3\31"+
-		"\3\31\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32"+
-		"\3\32\3\32\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\34\3\34\3\34"+
-		"\3\34\3\34\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\36\3\36\3\36\3\36\3\36"+
-		"\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3 \3 \3 \3 \3 \3!\3!\3!\3!\3"+
-		"!\3\"\3\"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\3#\3#\3#\3#\3$\3$\3$\3$\3%\3%\3"+
-		"%\3%\3&\3&\3&\3&\3&\3&\3&\3\'\3\'\3\'\3(\3(\3(\3(\3(\3)\3)\3)\3)\3)\3"+
-		"*\3*\3*\3*\3+\3+\3+\3+\3+\3,\3,\3,\3,\3,\3,\3,\3,\3,\3-\3-\3-\3-\3-\3"+
-		"-\3-\3-\3-\3.\3.\3.\3.\3.\3.\3.\3.\3/\3/\3/\3/\3/\3/\3\60\3\60\3\60\3"+
-		"\60\3\60\3\61\3\61\3\61\3\61\3\61\3\61\3\62\3\62\3\62\3\62\3\62\3\62\3"+
-		"\63\3\63\3\63\3\63\3\63\3\63\3\63\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3"+
-		"\64\3\65\3\65\3\65\3\65\3\65\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\67\3"+
-		"\67\3\67\3\67\3\67\3\67\38\38\38\38\38\38\38\39\39\3:\3:\3;\3;\3<\3<\3"+
-		"=\3=\3>\3>\3?\3?\3@\3@\3A\3A\3B\3B\3C\3C\3D\3D\3D\3D\3D\7D\u0221\nD\f"+
-		"D\16D\u0224\13D\3E\3E\3F\3F\3G\6G\u022b\nG\rG\16G\u022c\3H\3H\3I\6I\u0232"+
-		"\nI\rI\16I\u0233\3I\3I\7I\u0238\nI\fI\16I\u023b\13I\3I\3I\6I\u023f\nI"+
-		"\rI\16I\u0240\5I\u0243\nI\3J\3J\3J\7J\u0248\nJ\fJ\16J\u024b\13J\3J\3J"+
-		"\3K\3K\3K\3K\5K\u0253\nK\3L\3L\3L\3L\3L\3L\7L\u025b\nL\fL\16L\u025e\13"+
-		"L\3L\3L\3L\3L\3M\3M\3M\3M\3M\3M\3M\3M\5M\u026c\nM\3N\3N\3N\3N\7N\u0272"+
-		"\nN\fN\16N\u0275\13N\3N\5N\u0278\nN\3N\3N\3N\3N\3O\3O\3O\3O\7O\u0282\n"+
-		"O\fO\16O\u0285\13O\3O\3O\3O\3O\3O\3P\6P\u028d\nP\rP\16P\u028e\3P\3P\6"+
-		"\u0249\u025c\u0273\u0283Q\3\3\1\5\4\1\7\5\1\t\6\1\13\7\1\r\b\1\17\t\1"+
-		"\21\n\1\23\13\1\25\f\1\27\r\1\31\16\1\33\17\1\35\20\1\37\21\1!\22\1#\23"+
-		"\1%\24\1\'\25\1)\26\1+\27\1-\30\1/\31\1\61\32\1\63\33\1\65\34\1\67\35"+
-		"\19\36\1;\37\1= \1?!\1A\"\1C#\1E$\1G%\1I&\1K\'\1M(\1O)\1Q*\1S+\1U,\1W"+
-		"-\1Y.\1[/\1]\60\1_\61\1a\62\1c\63\1e\64\1g\65\1i\66\1k\67\1m8\1o9\1q:"+
-		"\1s;\1u<\1w=\1y>\1{?\1}@\1\177A\1\u0081B\1\u0083C\1\u0085D\1\u0087E\1"+
-		"\u0089\2\1\u008b\2\1\u008dF\1\u008f\2\1\u0091G\1\u0093H\1\u0095\2\1\u0097"+
-		"I\1\u0099\2\1\u009bJ\2\u009dK\3\u009fL\4\3\2\3\5\13\f\17\17\"\"\u029f"+
-		"\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2"+
-		"\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2"+
-		"\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2"+
-		"\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2"+
-		"\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3"+
-		"\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2"+
-		"\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2"+
-		"U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3"+
-		"\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2"+
-		"\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2"+
-		"{\3\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2\2\2\2\u0085"+
-		"\3\2\2\2\2\u0087\3\2\2\2\2\u008d\3\2\2\2\2\u0091\3\2\2\2\2\u0093\3\2\2"+
-		"\2\2\u0097\3\2\2\2\2\u009b\3\2\2\2\2\u009d\3\2\2\2\2\u009f\3\2\2\2\3\u00a1"+
-		"\3\2\2\2\5\u00a5\3\2\2\2\7\u00a8\3\2\2\2\t\u00ad\3\2\2\2\13\u00b3\3\2"+
-		"\2\2\r\u00b9\3\2\2\2\17\u00c0\3\2\2\2\21\u00c7\3\2\2\2\23\u00cd\3\2\2"+
-		"\2\25\u00da\3\2\2\2\27\u00e5\3\2\2\2\31\u00f1\3\2\2\2\33\u00f9\3\2\2\2"+
-		"\35\u00fd\3\2\2\2\37\u0103\3\2\2\2!\u0108\3\2\2\2#\u010c\3\2\2\2%\u0113"+
-		"\3\2\2\2\'\u011b\3\2\2\2)\u0123\3\2\2\2+\u0129\3\2\2\2-\u012e\3\2\2\2"+
-		"/\u0134\3\2\2\2\61\u0137\3\2\2\2\63\u0142\3\2\2\2\65\u014d\3\2\2\2\67"+
-		"\u0156\3\2\2\29\u015b\3\2\2\2;\u0162\3\2\2\2=\u0167\3\2\2\2?\u016f\3\2"+
-		"\2\2A\u0174\3\2\2\2C\u0179\3\2\2\2E\u017f\3\2\2\2G\u0187\3\2\2\2I\u018b"+
-		"\3\2\2\2K\u018f\3\2\2\2M\u0196\3\2\2\2O\u0199\3\2\2\2Q\u019e\3\2\2\2S"+
-		"\u01a3\3\2\2\2U\u01a7\3\2\2\2W\u01ac\3\2\2\2Y\u01b5\3\2\2\2[\u01be\3\2"+
-		"\2\2]\u01c6\3\2\2\2_\u01cc\3\2\2\2a\u01d1\3\2\2\2c\u01d7\3\2\2\2e\u01dd"+
-		"\3\2\2\2g\u01e4\3\2\2\2i\u01ec\3\2\2\2k\u01f1\3\2\2\2m\u01f8\3\2\2\2o"+
-		"\u01fe\3\2\2\2q\u0205\3\2\2\2s\u0207\3\2\2\2u\u0209\3\2\2\2w\u020b\3\2"+
-		"\2\2y\u020d\3\2\2\2{\u020f\3\2\2\2}\u0211\3\2\2\2\177\u0213\3\2\2\2\u0081"+
-		"\u0215\3\2\2\2\u0083\u0217\3\2\2\2\u0085\u0219\3\2\2\2\u0087\u021b\3\2"+
-		"\2\2\u0089\u0225\3\2\2\2\u008b\u0227\3\2\2\2\u008d\u022a\3\2\2\2\u008f"+
-		"\u022e\3\2\2\2\u0091\u0242\3\2\2\2\u0093\u0244\3\2\2\2\u0095\u0252\3\2"+
-		"\2\2\u0097\u0254\3\2\2\2\u0099\u026b\3\2\2\2\u009b\u026d\3\2\2\2\u009d"+
-		"\u027d\3\2\2\2\u009f\u028c\3\2\2\2\u00a1\u00a2\7n\2\2\u00a2\u00a3\7g\2"+
-		"\2\u00a3\u00a4\7v\2\2\u00a4\4\3\2\2\2\u00a5\u00a6\7r\2\2\u00a6\u00a7\7"+
-		"d\2\2\u00a7\6\3\2\2\2\u00a8\u00a9\7j\2\2\u00a9\u00aa\7v\2\2\u00aa\u00ab"+
-		"\7v\2\2\u00ab\u00ac\7r\2\2\u00ac\b\3\2\2\2\u00ad\u00ae\7h\2\2\u00ae\u00af"+
-		"\7g\2\2\u00af\u00b0\7v\2\2\u00b0\u00b1\7e\2\2\u00b1\u00b2\7j\2\2\u00b2"+
-		"\n\3\2\2\2\u00b3\u00b4\7u\2\2\u00b4\u00b5\7v\2\2\u00b5\u00b6\7q\2\2\u00b6"+
-		"\u00b7\7t\2\2\u00b7\u00b8\7g\2\2\u00b8\f\3\2\2\2\u00b9\u00ba\7w\2\2\u00ba"+
-		"\u00bb\7r\2\2\u00bb\u00bc\7f\2\2\u00bc\u00bd\7c\2\2\u00bd\u00be\7v\2\2"+
-		"\u00be\u00bf\7g\2\2\u00bf\16\3\2\2\2\u00c0\u00c1\7f\2\2\u00c1\u00c2\7"+
-		"g\2\2\u00c2\u00c3\7n\2\2\u00c3\u00c4\7g\2\2\u00c4\u00c5\7v\2\2\u00c5\u00c6"+
-		"\7g\2\2\u00c6\20\3\2\2\2\u00c7\u00c8\7x\2\2\u00c8\u00c9\7c\2\2\u00c9\u00ca"+
-		"\7n\2\2\u00ca\u00cb\7w\2\2\u00cb\u00cc\7g\2\2\u00cc\22\3\2\2\2\u00cd\u00ce"+
-		"\7e\2\2\u00ce\u00cf\7q\2\2\u00cf\u00d0\7p\2\2\u00d0\u00d1\7v\2\2\u00d1"+
-		"\u00d2\7g\2\2\u00d2\u00d3\7p\2\2\u00d3\u00d4\7v\2\2\u00d4\u00d5\7/\2\2"+
-		"\u00d5\u00d6\7v\2\2\u00d6\u00d7\7{\2\2\u00d7\u00d8\7r\2\2\u00d8\u00d9"+
-		"\7g\2\2\u00d9\24\3\2\2\2\u00da\u00db\7e\2\2\u00db\u00dc\7q\2\2\u00dc\u00dd"+
-		"\7p\2\2\u00dd\u00de\7p\2\2\u00de\u00df\7g\2\2\u00df\u00e0\7e\2\2\u00e0"+
-		"\u00e1\7v\2\2\u00e1\u00e2\7k\2\2\u00e2\u00e3\7q\2\2\u00e3\u00e4\7p\2\2"+
-		"\u00e4\26\3\2\2\2\u00e5\u00e6\7e\2\2\u00e6\u00e7\7q\2\2\u00e7\u00e8\7"+
-		"p\2\2\u00e8\u00e9\7p\2\2\u00e9\u00ea\7g\2\2\u00ea\u00eb\7e\2\2\u00eb\u00ec"+
-		"\7v\2\2\u00ec\u00ed\7k\2\2\u00ed\u00ee\7q\2\2\u00ee\u00ef\7p\2\2\u00ef"+
-		"\u00f0\7u\2\2\u00f0\30\3\2\2\2\u00f1\u00f2\7e\2\2\u00f2\u00f3\7q\2\2\u00f3"+
-		"\u00f4\7p\2\2\u00f4\u00f5\7p\2\2\u00f5\u00f6\7g\2\2\u00f6\u00f7\7e\2\2"+
-		"\u00f7\u00f8\7v\2\2\u00f8\32\3\2\2\2\u00f9\u00fa\7w\2\2\u00fa\u00fb\7"+
-		"u\2\2\u00fb\u00fc\7g\2\2\u00fc\34\3\2\2\2\u00fd\u00fe\7w\2\2\u00fe\u00ff"+
-		"\7u\2\2\u00ff\u0100\7k\2\2\u0100\u0101\7p\2\2\u0101\u0102\7i\2\2\u0102"+
-		"\36\3\2\2\2\u0103\u0104\7y\2\2\u0104\u0105\7k\2\2\u0105\u0106\7v\2\2\u0106"+
-		"\u0107\7j\2\2\u0107 \3\2\2\2\u0108\u0109\7c\2\2\u0109\u010a\7p\2\2\u010a"+
-		"\u010b\7f\2\2\u010b\"\3\2\2\2\u010c\u010d\7d\2\2\u010d\u010e\7w\2\2\u010e"+
-		"\u010f\7e\2\2\u010f\u0110\7m\2\2\u0110\u0111\7g\2\2\u0111\u0112\7v\2\2"+
-		"\u0112$\3\2\2\2\u0113\u0114\7q\2\2\u0114\u0115\7r\2\2\u0115\u0116\7v\2"+
-		"\2\u0116\u0117\7k\2\2\u0117\u0118\7q\2\2\u0118\u0119\7p\2\2\u0119\u011a"+
-		"\7u\2\2\u011a&\3\2\2\2\u011b\u011c\7s\2\2\u011c\u011d\7w\2\2\u011d\u011e"+
-		"\7g\2\2\u011e\u011f\7t\2\2\u011f\u0120\7{\2\2\u0120\u0121\7\64\2\2\u0121"+
-		"\u0122\7k\2\2\u0122(\3\2\2\2\u0123\u0124\7e\2\2\u0124\u0125\7q\2\2\u0125"+
-		"\u0126\7w\2\2\u0126\u0127\7p\2\2\u0127\u0128\7v\2\2\u0128*\3\2\2\2\u0129"+
-		"\u012a\7h\2\2\u012a\u012b\7t\2\2\u012b\u012c\7q\2\2\u012c\u012d\7o\2\2"+
-		"\u012d,\3\2\2\2\u012e\u012f\7k\2\2\u012f\u0130\7p\2\2\u0130\u0131\7f\2"+
-		"\2\u0131\u0132\7g\2\2\u0132\u0133\7z\2\2\u0133.\3\2\2\2\u0134\u0135\7"+
-		"v\2\2\u0135\u0136\7q\2\2\u0136\60\3\2\2\2\u0137\u0138\7l\2\2\u0138\u0139"+
-		"\7c\2\2\u0139\u013a\7x\2\2\u013a\u013b\7c\2\2\u013b\u013c\7u\2\2\u013c"+
-		"\u013d\7e\2\2\u013d\u013e\7t\2\2\u013e\u013f\7k\2\2\u013f\u0140\7r\2\2"+
-		"\u0140\u0141\7v\2\2\u0141\62\3\2\2\2\u0142\u0143\7r\2\2\u0143\u0144\7"+
-		"t\2\2\u0144\u0145\7q\2\2\u0145\u0146\7r\2\2\u0146\u0147\7g\2\2\u0147\u0148"+
-		"\7t\2\2\u0148\u0149\7v\2\2\u0149\u014a\7k\2\2\u014a\u014b\7g\2\2\u014b"+
-		"\u014c\7u\2\2\u014c\64\3\2\2\2\u014d\u014e\7t\2\2\u014e\u014f\7g\2\2\u014f"+
-		"\u0150\7u\2\2\u0150\u0151\7q\2\2\u0151\u0152\7n\2\2\u0152\u0153\7x\2\2"+
-		"\u0153\u0154\7g\2\2\u0154\u0155\7t\2\2\u0155\66\3\2\2\2\u0156\u0157\7"+
-		"n\2\2\u0157\u0158\7q\2\2\u0158\u0159\7c\2\2\u0159\u015a\7f\2\2\u015a8"+
-		"\3\2\2\2\u015b\u015c\7u\2\2\u015c\u015d\7e\2\2\u015d\u015e\7t\2\2\u015e"+
-		"\u015f\7k\2\2\u015f\u0160\7r\2\2\u0160\u0161\7v\2\2\u0161:\3\2\2\2\u0162"+
-		"\u0163\7n\2\2\u0163\u0164\7k\2\2\u0164\u0165\7u\2\2\u0165\u0166\7v\2\2"+
-		"\u0166<\3\2\2\2\u0167\u0168\7d\2\2\u0168\u0169\7w\2\2\u0169\u016a\7e\2"+
-		"\2\u016a\u016b\7m\2\2\u016b\u016c\7g\2\2\u016c\u016d\7v\2\2\u016d\u016e"+
-		"\7u\2\2\u016e>\3\2\2\2\u016f\u0170\7m\2\2\u0170\u0171\7g\2\2\u0171\u0172"+
-		"\7{\2\2\u0172\u0173\7u\2\2\u0173@\3\2\2\2\u0174\u0175\7v\2\2\u0175\u0176"+
-		"\7t\2\2\u0176\u0177\7w\2\2\u0177\u0178\7g\2\2\u0178B\3\2\2\2\u0179\u017a"+
-		"\7h\2\2\u017a\u017b\7c\2\2\u017b\u017c\7n\2\2\u017c\u017d\7u\2\2\u017d"+
-		"\u017e\7g\2\2\u017eD\3\2\2\2\u017f\u0180\7f\2\2\u0180\u0181\7g\2\2\u0181"+
-		"\u0182\7h\2\2\u0182\u0183\7c\2\2\u0183\u0184\7w\2\2\u0184\u0185\7n\2\2"+
-		"\u0185\u0186\7v\2\2\u0186F\3\2\2\2\u0187\u0188\7u\2\2\u0188\u0189\7g\2"+
-		"\2\u0189\u018a\7v\2\2\u018aH\3\2\2\2\u018b\u018c\7i\2\2\u018c\u018d\7"+
-		"g\2\2\u018d\u018e\7v\2\2\u018eJ\3\2\2\2\u018f\u0190\7c\2\2\u0190\u0191"+
-		"\7e\2\2\u0191\u0192\7v\2\2\u0192\u0193\7k\2\2\u0193\u0194\7q\2\2\u0194"+
-		"\u0195\7p\2\2\u0195L\3\2\2\2\u0196\u0197\7c\2\2\u0197\u0198\7u\2\2\u0198"+
-		"N\3\2\2\2\u0199\u019a\7l\2\2\u019a\u019b\7u\2\2\u019b\u019c\7q\2\2\u019c"+
-		"\u019d\7p\2\2\u019dP\3\2\2\2\u019e\u019f\7v\2\2\u019f\u01a0\7g\2\2\u01a0"+
-		"\u01a1\7z\2\2\u01a1\u01a2\7v\2\2\u01a2R\3\2\2\2\u01a3\u01a4\7z\2\2\u01a4"+
-		"\u01a5\7o\2\2\u01a5\u01a6\7n\2\2\u01a6T\3\2\2\2\u01a7\u01a8\7p\2\2\u01a8"+
-		"\u01a9\7q\2\2\u01a9\u01aa\7f\2\2\u01aa\u01ab\7g\2\2\u01abV\3\2\2\2\u01ac"+
-		"\u01ad\7x\2\2\u01ad\u01ae\7g\2\2\u01ae\u01af\7t\2\2\u01af\u01b0\7u\2\2"+
-		"\u01b0\u01b1\7k\2\2\u01b1\u01b2\7q\2\2\u01b2\u01b3\7p\2\2\u01b3\u01b4"+
-		"\7u\2\2\u01b4X\3\2\2\2\u01b5\u01b6\7f\2\2\u01b6\u01b7\7k\2\2\u01b7\u01b8"+
-		"\7u\2\2\u01b8\u01b9\7e\2\2\u01b9\u01ba\7q\2\2\u01ba\u01bb\7x\2\2\u01bb"+
-		"\u01bc\7g\2\2\u01bc\u01bd\7t\2\2\u01bdZ\3\2\2\2\u01be\u01bf\7e\2\2\u01bf"+
-		"\u01c0\7n\2\2\u01c0\u01c1\7w\2\2\u01c1\u01c2\7u\2\2\u01c2\u01c3\7v\2\2"+
-		"\u01c3\u01c4\7g\2\2\u01c4\u01c5\7t\2\2\u01c5\\\3\2\2\2\u01c6\u01c7\7c"+
-		"\2\2\u01c7\u01c8\7f\2\2\u01c8\u01c9\7o\2\2\u01c9\u01ca\7k\2\2\u01ca\u01cb"+
-		"\7p\2\2\u01cb^\3\2\2\2\u01cc\u01cd\7l\2\2\u01cd\u01ce\7q\2\2\u01ce\u01cf"+
-		"\7k\2\2\u01cf\u01d0\7p\2\2\u01d0`\3\2\2\2\u01d1\u01d2\7n\2\2\u01d2\u01d3"+
-		"\7g\2\2\u01d3\u01d4\7c\2\2\u01d4\u01d5\7x\2\2\u01d5\u01d6\7g\2\2\u01d6"+
-		"b\3\2\2\2\u01d7\u01d8\7h\2\2\u01d8\u01d9\7q\2\2\u01d9\u01da\7t\2\2\u01da"+
-		"\u01db\7e\2\2\u01db\u01dc\7g\2\2\u01dcd\3\2\2\2\u01dd\u01de\7t\2\2\u01de"+
-		"\u01df\7g\2\2\u01df\u01e0\7o\2\2\u01e0\u01e1\7q\2\2\u01e1\u01e2\7x\2\2"+
-		"\u01e2\u01e3\7g\2\2\u01e3f\3\2\2\2\u01e4\u01e5\7t\2\2\u01e5\u01e6\7g\2"+
-		"\2\u01e6\u01e7\7r\2\2\u01e7\u01e8\7n\2\2\u01e8\u01e9\7c\2\2\u01e9\u01ea"+
-		"\7e\2\2\u01ea\u01eb\7g\2\2\u01ebh\3\2\2\2\u01ec\u01ed\7r\2\2\u01ed\u01ee"+
-		"\7n\2\2\u01ee\u01ef\7c\2\2\u01ef\u01f0\7p\2\2\u01f0j\3\2\2\2\u01f1\u01f2"+
-		"\7e\2\2\u01f2\u01f3\7q\2\2\u01f3\u01f4\7o\2\2\u01f4\u01f5\7o\2\2\u01f5"+
-		"\u01f6\7k\2\2\u01f6\u01f7\7v\2\2\u01f7l\3\2\2\2\u01f8\u01f9\7e\2\2\u01f9"+
-		"\u01fa\7n\2\2\u01fa\u01fb\7g\2\2\u01fb\u01fc\7c\2\2\u01fc\u01fd\7t\2\2"+
-		"\u01fdn\3\2\2\2\u01fe\u01ff\7u\2\2\u01ff\u0200\7v\2\2\u0200\u0201\7c\2"+
-		"\2\u0201\u0202\7v\2\2\u0202\u0203\7w\2\2\u0203\u0204\7u\2\2\u0204p\3\2"+
-		"\2\2\u0205\u0206\7B\2\2\u0206r\3\2\2\2\u0207\u0208\7&\2\2\u0208t\3\2\2"+
-		"\2\u0209\u020a\7,\2\2\u020av\3\2\2\2\u020b\u020c\7.\2\2\u020cx\3\2\2\2"+
-		"\u020d\u020e\7]\2\2\u020ez\3\2\2\2\u020f\u0210\7_\2\2\u0210|\3\2\2\2\u0211"+
-		"\u0212\7*\2\2\u0212~\3\2\2\2\u0213\u0214\7+\2\2\u0214\u0080\3\2\2\2\u0215"+
-		"\u0216\7?\2\2\u0216\u0082\3\2\2\2\u0217\u0218\7\60\2\2\u0218\u0084\3\2"+
-		"\2\2\u0219\u021a\7=\2\2\u021a\u0086\3\2\2\2\u021b\u0222\5\u0089E\2\u021c"+
-		"\u0221\5\u008bF\2\u021d\u0221\5\u0089E\2\u021e\u0221\5\u008fH\2\u021f"+
-		"\u0221\7a\2\2\u0220\u021c\3\2\2\2\u0220\u021d\3\2\2\2\u0220\u021e\3\2"+
-		"\2\2\u0220\u021f\3\2\2\2\u0221\u0224\3\2\2\2\u0222\u0220\3\2\2\2\u0222"+
-		"\u0223\3\2\2\2\u0223\u0088\3\2\2\2\u0224\u0222\3\2\2\2\u0225\u0226\4c"+
-		"|\2\u0226\u008a\3\2\2\2\u0227\u0228\4C\\\2\u0228\u008c\3\2\2\2\u0229\u022b"+
-		"\5\u008fH\2\u022a\u0229\3\2\2\2\u022b\u022c\3\2\2\2\u022c\u022a\3\2\2"+
-		"\2\u022c\u022d\3\2\2\2\u022d\u008e\3\2\2\2\u022e\u022f\4\62;\2\u022f\u0090"+
-		"\3\2\2\2\u0230\u0232\5\u008fH\2\u0231\u0230\3\2\2\2\u0232\u0233\3\2\2"+
-		"\2\u0233\u0231\3\2\2\2\u0233\u0234\3\2\2\2\u0234\u0235\3\2\2\2\u0235\u0239"+
-		"\5\u0083B\2\u0236\u0238\5\u008fH\2\u0237\u0236\3\2\2\2\u0238\u023b\3\2"+
-		"\2\2\u0239\u0237\3\2\2\2\u0239\u023a\3\2\2\2\u023a\u0243\3\2\2\2\u023b"+
-		"\u0239\3\2\2\2\u023c\u023e\5\u0083B\2\u023d\u023f\5\u008fH\2\u023e\u023d"+
-		"\3\2\2\2\u023f\u0240\3\2\2\2\u0240\u023e\3\2\2\2\u0240\u0241\3\2\2\2\u0241"+
-		"\u0243\3\2\2\2\u0242\u0231\3\2\2\2\u0242\u023c\3\2\2\2\u0243\u0092\3\2"+
-		"\2\2\u0244\u0249\7$\2\2\u0245\u0248\5\u0095K\2\u0246\u0248\13\2\2\2\u0247"+
-		"\u0245\3\2\2\2\u0247\u0246\3\2\2\2\u0248\u024b\3\2\2\2\u0249\u024a\3\2"+
-		"\2\2\u0249\u0247\3\2\2\2\u024a\u024c\3\2\2\2\u024b\u0249\3\2\2\2\u024c"+
-		"\u024d\7$\2\2\u024d\u0094\3\2\2\2\u024e\u024f\7^\2\2\u024f\u0253\7$\2"+
-		"\2\u0250\u0251\7^\2\2\u0251\u0253\7^\2\2\u0252\u024e\3\2\2\2\u0252\u0250"+
-		"\3\2\2\2\u0253\u0096\3\2\2\2\u0254\u0255\7\u0080\2\2\u0255\u0256\7\'\2"+
-		"\2\u0256\u0257\7\u0080\2\2\u0257\u025c\3\2\2\2\u0258\u025b\5\u0099M\2"+
-		"\u0259\u025b\13\2\2\2\u025a\u0258\3\2\2\2\u025a\u0259\3\2\2\2\u025b\u025e"+
-		"\3\2\2\2\u025c\u025d\3\2\2\2\u025c\u025a\3\2\2\2\u025d\u025f\3\2\2\2\u025e"+
-		"\u025c\3\2\2\2\u025f\u0260\7\u0080\2\2\u0260\u0261\7\'\2\2\u0261\u0262"+
-		"\7\u0080\2\2\u0262\u0098\3\2\2\2\u0263\u0264\7^\2\2\u0264\u0265\7\u0080"+
-		"\2\2\u0265\u0266\7\'\2\2\u0266\u026c\7\u0080\2\2\u0267\u0268\7^\2\2\u0268"+
-		"\u0269\7\u0080\2\2\u0269\u026a\7\'\2\2\u026a\u026c\7\u0080\2\2\u026b\u0263"+
-		"\3\2\2\2\u026b\u0267\3\2\2\2\u026c\u009a\3\2\2\2\u026d\u026e\7\61\2\2"+
-		"\u026e\u026f\7\61\2\2\u026f\u0273\3\2\2\2\u0270\u0272\13\2\2\2\u0271\u0270"+
-		"\3\2\2\2\u0272\u0275\3\2\2\2\u0273\u0274\3\2\2\2\u0273\u0271\3\2\2\2\u0274"+
-		"\u0277\3\2\2\2\u0275\u0273\3\2\2\2\u0276\u0278\7\17\2\2\u0277\u0276\3"+
-		"\2\2\2\u0277\u0278\3\2\2\2\u0278\u0279\3\2\2\2\u0279\u027a\7\f\2\2\u027a"+
-		"\u027b\3\2\2\2\u027b\u027c\bN\2\2\u027c\u009c\3\2\2\2\u027d\u027e\7\61"+
-		"\2\2\u027e\u027f\7,\2\2\u027f\u0283\3\2\2\2\u0280\u0282\13\2\2\2\u0281"+
-		"\u0280\3\2\2\2\u0282\u0285\3\2\2\2\u0283\u0284\3\2\2\2\u0283\u0281\3\2"+
-		"\2\2\u0284\u0286\3\2\2\2\u0285\u0283\3\2\2\2\u0286\u0287\7,\2\2\u0287"+
-		"\u0288\7\61\2\2\u0288\u0289\3\2\2\2\u0289\u028a\bO\3\2\u028a\u009e\3\2"+
-		"\2\2\u028b\u028d\t\2\2\2\u028c\u028b\3\2\2\2\u028d\u028e\3\2\2\2\u028e"+
-		"\u028c\3\2\2\2\u028e\u028f\3\2\2\2\u028f\u0290\3\2\2\2\u0290\u0291\bP"+
-		"\4\2\u0291\u00a0\3\2\2\2\24\2\u0220\u0222\u022c\u0233\u0239\u0240\u0242"+
-		"\u0247\u0249\u0252\u025a\u025c\u026b\u0273\u0277\u0283\u028e";
+		"E\4F\tF\4G\tG\4H\tH\4I\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4"+
+		"Q\tQ\4R\tR\4S\tS\4T\tT\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t"+
+		"\\\4]\t]\4^\t^\4_\t_\4`\t`\3\2\3\2\3\2\3\2\3\3\3\3\3\3\3\4\3\4\3\4\3\4"+
+		"\3\4\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3"+
+		"\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n"+
+		"\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13"+
+		"\3\13\3\13\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f"+
+		"\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\16\3\16\3\16\3\16\3\17\3\17"+
+		"\3\17\3\17\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\22"+
+		"\3\22\3\22\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23\3\23\3\23\3\23"+
+		"\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\25\3\25"+
+		"\3\26\3\26\3\26\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30"+
+		"\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\32\3\32\3\32"+
+		"\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\33\3\33\3\33\3\33"+
+		"\3\33\3\33\3\33\3\34\3\34\3\34\3\34\3\34\3\35\3\35\3\35\3\35\3\35\3\35"+
+		"\3\35\3\36\3\36\3\36\3\36\3\36\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37"+
+		"\3 \3 \3 \3 \3 \3!\3!\3!\3!\3!\3\"\3\"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\3#"+
+		"\3#\3#\3#\3$\3$\3$\3$\3%\3%\3%\3%\3&\3&\3&\3&\3&\3&\3&\3\'\3\'\3\'\3("+
+		"\3(\3(\3(\3(\3)\3)\3)\3)\3)\3*\3*\3*\3*\3+\3+\3+\3+\3+\3,\3,\3,\3,\3,"+
+		"\3,\3,\3,\3,\3-\3-\3-\3-\3-\3-\3-\3-\3-\3.\3.\3.\3.\3.\3.\3.\3.\3/\3/"+
+		"\3/\3/\3/\3/\3\60\3\60\3\60\3\60\3\60\3\60\3\61\3\61\3\61\3\61\3\61\3"+
+		"\61\3\61\3\61\3\61\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3\63\3\63\3\63\3"+
+		"\63\3\63\3\63\3\63\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3\65\3\65\3\65\3"+
+		"\65\3\65\3\65\3\65\3\65\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\67\3"+
+		"\67\3\67\3\67\38\38\38\39\39\39\39\39\39\39\39\39\3:\3:\3:\3:\3:\3:\3"+
+		";\3;\3;\3;\3;\3<\3<\3<\3<\3<\3<\3=\3=\3=\3=\3=\3=\3>\3>\3>\3>\3>\3>\3"+
+		">\3?\3?\3?\3?\3?\3?\3?\3?\3@\3@\3@\3@\3@\3A\3A\3A\3A\3A\3A\3A\3B\3B\3"+
+		"B\3B\3B\3B\3C\3C\3C\3C\3C\3C\3C\3D\3D\3E\3E\3F\3F\3G\3G\3H\3H\3I\3I\3"+
+		"J\3J\3K\3K\3L\3L\3M\3M\3N\3N\3O\3O\3P\3P\3Q\3Q\3Q\3R\3R\3S\3S\3T\3T\3"+
+		"T\3T\3T\7T\u0296\nT\fT\16T\u0299\13T\3U\3U\3V\3V\3W\6W\u02a0\nW\rW\16"+
+		"W\u02a1\3X\3X\3Y\6Y\u02a7\nY\rY\16Y\u02a8\3Y\3Y\6Y\u02ad\nY\rY\16Y\u02ae"+
+		"\3Y\3Y\6Y\u02b3\nY\rY\16Y\u02b4\5Y\u02b7\nY\3Z\3Z\3Z\7Z\u02bc\nZ\fZ\16"+
+		"Z\u02bf\13Z\3Z\3Z\3[\3[\3[\3[\5[\u02c7\n[\3\\\3\\\3\\\3\\\3\\\3\\\7\\"+
+		"\u02cf\n\\\f\\\16\\\u02d2\13\\\3\\\3\\\3\\\3\\\3]\3]\3]\3]\3]\3]\3]\3"+
+		"]\5]\u02e0\n]\3^\3^\3^\3^\7^\u02e6\n^\f^\16^\u02e9\13^\3^\5^\u02ec\n^"+
+		"\3^\3^\3^\3^\3_\3_\3_\3_\7_\u02f6\n_\f_\16_\u02f9\13_\3_\3_\3_\3_\3_\3"+
+		"`\6`\u0301\n`\r`\16`\u0302\3`\3`\6\u02bd\u02d0\u02e7\u02f7a\3\3\1\5\4"+
+		"\1\7\5\1\t\6\1\13\7\1\r\b\1\17\t\1\21\n\1\23\13\1\25\f\1\27\r\1\31\16"+
+		"\1\33\17\1\35\20\1\37\21\1!\22\1#\23\1%\24\1\'\25\1)\26\1+\27\1-\30\1"+
+		"/\31\1\61\32\1\63\33\1\65\34\1\67\35\19\36\1;\37\1= \1?!\1A\"\1C#\1E$"+
+		"\1G%\1I&\1K\'\1M(\1O)\1Q*\1S+\1U,\1W-\1Y.\1[/\1]\60\1_\61\1a\62\1c\63"+
+		"\1e\64\1g\65\1i\66\1k\67\1m8\1o9\1q:\1s;\1u<\1w=\1y>\1{?\1}@\1\177A\1"+
+		"\u0081B\1\u0083C\1\u0085D\1\u0087E\1\u0089F\1\u008bG\1\u008dH\1\u008f"+
+		"I\1\u0091J\1\u0093K\1\u0095L\1\u0097M\1\u0099N\1\u009bO\1\u009dP\1\u009f"+
+		"Q\1\u00a1R\1\u00a3S\1\u00a5T\1\u00a7U\1\u00a9\2\1\u00ab\2\1\u00adV\1\u00af"+
+		"\2\1\u00b1W\1\u00b3X\1\u00b5\2\1\u00b7Y\1\u00b9\2\1\u00bbZ\2\u00bd[\3"+
+		"\u00bf\\\4\3\2\3\5\13\f\17\17\"\"\u0313\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3"+
+		"\2\2\2\2\t\3\2\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2"+
+		"\2\23\3\2\2\2\2\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35"+
+		"\3\2\2\2\2\37\3\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)"+
+		"\3\2\2\2\2+\3\2\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2"+
+		"\65\3\2\2\2\2\67\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2"+
+		"A\3\2\2\2\2C\3\2\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3"+
+		"\2\2\2\2O\3\2\2\2\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2"+
+		"\2\2[\3\2\2\2\2]\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2"+
+		"g\3\2\2\2\2i\3\2\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3"+
+		"\2\2\2\2u\3\2\2\2\2w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177\3"+
+		"\2\2\2\2\u0081\3\2\2\2\2\u0083\3\2\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2\2"+
+		"\2\u0089\3\2\2\2\2\u008b\3\2\2\2\2\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091"+
+		"\3\2\2\2\2\u0093\3\2\2\2\2\u0095\3\2\2\2\2\u0097\3\2\2\2\2\u0099\3\2\2"+
+		"\2\2\u009b\3\2\2\2\2\u009d\3\2\2\2\2\u009f\3\2\2\2\2\u00a1\3\2\2\2\2\u00a3"+
+		"\3\2\2\2\2\u00a5\3\2\2\2\2\u00a7\3\2\2\2\2\u00ad\3\2\2\2\2\u00b1\3\2\2"+
+		"\2\2\u00b3\3\2\2\2\2\u00b7\3\2\2\2\2\u00bb\3\2\2\2\2\u00bd\3\2\2\2\2\u00bf"+
+		"\3\2\2\2\3\u00c1\3\2\2\2\5\u00c5\3\2\2\2\7\u00c8\3\2\2\2\t\u00cd\3\2\2"+
+		"\2\13\u00d3\3\2\2\2\r\u00d9\3\2\2\2\17\u00e0\3\2\2\2\21\u00e7\3\2\2\2"+
+		"\23\u00ed\3\2\2\2\25\u00fa\3\2\2\2\27\u0105\3\2\2\2\31\u0111\3\2\2\2\33"+
+		"\u0119\3\2\2\2\35\u011d\3\2\2\2\37\u0123\3\2\2\2!\u0128\3\2\2\2#\u012c"+
+		"\3\2\2\2%\u0133\3\2\2\2\'\u013b\3\2\2\2)\u0143\3\2\2\2+\u0149\3\2\2\2"+
+		"-\u014e\3\2\2\2/\u0154\3\2\2\2\61\u0157\3\2\2\2\63\u0162\3\2\2\2\65\u016d"+
+		"\3\2\2\2\67\u0176\3\2\2\29\u017b\3\2\2\2;\u0182\3\2\2\2=\u0187\3\2\2\2"+
+		"?\u018f\3\2\2\2A\u0194\3\2\2\2C\u0199\3\2\2\2E\u019f\3\2\2\2G\u01a7\3"+
+		"\2\2\2I\u01ab\3\2\2\2K\u01af\3\2\2\2M\u01b6\3\2\2\2O\u01b9\3\2\2\2Q\u01be"+
+		"\3\2\2\2S\u01c3\3\2\2\2U\u01c7\3\2\2\2W\u01cc\3\2\2\2Y\u01d5\3\2\2\2["+
+		"\u01de\3\2\2\2]\u01e6\3\2\2\2_\u01ec\3\2\2\2a\u01f2\3\2\2\2c\u01fb\3\2"+
+		"\2\2e\u0202\3\2\2\2g\u0209\3\2\2\2i\u0210\3\2\2\2k\u0218\3\2\2\2m\u0220"+
+		"\3\2\2\2o\u0224\3\2\2\2q\u0227\3\2\2\2s\u0230\3\2\2\2u\u0236\3\2\2\2w"+
+		"\u023b\3\2\2\2y\u0241\3\2\2\2{\u0247\3\2\2\2}\u024e\3\2\2\2\177\u0256"+
+		"\3\2\2\2\u0081\u025b\3\2\2\2\u0083\u0262\3\2\2\2\u0085\u0268\3\2\2\2\u0087"+
+		"\u026f\3\2\2\2\u0089\u0271\3\2\2\2\u008b\u0273\3\2\2\2\u008d\u0275\3\2"+
+		"\2\2\u008f\u0277\3\2\2\2\u0091\u0279\3\2\2\2\u0093\u027b\3\2\2\2\u0095"+
+		"\u027d\3\2\2\2\u0097\u027f\3\2\2\2\u0099\u0281\3\2\2\2\u009b\u0283\3\2"+
+		"\2\2\u009d\u0285\3\2\2\2\u009f\u0287\3\2\2\2\u00a1\u0289\3\2\2\2\u00a3"+
+		"\u028c\3\2\2\2\u00a5\u028e\3\2\2\2\u00a7\u0290\3\2\2\2\u00a9\u029a\3\2"+
+		"\2\2\u00ab\u029c\3\2\2\2\u00ad\u029f\3\2\2\2\u00af\u02a3\3\2\2\2\u00b1"+
+		"\u02b6\3\2\2\2\u00b3\u02b8\3\2\2\2\u00b5\u02c6\3\2\2\2\u00b7\u02c8\3\2"+
+		"\2\2\u00b9\u02df\3\2\2\2\u00bb\u02e1\3\2\2\2\u00bd\u02f1\3\2\2\2\u00bf"+
+		"\u0300\3\2\2\2\u00c1\u00c2\7n\2\2\u00c2\u00c3\7g\2\2\u00c3\u00c4\7v\2"+
+		"\2\u00c4\4\3\2\2\2\u00c5\u00c6\7r\2\2\u00c6\u00c7\7d\2\2\u00c7\6\3\2\2"+
+		"\2\u00c8\u00c9\7j\2\2\u00c9\u00ca\7v\2\2\u00ca\u00cb\7v\2\2\u00cb\u00cc"+
+		"\7r\2\2\u00cc\b\3\2\2\2\u00cd\u00ce\7h\2\2\u00ce\u00cf\7g\2\2\u00cf\u00d0"+
+		"\7v\2\2\u00d0\u00d1\7e\2\2\u00d1\u00d2\7j\2\2\u00d2\n\3\2\2\2\u00d3\u00d4"+
+		"\7u\2\2\u00d4\u00d5\7v\2\2\u00d5\u00d6\7q\2\2\u00d6\u00d7\7t\2\2\u00d7"+
+		"\u00d8\7g\2\2\u00d8\f\3\2\2\2\u00d9\u00da\7w\2\2\u00da\u00db\7r\2\2\u00db"+
+		"\u00dc\7f\2\2\u00dc\u00dd\7c\2\2\u00dd\u00de\7v\2\2\u00de\u00df\7g\2\2"+
+		"\u00df\16\3\2\2\2\u00e0\u00e1\7f\2\2\u00e1\u00e2\7g\2\2\u00e2\u00e3\7"+
+		"n\2\2\u00e3\u00e4\7g\2\2\u00e4\u00e5\7v\2\2\u00e5\u00e6\7g\2\2\u00e6\20"+
+		"\3\2\2\2\u00e7\u00e8\7x\2\2\u00e8\u00e9\7c\2\2\u00e9\u00ea\7n\2\2\u00ea"+
+		"\u00eb\7w\2\2\u00eb\u00ec\7g\2\2\u00ec\22\3\2\2\2\u00ed\u00ee\7e\2\2\u00ee"+
+		"\u00ef\7q\2\2\u00ef\u00f0\7p\2\2\u00f0\u00f1\7v\2\2\u00f1\u00f2\7g\2\2"+
+		"\u00f2\u00f3\7p\2\2\u00f3\u00f4\7v\2\2\u00f4\u00f5\7/\2\2\u00f5\u00f6"+
+		"\7v\2\2\u00f6\u00f7\7{\2\2\u00f7\u00f8\7r\2\2\u00f8\u00f9\7g\2\2\u00f9"+
+		"\24\3\2\2\2\u00fa\u00fb\7e\2\2\u00fb\u00fc\7q\2\2\u00fc\u00fd\7p\2\2\u00fd"+
+		"\u00fe\7p\2\2\u00fe\u00ff\7g\2\2\u00ff\u0100\7e\2\2\u0100\u0101\7v\2\2"+
+		"\u0101\u0102\7k\2\2\u0102\u0103\7q\2\2\u0103\u0104\7p\2\2\u0104\26\3\2"+
+		"\2\2\u0105\u0106\7e\2\2\u0106\u0107\7q\2\2\u0107\u0108\7p\2\2\u0108\u0109"+
+		"\7p\2\2\u0109\u010a\7g\2\2\u010a\u010b\7e\2\2\u010b\u010c\7v\2\2\u010c"+
+		"\u010d\7k\2\2\u010d\u010e\7q\2\2\u010e\u010f\7p\2\2\u010f\u0110\7u\2\2"+
+		"\u0110\30\3\2\2\2\u0111\u0112\7e\2\2\u0112\u0113\7q\2\2\u0113\u0114\7"+
+		"p\2\2\u0114\u0115\7p\2\2\u0115\u0116\7g\2\2\u0116\u0117\7e\2\2\u0117\u0118"+
+		"\7v\2\2\u0118\32\3\2\2\2\u0119\u011a\7w\2\2\u011a\u011b\7u\2\2\u011b\u011c"+
+		"\7g\2\2\u011c\34\3\2\2\2\u011d\u011e\7w\2\2\u011e\u011f\7u\2\2\u011f\u0120"+
+		"\7k\2\2\u0120\u0121\7p\2\2\u0121\u0122\7i\2\2\u0122\36\3\2\2\2\u0123\u0124"+
+		"\7y\2\2\u0124\u0125\7k\2\2\u0125\u0126\7v\2\2\u0126\u0127\7j\2\2\u0127"+
+		" \3\2\2\2\u0128\u0129\7c\2\2\u0129\u012a\7p\2\2\u012a\u012b\7f\2\2\u012b"+
+		"\"\3\2\2\2\u012c\u012d\7d\2\2\u012d\u012e\7w\2\2\u012e\u012f\7e\2\2\u012f"+
+		"\u0130\7m\2\2\u0130\u0131\7g\2\2\u0131\u0132\7v\2\2\u0132$\3\2\2\2\u0133"+
+		"\u0134\7q\2\2\u0134\u0135\7r\2\2\u0135\u0136\7v\2\2\u0136\u0137\7k\2\2"+
+		"\u0137\u0138\7q\2\2\u0138\u0139\7p\2\2\u0139\u013a\7u\2\2\u013a&\3\2\2"+
+		"\2\u013b\u013c\7s\2\2\u013c\u013d\7w\2\2\u013d\u013e\7g\2\2\u013e\u013f"+
+		"\7t\2\2\u013f\u0140\7{\2\2\u0140\u0141\7\64\2\2\u0141\u0142\7k\2\2\u0142"+
+		"(\3\2\2\2\u0143\u0144\7e\2\2\u0144\u0145\7q\2\2\u0145\u0146\7w\2\2\u0146"+
+		"\u0147\7p\2\2\u0147\u0148\7v\2\2\u0148*\3\2\2\2\u0149\u014a\7h\2\2\u014a"+
+		"\u014b\7t\2\2\u014b\u014c\7q\2\2\u014c\u014d\7o\2\2\u014d,\3\2\2\2\u014e"+
+		"\u014f\7k\2\2\u014f\u0150\7p\2\2\u0150\u0151\7f\2\2\u0151\u0152\7g\2\2"+
+		"\u0152\u0153\7z\2\2\u0153.\3\2\2\2\u0154\u0155\7v\2\2\u0155\u0156\7q\2"+
+		"\2\u0156\60\3\2\2\2\u0157\u0158\7l\2\2\u0158\u0159\7c\2\2\u0159\u015a"+
+		"\7x\2\2\u015a\u015b\7c\2\2\u015b\u015c\7u\2\2\u015c\u015d\7e\2\2\u015d"+
+		"\u015e\7t\2\2\u015e\u015f\7k\2\2\u015f\u0160\7r\2\2\u0160\u0161\7v\2\2"+
+		"\u0161\62\3\2\2\2\u0162\u0163\7r\2\2\u0163\u0164\7t\2\2\u0164\u0165\7"+
+		"q\2\2\u0165\u0166\7r\2\2\u0166\u0167\7g\2\2\u0167\u0168\7t\2\2\u0168\u0169"+
+		"\7v\2\2\u0169\u016a\7k\2\2\u016a\u016b\7g\2\2\u016b\u016c\7u\2\2\u016c"+
+		"\64\3\2\2\2\u016d\u016e\7t\2\2\u016e\u016f\7g\2\2\u016f\u0170\7u\2\2\u0170"+
+		"\u0171\7q\2\2\u0171\u0172\7n\2\2\u0172\u0173\7x\2\2\u0173\u0174\7g\2\2"+
+		"\u0174\u0175\7t\2\2\u0175\66\3\2\2\2\u0176\u0177\7n\2\2\u0177\u0178\7"+
+		"q\2\2\u0178\u0179\7c\2\2\u0179\u017a\7f\2\2\u017a8\3\2\2\2\u017b\u017c"+
+		"\7u\2\2\u017c\u017d\7e\2\2\u017d\u017e\7t\2\2\u017e\u017f\7k\2\2\u017f"+
+		"\u0180\7r\2\2\u0180\u0181\7v\2\2\u0181:\3\2\2\2\u0182\u0183\7n\2\2\u0183"+
+		"\u0184\7k\2\2\u0184\u0185\7u\2\2\u0185\u0186\7v\2\2\u0186<\3\2\2\2\u0187"+
+		"\u0188\7d\2\2\u0188\u0189\7w\2\2\u0189\u018a\7e\2\2\u018a\u018b\7m\2\2"+
+		"\u018b\u018c\7g\2\2\u018c\u018d\7v\2\2\u018d\u018e\7u\2\2\u018e>\3\2\2"+
+		"\2\u018f\u0190\7m\2\2\u0190\u0191\7g\2\2\u0191\u0192\7{\2\2\u0192\u0193"+
+		"\7u\2\2\u0193@\3\2\2\2\u0194\u0195\7v\2\2\u0195\u0196\7t\2\2\u0196\u0197"+
+		"\7w\2\2\u0197\u0198\7g\2\2\u0198B\3\2\2\2\u0199\u019a\7h\2\2\u019a\u019b"+
+		"\7c\2\2\u019b\u019c\7n\2\2\u019c\u019d\7u\2\2\u019d\u019e\7g\2\2\u019e"+
+		"D\3\2\2\2\u019f\u01a0\7f\2\2\u01a0\u01a1\7g\2\2\u01a1\u01a2\7h\2\2\u01a2"+
+		"\u01a3\7c\2\2\u01a3\u01a4\7w\2\2\u01a4\u01a5\7n\2\2\u01a5\u01a6\7v\2\2"+
+		"\u01a6F\3\2\2\2\u01a7\u01a8\7u\2\2\u01a8\u01a9\7g\2\2\u01a9\u01aa\7v\2"+
+		"\2\u01aaH\3\2\2\2\u01ab\u01ac\7i\2\2\u01ac\u01ad\7g\2\2\u01ad\u01ae\7"+
+		"v\2\2\u01aeJ\3\2\2\2\u01af\u01b0\7c\2\2\u01b0\u01b1\7e\2\2\u01b1\u01b2"+
+		"\7v\2\2\u01b2\u01b3\7k\2\2\u01b3\u01b4\7q\2\2\u01b4\u01b5\7p\2\2\u01b5"+
+		"L\3\2\2\2\u01b6\u01b7\7c\2\2\u01b7\u01b8\7u\2\2\u01b8N\3\2\2\2\u01b9\u01ba"+
+		"\7l\2\2\u01ba\u01bb\7u\2\2\u01bb\u01bc\7q\2\2\u01bc\u01bd\7p\2\2\u01bd"+
+		"P\3\2\2\2\u01be\u01bf\7v\2\2\u01bf\u01c0\7g\2\2\u01c0\u01c1\7z\2\2\u01c1"+
+		"\u01c2\7v\2\2\u01c2R\3\2\2\2\u01c3\u01c4\7z\2\2\u01c4\u01c5\7o\2\2\u01c5"+
+		"\u01c6\7n\2\2\u01c6T\3\2\2\2\u01c7\u01c8\7p\2\2\u01c8\u01c9\7q\2\2\u01c9"+
+		"\u01ca\7f\2\2\u01ca\u01cb\7g\2\2\u01cbV\3\2\2\2\u01cc\u01cd\7x\2\2\u01cd"+
+		"\u01ce\7g\2\2\u01ce\u01cf\7t\2\2\u01cf\u01d0\7u\2\2\u01d0\u01d1\7k\2\2"+
+		"\u01d1\u01d2\7q\2\2\u01d2\u01d3\7p\2\2\u01d3\u01d4\7u\2\2\u01d4X\3\2\2"+
+		"\2\u01d5\u01d6\7f\2\2\u01d6\u01d7\7k\2\2\u01d7\u01d8\7u\2\2\u01d8\u01d9"+
+		"\7e\2\2\u01d9\u01da\7q\2\2\u01da\u01db\7x\2\2\u01db\u01dc\7g\2\2\u01dc"+
+		"\u01dd\7t\2\2\u01ddZ\3\2\2\2\u01de\u01df\7e\2\2\u01df\u01e0\7n\2\2\u01e0"+
+		"\u01e1\7w\2\2\u01e1\u01e2\7u\2\2\u01e2\u01e3\7v\2\2\u01e3\u01e4\7g\2\2"+
+		"\u01e4\u01e5\7t\2\2\u01e5\\\3\2\2\2\u01e6\u01e7\7c\2\2\u01e7\u01e8\7u"+
+		"\2\2\u01e8\u01e9\7{\2\2\u01e9\u01ea\7p\2\2\u01ea\u01eb\7e\2\2\u01eb^\3"+
+		"\2\2\2\u01ec\u01ed\7c\2\2\u01ed\u01ee\7y\2\2\u01ee\u01ef\7c\2\2\u01ef"+
+		"\u01f0\7k\2\2\u01f0\u01f1\7v\2\2\u01f1`\3\2\2\2\u01f2\u01f3\7g\2\2\u01f3"+
+		"\u01f4\7z\2\2\u01f4\u01f5\7g\2\2\u01f5\u01f6\7e\2\2\u01f6\u01f7\7w\2\2"+
+		"\u01f7\u01f8\7v\2\2\u01f8\u01f9\7q\2\2\u01f9\u01fa\7t\2\2\u01fab\3\2\2"+
+		"\2\u01fb\u01fc\7n\2\2\u01fc\u01fd\7k\2\2\u01fd\u01fe\7o\2\2\u01fe\u01ff"+
+		"\7k\2\2\u01ff\u0200\7v\2\2\u0200\u0201\7u\2\2\u0201d\3\2\2\2\u0202\u0203"+
+		"\7g\2\2\u0203\u0204\7p\2\2\u0204\u0205\7i\2\2\u0205\u0206\7k\2\2\u0206"+
+		"\u0207\7p\2\2\u0207\u0208\7g\2\2\u0208f\3\2\2\2\u0209\u020a\7r\2\2\u020a"+
+		"\u020b\7n\2\2\u020b\u020c\7w\2\2\u020c\u020d\7i\2\2\u020d\u020e\7k\2\2"+
+		"\u020e\u020f\7p\2\2\u020fh\3\2\2\2\u0210\u0211\7r\2\2\u0211\u0212\7t\2"+
+		"\2\u0212\u0213\7g\2\2\u0213\u0214\7r\2\2\u0214\u0215\7c\2\2\u0215\u0216"+
+		"\7t\2\2\u0216\u0217\7g\2\2\u0217j\3\2\2\2\u0218\u0219\7g\2\2\u0219\u021a"+
+		"\7z\2\2\u021a\u021b\7g\2\2\u021b\u021c\7e\2\2\u021c\u021d\7w\2\2\u021d"+
+		"\u021e\7v\2\2\u021e\u021f\7g\2\2\u021fl\3\2\2\2\u0220\u0221\7h\2\2\u0221"+
+		"\u0222\7q\2\2\u0222\u0223\7t\2\2\u0223n\3\2\2\2\u0224\u0225\7k\2\2\u0225"+
+		"\u0226\7p\2\2\u0226p\3\2\2\2\u0227\u0228\7r\2\2\u0228\u0229\7c\2\2\u0229"+
+		"\u022a\7t\2\2\u022a\u022b\7c\2\2\u022b\u022c\7n\2\2\u022c\u022d\7n\2\2"+
+		"\u022d\u022e\7g\2\2\u022e\u022f\7n\2\2\u022fr\3\2\2\2\u0230\u0231\7c\2"+
+		"\2\u0231\u0232\7f\2\2\u0232\u0233\7o\2\2\u0233\u0234\7k\2\2\u0234\u0235"+
+		"\7p\2\2\u0235t\3\2\2\2\u0236\u0237\7l\2\2\u0237\u0238\7q\2\2\u0238\u0239"+
+		"\7k\2\2\u0239\u023a\7p\2\2\u023av\3\2\2\2\u023b\u023c\7n\2\2\u023c\u023d"+
+		"\7g\2\2\u023d\u023e\7c\2\2\u023e\u023f\7x\2\2\u023f\u0240\7g\2\2\u0240"+
+		"x\3\2\2\2\u0241\u0242\7h\2\2\u0242\u0243\7q\2\2\u0243\u0244\7t\2\2\u0244"+
+		"\u0245\7e\2\2\u0245\u0246\7g\2\2\u0246z\3\2\2\2\u0247\u0248\7t\2\2\u0248"+
+		"\u0249\7g\2\2\u0249\u024a\7o\2\2\u024a\u024b\7q\2\2\u024b\u024c\7x\2\2"+
+		"\u024c\u024d\7g\2\2\u024d|\3\2\2\2\u024e\u024f\7t\2\2\u024f\u0250\7g\2"+
+		"\2\u0250\u0251\7r\2\2\u0251\u0252\7n\2\2\u0252\u0253\7c\2\2\u0253\u0254"+
+		"\7e\2\2\u0254\u0255\7g\2\2\u0255~\3\2\2\2\u0256\u0257\7r\2\2\u0257\u0258"+
+		"\7n\2\2\u0258\u0259\7c\2\2\u0259\u025a\7p\2\2\u025a\u0080\3\2\2\2\u025b"+
+		"\u025c\7e\2\2\u025c\u025d\7q\2\2\u025d\u025e\7o\2\2\u025e\u025f\7o\2\2"+
+		"\u025f\u0260\7k\2\2\u0260\u0261\7v\2\2\u0261\u0082\3\2\2\2\u0262\u0263"+
+		"\7e\2\2\u0263\u0264\7n\2\2\u0264\u0265\7g\2\2\u0265\u0266\7c\2\2\u0266"+
+		"\u0267\7t\2\2\u0267\u0084\3\2\2\2\u0268\u0269\7u\2\2\u0269\u026a\7v\2"+
+		"\2\u026a\u026b\7c\2\2\u026b\u026c\7v\2\2\u026c\u026d\7w\2\2\u026d\u026e"+
+		"\7u\2\2\u026e\u0086\3\2\2\2\u026f\u0270\7B\2\2\u0270\u0088\3\2\2\2\u0271"+
+		"\u0272\7&\2\2\u0272\u008a\3\2\2\2\u0273\u0274\7,\2\2\u0274\u008c\3\2\2"+
+		"\2\u0275\u0276\7.\2\2\u0276\u008e\3\2\2\2\u0277\u0278\7]\2\2\u0278\u0090"+
+		"\3\2\2\2\u0279\u027a\7_\2\2\u027a\u0092\3\2\2\2\u027b\u027c\7*\2\2\u027c"+
+		"\u0094\3\2\2\2\u027d\u027e\7+\2\2\u027e\u0096\3\2\2\2\u027f\u0280\7?\2"+
+		"\2\u0280\u0098\3\2\2\2\u0281\u0282\7\60\2\2\u0282\u009a\3\2\2\2\u0283"+
+		"\u0284\7=\2\2\u0284\u009c\3\2\2\2\u0285\u0286\7A\2\2\u0286\u009e\3\2\2"+
+		"\2\u0287\u0288\7-\2\2\u0288\u00a0\3\2\2\2\u0289\u028a\7\60\2\2\u028a\u028b"+
+		"\7\60\2\2\u028b\u00a2\3\2\2\2\u028c\u028d\7}\2\2\u028d\u00a4\3\2\2\2\u028e"+
+		"\u028f\7\177\2\2\u028f\u00a6\3\2\2\2\u0290\u0297\5\u00a9U\2\u0291\u0296"+
+		"\5\u00abV\2\u0292\u0296\5\u00a9U\2\u0293\u0296\5\u00afX\2\u0294\u0296"+
+		"\7a\2\2\u0295\u0291\3\2\2\2\u0295\u0292\3\2\2\2\u0295\u0293\3\2\2\2\u0295"+
+		"\u0294\3\2\2\2\u0296\u0299\3\2\2\2\u0297\u0295\3\2\2\2\u0297\u0298\3\2"+
+		"\2\2\u0298\u00a8\3\2\2\2\u0299\u0297\3\2\2\2\u029a\u029b\4c|\2\u029b\u00aa"+
+		"\3\2\2\2\u029c\u029d\4C\\\2\u029d\u00ac\3\2\2\2\u029e\u02a0\5\u00afX\2"+
+		"\u029f\u029e\3\2\2\2\u02a0\u02a1\3\2\2\2\u02a1\u029f\3\2\2\2\u02a1\u02a2"+
+		"\3\2\2\2\u02a2\u00ae\3\2\2\2\u02a3\u02a4\4\62;\2\u02a4\u00b0\3\2\2\2\u02a5"+
+		"\u02a7\5\u00afX\2\u02a6\u02a5\3\2\2\2\u02a7\u02a8\3\2\2\2\u02a8\u02a6"+
+		"\3\2\2\2\u02a8\u02a9\3\2\2\2\u02a9\u02aa\3\2\2\2\u02aa\u02ac\5\u0099M"+
+		"\2\u02ab\u02ad\5\u00afX\2\u02ac\u02ab\3\2\2\2\u02ad\u02ae\3\2\2\2\u02ae"+
+		"\u02ac\3\2\2\2\u02ae\u02af\3\2\2\2\u02af\u02b7\3\2\2\2\u02b0\u02b2\5\u0099"+
+		"M\2\u02b1\u02b3\5\u00afX\2\u02b2\u02b1\3\2\2\2\u02b3\u02b4\3\2\2\2\u02b4"+
+		"\u02b2\3\2\2\2\u02b4\u02b5\3\2\2\2\u02b5\u02b7\3\2\2\2\u02b6\u02a6\3\2"+
+		"\2\2\u02b6\u02b0\3\2\2\2\u02b7\u00b2\3\2\2\2\u02b8\u02bd\7$\2\2\u02b9"+
+		"\u02bc\5\u00b5[\2\u02ba\u02bc\13\2\2\2\u02bb\u02b9\3\2\2\2\u02bb\u02ba"+
+		"\3\2\2\2\u02bc\u02bf\3\2\2\2\u02bd\u02be\3\2\2\2\u02bd\u02bb\3\2\2\2\u02be"+
+		"\u02c0\3\2\2\2\u02bf\u02bd\3\2\2\2\u02c0\u02c1\7$\2\2\u02c1\u00b4\3\2"+
+		"\2\2\u02c2\u02c3\7^\2\2\u02c3\u02c7\7$\2\2\u02c4\u02c5\7^\2\2\u02c5\u02c7"+
+		"\7^\2\2\u02c6\u02c2\3\2\2\2\u02c6\u02c4\3\2\2\2\u02c7\u00b6\3\2\2\2\u02c8"+
+		"\u02c9\7\u0080\2\2\u02c9\u02ca\7\'\2\2\u02ca\u02cb\7\u0080\2\2\u02cb\u02d0"+
+		"\3\2\2\2\u02cc\u02cf\5\u00b9]\2\u02cd\u02cf\13\2\2\2\u02ce\u02cc\3\2\2"+
+		"\2\u02ce\u02cd\3\2\2\2\u02cf\u02d2\3\2\2\2\u02d0\u02d1\3\2\2\2\u02d0\u02ce"+
+		"\3\2\2\2\u02d1\u02d3\3\2\2\2\u02d2\u02d0\3\2\2\2\u02d3\u02d4\7\u0080\2"+
+		"\2\u02d4\u02d5\7\'\2\2\u02d5\u02d6\7\u0080\2\2\u02d6\u00b8\3\2\2\2\u02d7"+
+		"\u02d8\7^\2\2\u02d8\u02d9\7\u0080\2\2\u02d9\u02da\7\'\2\2\u02da\u02e0"+
+		"\7\u0080\2\2\u02db\u02dc\7^\2\2\u02dc\u02dd\7\u0080\2\2\u02dd\u02de\7"+
+		"\'\2\2\u02de\u02e0\7\u0080\2\2\u02df\u02d7\3\2\2\2\u02df\u02db\3\2\2\2"+
+		"\u02e0\u00ba\3\2\2\2\u02e1\u02e2\7\61\2\2\u02e2\u02e3\7\61\2\2\u02e3\u02e7"+
+		"\3\2\2\2\u02e4\u02e6\13\2\2\2\u02e5\u02e4\3\2\2\2\u02e6\u02e9\3\2\2\2"+
+		"\u02e7\u02e8\3\2\2\2\u02e7\u02e5\3\2\2\2\u02e8\u02eb\3\2\2\2\u02e9\u02e7"+
+		"\3\2\2\2\u02ea\u02ec\7\17\2\2\u02eb\u02ea\3\2\2\2\u02eb\u02ec\3\2\2\2"+
+		"\u02ec\u02ed\3\2\2\2\u02ed\u02ee\7\f\2\2\u02ee\u02ef\3\2\2\2\u02ef\u02f0"+
+		"\b^\2\2\u02f0\u00bc\3\2\2\2\u02f1\u02f2\7\61\2\2\u02f2\u02f3\7,\2\2\u02f3"+
+		"\u02f7\3\2\2\2\u02f4\u02f6\13\2\2\2\u02f5\u02f4\3\2\2\2\u02f6\u02f9\3"+
+		"\2\2\2\u02f7\u02f8\3\2\2\2\u02f7\u02f5\3\2\2\2\u02f8\u02fa\3\2\2\2\u02f9"+
+		"\u02f7\3\2\2\2\u02fa\u02fb\7,\2\2\u02fb\u02fc\7\61\2\2\u02fc\u02fd\3\2"+
+		"\2\2\u02fd\u02fe\b_\3\2\u02fe\u00be\3\2\2\2\u02ff\u0301\t\2\2\2\u0300"+
+		"\u02ff\3\2\2\2\u0301\u0302\3\2\2\2\u0302\u0300\3\2\2\2\u0302\u0303\3\2"+
+		"\2\2\u0303\u0304\3\2\2\2\u0304\u0305\b`\4\2\u0305\u00c0\3\2\2\2\24\2\u0295"+
+		"\u0297\u02a1\u02a8\u02ae\u02b4\u02b6\u02bb\u02bd\u02c6\u02ce\u02d0\u02df"+
+		"\u02e7\u02eb\u02f7\u0302";
 	public static final ATN _ATN =
 		ATNSimulator.deserialize(_serializedATN.toCharArray());
 	static {
@@ -20,11 +20,14 @@ public class ContactParser extends Parser {
 		OPTIONS=18, QUERY2I=19, COUNT=20, FROM=21, INDEX=22, TO=23, JAVASCRIPT=24, 
 		PROPERTIES=25, RESOLVER=26, LOAD=27, SCRIPT=28, LIST=29, BUCKETS=30, KEYS=31, 
 		TRUE=32, FALSE=33, DEFAULT=34, SET=35, GET=36, ACTION=37, AS=38, JSON=39, 
-		TEXT=40, XML=41, NODE=42, VERSIONS=43, DISCOVER=44, CLUSTER=45, ADMIN=46, 
-		JOIN=47, LEAVE=48, FORCE=49, REMOVE=50, REPLACE=51, PLAN=52, COMMIT=53, 
-		CLEAR=54, STATUS=55, AT=56, DOLLAR=57, SPLAT=58, COMMA=59, LSQUARE=60, 
-		RSQUARE=61, LPAREN=62, RPAREN=63, EQUALS=64, DOT=65, SEMI=66, ID=67, INT=68, 
-		FLOAT=69, STRING=70, DATA_CONTENT=71, LINE_COMMENT=72, COMMENT=73, WS=74;
+		TEXT=40, XML=41, NODE=42, VERSIONS=43, DISCOVER=44, CLUSTER=45, ASYNC=46, 
+		AWAIT=47, EXECUTOR=48, LIMITS=49, ENGINE=50, PLUGIN=51, PREPARE=52, EXECUTE=53, 
+		FOR=54, IN=55, PARALLEL=56, ADMIN=57, JOIN=58, LEAVE=59, FORCE=60, REMOVE=61, 
+		REPLACE=62, PLAN=63, COMMIT=64, CLEAR=65, STATUS=66, AT=67, DOLLAR=68, 
+		SPLAT=69, COMMA=70, LSQUARE=71, RSQUARE=72, LPAREN=73, RPAREN=74, EQUALS=75, 
+		DOT=76, SEMI=77, QMARK=78, PLUS=79, RANGE=80, LBRACE=81, RBRACE=82, ID=83, 
+		INT=84, FLOAT=85, STRING=86, DATA_CONTENT=87, LINE_COMMENT=88, COMMENT=89, 
+		WS=90;
 	public static final String[] tokenNames = {
 		"<INVALID>", "'let'", "'pb'", "'http'", "'fetch'", "'store'", "'update'", 
 		"'delete'", "'value'", "'content-type'", "'connection'", "'connections'", 
@@ -33,32 +36,38 @@ public class ContactParser extends Parser {
 		"'resolver'", "'load'", "'script'", "'list'", "'buckets'", "'keys'", "'true'", 
 		"'false'", "'default'", "'set'", "'get'", "'action'", "'as'", "'json'", 
 		"'text'", "'xml'", "'node'", "'versions'", "'discover'", "'cluster'", 
-		"'admin'", "'join'", "'leave'", "'force'", "'remove'", "'replace'", "'plan'", 
-		"'commit'", "'clear'", "'status'", "'@'", "'$'", "'*'", "','", "'['", 
-		"']'", "'('", "')'", "'='", "'.'", "';'", "ID", "INT", "FLOAT", "STRING", 
-		"DATA_CONTENT", "LINE_COMMENT", "COMMENT", "WS"
+		"'async'", "'await'", "'executor'", "'limits'", "'engine'", "'plugin'", 
+		"'prepare'", "'execute'", "'for'", "'in'", "'parallel'", "'admin'", "'join'", 
+		"'leave'", "'force'", "'remove'", "'replace'", "'plan'", "'commit'", "'clear'", 
+		"'status'", "'@'", "'$'", "'*'", "','", "'['", "']'", "'('", "')'", "'='", 
+		"'.'", "';'", "'?'", "'+'", "'..'", "'{'", "'}'", "ID", "INT", "FLOAT", 
+		"STRING", "DATA_CONTENT", "LINE_COMMENT", "COMMENT", "WS"
 	};
 	public static final int
 		RULE_prog = 0, RULE_stat = 1, RULE_connection_selector = 2, RULE_console_op = 3, 
-		RULE_connections = 4, RULE_assignment = 5, RULE_using = 6, RULE_with = 7, 
-		RULE_op_with_options = 8, RULE_options = 9, RULE_listbuckets = 10, RULE_listkeys = 11, 
-		RULE_countkeys = 12, RULE_optionslist = 13, RULE_fetch = 14, RULE_fetch_select = 15, 
-		RULE_id_list = 16, RULE_store = 17, RULE_update = 18, RULE_store_indexes = 19, 
-		RULE_content_string = 20, RULE_user_content = 21, RULE_delete = 22, RULE_query2i = 23, 
-		RULE_use = 24, RULE_useBucketOptions = 25, RULE_bucketprops = 26, RULE_get_bucketprops = 27, 
-		RULE_set_bucketprops = 28, RULE_connect = 29, RULE_set = 30, RULE_set_action = 31, 
-		RULE_get = 32, RULE_get_action = 33, RULE_node_name = 34, RULE_clusterid = 35, 
-		RULE_noderef = 36, RULE_loadscript = 37, RULE_script = 38, RULE_pair = 39, 
-		RULE_pairValue = 40, RULE_code_string = 41, RULE_bool = 42;
+		RULE_connections = 4, RULE_assignment = 5, RULE_await_op = 6, RULE_prepare = 7, 
+		RULE_execute = 8, RULE_for_loop = 9, RULE_value = 10, RULE_value_part = 11, 
+		RULE_using = 12, RULE_with = 13, RULE_op_with_options = 14, RULE_options = 15, 
+		RULE_listbuckets = 16, RULE_listkeys = 17, RULE_countkeys = 18, RULE_optionslist = 19, 
+		RULE_fetch = 20, RULE_fetch_select = 21, RULE_id_list = 22, RULE_store = 23, 
+		RULE_update = 24, RULE_store_indexes = 25, RULE_content_string = 26, RULE_user_content = 27, 
+		RULE_delete = 28, RULE_query2i = 29, RULE_use = 30, RULE_useBucketOptions = 31, 
+		RULE_bucketprops = 32, RULE_get_bucketprops = 33, RULE_set_bucketprops = 34, 
+		RULE_connect = 35, RULE_set = 36, RULE_set_action = 37, RULE_set_executor = 38, 
+		RULE_set_limits = 39, RULE_set_engine = 40, RULE_get = 41, RULE_get_action = 42, 
+		RULE_node_name = 43, RULE_clusterid = 44, RULE_noderef = 45, RULE_loadscript = 46, 
+		RULE_loadplugin = 47, RULE_script = 48, RULE_pair = 49, RULE_pairValue = 50, 
+		RULE_code_string = 51, RULE_bool = 52, RULE_identifier = 53;
 	public static final String[] ruleNames = {
 		"prog", "stat", "connection_selector", "console_op", "connections", "assignment", 
-		"using", "with", "op_with_options", "options", "listbuckets", "listkeys", 
-		"countkeys", "optionslist", "fetch", "fetch_select", "id_list", "store", 
-		"update", "store_indexes", "content_string", "user_content", "delete", 
-		"query2i", "use", "useBucketOptions", "bucketprops", "get_bucketprops", 
-		"set_bucketprops", "connect", "set", "set_action", "get", "get_action", 
-		"node_name", "clusterid", "noderef", "loadscript", "script", "pair", "pairValue", 
-		"code_string", "bool"
+		"await_op", "prepare", "execute", "for_loop", "value", "value_part", "using", 
+		"with", "op_with_options", "options", "listbuckets", "listkeys", "countkeys", 
+		"optionslist", "fetch", "fetch_select", "id_list", "store", "update", 
+		"store_indexes", "content_string", "user_content", "delete", "query2i", 
+		"use", "useBucketOptions", "bucketprops", "get_bucketprops", "set_bucketprops", 
+		"connect", "set", "set_action", "set_executor", "set_limits", "set_engine", 
+		"get", "get_action", "node_name", "clusterid", "noderef", "loadscript", 
+		"loadplugin", "script", "pair", "pairValue", "code_string", "bool", "identifier"
 	};
 
 	@Override
@@ -78,13 +87,19 @@ public class ContactParser extends Parser {
 		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
 	}
 	public static class ProgContext extends ParserRuleContext {
+		public List<StatContext> stat() {
+			return getRuleContexts(StatContext.class);
+		}
 		public StatContext stat(int i) {
 			return getRuleContext(StatContext.class,i);
 		}
-		public TerminalNode EOF() { return getToken(ContactParser.EOF, 0); }
-		public List<StatContext> stat() {
-			return getRuleContexts(StatContext.class);
+		public For_loopContext for_loop(int i) {
+			return getRuleContext(For_loopContext.class,i);
 		}
+		public List<For_loopContext> for_loop() {
+			return getRuleContexts(For_loopContext.class);
+		}
+		public TerminalNode EOF() { return getToken(ContactParser.EOF, 0); }
 		public ProgContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -106,20 +121,51 @@ public class ContactParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(89);
+			setState(110); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << LET) | (1L << FETCH) | (1L << STORE) | (1L << UPDATE) | (1L << DELETE) | (1L << CONNS) | (1L << CONNECT) | (1L << USE) | (1L << USING) | (1L << QUERY2I) | (1L << COUNT) | (1L << LOAD) | (1L << SCRIPT) | (1L << LIST) | (1L << SET) | (1L << GET))) != 0)) {
-				{
-				{
-				setState(86); stat();
+			do {
+				{
+				setState(110);
+				switch (_input.LA(1)) {
+				case LET:
+				case FETCH:
+				case STORE:
+				case UPDATE:
+				case DELETE:
+				case CONNS:
+				case CONNECT:
+				case USE:
+				case USING:
+				case QUERY2I:
+				case COUNT:
+				case LOAD:
+				case SCRIPT:
+				case LIST:
+				case SET:
+				case GET:
+				case ASYNC:
+				case AWAIT:
+				case PREPARE:
+				case EXECUTE:
+					{
+					setState(108); stat();
+					}
+					break;
+				case FOR:
+					{
+					setState(109); for_loop();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
 				}
 				}
-				setState(91);
+				setState(112); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
-			}
-			setState(92); match(EOF);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << LET) | (1L << FETCH) | (1L << STORE) | (1L << UPDATE) | (1L << DELETE) | (1L << CONNS) | (1L << CONNECT) | (1L << USE) | (1L << USING) | (1L << QUERY2I) | (1L << COUNT) | (1L << LOAD) | (1L << SCRIPT) | (1L << LIST) | (1L << SET) | (1L << GET) | (1L << ASYNC) | (1L << AWAIT) | (1L << PREPARE) | (1L << EXECUTE) | (1L << FOR))) != 0) );
+			setState(114); match(EOF);
 			}
 		}
 		catch (RecognitionException re) {
@@ -134,34 +180,44 @@ public class ContactParser extends Parser {
 	}
 
 	public static class StatContext extends ParserRuleContext {
-		public Console_opContext console_op() {
-			return getRuleContext(Console_opContext.class,0);
-		}
-		public AssignmentContext assignment() {
-			return getRuleContext(AssignmentContext.class,0);
+		public PrepareContext prepare() {
+			return getRuleContext(PrepareContext.class,0);
 		}
 		public UsingContext using() {
 			return getRuleContext(UsingContext.class,0);
 		}
-		public Connection_selectorContext connection_selector() {
-			return getRuleContext(Connection_selectorContext.class,0);
-		}
-		public ConnectContext connect() {
-			return getRuleContext(ConnectContext.class,0);
+		public Console_opContext console_op() {
+			return getRuleContext(Console_opContext.class,0);
 		}
 		public ListbucketsContext listbuckets() {
 			return getRuleContext(ListbucketsContext.class,0);
 		}
+		public Connection_selectorContext connection_selector() {
+			return getRuleContext(Connection_selectorContext.class,0);
+		}
 		public UseContext use() {
 			return getRuleContext(UseContext.class,0);
 		}
+		public AssignmentContext assignment() {
+			return getRuleContext(AssignmentContext.class,0);
+		}
+		public TerminalNode ASYNC() { return getToken(ContactParser.ASYNC, 0); }
 		public TerminalNode SEMI() { return getToken(ContactParser.SEMI, 0); }
-		public ConnectionsContext connections() {
-			return getRuleContext(ConnectionsContext.class,0);
+		public ExecuteContext execute() {
+			return getRuleContext(ExecuteContext.class,0);
+		}
+		public Await_opContext await_op() {
+			return getRuleContext(Await_opContext.class,0);
 		}
 		public Op_with_optionsContext op_with_options() {
 			return getRuleContext(Op_with_optionsContext.class,0);
 		}
+		public ConnectContext connect() {
+			return getRuleContext(ConnectContext.class,0);
+		}
+		public ConnectionsContext connections() {
+			return getRuleContext(ConnectionsContext.class,0);
+		}
 		public StatContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -183,67 +239,93 @@ public class ContactParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(95);
+			setState(117);
 			_la = _input.LA(1);
 			if (_la==LET) {
 				{
-				setState(94); assignment();
+				setState(116); assignment();
+				}
+			}
+
+			setState(120);
+			_la = _input.LA(1);
+			if (_la==ASYNC) {
+				{
+				setState(119); match(ASYNC);
 				}
 			}
 
-			setState(104);
-			switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
+			setState(132);
+			switch ( getInterpreter().adaptivePredict(_input,4,_ctx) ) {
 			case 1:
 				{
-				setState(97); connect();
+				setState(122); connect();
 				}
 				break;
 
 			case 2:
 				{
-				setState(98); use();
+				setState(123); use();
 				}
 				break;
 
 			case 3:
 				{
-				setState(99); using();
+				setState(124); using();
 				}
 				break;
 
 			case 4:
 				{
-				setState(100); op_with_options();
+				setState(125); op_with_options();
 				}
 				break;
 
 			case 5:
 				{
-				setState(101); listbuckets();
+				setState(126); listbuckets();
 				}
 				break;
 
 			case 6:
 				{
-				setState(102); console_op();
+				setState(127); console_op();
 				}
 				break;
 
 			case 7:
 				{
-				setState(103); connections();
+				setState(128); connections();
+				}
+				break;
+
+			case 8:
+				{
+				setState(129); await_op();
+				}
+				break;
+
+			case 9:
+				{
+				setState(130); prepare();
+				}
+				break;
+
+			case 10:
+				{
+				setState(131); execute();
 				}
 				break;
 			}
-			setState(107);
+			setState(135);
 			_la = _input.LA(1);
 			if (_la==AT) {
 				{
-				setState(106); connection_selector();
+				setState(134); connection_selector();
 				}
 			}
 
-			setState(109); match(SEMI);
+			setState(137); match(SEMI);
 			}
 		}
 		catch (RecognitionException re) {
@@ -283,8 +365,8 @@ public class ContactParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(111); match(AT);
-			setState(112); ((Connection_selectorContext)_localctx).connname = node_name();
+			setState(139); match(AT);
+			setState(140); ((Connection_selectorContext)_localctx).connname = node_name();
 			}
 		}
 		catch (RecognitionException re) {
@@ -299,18 +381,21 @@ public class ContactParser extends Parser {
 	}
 
 	public static class Console_opContext extends ParserRuleContext {
-		public GetContext get() {
-			return getRuleContext(GetContext.class,0);
-		}
 		public SetContext set() {
 			return getRuleContext(SetContext.class,0);
 		}
-		public LoadscriptContext loadscript() {
-			return getRuleContext(LoadscriptContext.class,0);
+		public GetContext get() {
+			return getRuleContext(GetContext.class,0);
+		}
+		public LoadpluginContext loadplugin() {
+			return getRuleContext(LoadpluginContext.class,0);
 		}
 		public ScriptContext script() {
 			return getRuleContext(ScriptContext.class,0);
 		}
+		public LoadscriptContext loadscript() {
+			return getRuleContext(LoadscriptContext.class,0);
+		}
 		public Console_opContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -329,34 +414,42 @@ public class ContactParser extends Parser {
 		Console_opContext _localctx = new Console_opContext(_ctx, getState());
 		enterRule(_localctx, 6, RULE_console_op);
 		try {
-			setState(118);
-			switch (_input.LA(1)) {
-			case GET:
+			setState(147);
+			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
+			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(114); get();
+				setState(142); get();
 				}
 				break;
-			case SET:
+
+			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(115); set();
+				setState(143); set();
 				}
 				break;
-			case LOAD:
+
+			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(116); loadscript();
+				setState(144); loadscript();
 				}
 				break;
-			case SCRIPT:
+
+			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(117); script();
+				setState(145); loadplugin();
+				}
+				break;
+
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(146); script();
 				}
 				break;
-			default:
-				throw new NoViableAltException(this);
 			}
 		}
 		catch (RecognitionException re) {
@@ -392,7 +485,7 @@ public class ContactParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(120); match(CONNS);
+			setState(149); match(CONNS);
 			}
 		}
 		catch (RecognitionException re) {
@@ -407,9 +500,11 @@ public class ContactParser extends Parser {
 	}
 
 	public static class AssignmentContext extends ParserRuleContext {
-		public Token name;
+		public IdentifierContext name;
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
 		public TerminalNode EQUALS() { return getToken(ContactParser.EQUALS, 0); }
-		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
 		public TerminalNode LET() { return getToken(ContactParser.LET, 0); }
 		public AssignmentContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -431,9 +526,9 @@ public class ContactParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(122); match(LET);
-			setState(123); ((AssignmentContext)_localctx).name = match(ID);
-			setState(124); match(EQUALS);
+			setState(151); match(LET);
+			setState(152); ((AssignmentContext)_localctx).name = identifier();
+			setState(153); match(EQUALS);
 			}
 		}
 		catch (RecognitionException re) {
@@ -447,81 +542,66 @@ public class ContactParser extends Parser {
 		return _localctx;
 	}
 
-	public static class UsingContext extends ParserRuleContext {
-		public Token bucket;
-		public TerminalNode BUCKET() { return getToken(ContactParser.BUCKET, 0); }
-		public TerminalNode USING() { return getToken(ContactParser.USING, 0); }
-		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
-		public Op_with_optionsContext op_with_options() {
-			return getRuleContext(Op_with_optionsContext.class,0);
-		}
-		public UsingContext(ParserRuleContext parent, int invokingState) {
-			super(parent, invokingState);
-		}
-		@Override public int getRuleIndex() { return RULE_using; }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterUsing(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitUsing(this);
-		}
-	}
-
-	public final UsingContext using() throws RecognitionException {
-		UsingContext _localctx = new UsingContext(_ctx, getState());
-		enterRule(_localctx, 12, RULE_using);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(126); match(USING);
-			setState(127); match(BUCKET);
-			setState(128); ((UsingContext)_localctx).bucket = match(STRING);
-			setState(129); op_with_options();
-			}
+	public static class Await_opContext extends ParserRuleContext {
+		public IdentifierContext identifier;
+		public List<IdentifierContext> names = new ArrayList<IdentifierContext>();
+		public List<TerminalNode> COMMA() { return getTokens(ContactParser.COMMA); }
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
 		}
-		catch (RecognitionException re) {
-			_localctx.exception = re;
-			_errHandler.reportError(this, re);
-			_errHandler.recover(this, re);
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
 		}
-		finally {
-			exitRule();
+		public TerminalNode COMMA(int i) {
+			return getToken(ContactParser.COMMA, i);
 		}
-		return _localctx;
-	}
-
-	public static class WithContext extends ParserRuleContext {
-		public TerminalNode AND() { return getToken(ContactParser.AND, 0); }
-		public TerminalNode WITH() { return getToken(ContactParser.WITH, 0); }
-		public WithContext(ParserRuleContext parent, int invokingState) {
+		public TerminalNode AWAIT() { return getToken(ContactParser.AWAIT, 0); }
+		public Await_opContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_with; }
+		@Override public int getRuleIndex() { return RULE_await_op; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterWith(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterAwait_op(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitWith(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitAwait_op(this);
 		}
 	}
 
-	public final WithContext with() throws RecognitionException {
-		WithContext _localctx = new WithContext(_ctx, getState());
-		enterRule(_localctx, 14, RULE_with);
+	public final Await_opContext await_op() throws RecognitionException {
+		Await_opContext _localctx = new Await_opContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_await_op);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(131);
+			setState(155); match(AWAIT);
+			setState(164);
 			_la = _input.LA(1);
-			if ( !(_la==WITH || _la==AND) ) {
-			_errHandler.recoverInline(this);
+			if (((((_la - 46)) & ~0x3f) == 0 && ((1L << (_la - 46)) & ((1L << (ASYNC - 46)) | (1L << (AWAIT - 46)) | (1L << (EXECUTOR - 46)) | (1L << (LIMITS - 46)) | (1L << (ENGINE - 46)) | (1L << (PLUGIN - 46)) | (1L << (PREPARE - 46)) | (1L << (EXECUTE - 46)) | (1L << (FOR - 46)) | (1L << (IN - 46)) | (1L << (PARALLEL - 46)) | (1L << (ID - 46)))) != 0)) {
+				{
+				setState(156); ((Await_opContext)_localctx).identifier = identifier();
+				((Await_opContext)_localctx).names.add(((Await_opContext)_localctx).identifier);
+				setState(161);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(157); match(COMMA);
+					setState(158); ((Await_opContext)_localctx).identifier = identifier();
+					((Await_opContext)_localctx).names.add(((Await_opContext)_localctx).identifier);
+					}
+					}
+					setState(163);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				}
 			}
-			consume();
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -535,109 +615,65 @@ public class ContactParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Op_with_optionsContext extends ParserRuleContext {
-		public UpdateContext update() {
-			return getRuleContext(UpdateContext.class,0);
-		}
-		public ListkeysContext listkeys() {
-			return getRuleContext(ListkeysContext.class,0);
+	public static class PrepareContext extends ParserRuleContext {
+		public IdentifierContext name;
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
 		}
-		public FetchContext fetch() {
-			return getRuleContext(FetchContext.class,0);
-		}
-		public StoreContext store() {
-			return getRuleContext(StoreContext.class,0);
-		}
-		public BucketpropsContext bucketprops() {
-			return getRuleContext(BucketpropsContext.class,0);
-		}
-		public Query2iContext query2i() {
-			return getRuleContext(Query2iContext.class,0);
-		}
-		public DeleteContext delete() {
-			return getRuleContext(DeleteContext.class,0);
-		}
-		public CountkeysContext countkeys() {
-			return getRuleContext(CountkeysContext.class,0);
+		public UsingContext using() {
+			return getRuleContext(UsingContext.class,0);
 		}
-		public OptionsContext options() {
-			return getRuleContext(OptionsContext.class,0);
+		public TerminalNode EQUALS() { return getToken(ContactParser.EQUALS, 0); }
+		public Op_with_optionsContext op_with_options() {
+			return getRuleContext(Op_with_optionsContext.class,0);
 		}
-		public Op_with_optionsContext(ParserRuleContext parent, int invokingState) {
+		public TerminalNode PREPARE() { return getToken(ContactParser.PREPARE, 0); }
+		public PrepareContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_op_with_options; }
+		@Override public int getRuleIndex() { return RULE_prepare; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterOp_with_options(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterPrepare(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitOp_with_options(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitPrepare(this);
 		}
 	}
 
-	public final Op_with_optionsContext op_with_options() throws RecognitionException {
-		Op_with_optionsContext _localctx = new Op_with_optionsContext(_ctx, getState());
-		enterRule(_localctx, 16, RULE_op_with_options);
-		int _la;
+	public final PrepareContext prepare() throws RecognitionException {
+		PrepareContext _localctx = new PrepareContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_prepare);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(141);
+			setState(166); match(PREPARE);
+			setState(167); ((PrepareContext)_localctx).name = identifier();
+			setState(168); match(EQUALS);
+			setState(171);
 			switch (_input.LA(1)) {
 			case FETCH:
-				{
-				setState(133); fetch();
-				}
-				break;
 			case STORE:
-				{
-				setState(134); store();
-				}
-				break;
+			case UPDATE:
 			case DELETE:
-				{
-				setState(135); delete();
-				}
-				break;
 			case QUERY2I:
-				{
-				setState(136); query2i();
-				}
-				break;
-			case LIST:
-				{
-				setState(137); listkeys();
-				}
-				break;
 			case COUNT:
-				{
-				setState(138); countkeys();
-				}
-				break;
+			case LIST:
 			case SET:
 			case GET:
 				{
-				setState(139); bucketprops();
+				setState(169); op_with_options();
 				}
 				break;
-			case UPDATE:
+			case USING:
 				{
-				setState(140); update();
+				setState(170); using();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(144);
-			_la = _input.LA(1);
-			if (_la==WITH || _la==AND) {
-				{
-				setState(143); options();
-				}
-			}
-
 			}
 		}
 		catch (RecognitionException re) {
@@ -651,51 +687,91 @@ public class ContactParser extends Parser {
 		return _localctx;
 	}
 
-	public static class OptionsContext extends ParserRuleContext {
+	public static class ExecuteContext extends ParserRuleContext {
+		public IdentifierContext name;
+		public Token STRING;
+		public List<Token> params = new ArrayList<Token>();
+		public IdentifierContext keybinding;
+		public TerminalNode COMMA() { return getToken(ContactParser.COMMA, 0); }
+		public TerminalNode EXECUTE() { return getToken(ContactParser.EXECUTE, 0); }
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
+		}
 		public WithContext with() {
 			return getRuleContext(WithContext.class,0);
 		}
-		public OptionslistContext optionslist() {
-			return getRuleContext(OptionslistContext.class,0);
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
 		}
-		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
-		public TerminalNode OPTIONS() { return getToken(ContactParser.OPTIONS, 0); }
-		public OptionsContext(ParserRuleContext parent, int invokingState) {
+		public TerminalNode KEYS() { return getToken(ContactParser.KEYS, 0); }
+		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public TerminalNode DOLLAR() { return getToken(ContactParser.DOLLAR, 0); }
+		public TerminalNode FROM() { return getToken(ContactParser.FROM, 0); }
+		public ExecuteContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_options; }
+		@Override public int getRuleIndex() { return RULE_execute; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterOptions(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterExecute(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitOptions(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitExecute(this);
 		}
 	}
 
-	public final OptionsContext options() throws RecognitionException {
-		OptionsContext _localctx = new OptionsContext(_ctx, getState());
-		enterRule(_localctx, 18, RULE_options);
+	public final ExecuteContext execute() throws RecognitionException {
+		ExecuteContext _localctx = new ExecuteContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_execute);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(146); with();
-			setState(147); match(OPTIONS);
-			setState(150);
-			switch ( getInterpreter().adaptivePredict(_input,7,_ctx) ) {
-			case 1:
+			setState(173); match(EXECUTE);
+			setState(174); ((ExecuteContext)_localctx).name = identifier();
+			setState(190);
+			_la = _input.LA(1);
+			if (_la==WITH || _la==AND) {
 				{
-				setState(148); optionslist();
+				setState(175); with();
+				setState(188);
+				switch (_input.LA(1)) {
+				case STRING:
+					{
+					setState(176); ((ExecuteContext)_localctx).STRING = match(STRING);
+					((ExecuteContext)_localctx).params.add(((ExecuteContext)_localctx).STRING);
+					setState(181);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+					while (_la==COMMA) {
+						{
+						{
+						setState(177); match(COMMA);
+						setState(178); ((ExecuteContext)_localctx).STRING = match(STRING);
+						((ExecuteContext)_localctx).params.add(((ExecuteContext)_localctx).STRING);
+						}
+						}
+						setState(183);
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+					}
+					}
+					break;
+				case KEYS:
+					{
+					setState(184); match(KEYS);
+					setState(185); match(FROM);
+					setState(186); match(DOLLAR);
+					setState(187); ((ExecuteContext)_localctx).keybinding = identifier();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
 				}
-				break;
-
-			case 2:
-				{
-				setState(149); match(ID);
 				}
-				break;
 			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -709,9 +785,568 @@ public class ContactParser extends Parser {
 		return _localctx;
 	}
 
-	public static class ListbucketsContext extends ParserRuleContext {
-		public TerminalNode LIST() { return getToken(ContactParser.LIST, 0); }
-		public TerminalNode BUCKETS() { return getToken(ContactParser.BUCKETS, 0); }
+	public static class For_loopContext extends ParserRuleContext {
+		public IdentifierContext var;
+		public IdentifierContext binding;
+		public Token from;
+		public Token to;
+		public Token parallelism;
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
+		}
+		public List<StatContext> stat() {
+			return getRuleContexts(StatContext.class);
+		}
+		public TerminalNode IN() { return getToken(ContactParser.IN, 0); }
+		public TerminalNode FOR() { return getToken(ContactParser.FOR, 0); }
+		public TerminalNode SEMI() { return getToken(ContactParser.SEMI, 0); }
+		public For_loopContext for_loop(int i) {
+			return getRuleContext(For_loopContext.class,i);
+		}
+		public List<TerminalNode> INT() { return getTokens(ContactParser.INT); }
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
+		}
+		public TerminalNode RBRACE() { return getToken(ContactParser.RBRACE, 0); }
+		public StatContext stat(int i) {
+			return getRuleContext(StatContext.class,i);
+		}
+		public TerminalNode DOLLAR() { return getToken(ContactParser.DOLLAR, 0); }
+		public List<For_loopContext> for_loop() {
+			return getRuleContexts(For_loopContext.class);
+		}
+		public TerminalNode INT(int i) {
+			return getToken(ContactParser.INT, i);
+		}
+		public TerminalNode LBRACE() { return getToken(ContactParser.LBRACE, 0); }
+		public TerminalNode RANGE() { return getToken(ContactParser.RANGE, 0); }
+		public TerminalNode PARALLEL() { return getToken(ContactParser.PARALLEL, 0); }
+		public For_loopContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_for_loop; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterFor_loop(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitFor_loop(this);
+		}
+	}
+
+	public final For_loopContext for_loop() throws RecognitionException {
+		For_loopContext _localctx = new For_loopContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_for_loop);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(192); match(FOR);
+			setState(193); ((For_loopContext)_localctx).var = identifier();
+			setState(194); match(IN);
+			setState(200);
+			switch (_input.LA(1)) {
+			case DOLLAR:
+				{
+				setState(195); match(DOLLAR);
+				setState(196); ((For_loopContext)_localctx).binding = identifier();
+				}
+				break;
+			case INT:
+				{
+				setState(197); ((For_loopContext)_localctx).from = match(INT);
+				setState(198); match(RANGE);
+				setState(199); ((For_loopContext)_localctx).to = match(INT);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(204);
+			_la = _input.LA(1);
+			if (_la==PARALLEL) {
+				{
+				setState(202); match(PARALLEL);
+				setState(203); ((For_loopContext)_localctx).parallelism = match(INT);
+				}
+			}
+
+			setState(206); match(LBRACE);
+			setState(209); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				setState(209);
+				switch (_input.LA(1)) {
+				case LET:
+				case FETCH:
+				case STORE:
+				case UPDATE:
+				case DELETE:
+				case CONNS:
+				case CONNECT:
+				case USE:
+				case USING:
+				case QUERY2I:
+				case COUNT:
+				case LOAD:
+				case SCRIPT:
+				case LIST:
+				case SET:
+				case GET:
+				case ASYNC:
+				case AWAIT:
+				case PREPARE:
+				case EXECUTE:
+					{
+					setState(207); stat();
+					}
+					break;
+				case FOR:
+					{
+					setState(208); for_loop();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				setState(211); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( (((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << LET) | (1L << FETCH) | (1L << STORE) | (1L << UPDATE) | (1L << DELETE) | (1L << CONNS) | (1L << CONNECT) | (1L << USE) | (1L << USING) | (1L << QUERY2I) | (1L << COUNT) | (1L << LOAD) | (1L << SCRIPT) | (1L << LIST) | (1L << SET) | (1L << GET) | (1L << ASYNC) | (1L << AWAIT) | (1L << PREPARE) | (1L << EXECUTE) | (1L << FOR))) != 0) );
+			setState(213); match(RBRACE);
+			setState(215);
+			_la = _input.LA(1);
+			if (_la==SEMI) {
+				{
+				setState(214); match(SEMI);
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ValueContext extends ParserRuleContext {
+		public Value_partContext value_part;
+		public List<Value_partContext> parts = new ArrayList<Value_partContext>();
+		public List<Value_partContext> value_part() {
+			return getRuleContexts(Value_partContext.class);
+		}
+		public Value_partContext value_part(int i) {
+			return getRuleContext(Value_partContext.class,i);
+		}
+		public TerminalNode PLUS(int i) {
+			return getToken(ContactParser.PLUS, i);
+		}
+		public List<TerminalNode> PLUS() { return getTokens(ContactParser.PLUS); }
+		public ValueContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_value; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitValue(this);
+		}
+	}
+
+	public final ValueContext value() throws RecognitionException {
+		ValueContext _localctx = new ValueContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_value);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(217); ((ValueContext)_localctx).value_part = value_part();
+			((ValueContext)_localctx).parts.add(((ValueContext)_localctx).value_part);
+			setState(222);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==PLUS) {
+				{
+				{
+				setState(218); match(PLUS);
+				setState(219); ((ValueContext)_localctx).value_part = value_part();
+				((ValueContext)_localctx).parts.add(((ValueContext)_localctx).value_part);
+				}
+				}
+				setState(224);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Value_partContext extends ParserRuleContext {
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode QMARK() { return getToken(ContactParser.QMARK, 0); }
+		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public TerminalNode INT() { return getToken(ContactParser.INT, 0); }
+		public Value_partContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_value_part; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterValue_part(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitValue_part(this);
+		}
+	}
+
+	public final Value_partContext value_part() throws RecognitionException {
+		Value_partContext _localctx = new Value_partContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_value_part);
+		try {
+			setState(229);
+			switch (_input.LA(1)) {
+			case STRING:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(225); match(STRING);
+				}
+				break;
+			case QMARK:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(226); match(QMARK);
+				}
+				break;
+			case ASYNC:
+			case AWAIT:
+			case EXECUTOR:
+			case LIMITS:
+			case ENGINE:
+			case PLUGIN:
+			case PREPARE:
+			case EXECUTE:
+			case FOR:
+			case IN:
+			case PARALLEL:
+			case ID:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(227); identifier();
+				}
+				break;
+			case INT:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(228); match(INT);
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UsingContext extends ParserRuleContext {
+		public Token bucket;
+		public TerminalNode USING() { return getToken(ContactParser.USING, 0); }
+		public Op_with_optionsContext op_with_options() {
+			return getRuleContext(Op_with_optionsContext.class,0);
+		}
+		public TerminalNode BUCKET() { return getToken(ContactParser.BUCKET, 0); }
+		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public UsingContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_using; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterUsing(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitUsing(this);
+		}
+	}
+
+	public final UsingContext using() throws RecognitionException {
+		UsingContext _localctx = new UsingContext(_ctx, getState());
+		enterRule(_localctx, 24, RULE_using);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(231); match(USING);
+			setState(232); match(BUCKET);
+			setState(233); ((UsingContext)_localctx).bucket = match(STRING);
+			setState(234); op_with_options();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WithContext extends ParserRuleContext {
+		public TerminalNode AND() { return getToken(ContactParser.AND, 0); }
+		public TerminalNode WITH() { return getToken(ContactParser.WITH, 0); }
+		public WithContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_with; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterWith(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitWith(this);
+		}
+	}
+
+	public final WithContext with() throws RecognitionException {
+		WithContext _localctx = new WithContext(_ctx, getState());
+		enterRule(_localctx, 26, RULE_with);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(236);
+			_la = _input.LA(1);
+			if ( !(_la==WITH || _la==AND) ) {
+			_errHandler.recoverInline(this);
+			}
+			consume();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Op_with_optionsContext extends ParserRuleContext {
+		public Query2iContext query2i() {
+			return getRuleContext(Query2iContext.class,0);
+		}
+		public FetchContext fetch() {
+			return getRuleContext(FetchContext.class,0);
+		}
+		public OptionsContext options() {
+			return getRuleContext(OptionsContext.class,0);
+		}
+		public UpdateContext update() {
+			return getRuleContext(UpdateContext.class,0);
+		}
+		public StoreContext store() {
+			return getRuleContext(StoreContext.class,0);
+		}
+		public DeleteContext delete() {
+			return getRuleContext(DeleteContext.class,0);
+		}
+		public ListkeysContext listkeys() {
+			return getRuleContext(ListkeysContext.class,0);
+		}
+		public CountkeysContext countkeys() {
+			return getRuleContext(CountkeysContext.class,0);
+		}
+		public BucketpropsContext bucketprops() {
+			return getRuleContext(BucketpropsContext.class,0);
+		}
+		public Op_with_optionsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_op_with_options; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterOp_with_options(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitOp_with_options(this);
+		}
+	}
+
+	public final Op_with_optionsContext op_with_options() throws RecognitionException {
+		Op_with_optionsContext _localctx = new Op_with_optionsContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_op_with_options);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(246);
+			switch (_input.LA(1)) {
+			case FETCH:
+				{
+				setState(238); fetch();
+				}
+				break;
+			case STORE:
+				{
+				setState(239); store();
+				}
+				break;
+			case DELETE:
+				{
+				setState(240); delete();
+				}
+				break;
+			case QUERY2I:
+				{
+				setState(241); query2i();
+				}
+				break;
+			case LIST:
+				{
+				setState(242); listkeys();
+				}
+				break;
+			case COUNT:
+				{
+				setState(243); countkeys();
+				}
+				break;
+			case SET:
+			case GET:
+				{
+				setState(244); bucketprops();
+				}
+				break;
+			case UPDATE:
+				{
+				setState(245); update();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(249);
+			_la = _input.LA(1);
+			if (_la==WITH || _la==AND) {
+				{
+				setState(248); options();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OptionsContext extends ParserRuleContext {
+		public WithContext with() {
+			return getRuleContext(WithContext.class,0);
+		}
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public OptionslistContext optionslist() {
+			return getRuleContext(OptionslistContext.class,0);
+		}
+		public TerminalNode OPTIONS() { return getToken(ContactParser.OPTIONS, 0); }
+		public OptionsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_options; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterOptions(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitOptions(this);
+		}
+	}
+
+	public final OptionsContext options() throws RecognitionException {
+		OptionsContext _localctx = new OptionsContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_options);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(251); with();
+			setState(252); match(OPTIONS);
+			setState(255);
+			switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
+			case 1:
+				{
+				setState(253); optionslist();
+				}
+				break;
+
+			case 2:
+				{
+				setState(254); identifier();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ListbucketsContext extends ParserRuleContext {
+		public TerminalNode BUCKETS() { return getToken(ContactParser.BUCKETS, 0); }
+		public TerminalNode LIST() { return getToken(ContactParser.LIST, 0); }
 		public ListbucketsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -728,12 +1363,12 @@ public class ContactParser extends Parser {
 
 	public final ListbucketsContext listbuckets() throws RecognitionException {
 		ListbucketsContext _localctx = new ListbucketsContext(_ctx, getState());
-		enterRule(_localctx, 20, RULE_listbuckets);
+		enterRule(_localctx, 32, RULE_listbuckets);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(152); match(LIST);
-			setState(153); match(BUCKETS);
+			setState(257); match(LIST);
+			setState(258); match(BUCKETS);
 			}
 		}
 		catch (RecognitionException re) {
@@ -766,12 +1401,12 @@ public class ContactParser extends Parser {
 
 	public final ListkeysContext listkeys() throws RecognitionException {
 		ListkeysContext _localctx = new ListkeysContext(_ctx, getState());
-		enterRule(_localctx, 22, RULE_listkeys);
+		enterRule(_localctx, 34, RULE_listkeys);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(155); match(LIST);
-			setState(156); match(KEYS);
+			setState(260); match(LIST);
+			setState(261); match(KEYS);
 			}
 		}
 		catch (RecognitionException re) {
@@ -786,8 +1421,8 @@ public class ContactParser extends Parser {
 	}
 
 	public static class CountkeysContext extends ParserRuleContext {
-		public TerminalNode COUNT() { return getToken(ContactParser.COUNT, 0); }
 		public TerminalNode KEYS() { return getToken(ContactParser.KEYS, 0); }
+		public TerminalNode COUNT() { return getToken(ContactParser.COUNT, 0); }
 		public CountkeysContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -804,12 +1439,12 @@ public class ContactParser extends Parser {
 
 	public final CountkeysContext countkeys() throws RecognitionException {
 		CountkeysContext _localctx = new CountkeysContext(_ctx, getState());
-		enterRule(_localctx, 24, RULE_countkeys);
+		enterRule(_localctx, 36, RULE_countkeys);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(158); match(COUNT);
-			setState(159); match(KEYS);
+			setState(263); match(COUNT);
+			setState(264); match(KEYS);
 			}
 		}
 		catch (RecognitionException re) {
@@ -826,16 +1461,16 @@ public class ContactParser extends Parser {
 	public static class OptionslistContext extends ParserRuleContext {
 		public PairContext pair;
 		public List<PairContext> opts = new ArrayList<PairContext>();
+		public List<TerminalNode> COMMA() { return getTokens(ContactParser.COMMA); }
 		public TerminalNode COMMA(int i) {
 			return getToken(ContactParser.COMMA, i);
 		}
-		public List<PairContext> pair() {
-			return getRuleContexts(PairContext.class);
-		}
-		public List<TerminalNode> COMMA() { return getTokens(ContactParser.COMMA); }
 		public PairContext pair(int i) {
 			return getRuleContext(PairContext.class,i);
 		}
+		public List<PairContext> pair() {
+			return getRuleContexts(PairContext.class);
+		}
 		public OptionslistContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -852,25 +1487,25 @@ public class ContactParser extends Parser {
 
 	public final OptionslistContext optionslist() throws RecognitionException {
 		OptionslistContext _localctx = new OptionslistContext(_ctx, getState());
-		enterRule(_localctx, 26, RULE_optionslist);
+		enterRule(_localctx, 38, RULE_optionslist);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(161); ((OptionslistContext)_localctx).pair = pair();
+			setState(266); ((OptionslistContext)_localctx).pair = pair();
 			((OptionslistContext)_localctx).opts.add(((OptionslistContext)_localctx).pair);
-			setState(166);
+			setState(271);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(162); match(COMMA);
-				setState(163); ((OptionslistContext)_localctx).pair = pair();
+				setState(267); match(COMMA);
+				setState(268); ((OptionslistContext)_localctx).pair = pair();
 				((OptionslistContext)_localctx).opts.add(((OptionslistContext)_localctx).pair);
 				}
 				}
-				setState(168);
+				setState(273);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -888,12 +1523,27 @@ public class ContactParser extends Parser {
 	}
 
 	public static class FetchContext extends ParserRuleContext {
-		public Token key;
+		public ValueContext key;
+		public Token STRING;
+		public List<Token> keys = new ArrayList<Token>();
+		public IdentifierContext keybinding;
+		public TerminalNode COMMA() { return getToken(ContactParser.COMMA, 0); }
+		public TerminalNode FETCH() { return getToken(ContactParser.FETCH, 0); }
+		public TerminalNode LSQUARE() { return getToken(ContactParser.LSQUARE, 0); }
+		public TerminalNode RSQUARE() { return getToken(ContactParser.RSQUARE, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
+		public TerminalNode KEYS() { return getToken(ContactParser.KEYS, 0); }
+		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public TerminalNode DOLLAR() { return getToken(ContactParser.DOLLAR, 0); }
+		public TerminalNode FROM() { return getToken(ContactParser.FROM, 0); }
 		public Fetch_selectContext fetch_select() {
 			return getRuleContext(Fetch_selectContext.class,0);
 		}
-		public TerminalNode FETCH() { return getToken(ContactParser.FETCH, 0); }
-		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
 		public FetchContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -910,21 +1560,75 @@ public class ContactParser extends Parser {
 
 	public final FetchContext fetch() throws RecognitionException {
 		FetchContext _localctx = new FetchContext(_ctx, getState());
-		enterRule(_localctx, 28, RULE_fetch);
+		enterRule(_localctx, 40, RULE_fetch);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(169); match(FETCH);
-			setState(171);
-			_la = _input.LA(1);
-			if (_la==ID) {
+			setState(274); match(FETCH);
+			setState(276);
+			switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
+			case 1:
 				{
-				setState(170); fetch_select();
+				setState(275); fetch_select();
 				}
+				break;
+			}
+			setState(293);
+			switch (_input.LA(1)) {
+			case ASYNC:
+			case AWAIT:
+			case EXECUTOR:
+			case LIMITS:
+			case ENGINE:
+			case PLUGIN:
+			case PREPARE:
+			case EXECUTE:
+			case FOR:
+			case IN:
+			case PARALLEL:
+			case QMARK:
+			case ID:
+			case INT:
+			case STRING:
+				{
+				setState(278); ((FetchContext)_localctx).key = value();
+				}
+				break;
+			case LSQUARE:
+				{
+				setState(279); match(LSQUARE);
+				setState(280); ((FetchContext)_localctx).STRING = match(STRING);
+				((FetchContext)_localctx).keys.add(((FetchContext)_localctx).STRING);
+				setState(285);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==COMMA) {
+					{
+					{
+					setState(281); match(COMMA);
+					setState(282); ((FetchContext)_localctx).STRING = match(STRING);
+					((FetchContext)_localctx).keys.add(((FetchContext)_localctx).STRING);
+					}
+					}
+					setState(287);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(288); match(RSQUARE);
+				}
+				break;
+			case KEYS:
+				{
+				setState(289); match(KEYS);
+				setState(290); match(FROM);
+				setState(291); match(DOLLAR);
+				setState(292); ((FetchContext)_localctx).keybinding = identifier();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
 			}
-
-			setState(173); ((FetchContext)_localctx).key = match(STRING);
 			}
 		}
 		catch (RecognitionException re) {
@@ -961,12 +1665,12 @@ public class ContactParser extends Parser {
 
 	public final Fetch_selectContext fetch_select() throws RecognitionException {
 		Fetch_selectContext _localctx = new Fetch_selectContext(_ctx, getState());
-		enterRule(_localctx, 30, RULE_fetch_select);
+		enterRule(_localctx, 42, RULE_fetch_select);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(175); id_list();
-			setState(176); with();
+			setState(295); id_list();
+			setState(296); with();
 			}
 		}
 		catch (RecognitionException re) {
@@ -981,16 +1685,18 @@ public class ContactParser extends Parser {
 	}
 
 	public static class Id_listContext extends ParserRuleContext {
-		public Token ID;
-		public List<Token> ids = new ArrayList<Token>();
-		public TerminalNode ID(int i) {
-			return getToken(ContactParser.ID, i);
+		public IdentifierContext identifier;
+		public List<IdentifierContext> ids = new ArrayList<IdentifierContext>();
+		public List<TerminalNode> COMMA() { return getTokens(ContactParser.COMMA); }
+		public List<IdentifierContext> identifier() {
+			return getRuleContexts(IdentifierContext.class);
+		}
+		public IdentifierContext identifier(int i) {
+			return getRuleContext(IdentifierContext.class,i);
 		}
 		public TerminalNode COMMA(int i) {
 			return getToken(ContactParser.COMMA, i);
 		}
-		public List<TerminalNode> ID() { return getTokens(ContactParser.ID); }
-		public List<TerminalNode> COMMA() { return getTokens(ContactParser.COMMA); }
 		public Id_listContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1007,25 +1713,25 @@ public class ContactParser extends Parser {
 
 	public final Id_listContext id_list() throws RecognitionException {
 		Id_listContext _localctx = new Id_listContext(_ctx, getState());
-		enterRule(_localctx, 32, RULE_id_list);
+		enterRule(_localctx, 44, RULE_id_list);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(178); ((Id_listContext)_localctx).ID = match(ID);
-			((Id_listContext)_localctx).ids.add(((Id_listContext)_localctx).ID);
-			setState(183);
+			setState(298); ((Id_listContext)_localctx).identifier = identifier();
+			((Id_listContext)_localctx).ids.add(((Id_listContext)_localctx).identifier);
+			setState(303);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(179); match(COMMA);
-				setState(180); ((Id_listContext)_localctx).ID = match(ID);
-				((Id_listContext)_localctx).ids.add(((Id_listContext)_localctx).ID);
+				setState(299); match(COMMA);
+				setState(300); ((Id_listContext)_localctx).identifier = identifier();
+				((Id_listContext)_localctx).ids.add(((Id_listContext)_localctx).identifier);
 				}
 				}
-				setState(185);
+				setState(305);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1043,17 +1749,21 @@ public class ContactParser extends Parser {
 	}
 
 	public static class StoreContext extends ParserRuleContext {
-		public Token key;
-		public Token existing_obj;
-		public Store_indexesContext store_indexes() {
-			return getRuleContext(Store_indexesContext.class,0);
-		}
+		public ValueContext key;
+		public IdentifierContext existing_obj;
 		public WithContext with() {
 			return getRuleContext(WithContext.class,0);
 		}
-		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
 		public TerminalNode STORE() { return getToken(ContactParser.STORE, 0); }
-		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
+		public Store_indexesContext store_indexes() {
+			return getRuleContext(Store_indexesContext.class,0);
+		}
 		public Content_stringContext content_string() {
 			return getRuleContext(Content_stringContext.class,0);
 		}
@@ -1073,29 +1783,28 @@ public class ContactParser extends Parser {
 
 	public final StoreContext store() throws RecognitionException {
 		StoreContext _localctx = new StoreContext(_ctx, getState());
-		enterRule(_localctx, 34, RULE_store);
+		enterRule(_localctx, 46, RULE_store);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(186); match(STORE);
-			setState(189);
-			switch (_input.LA(1)) {
-			case STRING:
+			setState(306); match(STORE);
+			setState(309);
+			switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+			case 1:
 				{
-				setState(187); ((StoreContext)_localctx).key = match(STRING);
+				setState(307); ((StoreContext)_localctx).key = value();
 				}
 				break;
-			case ID:
+
+			case 2:
 				{
-				setState(188); ((StoreContext)_localctx).existing_obj = match(ID);
+				setState(308); ((StoreContext)_localctx).existing_obj = identifier();
 				}
 				break;
-			default:
-				throw new NoViableAltException(this);
 			}
-			setState(191); store_indexes();
-			setState(192); with();
-			setState(193); content_string();
+			setState(311); store_indexes();
+			setState(312); with();
+			setState(313); content_string();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1127,11 +1836,11 @@ public class ContactParser extends Parser {
 
 	public final UpdateContext update() throws RecognitionException {
 		UpdateContext _localctx = new UpdateContext(_ctx, getState());
-		enterRule(_localctx, 36, RULE_update);
+		enterRule(_localctx, 48, RULE_update);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(195); match(UPDATE);
+			setState(315); match(UPDATE);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1146,12 +1855,12 @@ public class ContactParser extends Parser {
 	}
 
 	public static class Store_indexesContext extends ParserRuleContext {
-		public List<TerminalNode> INDEX() { return getTokens(ContactParser.INDEX); }
 		public List<WithContext> with() {
 			return getRuleContexts(WithContext.class);
 		}
-		public List<PairContext> pair() {
-			return getRuleContexts(PairContext.class);
+		public List<TerminalNode> INDEX() { return getTokens(ContactParser.INDEX); }
+		public TerminalNode INDEX(int i) {
+			return getToken(ContactParser.INDEX, i);
 		}
 		public WithContext with(int i) {
 			return getRuleContext(WithContext.class,i);
@@ -1159,8 +1868,8 @@ public class ContactParser extends Parser {
 		public PairContext pair(int i) {
 			return getRuleContext(PairContext.class,i);
 		}
-		public TerminalNode INDEX(int i) {
-			return getToken(ContactParser.INDEX, i);
+		public List<PairContext> pair() {
+			return getRuleContexts(PairContext.class);
 		}
 		public Store_indexesContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -1178,27 +1887,27 @@ public class ContactParser extends Parser {
 
 	public final Store_indexesContext store_indexes() throws RecognitionException {
 		Store_indexesContext _localctx = new Store_indexesContext(_ctx, getState());
-		enterRule(_localctx, 38, RULE_store_indexes);
+		enterRule(_localctx, 50, RULE_store_indexes);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(203);
+			setState(323);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 			while ( _alt!=2 && _alt!=-1 ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(197); with();
-					setState(198); match(INDEX);
-					setState(199); pair();
+					setState(317); with();
+					setState(318); match(INDEX);
+					setState(319); pair();
 					}
 					} 
 				}
-				setState(205);
+				setState(325);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 			}
 			}
 		}
@@ -1214,14 +1923,16 @@ public class ContactParser extends Parser {
 	}
 
 	public static class Content_stringContext extends ParserRuleContext {
-		public TerminalNode JSON() { return getToken(ContactParser.JSON, 0); }
-		public TerminalNode TEXT() { return getToken(ContactParser.TEXT, 0); }
 		public User_contentContext user_content() {
 			return getRuleContext(User_contentContext.class,0);
 		}
 		public TerminalNode XML() { return getToken(ContactParser.XML, 0); }
 		public TerminalNode DATA_CONTENT() { return getToken(ContactParser.DATA_CONTENT, 0); }
-		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public TerminalNode TEXT() { return getToken(ContactParser.TEXT, 0); }
+		public TerminalNode JSON() { return getToken(ContactParser.JSON, 0); }
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
 		public Content_stringContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1238,42 +1949,64 @@ public class ContactParser extends Parser {
 
 	public final Content_stringContext content_string() throws RecognitionException {
 		Content_stringContext _localctx = new Content_stringContext(_ctx, getState());
-		enterRule(_localctx, 40, RULE_content_string);
-		int _la;
+		enterRule(_localctx, 52, RULE_content_string);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(210);
+			setState(330);
 			switch (_input.LA(1)) {
 			case TEXT:
 				{
-				setState(206); match(TEXT);
+				setState(326); match(TEXT);
 				}
 				break;
 			case JSON:
 				{
-				setState(207); match(JSON);
+				setState(327); match(JSON);
 				}
 				break;
 			case XML:
 				{
-				setState(208); match(XML);
+				setState(328); match(XML);
 				}
 				break;
 			case CONTENTTYPE:
 				{
-				setState(209); user_content();
+				setState(329); user_content();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(212);
-			_la = _input.LA(1);
-			if ( !(_la==STRING || _la==DATA_CONTENT) ) {
-			_errHandler.recoverInline(this);
+			setState(334);
+			switch (_input.LA(1)) {
+			case DATA_CONTENT:
+				{
+				setState(332); match(DATA_CONTENT);
+				}
+				break;
+			case ASYNC:
+			case AWAIT:
+			case EXECUTOR:
+			case LIMITS:
+			case ENGINE:
+			case PLUGIN:
+			case PREPARE:
+			case EXECUTE:
+			case FOR:
+			case IN:
+			case PARALLEL:
+			case QMARK:
+			case ID:
+			case INT:
+			case STRING:
+				{
+				setState(333); value();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
 			}
-			consume();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1308,13 +2041,13 @@ public class ContactParser extends Parser {
 
 	public final User_contentContext user_content() throws RecognitionException {
 		User_contentContext _localctx = new User_contentContext(_ctx, getState());
-		enterRule(_localctx, 42, RULE_user_content);
+		enterRule(_localctx, 54, RULE_user_content);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(214); match(CONTENTTYPE);
-			setState(215); ((User_contentContext)_localctx).content_type = match(STRING);
-			setState(216); match(AND);
+			setState(336); match(CONTENTTYPE);
+			setState(337); ((User_contentContext)_localctx).content_type = match(STRING);
+			setState(338); match(AND);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1329,9 +2062,11 @@ public class ContactParser extends Parser {
 	}
 
 	public static class DeleteContext extends ParserRuleContext {
-		public Token key;
+		public ValueContext key;
 		public TerminalNode DELETE() { return getToken(ContactParser.DELETE, 0); }
-		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public ValueContext value() {
+			return getRuleContext(ValueContext.class,0);
+		}
 		public DeleteContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1348,12 +2083,12 @@ public class ContactParser extends Parser {
 
 	public final DeleteContext delete() throws RecognitionException {
 		DeleteContext _localctx = new DeleteContext(_ctx, getState());
-		enterRule(_localctx, 44, RULE_delete);
+		enterRule(_localctx, 56, RULE_delete);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(218); match(DELETE);
-			setState(219); ((DeleteContext)_localctx).key = match(STRING);
+			setState(340); match(DELETE);
+			setState(341); ((DeleteContext)_localctx).key = value();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1369,26 +2104,29 @@ public class ContactParser extends Parser {
 
 	public static class Query2iContext extends ParserRuleContext {
 		public Token index;
-		public Token exact;
-		public Token vmin;
-		public Token vmax;
-		public TerminalNode INDEX() { return getToken(ContactParser.INDEX, 0); }
+		public ValueContext exact;
+		public ValueContext vmin;
+		public ValueContext vmax;
 		public List<WithContext> with() {
 			return getRuleContexts(WithContext.class);
 		}
-		public TerminalNode STRING(int i) {
-			return getToken(ContactParser.STRING, i);
-		}
 		public TerminalNode FETCH() { return getToken(ContactParser.FETCH, 0); }
-		public WithContext with(int i) {
-			return getRuleContext(WithContext.class,i);
-		}
-		public TerminalNode VALUE() { return getToken(ContactParser.VALUE, 0); }
 		public TerminalNode AND() { return getToken(ContactParser.AND, 0); }
-		public TerminalNode TO() { return getToken(ContactParser.TO, 0); }
-		public TerminalNode FROM() { return getToken(ContactParser.FROM, 0); }
 		public TerminalNode QUERY2I() { return getToken(ContactParser.QUERY2I, 0); }
-		public List<TerminalNode> STRING() { return getTokens(ContactParser.STRING); }
+		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public TerminalNode INDEX() { return getToken(ContactParser.INDEX, 0); }
+		public TerminalNode VALUE() { return getToken(ContactParser.VALUE, 0); }
+		public TerminalNode FROM() { return getToken(ContactParser.FROM, 0); }
+		public TerminalNode TO() { return getToken(ContactParser.TO, 0); }
+		public WithContext with(int i) {
+			return getRuleContext(WithContext.class,i);
+		}
+		public List<ValueContext> value() {
+			return getRuleContexts(ValueContext.class);
+		}
+		public ValueContext value(int i) {
+			return getRuleContext(ValueContext.class,i);
+		}
 		public Query2iContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1405,39 +2143,39 @@ public class ContactParser extends Parser {
 
 	public final Query2iContext query2i() throws RecognitionException {
 		Query2iContext _localctx = new Query2iContext(_ctx, getState());
-		enterRule(_localctx, 46, RULE_query2i);
+		enterRule(_localctx, 58, RULE_query2i);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(221); match(QUERY2I);
-			setState(224);
-			switch ( getInterpreter().adaptivePredict(_input,14,_ctx) ) {
+			setState(343); match(QUERY2I);
+			setState(346);
+			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
 			case 1:
 				{
-				setState(222); match(AND);
-				setState(223); match(FETCH);
+				setState(344); match(AND);
+				setState(345); match(FETCH);
 				}
 				break;
 			}
-			setState(226); with();
-			setState(227); match(INDEX);
-			setState(228); ((Query2iContext)_localctx).index = match(STRING);
-			setState(237);
+			setState(348); with();
+			setState(349); match(INDEX);
+			setState(350); ((Query2iContext)_localctx).index = match(STRING);
+			setState(360);
 			switch (_input.LA(1)) {
 			case WITH:
 			case AND:
 				{
-				setState(229); with();
-				setState(230); match(VALUE);
-				setState(231); ((Query2iContext)_localctx).exact = match(STRING);
+				setState(351); with();
+				setState(352); match(VALUE);
+				setState(353); ((Query2iContext)_localctx).exact = value();
 				}
 				break;
 			case FROM:
 				{
-				setState(233); match(FROM);
-				setState(234); ((Query2iContext)_localctx).vmin = match(STRING);
-				setState(235); match(TO);
-				setState(236); ((Query2iContext)_localctx).vmax = match(STRING);
+				setState(355); match(FROM);
+				setState(356); ((Query2iContext)_localctx).vmin = value();
+				setState(357); match(TO);
+				setState(358); ((Query2iContext)_localctx).vmax = value();
 				}
 				break;
 			default:
@@ -1458,15 +2196,17 @@ public class ContactParser extends Parser {
 
 	public static class UseContext extends ParserRuleContext {
 		public Token name;
-		public Token var;
-		public TerminalNode BUCKET() { return getToken(ContactParser.BUCKET, 0); }
-		public TerminalNode USE() { return getToken(ContactParser.USE, 0); }
+		public IdentifierContext var;
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
 		public TerminalNode CONN() { return getToken(ContactParser.CONN, 0); }
-		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
-		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
 		public UseBucketOptionsContext useBucketOptions() {
 			return getRuleContext(UseBucketOptionsContext.class,0);
 		}
+		public TerminalNode USE() { return getToken(ContactParser.USE, 0); }
+		public TerminalNode BUCKET() { return getToken(ContactParser.BUCKET, 0); }
+		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
 		public UseContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1483,23 +2223,23 @@ public class ContactParser extends Parser {
 
 	public final UseContext use() throws RecognitionException {
 		UseContext _localctx = new UseContext(_ctx, getState());
-		enterRule(_localctx, 48, RULE_use);
+		enterRule(_localctx, 60, RULE_use);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(239); match(USE);
-			setState(247);
+			setState(362); match(USE);
+			setState(370);
 			switch (_input.LA(1)) {
 			case BUCKET:
 				{
 				{
-				setState(240); match(BUCKET);
-				setState(241); ((UseContext)_localctx).name = match(STRING);
-				setState(243);
-				switch ( getInterpreter().adaptivePredict(_input,16,_ctx) ) {
+				setState(363); match(BUCKET);
+				setState(364); ((UseContext)_localctx).name = match(STRING);
+				setState(366);
+				switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
 				case 1:
 					{
-					setState(242); useBucketOptions();
+					setState(365); useBucketOptions();
 					}
 					break;
 				}
@@ -1509,8 +2249,8 @@ public class ContactParser extends Parser {
 			case CONN:
 				{
 				{
-				setState(245); match(CONN);
-				setState(246); ((UseContext)_localctx).var = match(ID);
+				setState(368); match(CONN);
+				setState(369); ((UseContext)_localctx).var = identifier();
 				}
 				}
 				break;
@@ -1535,30 +2275,32 @@ public class ContactParser extends Parser {
 		public OptionslistContext storeOptions;
 		public OptionslistContext deleteOptions;
 		public OptionslistContext query2iOptions;
-		public List<WithContext> with() {
-			return getRuleContexts(WithContext.class);
-		}
-		public TerminalNode DELETE() { return getToken(ContactParser.DELETE, 0); }
-		public TerminalNode OPTIONS(int i) {
-			return getToken(ContactParser.OPTIONS, i);
+		public Token resolvername;
+		public TerminalNode FETCH() { return getToken(ContactParser.FETCH, 0); }
+		public Code_stringContext code_string() {
+			return getRuleContext(Code_stringContext.class,0);
 		}
 		public List<OptionslistContext> optionslist() {
 			return getRuleContexts(OptionslistContext.class);
 		}
-		public TerminalNode FETCH() { return getToken(ContactParser.FETCH, 0); }
+		public TerminalNode QUERY2I() { return getToken(ContactParser.QUERY2I, 0); }
+		public TerminalNode RESOLVER() { return getToken(ContactParser.RESOLVER, 0); }
 		public WithContext with(int i) {
 			return getRuleContext(WithContext.class,i);
 		}
-		public Code_stringContext code_string() {
-			return getRuleContext(Code_stringContext.class,0);
+		public List<TerminalNode> OPTIONS() { return getTokens(ContactParser.OPTIONS); }
+		public List<WithContext> with() {
+			return getRuleContexts(WithContext.class);
 		}
-		public TerminalNode QUERY2I() { return getToken(ContactParser.QUERY2I, 0); }
 		public OptionslistContext optionslist(int i) {
 			return getRuleContext(OptionslistContext.class,i);
 		}
-		public TerminalNode RESOLVER() { return getToken(ContactParser.RESOLVER, 0); }
+		public TerminalNode DELETE() { return getToken(ContactParser.DELETE, 0); }
 		public TerminalNode STORE() { return getToken(ContactParser.STORE, 0); }
-		public List<TerminalNode> OPTIONS() { return getTokens(ContactParser.OPTIONS); }
+		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public TerminalNode OPTIONS(int i) {
+			return getToken(ContactParser.OPTIONS, i);
+		}
 		public UseBucketOptionsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1575,62 +2317,76 @@ public class ContactParser extends Parser {
 
 	public final UseBucketOptionsContext useBucketOptions() throws RecognitionException {
 		UseBucketOptionsContext _localctx = new UseBucketOptionsContext(_ctx, getState());
-		enterRule(_localctx, 50, RULE_useBucketOptions);
+		enterRule(_localctx, 62, RULE_useBucketOptions);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(254);
-			switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
+			setState(377);
+			switch ( getInterpreter().adaptivePredict(_input,36,_ctx) ) {
 			case 1:
 				{
-				setState(249); with();
-				setState(250); match(FETCH);
-				setState(251); match(OPTIONS);
-				setState(252); ((UseBucketOptionsContext)_localctx).fetchOptions = optionslist();
+				setState(372); with();
+				setState(373); match(FETCH);
+				setState(374); match(OPTIONS);
+				setState(375); ((UseBucketOptionsContext)_localctx).fetchOptions = optionslist();
 				}
 				break;
 			}
-			setState(261);
-			switch ( getInterpreter().adaptivePredict(_input,19,_ctx) ) {
+			setState(384);
+			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
 			case 1:
 				{
-				setState(256); with();
-				setState(257); match(STORE);
-				setState(258); match(OPTIONS);
-				setState(259); ((UseBucketOptionsContext)_localctx).storeOptions = optionslist();
+				setState(379); with();
+				setState(380); match(STORE);
+				setState(381); match(OPTIONS);
+				setState(382); ((UseBucketOptionsContext)_localctx).storeOptions = optionslist();
 				}
 				break;
 			}
-			setState(268);
-			switch ( getInterpreter().adaptivePredict(_input,20,_ctx) ) {
+			setState(391);
+			switch ( getInterpreter().adaptivePredict(_input,38,_ctx) ) {
 			case 1:
 				{
-				setState(263); with();
-				setState(264); match(DELETE);
-				setState(265); match(OPTIONS);
-				setState(266); ((UseBucketOptionsContext)_localctx).deleteOptions = optionslist();
+				setState(386); with();
+				setState(387); match(DELETE);
+				setState(388); match(OPTIONS);
+				setState(389); ((UseBucketOptionsContext)_localctx).deleteOptions = optionslist();
 				}
 				break;
 			}
-			setState(275);
-			switch ( getInterpreter().adaptivePredict(_input,21,_ctx) ) {
+			setState(398);
+			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
 			case 1:
 				{
-				setState(270); with();
-				setState(271); match(QUERY2I);
-				setState(272); match(OPTIONS);
-				setState(273); ((UseBucketOptionsContext)_localctx).query2iOptions = optionslist();
+				setState(393); with();
+				setState(394); match(QUERY2I);
+				setState(395); match(OPTIONS);
+				setState(396); ((UseBucketOptionsContext)_localctx).query2iOptions = optionslist();
 				}
 				break;
 			}
-			setState(281);
+			setState(406);
 			_la = _input.LA(1);
 			if (_la==WITH || _la==AND) {
 				{
-				setState(277); with();
-				setState(278); match(RESOLVER);
-				setState(279); code_string();
+				setState(400); with();
+				setState(401); match(RESOLVER);
+				setState(404);
+				switch (_input.LA(1)) {
+				case JAVASCRIPT:
+					{
+					setState(402); code_string();
+					}
+					break;
+				case STRING:
+					{
+					setState(403); ((UseBucketOptionsContext)_localctx).resolvername = match(STRING);
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
 				}
 			}
 
@@ -1648,12 +2404,12 @@ public class ContactParser extends Parser {
 	}
 
 	public static class BucketpropsContext extends ParserRuleContext {
-		public Set_bucketpropsContext set_bucketprops() {
-			return getRuleContext(Set_bucketpropsContext.class,0);
-		}
 		public Get_bucketpropsContext get_bucketprops() {
 			return getRuleContext(Get_bucketpropsContext.class,0);
 		}
+		public Set_bucketpropsContext set_bucketprops() {
+			return getRuleContext(Set_bucketpropsContext.class,0);
+		}
 		public BucketpropsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1670,20 +2426,20 @@ public class ContactParser extends Parser {
 
 	public final BucketpropsContext bucketprops() throws RecognitionException {
 		BucketpropsContext _localctx = new BucketpropsContext(_ctx, getState());
-		enterRule(_localctx, 52, RULE_bucketprops);
+		enterRule(_localctx, 64, RULE_bucketprops);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(285);
+			setState(410);
 			switch (_input.LA(1)) {
 			case GET:
 				{
-				setState(283); get_bucketprops();
+				setState(408); get_bucketprops();
 				}
 				break;
 			case SET:
 				{
-				setState(284); set_bucketprops();
+				setState(409); set_bucketprops();
 				}
 				break;
 			default:
@@ -1703,8 +2459,8 @@ public class ContactParser extends Parser {
 	}
 
 	public static class Get_bucketpropsContext extends ParserRuleContext {
-		public TerminalNode GET() { return getToken(ContactParser.GET, 0); }
 		public TerminalNode PROPERTIES() { return getToken(ContactParser.PROPERTIES, 0); }
+		public TerminalNode GET() { return getToken(ContactParser.GET, 0); }
 		public Get_bucketpropsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1719,14 +2475,262 @@ public class ContactParser extends Parser {
 		}
 	}
 
-	public final Get_bucketpropsContext get_bucketprops() throws RecognitionException {
-		Get_bucketpropsContext _localctx = new Get_bucketpropsContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_get_bucketprops);
-		try {
-			enterOuterAlt(_localctx, 1);
-			{
-			setState(287); match(GET);
-			setState(288); match(PROPERTIES);
+	public final Get_bucketpropsContext get_bucketprops() throws RecognitionException {
+		Get_bucketpropsContext _localctx = new Get_bucketpropsContext(_ctx, getState());
+		enterRule(_localctx, 66, RULE_get_bucketprops);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(412); match(GET);
+			setState(413); match(PROPERTIES);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Set_bucketpropsContext extends ParserRuleContext {
+		public TerminalNode SET() { return getToken(ContactParser.SET, 0); }
+		public TerminalNode PROPERTIES() { return getToken(ContactParser.PROPERTIES, 0); }
+		public OptionslistContext optionslist() {
+			return getRuleContext(OptionslistContext.class,0);
+		}
+		public Set_bucketpropsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_set_bucketprops; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterSet_bucketprops(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitSet_bucketprops(this);
+		}
+	}
+
+	public final Set_bucketpropsContext set_bucketprops() throws RecognitionException {
+		Set_bucketpropsContext _localctx = new Set_bucketpropsContext(_ctx, getState());
+		enterRule(_localctx, 68, RULE_set_bucketprops);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(415); match(SET);
+			setState(416); match(PROPERTIES);
+			setState(417); optionslist();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConnectContext extends ParserRuleContext {
+		public Token host;
+		public Token STRING;
+		public List<Token> hosts = new ArrayList<Token>();
+		public Token pbport;
+		public Token httpport;
+		public Token erlnode;
+		public Node_nameContext connname;
+		public List<TerminalNode> COMMA() { return getTokens(ContactParser.COMMA); }
+		public OptionslistContext optionslist() {
+			return getRuleContext(OptionslistContext.class,0);
+		}
+		public TerminalNode NODE() { return getToken(ContactParser.NODE, 0); }
+		public Node_nameContext node_name() {
+			return getRuleContext(Node_nameContext.class,0);
+		}
+		public TerminalNode STRING(int i) {
+			return getToken(ContactParser.STRING, i);
+		}
+		public TerminalNode CONNECT() { return getToken(ContactParser.CONNECT, 0); }
+		public TerminalNode HTTP() { return getToken(ContactParser.HTTP, 0); }
+		public TerminalNode OPTIONS() { return getToken(ContactParser.OPTIONS, 0); }
+		public List<TerminalNode> INT() { return getTokens(ContactParser.INT); }
+		public WithContext with() {
+			return getRuleContext(WithContext.class,0);
+		}
+		public TerminalNode COMMA(int i) {
+			return getToken(ContactParser.COMMA, i);
+		}
+		public TerminalNode PB() { return getToken(ContactParser.PB, 0); }
+		public TerminalNode AS() { return getToken(ContactParser.AS, 0); }
+		public List<TerminalNode> STRING() { return getTokens(ContactParser.STRING); }
+		public TerminalNode INT(int i) {
+			return getToken(ContactParser.INT, i);
+		}
+		public ConnectContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_connect; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterConnect(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitConnect(this);
+		}
+	}
+
+	public final ConnectContext connect() throws RecognitionException {
+		ConnectContext _localctx = new ConnectContext(_ctx, getState());
+		enterRule(_localctx, 70, RULE_connect);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(419); match(CONNECT);
+			setState(420); ((ConnectContext)_localctx).host = match(STRING);
+			setState(425);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==COMMA) {
+				{
+				{
+				setState(421); match(COMMA);
+				setState(422); ((ConnectContext)_localctx).STRING = match(STRING);
+				((ConnectContext)_localctx).hosts.add(((ConnectContext)_localctx).STRING);
+				}
+				}
+				setState(427);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(430);
+			_la = _input.LA(1);
+			if (_la==PB) {
+				{
+				setState(428); match(PB);
+				setState(429); ((ConnectContext)_localctx).pbport = match(INT);
+				}
+			}
+
+			setState(434);
+			_la = _input.LA(1);
+			if (_la==HTTP) {
+				{
+				setState(432); match(HTTP);
+				setState(433); ((ConnectContext)_localctx).httpport = match(INT);
+				}
+			}
+
+			setState(438);
+			_la = _input.LA(1);
+			if (_la==NODE) {
+				{
+				setState(436); match(NODE);
+				setState(437); ((ConnectContext)_localctx).erlnode = match(STRING);
+				}
+			}
+
+			setState(444);
+			_la = _input.LA(1);
+			if (_la==WITH || _la==AND) {
+				{
+				setState(440); with();
+				setState(441); match(OPTIONS);
+				setState(442); optionslist();
+				}
+			}
+
+			setState(448);
+			_la = _input.LA(1);
+			if (_la==AS) {
+				{
+				setState(446); match(AS);
+				setState(447); ((ConnectContext)_localctx).connname = node_name();
+				}
+			}
+
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SetContext extends ParserRuleContext {
+		public Set_engineContext set_engine() {
+			return getRuleContext(Set_engineContext.class,0);
+		}
+		public TerminalNode SET() { return getToken(ContactParser.SET, 0); }
+		public Set_actionContext set_action() {
+			return getRuleContext(Set_actionContext.class,0);
+		}
+		public Set_limitsContext set_limits() {
+			return getRuleContext(Set_limitsContext.class,0);
+		}
+		public Set_executorContext set_executor() {
+			return getRuleContext(Set_executorContext.class,0);
+		}
+		public SetContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_set; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterSet(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitSet(this);
+		}
+	}
+
+	public final SetContext set() throws RecognitionException {
+		SetContext _localctx = new SetContext(_ctx, getState());
+		enterRule(_localctx, 72, RULE_set);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(450); match(SET);
+			setState(455);
+			switch ( getInterpreter().adaptivePredict(_input,49,_ctx) ) {
+			case 1:
+				{
+				setState(451); set_action();
+				}
+				break;
+
+			case 2:
+				{
+				setState(452); set_executor();
+				}
+				break;
+
+			case 3:
+				{
+				setState(453); set_limits();
+				}
+				break;
+
+			case 4:
+				{
+				setState(454); set_engine();
+				}
+				break;
+			}
 			}
 		}
 		catch (RecognitionException re) {
@@ -1740,35 +2744,38 @@ public class ContactParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Set_bucketpropsContext extends ParserRuleContext {
-		public TerminalNode SET() { return getToken(ContactParser.SET, 0); }
-		public OptionslistContext optionslist() {
-			return getRuleContext(OptionslistContext.class,0);
+	public static class Set_actionContext extends ParserRuleContext {
+		public Token actionname;
+		public Code_stringContext code_string() {
+			return getRuleContext(Code_stringContext.class,0);
 		}
-		public TerminalNode PROPERTIES() { return getToken(ContactParser.PROPERTIES, 0); }
-		public Set_bucketpropsContext(ParserRuleContext parent, int invokingState) {
+		public TerminalNode ACTION() { return getToken(ContactParser.ACTION, 0); }
+		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
+		public TerminalNode WITH() { return getToken(ContactParser.WITH, 0); }
+		public Set_actionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_set_bucketprops; }
+		@Override public int getRuleIndex() { return RULE_set_action; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterSet_bucketprops(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterSet_action(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitSet_bucketprops(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitSet_action(this);
 		}
 	}
 
-	public final Set_bucketpropsContext set_bucketprops() throws RecognitionException {
-		Set_bucketpropsContext _localctx = new Set_bucketpropsContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_set_bucketprops);
+	public final Set_actionContext set_action() throws RecognitionException {
+		Set_actionContext _localctx = new Set_actionContext(_ctx, getState());
+		enterRule(_localctx, 74, RULE_set_action);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(290); match(SET);
-			setState(291); match(PROPERTIES);
-			setState(292); optionslist();
+			setState(457); match(ACTION);
+			setState(458); ((Set_actionContext)_localctx).actionname = match(ID);
+			setState(459); match(WITH);
+			setState(460); code_string();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1782,87 +2789,33 @@ public class ContactParser extends Parser {
 		return _localctx;
 	}
 
-	public static class ConnectContext extends ParserRuleContext {
-		public Token host;
-		public Token pbport;
-		public Token httpport;
-		public Token erlnode;
-		public Node_nameContext connname;
-		public TerminalNode AS() { return getToken(ContactParser.AS, 0); }
-		public List<TerminalNode> INT() { return getTokens(ContactParser.INT); }
-		public TerminalNode STRING(int i) {
-			return getToken(ContactParser.STRING, i);
-		}
-		public TerminalNode HTTP() { return getToken(ContactParser.HTTP, 0); }
-		public TerminalNode NODE() { return getToken(ContactParser.NODE, 0); }
-		public TerminalNode CONNECT() { return getToken(ContactParser.CONNECT, 0); }
-		public TerminalNode INT(int i) {
-			return getToken(ContactParser.INT, i);
-		}
-		public Node_nameContext node_name() {
-			return getRuleContext(Node_nameContext.class,0);
+	public static class Set_executorContext extends ParserRuleContext {
+		public OptionslistContext optionslist() {
+			return getRuleContext(OptionslistContext.class,0);
 		}
-		public TerminalNode PB() { return getToken(ContactParser.PB, 0); }
-		public List<TerminalNode> STRING() { return getTokens(ContactParser.STRING); }
-		public ConnectContext(ParserRuleContext parent, int invokingState) {
+		public TerminalNode EXECUTOR() { return getToken(ContactParser.EXECUTOR, 0); }
+		public Set_executorContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_connect; }
+		@Override public int getRuleIndex() { return RULE_set_executor; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterConnect(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterSet_executor(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitConnect(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitSet_executor(this);
 		}
 	}
 
-	public final ConnectContext connect() throws RecognitionException {
-		ConnectContext _localctx = new ConnectContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_connect);
-		int _la;
+	public final Set_executorContext set_executor() throws RecognitionException {
+		Set_executorContext _localctx = new Set_executorContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_set_executor);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(294); match(CONNECT);
-			setState(295); ((ConnectContext)_localctx).host = match(STRING);
-			setState(298);
-			_la = _input.LA(1);
-			if (_la==PB) {
-				{
-				setState(296); match(PB);
-				setState(297); ((ConnectContext)_localctx).pbport = match(INT);
-				}
-			}
-
-			setState(302);
-			_la = _input.LA(1);
-			if (_la==HTTP) {
-				{
-				setState(300); match(HTTP);
-				setState(301); ((ConnectContext)_localctx).httpport = match(INT);
-				}
-			}
-
-			setState(306);
-			_la = _input.LA(1);
-			if (_la==NODE) {
-				{
-				setState(304); match(NODE);
-				setState(305); ((ConnectContext)_localctx).erlnode = match(STRING);
-				}
-			}
-
-			setState(310);
-			_la = _input.LA(1);
-			if (_la==AS) {
-				{
-				setState(308); match(AS);
-				setState(309); ((ConnectContext)_localctx).connname = node_name();
-				}
-			}
-
+			setState(462); match(EXECUTOR);
+			setState(463); optionslist();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1876,33 +2829,35 @@ public class ContactParser extends Parser {
 		return _localctx;
 	}
 
-	public static class SetContext extends ParserRuleContext {
-		public TerminalNode SET() { return getToken(ContactParser.SET, 0); }
-		public Set_actionContext set_action() {
-			return getRuleContext(Set_actionContext.class,0);
+	public static class Set_limitsContext extends ParserRuleContext {
+		public TerminalNode LIMITS() { return getToken(ContactParser.LIMITS, 0); }
+		public TerminalNode SCRIPT() { return getToken(ContactParser.SCRIPT, 0); }
+		public OptionslistContext optionslist() {
+			return getRuleContext(OptionslistContext.class,0);
 		}
-		public SetContext(ParserRuleContext parent, int invokingState) {
+		public Set_limitsContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_set; }
+		@Override public int getRuleIndex() { return RULE_set_limits; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterSet(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterSet_limits(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitSet(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitSet_limits(this);
 		}
 	}
 
-	public final SetContext set() throws RecognitionException {
-		SetContext _localctx = new SetContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_set);
+	public final Set_limitsContext set_limits() throws RecognitionException {
+		Set_limitsContext _localctx = new Set_limitsContext(_ctx, getState());
+		enterRule(_localctx, 78, RULE_set_limits);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(312); match(SET);
-			setState(313); set_action();
+			setState(465); match(SCRIPT);
+			setState(466); match(LIMITS);
+			setState(467); optionslist();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1916,38 +2871,35 @@ public class ContactParser extends Parser {
 		return _localctx;
 	}
 
-	public static class Set_actionContext extends ParserRuleContext {
-		public Token actionname;
-		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
-		public Code_stringContext code_string() {
-			return getRuleContext(Code_stringContext.class,0);
+	public static class Set_engineContext extends ParserRuleContext {
+		public TerminalNode SCRIPT() { return getToken(ContactParser.SCRIPT, 0); }
+		public OptionslistContext optionslist() {
+			return getRuleContext(OptionslistContext.class,0);
 		}
-		public TerminalNode ACTION() { return getToken(ContactParser.ACTION, 0); }
-		public TerminalNode WITH() { return getToken(ContactParser.WITH, 0); }
-		public Set_actionContext(ParserRuleContext parent, int invokingState) {
+		public TerminalNode ENGINE() { return getToken(ContactParser.ENGINE, 0); }
+		public Set_engineContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
-		@Override public int getRuleIndex() { return RULE_set_action; }
+		@Override public int getRuleIndex() { return RULE_set_engine; }
 		@Override
 		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterSet_action(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterSet_engine(this);
 		}
 		@Override
 		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitSet_action(this);
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitSet_engine(this);
 		}
 	}
 
-	public final Set_actionContext set_action() throws RecognitionException {
-		Set_actionContext _localctx = new Set_actionContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_set_action);
+	public final Set_engineContext set_engine() throws RecognitionException {
+		Set_engineContext _localctx = new Set_engineContext(_ctx, getState());
+		enterRule(_localctx, 80, RULE_set_engine);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(315); match(ACTION);
-			setState(316); ((Set_actionContext)_localctx).actionname = match(ID);
-			setState(317); match(WITH);
-			setState(318); code_string();
+			setState(469); match(SCRIPT);
+			setState(470); match(ENGINE);
+			setState(471); optionslist();
 			}
 		}
 		catch (RecognitionException re) {
@@ -1962,11 +2914,15 @@ public class ContactParser extends Parser {
 	}
 
 	public static class GetContext extends ParserRuleContext {
+		public TerminalNode LIMITS() { return getToken(ContactParser.LIMITS, 0); }
+		public TerminalNode SCRIPT() { return getToken(ContactParser.SCRIPT, 0); }
+		public TerminalNode GET() { return getToken(ContactParser.GET, 0); }
 		public TerminalNode BUCKET() { return getToken(ContactParser.BUCKET, 0); }
+		public TerminalNode EXECUTOR() { return getToken(ContactParser.EXECUTOR, 0); }
+		public TerminalNode ENGINE() { return getToken(ContactParser.ENGINE, 0); }
 		public Get_actionContext get_action() {
 			return getRuleContext(Get_actionContext.class,0);
 		}
-		public TerminalNode GET() { return getToken(ContactParser.GET, 0); }
 		public GetContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -1983,25 +2939,44 @@ public class ContactParser extends Parser {
 
 	public final GetContext get() throws RecognitionException {
 		GetContext _localctx = new GetContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_get);
+		enterRule(_localctx, 82, RULE_get);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(320); match(GET);
-			setState(323);
-			switch (_input.LA(1)) {
-			case ACTION:
+			setState(473); match(GET);
+			setState(481);
+			switch ( getInterpreter().adaptivePredict(_input,50,_ctx) ) {
+			case 1:
 				{
-				setState(321); get_action();
+				setState(474); get_action();
 				}
 				break;
-			case BUCKET:
+
+			case 2:
 				{
-				setState(322); match(BUCKET);
+				setState(475); match(BUCKET);
+				}
+				break;
+
+			case 3:
+				{
+				setState(476); match(EXECUTOR);
+				}
+				break;
+
+			case 4:
+				{
+				setState(477); match(SCRIPT);
+				setState(478); match(LIMITS);
+				}
+				break;
+
+			case 5:
+				{
+				setState(479); match(SCRIPT);
+				setState(480); match(ENGINE);
 				}
 				break;
-			default:
-				throw new NoViableAltException(this);
 			}
 			}
 		}
@@ -2018,8 +2993,8 @@ public class ContactParser extends Parser {
 
 	public static class Get_actionContext extends ParserRuleContext {
 		public Token actionname;
-		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
 		public TerminalNode ACTION() { return getToken(ContactParser.ACTION, 0); }
+		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
 		public Get_actionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2036,12 +3011,12 @@ public class ContactParser extends Parser {
 
 	public final Get_actionContext get_action() throws RecognitionException {
 		Get_actionContext _localctx = new Get_actionContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_get_action);
+		enterRule(_localctx, 84, RULE_get_action);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(325); match(ACTION);
-			setState(326); ((Get_actionContext)_localctx).actionname = match(ID);
+			setState(483); match(ACTION);
+			setState(484); ((Get_actionContext)_localctx).actionname = match(ID);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2056,8 +3031,10 @@ public class ContactParser extends Parser {
 	}
 
 	public static class Node_nameContext extends ParserRuleContext {
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
 		public TerminalNode DOLLAR() { return getToken(ContactParser.DOLLAR, 0); }
-		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
 		public Node_nameContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2074,12 +3051,12 @@ public class ContactParser extends Parser {
 
 	public final Node_nameContext node_name() throws RecognitionException {
 		Node_nameContext _localctx = new Node_nameContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_node_name);
+		enterRule(_localctx, 86, RULE_node_name);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(328); match(DOLLAR);
-			setState(329); match(ID);
+			setState(486); match(DOLLAR);
+			setState(487); identifier();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2094,8 +3071,8 @@ public class ContactParser extends Parser {
 	}
 
 	public static class ClusteridContext extends ParserRuleContext {
-		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
 		public TerminalNode SPLAT() { return getToken(ContactParser.SPLAT, 0); }
+		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
 		public ClusteridContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2112,12 +3089,12 @@ public class ContactParser extends Parser {
 
 	public final ClusteridContext clusterid() throws RecognitionException {
 		ClusteridContext _localctx = new ClusteridContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_clusterid);
+		enterRule(_localctx, 88, RULE_clusterid);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(331); match(SPLAT);
-			setState(332); match(ID);
+			setState(489); match(SPLAT);
+			setState(490); match(ID);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2134,8 +3111,8 @@ public class ContactParser extends Parser {
 	public static class NoderefContext extends ParserRuleContext {
 		public Token nodename;
 		public Token nodeid;
-		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
 		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
 		public NoderefContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2152,20 +3129,20 @@ public class ContactParser extends Parser {
 
 	public final NoderefContext noderef() throws RecognitionException {
 		NoderefContext _localctx = new NoderefContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_noderef);
+		enterRule(_localctx, 90, RULE_noderef);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(336);
+			setState(494);
 			switch (_input.LA(1)) {
 			case STRING:
 				{
-				setState(334); ((NoderefContext)_localctx).nodename = match(STRING);
+				setState(492); ((NoderefContext)_localctx).nodename = match(STRING);
 				}
 				break;
 			case ID:
 				{
-				setState(335); ((NoderefContext)_localctx).nodeid = match(ID);
+				setState(493); ((NoderefContext)_localctx).nodeid = match(ID);
 				}
 				break;
 			default:
@@ -2187,8 +3164,8 @@ public class ContactParser extends Parser {
 	public static class LoadscriptContext extends ParserRuleContext {
 		public Token filename;
 		public TerminalNode SCRIPT() { return getToken(ContactParser.SCRIPT, 0); }
-		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
 		public TerminalNode LOAD() { return getToken(ContactParser.LOAD, 0); }
+		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
 		public LoadscriptContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2205,13 +3182,64 @@ public class ContactParser extends Parser {
 
 	public final LoadscriptContext loadscript() throws RecognitionException {
 		LoadscriptContext _localctx = new LoadscriptContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_loadscript);
+		enterRule(_localctx, 92, RULE_loadscript);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(496); match(LOAD);
+			setState(497); match(SCRIPT);
+			setState(498); ((LoadscriptContext)_localctx).filename = match(STRING);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LoadpluginContext extends ParserRuleContext {
+		public Token classname;
+		public TerminalNode LOAD() { return getToken(ContactParser.LOAD, 0); }
+		public TerminalNode PLUGIN() { return getToken(ContactParser.PLUGIN, 0); }
+		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public TerminalNode REPLACE() { return getToken(ContactParser.REPLACE, 0); }
+		public LoadpluginContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_loadplugin; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterLoadplugin(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitLoadplugin(this);
+		}
+	}
+
+	public final LoadpluginContext loadplugin() throws RecognitionException {
+		LoadpluginContext _localctx = new LoadpluginContext(_ctx, getState());
+		enterRule(_localctx, 94, RULE_loadplugin);
+		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(338); match(LOAD);
-			setState(339); match(SCRIPT);
-			setState(340); ((LoadscriptContext)_localctx).filename = match(STRING);
+			setState(500); match(LOAD);
+			setState(501); match(PLUGIN);
+			setState(502); ((LoadpluginContext)_localctx).classname = match(STRING);
+			setState(504);
+			_la = _input.LA(1);
+			if (_la==REPLACE) {
+				{
+				setState(503); match(REPLACE);
+				}
+			}
+
 			}
 		}
 		catch (RecognitionException re) {
@@ -2228,8 +3256,8 @@ public class ContactParser extends Parser {
 	public static class ScriptContext extends ParserRuleContext {
 		public Token content;
 		public TerminalNode SCRIPT() { return getToken(ContactParser.SCRIPT, 0); }
-		public TerminalNode DATA_CONTENT() { return getToken(ContactParser.DATA_CONTENT, 0); }
 		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public TerminalNode DATA_CONTENT() { return getToken(ContactParser.DATA_CONTENT, 0); }
 		public ScriptContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2246,13 +3274,13 @@ public class ContactParser extends Parser {
 
 	public final ScriptContext script() throws RecognitionException {
 		ScriptContext _localctx = new ScriptContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_script);
+		enterRule(_localctx, 96, RULE_script);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(342); match(SCRIPT);
-			setState(343);
+			setState(506); match(SCRIPT);
+			setState(507);
 			((ScriptContext)_localctx).content = _input.LT(1);
 			_la = _input.LA(1);
 			if ( !(_la==STRING || _la==DATA_CONTENT) ) {
@@ -2274,9 +3302,11 @@ public class ContactParser extends Parser {
 
 	public static class PairContext extends ParserRuleContext {
 		public Token name;
-		public Token id;
+		public IdentifierContext id;
+		public IdentifierContext identifier() {
+			return getRuleContext(IdentifierContext.class,0);
+		}
 		public TerminalNode EQUALS() { return getToken(ContactParser.EQUALS, 0); }
-		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
 		public PairValueContext pairValue() {
 			return getRuleContext(PairValueContext.class,0);
 		}
@@ -2297,27 +3327,38 @@ public class ContactParser extends Parser {
 
 	public final PairContext pair() throws RecognitionException {
 		PairContext _localctx = new PairContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_pair);
+		enterRule(_localctx, 98, RULE_pair);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(347);
+			setState(511);
 			switch (_input.LA(1)) {
 			case STRING:
 				{
-				setState(345); ((PairContext)_localctx).name = match(STRING);
+				setState(509); ((PairContext)_localctx).name = match(STRING);
 				}
 				break;
+			case ASYNC:
+			case AWAIT:
+			case EXECUTOR:
+			case LIMITS:
+			case ENGINE:
+			case PLUGIN:
+			case PREPARE:
+			case EXECUTE:
+			case FOR:
+			case IN:
+			case PARALLEL:
 			case ID:
 				{
-				setState(346); ((PairContext)_localctx).id = match(ID);
+				setState(510); ((PairContext)_localctx).id = identifier();
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(349); match(EQUALS);
-			setState(350); pairValue();
+			setState(513); match(EQUALS);
+			setState(514); pairValue();
 			}
 		}
 		catch (RecognitionException re) {
@@ -2355,19 +3396,6 @@ public class ContactParser extends Parser {
 			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitPairStringValue(this);
 		}
 	}
-	public static class PairIntValueContext extends PairValueContext {
-		public Token intValue;
-		public TerminalNode INT() { return getToken(ContactParser.INT, 0); }
-		public PairIntValueContext(PairValueContext ctx) { copyFrom(ctx); }
-		@Override
-		public void enterRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterPairIntValue(this);
-		}
-		@Override
-		public void exitRule(ParseTreeListener listener) {
-			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitPairIntValue(this);
-		}
-	}
 	public static class PairBoolValueContext extends PairValueContext {
 		public BoolContext boolValue;
 		public BoolContext bool() {
@@ -2383,25 +3411,38 @@ public class ContactParser extends Parser {
 			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitPairBoolValue(this);
 		}
 	}
+	public static class PairIntValueContext extends PairValueContext {
+		public Token intValue;
+		public TerminalNode INT() { return getToken(ContactParser.INT, 0); }
+		public PairIntValueContext(PairValueContext ctx) { copyFrom(ctx); }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterPairIntValue(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitPairIntValue(this);
+		}
+	}
 
 	public final PairValueContext pairValue() throws RecognitionException {
 		PairValueContext _localctx = new PairValueContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_pairValue);
+		enterRule(_localctx, 100, RULE_pairValue);
 		try {
-			setState(355);
+			setState(519);
 			switch (_input.LA(1)) {
 			case STRING:
 				_localctx = new PairStringValueContext(_localctx);
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(352); ((PairStringValueContext)_localctx).stringValue = match(STRING);
+				setState(516); ((PairStringValueContext)_localctx).stringValue = match(STRING);
 				}
 				break;
 			case INT:
 				_localctx = new PairIntValueContext(_localctx);
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(353); ((PairIntValueContext)_localctx).intValue = match(INT);
+				setState(517); ((PairIntValueContext)_localctx).intValue = match(INT);
 				}
 				break;
 			case TRUE:
@@ -2409,7 +3450,7 @@ public class ContactParser extends Parser {
 				_localctx = new PairBoolValueContext(_localctx);
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(354); ((PairBoolValueContext)_localctx).boolValue = bool();
+				setState(518); ((PairBoolValueContext)_localctx).boolValue = bool();
 				}
 				break;
 			default:
@@ -2429,8 +3470,8 @@ public class ContactParser extends Parser {
 
 	public static class Code_stringContext extends ParserRuleContext {
 		public TerminalNode JAVASCRIPT() { return getToken(ContactParser.JAVASCRIPT, 0); }
-		public TerminalNode DATA_CONTENT() { return getToken(ContactParser.DATA_CONTENT, 0); }
 		public TerminalNode STRING() { return getToken(ContactParser.STRING, 0); }
+		public TerminalNode DATA_CONTENT() { return getToken(ContactParser.DATA_CONTENT, 0); }
 		public Code_stringContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2447,13 +3488,13 @@ public class ContactParser extends Parser {
 
 	public final Code_stringContext code_string() throws RecognitionException {
 		Code_stringContext _localctx = new Code_stringContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_code_string);
+		enterRule(_localctx, 102, RULE_code_string);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(357); match(JAVASCRIPT);
-			setState(358);
+			setState(521); match(JAVASCRIPT);
+			setState(522);
 			_la = _input.LA(1);
 			if ( !(_la==STRING || _la==DATA_CONTENT) ) {
 			_errHandler.recoverInline(this);
@@ -2473,8 +3514,8 @@ public class ContactParser extends Parser {
 	}
 
 	public static class BoolContext extends ParserRuleContext {
-		public TerminalNode FALSE() { return getToken(ContactParser.FALSE, 0); }
 		public TerminalNode TRUE() { return getToken(ContactParser.TRUE, 0); }
+		public TerminalNode FALSE() { return getToken(ContactParser.FALSE, 0); }
 		public BoolContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -2491,12 +3532,12 @@ public class ContactParser extends Parser {
 
 	public final BoolContext bool() throws RecognitionException {
 		BoolContext _localctx = new BoolContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_bool);
+		enterRule(_localctx, 104, RULE_bool);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(360);
+			setState(524);
 			_la = _input.LA(1);
 			if ( !(_la==TRUE || _la==FALSE) ) {
 			_errHandler.recoverInline(this);
@@ -2515,129 +3556,252 @@ public class ContactParser extends Parser {
 		return _localctx;
 	}
 
+	public static class IdentifierContext extends ParserRuleContext {
+		public TerminalNode LIMITS() { return getToken(ContactParser.LIMITS, 0); }
+		public TerminalNode EXECUTE() { return getToken(ContactParser.EXECUTE, 0); }
+		public TerminalNode IN() { return getToken(ContactParser.IN, 0); }
+		public TerminalNode PREPARE() { return getToken(ContactParser.PREPARE, 0); }
+		public TerminalNode ASYNC() { return getToken(ContactParser.ASYNC, 0); }
+		public TerminalNode EXECUTOR() { return getToken(ContactParser.EXECUTOR, 0); }
+		public TerminalNode ENGINE() { return getToken(ContactParser.ENGINE, 0); }
+		public TerminalNode FOR() { return getToken(ContactParser.FOR, 0); }
+		public TerminalNode PLUGIN() { return getToken(ContactParser.PLUGIN, 0); }
+		public TerminalNode AWAIT() { return getToken(ContactParser.AWAIT, 0); }
+		public TerminalNode ID() { return getToken(ContactParser.ID, 0); }
+		public TerminalNode PARALLEL() { return getToken(ContactParser.PARALLEL, 0); }
+		public IdentifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_identifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).enterIdentifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ContactListener ) ((ContactListener)listener).exitIdentifier(this);
+		}
+	}
+
+	public final IdentifierContext identifier() throws RecognitionException {
+		IdentifierContext _localctx = new IdentifierContext(_ctx, getState());
+		enterRule(_localctx, 106, RULE_identifier);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(526);
+			_la = _input.LA(1);
+			if ( !(((((_la - 46)) & ~0x3f) == 0 && ((1L << (_la - 46)) & ((1L << (ASYNC - 46)) | (1L << (AWAIT - 46)) | (1L << (EXECUTOR - 46)) | (1L << (LIMITS - 46)) | (1L << (ENGINE - 46)) | (1L << (PLUGIN - 46)) | (1L << (PREPARE - 46)) | (1L << (EXECUTE - 46)) | (1L << (FOR - 46)) | (1L << (IN - 46)) | (1L << (PARALLEL - 46)) | (1L << (ID - 46)))) != 0)) ) {
+			_errHandler.recoverInline(this);
+			}
+			consume();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static final String _serializedATN =
-		"\2\3L\u016d\4\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4"+
+		"\2\3\\\u0213\4\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4"+
 		"\t\t\t\4\n\t\n\4\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20"+
 		"\4\21\t\21\4\22\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27"+
 		"\4\30\t\30\4\31\t\31\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36"+
 		"\4\37\t\37\4 \t \4!\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4"+
-		")\t)\4*\t*\4+\t+\4,\t,\3\2\7\2Z\n\2\f\2\16\2]\13\2\3\2\3\2\3\3\5\3b\n"+
-		"\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3\5\3k\n\3\3\3\5\3n\n\3\3\3\3\3\3\4\3\4\3"+
-		"\4\3\5\3\5\3\5\3\5\5\5y\n\5\3\6\3\6\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3"+
-		"\b\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3\n\3\n\3\n\5\n\u0090\n\n\3\n\5\n\u0093"+
-		"\n\n\3\13\3\13\3\13\3\13\5\13\u0099\n\13\3\f\3\f\3\f\3\r\3\r\3\r\3\16"+
-		"\3\16\3\16\3\17\3\17\3\17\7\17\u00a7\n\17\f\17\16\17\u00aa\13\17\3\20"+
-		"\3\20\5\20\u00ae\n\20\3\20\3\20\3\21\3\21\3\21\3\22\3\22\3\22\7\22\u00b8"+
-		"\n\22\f\22\16\22\u00bb\13\22\3\23\3\23\3\23\5\23\u00c0\n\23\3\23\3\23"+
-		"\3\23\3\23\3\24\3\24\3\25\3\25\3\25\3\25\7\25\u00cc\n\25\f\25\16\25\u00cf"+
-		"\13\25\3\26\3\26\3\26\3\26\5\26\u00d5\n\26\3\26\3\26\3\27\3\27\3\27\3"+
-		"\27\3\30\3\30\3\30\3\31\3\31\3\31\5\31\u00e3\n\31\3\31\3\31\3\31\3\31"+
-		"\3\31\3\31\3\31\3\31\3\31\3\31\3\31\5\31\u00f0\n\31\3\32\3\32\3\32\3\32"+
-		"\5\32\u00f6\n\32\3\32\3\32\5\32\u00fa\n\32\3\33\3\33\3\33\3\33\3\33\5"+
-		"\33\u0101\n\33\3\33\3\33\3\33\3\33\3\33\5\33\u0108\n\33\3\33\3\33\3\33"+
-		"\3\33\3\33\5\33\u010f\n\33\3\33\3\33\3\33\3\33\3\33\5\33\u0116\n\33\3"+
-		"\33\3\33\3\33\3\33\5\33\u011c\n\33\3\34\3\34\5\34\u0120\n\34\3\35\3\35"+
-		"\3\35\3\36\3\36\3\36\3\36\3\37\3\37\3\37\3\37\5\37\u012d\n\37\3\37\3\37"+
-		"\5\37\u0131\n\37\3\37\3\37\5\37\u0135\n\37\3\37\3\37\5\37\u0139\n\37\3"+
-		" \3 \3 \3!\3!\3!\3!\3!\3\"\3\"\3\"\5\"\u0146\n\"\3#\3#\3#\3$\3$\3$\3%"+
-		"\3%\3%\3&\3&\5&\u0153\n&\3\'\3\'\3\'\3\'\3(\3(\3(\3)\3)\5)\u015e\n)\3"+
-		")\3)\3)\3*\3*\3*\5*\u0166\n*\3+\3+\3+\3,\3,\3,\2-\2\4\6\b\n\f\16\20\22"+
-		"\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTV\2\7\3\21\22\3"+
-		"HI\3HI\3HI\3\"#\u0171\2[\3\2\2\2\4a\3\2\2\2\6q\3\2\2\2\bx\3\2\2\2\nz\3"+
-		"\2\2\2\f|\3\2\2\2\16\u0080\3\2\2\2\20\u0085\3\2\2\2\22\u008f\3\2\2\2\24"+
-		"\u0094\3\2\2\2\26\u009a\3\2\2\2\30\u009d\3\2\2\2\32\u00a0\3\2\2\2\34\u00a3"+
-		"\3\2\2\2\36\u00ab\3\2\2\2 \u00b1\3\2\2\2\"\u00b4\3\2\2\2$\u00bc\3\2\2"+
-		"\2&\u00c5\3\2\2\2(\u00cd\3\2\2\2*\u00d4\3\2\2\2,\u00d8\3\2\2\2.\u00dc"+
-		"\3\2\2\2\60\u00df\3\2\2\2\62\u00f1\3\2\2\2\64\u0100\3\2\2\2\66\u011f\3"+
-		"\2\2\28\u0121\3\2\2\2:\u0124\3\2\2\2<\u0128\3\2\2\2>\u013a\3\2\2\2@\u013d"+
-		"\3\2\2\2B\u0142\3\2\2\2D\u0147\3\2\2\2F\u014a\3\2\2\2H\u014d\3\2\2\2J"+
-		"\u0152\3\2\2\2L\u0154\3\2\2\2N\u0158\3\2\2\2P\u015d\3\2\2\2R\u0165\3\2"+
-		"\2\2T\u0167\3\2\2\2V\u016a\3\2\2\2XZ\5\4\3\2YX\3\2\2\2Z]\3\2\2\2[Y\3\2"+
-		"\2\2[\\\3\2\2\2\\^\3\2\2\2][\3\2\2\2^_\7\1\2\2_\3\3\2\2\2`b\5\f\7\2a`"+
-		"\3\2\2\2ab\3\2\2\2bj\3\2\2\2ck\5<\37\2dk\5\62\32\2ek\5\16\b\2fk\5\22\n"+
-		"\2gk\5\26\f\2hk\5\b\5\2ik\5\n\6\2jc\3\2\2\2jd\3\2\2\2je\3\2\2\2jf\3\2"+
-		"\2\2jg\3\2\2\2jh\3\2\2\2ji\3\2\2\2km\3\2\2\2ln\5\6\4\2ml\3\2\2\2mn\3\2"+
-		"\2\2no\3\2\2\2op\7D\2\2p\5\3\2\2\2qr\7:\2\2rs\5F$\2s\7\3\2\2\2ty\5B\""+
-		"\2uy\5> \2vy\5L\'\2wy\5N(\2xt\3\2\2\2xu\3\2\2\2xv\3\2\2\2xw\3\2\2\2y\t"+
-		"\3\2\2\2z{\7\r\2\2{\13\3\2\2\2|}\7\3\2\2}~\7E\2\2~\177\7B\2\2\177\r\3"+
-		"\2\2\2\u0080\u0081\7\20\2\2\u0081\u0082\7\23\2\2\u0082\u0083\7H\2\2\u0083"+
-		"\u0084\5\22\n\2\u0084\17\3\2\2\2\u0085\u0086\t\2\2\2\u0086\21\3\2\2\2"+
-		"\u0087\u0090\5\36\20\2\u0088\u0090\5$\23\2\u0089\u0090\5.\30\2\u008a\u0090"+
-		"\5\60\31\2\u008b\u0090\5\30\r\2\u008c\u0090\5\32\16\2\u008d\u0090\5\66"+
-		"\34\2\u008e\u0090\5&\24\2\u008f\u0087\3\2\2\2\u008f\u0088\3\2\2\2\u008f"+
-		"\u0089\3\2\2\2\u008f\u008a\3\2\2\2\u008f\u008b\3\2\2\2\u008f\u008c\3\2"+
-		"\2\2\u008f\u008d\3\2\2\2\u008f\u008e\3\2\2\2\u0090\u0092\3\2\2\2\u0091"+
-		"\u0093\5\24\13\2\u0092\u0091\3\2\2\2\u0092\u0093\3\2\2\2\u0093\23\3\2"+
-		"\2\2\u0094\u0095\5\20\t\2\u0095\u0098\7\24\2\2\u0096\u0099\5\34\17\2\u0097"+
-		"\u0099\7E\2\2\u0098\u0096\3\2\2\2\u0098\u0097\3\2\2\2\u0099\25\3\2\2\2"+
-		"\u009a\u009b\7\37\2\2\u009b\u009c\7 \2\2\u009c\27\3\2\2\2\u009d\u009e"+
-		"\7\37\2\2\u009e\u009f\7!\2\2\u009f\31\3\2\2\2\u00a0\u00a1\7\26\2\2\u00a1"+
-		"\u00a2\7!\2\2\u00a2\33\3\2\2\2\u00a3\u00a8\5P)\2\u00a4\u00a5\7=\2\2\u00a5"+
-		"\u00a7\5P)\2\u00a6\u00a4\3\2\2\2\u00a7\u00aa\3\2\2\2\u00a8\u00a6\3\2\2"+
-		"\2\u00a8\u00a9\3\2\2\2\u00a9\35\3\2\2\2\u00aa\u00a8\3\2\2\2\u00ab\u00ad"+
-		"\7\6\2\2\u00ac\u00ae\5 \21\2\u00ad\u00ac\3\2\2\2\u00ad\u00ae\3\2\2\2\u00ae"+
-		"\u00af\3\2\2\2\u00af\u00b0\7H\2\2\u00b0\37\3\2\2\2\u00b1\u00b2\5\"\22"+
-		"\2\u00b2\u00b3\5\20\t\2\u00b3!\3\2\2\2\u00b4\u00b9\7E\2\2\u00b5\u00b6"+
-		"\7=\2\2\u00b6\u00b8\7E\2\2\u00b7\u00b5\3\2\2\2\u00b8\u00bb\3\2\2\2\u00b9"+
-		"\u00b7\3\2\2\2\u00b9\u00ba\3\2\2\2\u00ba#\3\2\2\2\u00bb\u00b9\3\2\2\2"+
-		"\u00bc\u00bf\7\7\2\2\u00bd\u00c0\7H\2\2\u00be\u00c0\7E\2\2\u00bf\u00bd"+
-		"\3\2\2\2\u00bf\u00be\3\2\2\2\u00c0\u00c1\3\2\2\2\u00c1\u00c2\5(\25\2\u00c2"+
-		"\u00c3\5\20\t\2\u00c3\u00c4\5*\26\2\u00c4%\3\2\2\2\u00c5\u00c6\7\b\2\2"+
-		"\u00c6\'\3\2\2\2\u00c7\u00c8\5\20\t\2\u00c8\u00c9\7\30\2\2\u00c9\u00ca"+
-		"\5P)\2\u00ca\u00cc\3\2\2\2\u00cb\u00c7\3\2\2\2\u00cc\u00cf\3\2\2\2\u00cd"+
-		"\u00cb\3\2\2\2\u00cd\u00ce\3\2\2\2\u00ce)\3\2\2\2\u00cf\u00cd\3\2\2\2"+
-		"\u00d0\u00d5\7*\2\2\u00d1\u00d5\7)\2\2\u00d2\u00d5\7+\2\2\u00d3\u00d5"+
-		"\5,\27\2\u00d4\u00d0\3\2\2\2\u00d4\u00d1\3\2\2\2\u00d4\u00d2\3\2\2\2\u00d4"+
-		"\u00d3\3\2\2\2\u00d5\u00d6\3\2\2\2\u00d6\u00d7\t\3\2\2\u00d7+\3\2\2\2"+
-		"\u00d8\u00d9\7\13\2\2\u00d9\u00da\7H\2\2\u00da\u00db\7\22\2\2\u00db-\3"+
-		"\2\2\2\u00dc\u00dd\7\t\2\2\u00dd\u00de\7H\2\2\u00de/\3\2\2\2\u00df\u00e2"+
-		"\7\25\2\2\u00e0\u00e1\7\22\2\2\u00e1\u00e3\7\6\2\2\u00e2\u00e0\3\2\2\2"+
-		"\u00e2\u00e3\3\2\2\2\u00e3\u00e4\3\2\2\2\u00e4\u00e5\5\20\t\2\u00e5\u00e6"+
-		"\7\30\2\2\u00e6\u00ef\7H\2\2\u00e7\u00e8\5\20\t\2\u00e8\u00e9\7\n\2\2"+
-		"\u00e9\u00ea\7H\2\2\u00ea\u00f0\3\2\2\2\u00eb\u00ec\7\27\2\2\u00ec\u00ed"+
-		"\7H\2\2\u00ed\u00ee\7\31\2\2\u00ee\u00f0\7H\2\2\u00ef\u00e7\3\2\2\2\u00ef"+
-		"\u00eb\3\2\2\2\u00f0\61\3\2\2\2\u00f1\u00f9\7\17\2\2\u00f2\u00f3\7\23"+
-		"\2\2\u00f3\u00f5\7H\2\2\u00f4\u00f6\5\64\33\2\u00f5\u00f4\3\2\2\2\u00f5"+
-		"\u00f6\3\2\2\2\u00f6\u00fa\3\2\2\2\u00f7\u00f8\7\f\2\2\u00f8\u00fa\7E"+
-		"\2\2\u00f9\u00f2\3\2\2\2\u00f9\u00f7\3\2\2\2\u00fa\63\3\2\2\2\u00fb\u00fc"+
-		"\5\20\t\2\u00fc\u00fd\7\6\2\2\u00fd\u00fe\7\24\2\2\u00fe\u00ff\5\34\17"+
-		"\2\u00ff\u0101\3\2\2\2\u0100\u00fb\3\2\2\2\u0100\u0101\3\2\2\2\u0101\u0107"+
-		"\3\2\2\2\u0102\u0103\5\20\t\2\u0103\u0104\7\7\2\2\u0104\u0105\7\24\2\2"+
-		"\u0105\u0106\5\34\17\2\u0106\u0108\3\2\2\2\u0107\u0102\3\2\2\2\u0107\u0108"+
-		"\3\2\2\2\u0108\u010e\3\2\2\2\u0109\u010a\5\20\t\2\u010a\u010b\7\t\2\2"+
-		"\u010b\u010c\7\24\2\2\u010c\u010d\5\34\17\2\u010d\u010f\3\2\2\2\u010e"+
-		"\u0109\3\2\2\2\u010e\u010f\3\2\2\2\u010f\u0115\3\2\2\2\u0110\u0111\5\20"+
-		"\t\2\u0111\u0112\7\25\2\2\u0112\u0113\7\24\2\2\u0113\u0114\5\34\17\2\u0114"+
-		"\u0116\3\2\2\2\u0115\u0110\3\2\2\2\u0115\u0116\3\2\2\2\u0116\u011b\3\2"+
-		"\2\2\u0117\u0118\5\20\t\2\u0118\u0119\7\34\2\2\u0119\u011a\5T+\2\u011a"+
-		"\u011c\3\2\2\2\u011b\u0117\3\2\2\2\u011b\u011c\3\2\2\2\u011c\65\3\2\2"+
-		"\2\u011d\u0120\58\35\2\u011e\u0120\5:\36\2\u011f\u011d\3\2\2\2\u011f\u011e"+
-		"\3\2\2\2\u0120\67\3\2\2\2\u0121\u0122\7&\2\2\u0122\u0123\7\33\2\2\u0123"+
-		"9\3\2\2\2\u0124\u0125\7%\2\2\u0125\u0126\7\33\2\2\u0126\u0127\5\34\17"+
-		"\2\u0127;\3\2\2\2\u0128\u0129\7\16\2\2\u0129\u012c\7H\2\2\u012a\u012b"+
-		"\7\4\2\2\u012b\u012d\7F\2\2\u012c\u012a\3\2\2\2\u012c\u012d\3\2\2\2\u012d"+
-		"\u0130\3\2\2\2\u012e\u012f\7\5\2\2\u012f\u0131\7F\2\2\u0130\u012e\3\2"+
-		"\2\2\u0130\u0131\3\2\2\2\u0131\u0134\3\2\2\2\u0132\u0133\7,\2\2\u0133"+
-		"\u0135\7H\2\2\u0134\u0132\3\2\2\2\u0134\u0135\3\2\2\2\u0135\u0138\3\2"+
-		"\2\2\u0136\u0137\7(\2\2\u0137\u0139\5F$\2\u0138\u0136\3\2\2\2\u0138\u0139"+
-		"\3\2\2\2\u0139=\3\2\2\2\u013a\u013b\7%\2\2\u013b\u013c\5@!\2\u013c?\3"+
-		"\2\2\2\u013d\u013e\7\'\2\2\u013e\u013f\7E\2\2\u013f\u0140\7\21\2\2\u0140"+
-		"\u0141\5T+\2\u0141A\3\2\2\2\u0142\u0145\7&\2\2\u0143\u0146\5D#\2\u0144"+
-		"\u0146\7\23\2\2\u0145\u0143\3\2\2\2\u0145\u0144\3\2\2\2\u0146C\3\2\2\2"+
-		"\u0147\u0148\7\'\2\2\u0148\u0149\7E\2\2\u0149E\3\2\2\2\u014a\u014b\7;"+
-		"\2\2\u014b\u014c\7E\2\2\u014cG\3\2\2\2\u014d\u014e\7<\2\2\u014e\u014f"+
-		"\7E\2\2\u014fI\3\2\2\2\u0150\u0153\7H\2\2\u0151\u0153\7E\2\2\u0152\u0150"+
-		"\3\2\2\2\u0152\u0151\3\2\2\2\u0153K\3\2\2\2\u0154\u0155\7\35\2\2\u0155"+
-		"\u0156\7\36\2\2\u0156\u0157\7H\2\2\u0157M\3\2\2\2\u0158\u0159\7\36\2\2"+
-		"\u0159\u015a\t\4\2\2\u015aO\3\2\2\2\u015b\u015e\7H\2\2\u015c\u015e\7E"+
-		"\2\2\u015d\u015b\3\2\2\2\u015d\u015c\3\2\2\2\u015e\u015f\3\2\2\2\u015f"+
-		"\u0160\7B\2\2\u0160\u0161\5R*\2\u0161Q\3\2\2\2\u0162\u0166\7H\2\2\u0163"+
-		"\u0166\7F\2\2\u0164\u0166\5V,\2\u0165\u0162\3\2\2\2\u0165\u0163\3\2\2"+
-		"\2\u0165\u0164\3\2\2\2\u0166S\3\2\2\2\u0167\u0168\7\32\2\2\u0168\u0169"+
-		"\t\5\2\2\u0169U\3\2\2\2\u016a\u016b\t\6\2\2\u016bW\3\2\2\2\"[ajmx\u008f"+
-		"\u0092\u0098\u00a8\u00ad\u00b9\u00bf\u00cd\u00d4\u00e2\u00ef\u00f5\u00f9"+
-		"\u0100\u0107\u010e\u0115\u011b\u011f\u012c\u0130\u0134\u0138\u0145\u0152"+
-		"\u015d\u0165";
+		")\t)\4*\t*\4+\t+\4,\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62"+
+		"\4\63\t\63\4\64\t\64\4\65\t\65\4\66\t\66\4\67\t\67\3\2\3\2\6\2q\n\2\r"+
+		"\2\16\2r\3\2\3\2\3\3\5\3x\n\3\3\3\5\3{\n\3\3\3\3\3\3\3\3\3\3\3\3\3\3\3"+
+		"\3\3\3\3\3\3\5\3\u0087\n\3\3\3\5\3\u008a\n\3\3\3\3\3\3\4\3\4\3\4\3\5\3"+
+		"\5\3\5\3\5\3\5\5\5\u0096\n\5\3\6\3\6\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\7"+
+		"\b\u00a2\n\b\f\b\16\b\u00a5\13\b\5\b\u00a7\n\b\3\t\3\t\3\t\3\t\3\t\5\t"+
+		"\u00ae\n\t\3\n\3\n\3\n\3\n\3\n\3\n\7\n\u00b6\n\n\f\n\16\n\u00b9\13\n\3"+
+		"\n\3\n\3\n\3\n\5\n\u00bf\n\n\5\n\u00c1\n\n\3\13\3\13\3\13\3\13\3\13\3"+
+		"\13\3\13\3\13\5\13\u00cb\n\13\3\13\3\13\5\13\u00cf\n\13\3\13\3\13\3\13"+
+		"\6\13\u00d4\n\13\r\13\16\13\u00d5\3\13\3\13\5\13\u00da\n\13\3\f\3\f\3"+
+		"\f\7\f\u00df\n\f\f\f\16\f\u00e2\13\f\3\r\3\r\3\r\3\r\5\r\u00e8\n\r\3\16"+
+		"\3\16\3\16\3\16\3\16\3\17\3\17\3\20\3\20\3\20\3\20\3\20\3\20\3\20\3\20"+
+		"\5\20\u00f9\n\20\3\20\5\20\u00fc\n\20\3\21\3\21\3\21\3\21\5\21\u0102\n"+
+		"\21\3\22\3\22\3\22\3\23\3\23\3\23\3\24\3\24\3\24\3\25\3\25\3\25\7\25\u0110"+
+		"\n\25\f\25\16\25\u0113\13\25\3\26\3\26\5\26\u0117\n\26\3\26\3\26\3\26"+
+		"\3\26\3\26\7\26\u011e\n\26\f\26\16\26\u0121\13\26\3\26\3\26\3\26\3\26"+
+		"\3\26\5\26\u0128\n\26\3\27\3\27\3\27\3\30\3\30\3\30\7\30\u0130\n\30\f"+
+		"\30\16\30\u0133\13\30\3\31\3\31\3\31\5\31\u0138\n\31\3\31\3\31\3\31\3"+
+		"\31\3\32\3\32\3\33\3\33\3\33\3\33\7\33\u0144\n\33\f\33\16\33\u0147\13"+
+		"\33\3\34\3\34\3\34\3\34\5\34\u014d\n\34\3\34\3\34\5\34\u0151\n\34\3\35"+
+		"\3\35\3\35\3\35\3\36\3\36\3\36\3\37\3\37\3\37\5\37\u015d\n\37\3\37\3\37"+
+		"\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\5\37\u016b\n\37\3 "+
+		"\3 \3 \3 \5 \u0171\n \3 \3 \5 \u0175\n \3!\3!\3!\3!\3!\5!\u017c\n!\3!"+
+		"\3!\3!\3!\3!\5!\u0183\n!\3!\3!\3!\3!\3!\5!\u018a\n!\3!\3!\3!\3!\3!\5!"+
+		"\u0191\n!\3!\3!\3!\3!\5!\u0197\n!\5!\u0199\n!\3\"\3\"\5\"\u019d\n\"\3"+
+		"#\3#\3#\3$\3$\3$\3$\3%\3%\3%\3%\7%\u01aa\n%\f%\16%\u01ad\13%\3%\3%\5%"+
+		"\u01b1\n%\3%\3%\5%\u01b5\n%\3%\3%\5%\u01b9\n%\3%\3%\3%\3%\5%\u01bf\n%"+
+		"\3%\3%\5%\u01c3\n%\3&\3&\3&\3&\3&\5&\u01ca\n&\3\'\3\'\3\'\3\'\3\'\3(\3"+
+		"(\3(\3)\3)\3)\3)\3*\3*\3*\3*\3+\3+\3+\3+\3+\3+\3+\3+\5+\u01e4\n+\3,\3"+
+		",\3,\3-\3-\3-\3.\3.\3.\3/\3/\5/\u01f1\n/\3\60\3\60\3\60\3\60\3\61\3\61"+
+		"\3\61\3\61\5\61\u01fb\n\61\3\62\3\62\3\62\3\63\3\63\5\63\u0202\n\63\3"+
+		"\63\3\63\3\63\3\64\3\64\3\64\5\64\u020a\n\64\3\65\3\65\3\65\3\66\3\66"+
+		"\3\67\3\67\3\67\28\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60"+
+		"\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjl\2\7\3\21\22\3XY\3XY\3\"#\4\60:U"+
+		"U\u022f\2p\3\2\2\2\4w\3\2\2\2\6\u008d\3\2\2\2\b\u0095\3\2\2\2\n\u0097"+
+		"\3\2\2\2\f\u0099\3\2\2\2\16\u009d\3\2\2\2\20\u00a8\3\2\2\2\22\u00af\3"+
+		"\2\2\2\24\u00c2\3\2\2\2\26\u00db\3\2\2\2\30\u00e7\3\2\2\2\32\u00e9\3\2"+
+		"\2\2\34\u00ee\3\2\2\2\36\u00f8\3\2\2\2 \u00fd\3\2\2\2\"\u0103\3\2\2\2"+
+		"$\u0106\3\2\2\2&\u0109\3\2\2\2(\u010c\3\2\2\2*\u0114\3\2\2\2,\u0129\3"+
+		"\2\2\2.\u012c\3\2\2\2\60\u0134\3\2\2\2\62\u013d\3\2\2\2\64\u0145\3\2\2"+
+		"\2\66\u014c\3\2\2\28\u0152\3\2\2\2:\u0156\3\2\2\2<\u0159\3\2\2\2>\u016c"+
+		"\3\2\2\2@\u017b\3\2\2\2B\u019c\3\2\2\2D\u019e\3\2\2\2F\u01a1\3\2\2\2H"+
+		"\u01a5\3\2\2\2J\u01c4\3\2\2\2L\u01cb\3\2\2\2N\u01d0\3\2\2\2P\u01d3\3\2"+
+		"\2\2R\u01d7\3\2\2\2T\u01db\3\2\2\2V\u01e5\3\2\2\2X\u01e8\3\2\2\2Z\u01eb"+
+		"\3\2\2\2\\\u01f0\3\2\2\2^\u01f2\3\2\2\2`\u01f6\3\2\2\2b\u01fc\3\2\2\2"+
+		"d\u0201\3\2\2\2f\u0209\3\2\2\2h\u020b\3\2\2\2j\u020e\3\2\2\2l\u0210\3"+
+		"\2\2\2nq\5\4\3\2oq\5\24\13\2pn\3\2\2\2po\3\2\2\2qr\3\2\2\2rp\3\2\2\2r"+
+		"s\3\2\2\2st\3\2\2\2tu\7\1\2\2u\3\3\2\2\2vx\5\f\7\2wv\3\2\2\2wx\3\2\2\2"+
+		"xz\3\2\2\2y{\7\60\2\2zy\3\2\2\2z{\3\2\2\2{\u0086\3\2\2\2|\u0087\5H%\2"+
+		"}\u0087\5> \2~\u0087\5\32\16\2\177\u0087\5\36\20\2\u0080\u0087\5\"\22"+
+		"\2\u0081\u0087\5\b\5\2\u0082\u0087\5\n\6\2\u0083\u0087\5\16\b\2\u0084"+
+		"\u0087\5\20\t\2\u0085\u0087\5\22\n\2\u0086|\3\2\2\2\u0086}\3\2\2\2\u0086"+
+		"~\3\2\2\2\u0086\177\3\2\2\2\u0086\u0080\3\2\2\2\u0086\u0081\3\2\2\2\u0086"+
+		"\u0082\3\2\2\2\u0086\u0083\3\2\2\2\u0086\u0084\3\2\2\2\u0086\u0085\3\2"+
+		"\2\2\u0087\u0089\3\2\2\2\u0088\u008a\5\6\4\2\u0089\u0088\3\2\2\2\u0089"+
+		"\u008a\3\2\2\2\u008a\u008b\3\2\2\2\u008b\u008c\7O\2\2\u008c\5\3\2\2\2"+
+		"\u008d\u008e\7E\2\2\u008e\u008f\5X-\2\u008f\7\3\2\2\2\u0090\u0096\5T+"+
+		"\2\u0091\u0096\5J&\2\u0092\u0096\5^\60\2\u0093\u0096\5`\61\2\u0094\u0096"+
+		"\5b\62\2\u0095\u0090\3\2\2\2\u0095\u0091\3\2\2\2\u0095\u0092\3\2\2\2\u0095"+
+		"\u0093\3\2\2\2\u0095\u0094\3\2\2\2\u0096\t\3\2\2\2\u0097\u0098\7\r\2\2"+
+		"\u0098\13\3\2\2\2\u0099\u009a\7\3\2\2\u009a\u009b\5l\67\2\u009b\u009c"+
+		"\7M\2\2\u009c\r\3\2\2\2\u009d\u00a6\7\61\2\2\u009e\u00a3\5l\67\2\u009f"+
+		"\u00a0\7H\2\2\u00a0\u00a2\5l\67\2\u00a1\u009f\3\2\2\2\u00a2\u00a5\3\2"+
+		"\2\2\u00a3\u00a1\3\2\2\2\u00a3\u00a4\3\2\2\2\u00a4\u00a7\3\2\2\2\u00a5"+
+		"\u00a3\3\2\2\2\u00a6\u009e\3\2\2\2\u00a6\u00a7\3\2\2\2\u00a7\17\3\2\2"+
+		"\2\u00a8\u00a9\7\66\2\2\u00a9\u00aa\5l\67\2\u00aa\u00ad\7M\2\2\u00ab\u00ae"+
+		"\5\36\20\2\u00ac\u00ae\5\32\16\2\u00ad\u00ab\3\2\2\2\u00ad\u00ac\3\2\2"+
+		"\2\u00ae\21\3\2\2\2\u00af\u00b0\7\67\2\2\u00b0\u00c0\5l\67\2\u00b1\u00be"+
+		"\5\34\17\2\u00b2\u00b7\7X\2\2\u00b3\u00b4\7H\2\2\u00b4\u00b6\7X\2\2\u00b5"+
+		"\u00b3\3\2\2\2\u00b6\u00b9\3\2\2\2\u00b7\u00b5\3\2\2\2\u00b7\u00b8\3\2"+
+		"\2\2\u00b8\u00bf\3\2\2\2\u00b9\u00b7\3\2\2\2\u00ba\u00bb\7!\2\2\u00bb"+
+		"\u00bc\7\27\2\2\u00bc\u00bd\7F\2\2\u00bd\u00bf\5l\67\2\u00be\u00b2\3\2"+
+		"\2\2\u00be\u00ba\3\2\2\2\u00bf\u00c1\3\2\2\2\u00c0\u00b1\3\2\2\2\u00c0"+
+		"\u00c1\3\2\2\2\u00c1\23\3\2\2\2\u00c2\u00c3\78\2\2\u00c3\u00c4\5l\67\2"+
+		"\u00c4\u00ca\79\2\2\u00c5\u00c6\7F\2\2\u00c6\u00cb\5l\67\2\u00c7\u00c8"+
+		"\7V\2\2\u00c8\u00c9\7R\2\2\u00c9\u00cb\7V\2\2\u00ca\u00c5\3\2\2\2\u00ca"+
+		"\u00c7\3\2\2\2\u00cb\u00ce\3\2\2\2\u00cc\u00cd\7:\2\2\u00cd\u00cf\7V\2"+
+		"\2\u00ce\u00cc\3\2\2\2\u00ce\u00cf\3\2\2\2\u00cf\u00d0\3\2\2\2\u00d0\u00d3"+
+		"\7S\2\2\u00d1\u00d4\5\4\3\2\u00d2\u00d4\5\24\13\2\u00d3\u00d1\3\2\2\2"+
+		"\u00d3\u00d2\3\2\2\2\u00d4\u00d5\3\2\2\2\u00d5\u00d3\3\2\2\2\u00d5\u00d6"+
+		"\3\2\2\2\u00d6\u00d7\3\2\2\2\u00d7\u00d9\7T\2\2\u00d8\u00da\7O\2\2\u00d9"+
+		"\u00d8\3\2\2\2\u00d9\u00da\3\2\2\2\u00da\25\3\2\2\2\u00db\u00e0\5\30\r"+
+		"\2\u00dc\u00dd\7Q\2\2\u00dd\u00df\5\30\r\2\u00de\u00dc\3\2\2\2\u00df\u00e2"+
+		"\3\2\2\2\u00e0\u00de\3\2\2\2\u00e0\u00e1\3\2\2\2\u00e1\27\3\2\2\2\u00e2"+
+		"\u00e0\3\2\2\2\u00e3\u00e8\7X\2\2\u00e4\u00e8\7P\2\2\u00e5\u00e8\5l\67"+
+		"\2\u00e6\u00e8\7V\2\2\u00e7\u00e3\3\2\2\2\u00e7\u00e4\3\2\2\2\u00e7\u00e5"+
+		"\3\2\2\2\u00e7\u00e6\3\2\2\2\u00e8\31\3\2\2\2\u00e9\u00ea\7\20\2\2\u00ea"+
+		"\u00eb\7\23\2\2\u00eb\u00ec\7X\2\2\u00ec\u00ed\5\36\20\2\u00ed\33\3\2"+
+		"\2\2\u00ee\u00ef\t\2\2\2\u00ef\35\3\2\2\2\u00f0\u00f9\5*\26\2\u00f1\u00f9"+
+		"\5\60\31\2\u00f2\u00f9\5:\36\2\u00f3\u00f9\5<\37\2\u00f4\u00f9\5$\23\2"+
+		"\u00f5\u00f9\5&\24\2\u00f6\u00f9\5B\"\2\u00f7\u00f9\5\62\32\2\u00f8\u00f0"+
+		"\3\2\2\2\u00f8\u00f1\3\2\2\2\u00f8\u00f2\3\2\2\2\u00f8\u00f3\3\2\2\2\u00f8"+
+		"\u00f4\3\2\2\2\u00f8\u00f5\3\2\2\2\u00f8\u00f6\3\2\2\2\u00f8\u00f7\3\2"+
+		"\2\2\u00f9\u00fb\3\2\2\2\u00fa\u00fc\5 \21\2\u00fb\u00fa\3\2\2\2\u00fb"+
+		"\u00fc\3\2\2\2\u00fc\37\3\2\2\2\u00fd\u00fe\5\34\17\2\u00fe\u0101\7\24"+
+		"\2\2\u00ff\u0102\5(\25\2\u0100\u0102\5l\67\2\u0101\u00ff\3\2\2\2\u0101"+
+		"\u0100\3\2\2\2\u0102!\3\2\2\2\u0103\u0104\7\37\2\2\u0104\u0105\7 \2\2"+
+		"\u0105#\3\2\2\2\u0106\u0107\7\37\2\2\u0107\u0108\7!\2\2\u0108%\3\2\2\2"+
+		"\u0109\u010a\7\26\2\2\u010a\u010b\7!\2\2\u010b\'\3\2\2\2\u010c\u0111\5"+
+		"d\63\2\u010d\u010e\7H\2\2\u010e\u0110\5d\63\2\u010f\u010d\3\2\2\2\u0110"+
+		"\u0113\3\2\2\2\u0111\u010f\3\2\2\2\u0111\u0112\3\2\2\2\u0112)\3\2\2\2"+
+		"\u0113\u0111\3\2\2\2\u0114\u0116\7\6\2\2\u0115\u0117\5,\27\2\u0116\u0115"+
+		"\3\2\2\2\u0116\u0117\3\2\2\2\u0117\u0127\3\2\2\2\u0118\u0128\5\26\f\2"+
+		"\u0119\u011a\7I\2\2\u011a\u011f\7X\2\2\u011b\u011c\7H\2\2\u011c\u011e"+
+		"\7X\2\2\u011d\u011b\3\2\2\2\u011e\u0121\3\2\2\2\u011f\u011d\3\2\2\2\u011f"+
+		"\u0120\3\2\2\2\u0120\u0122\3\2\2\2\u0121\u011f\3\2\2\2\u0122\u0128\7J"+
+		"\2\2\u0123\u0124\7!\2\2\u0124\u0125\7\27\2\2\u0125\u0126\7F\2\2\u0126"+
+		"\u0128\5l\67\2\u0127\u0118\3\2\2\2\u0127\u0119\3\2\2\2\u0127\u0123\3\2"+
+		"\2\2\u0128+\3\2\2\2\u0129\u012a\5.\30\2\u012a\u012b\5\34\17\2\u012b-\3"+
+		"\2\2\2\u012c\u0131\5l\67\2\u012d\u012e\7H\2\2\u012e\u0130\5l\67\2\u012f"+
+		"\u012d\3\2\2\2\u0130\u0133\3\2\2\2\u0131\u012f\3\2\2\2\u0131\u0132\3\2"+
+		"\2\2\u0132/\3\2\2\2\u0133\u0131\3\2\2\2\u0134\u0137\7\7\2\2\u0135\u0138"+
+		"\5\26\f\2\u0136\u0138\5l\67\2\u0137\u0135\3\2\2\2\u0137\u0136\3\2\2\2"+
+		"\u0138\u0139\3\2\2\2\u0139\u013a\5\64\33\2\u013a\u013b\5\34\17\2\u013b"+
+		"\u013c\5\66\34\2\u013c\61\3\2\2\2\u013d\u013e\7\b\2\2\u013e\63\3\2\2\2"+
+		"\u013f\u0140\5\34\17\2\u0140\u0141\7\30\2\2\u0141\u0142\5d\63\2\u0142"+
+		"\u0144\3\2\2\2\u0143\u013f\3\2\2\2\u0144\u0147\3\2\2\2\u0145\u0143\3\2"+
+		"\2\2\u0145\u0146\3\2\2\2\u0146\65\3\2\2\2\u0147\u0145\3\2\2\2\u0148\u014d"+
+		"\7*\2\2\u0149\u014d\7)\2\2\u014a\u014d\7+\2\2\u014b\u014d\58\35\2\u014c"+
+		"\u0148\3\2\2\2\u014c\u0149\3\2\2\2\u014c\u014a\3\2\2\2\u014c\u014b\3\2"+
+		"\2\2\u014d\u0150\3\2\2\2\u014e\u0151\7Y\2\2\u014f\u0151\5\26\f\2\u0150"+
+		"\u014e\3\2\2\2\u0150\u014f\3\2\2\2\u0151\67\3\2\2\2\u0152\u0153\7\13\2"+
+		"\2\u0153\u0154\7X\2\2\u0154\u0155\7\22\2\2\u01559\3\2\2\2\u0156\u0157"+
+		"\7\t\2\2\u0157\u0158\5\26\f\2\u0158;\3\2\2\2\u0159\u015c\7\25\2\2\u015a"+
+		"\u015b\7\22\2\2\u015b\u015d\7\6\2\2\u015c\u015a\3\2\2\2\u015c\u015d\3"+
+		"\2\2\2\u015d\u015e\3\2\2\2\u015e\u015f\5\34\17\2\u015f\u0160\7\30\2\2"+
+		"\u0160\u016a\7X\2\2\u0161\u0162\5\34\17\2\u0162\u0163\7\n\2\2\u0163\u0164"+
+		"\5\26\f\2\u0164\u016b\3\2\2\2\u0165\u0166\7\27\2\2\u0166\u0167\5\26\f"+
+		"\2\u0167\u0168\7\31\2\2\u0168\u0169\5\26\f\2\u0169\u016b\3\2\2\2\u016a"+
+		"\u0161\3\2\2\2\u016a\u0165\3\2\2\2\u016b=\3\2\2\2\u016c\u0174\7\17\2\2"+
+		"\u016d\u016e\7\23\2\2\u016e\u0170\7X\2\2\u016f\u0171\5@!\2\u0170\u016f"+
+		"\3\2\2\2\u0170\u0171\3\2\2\2\u0171\u0175\3\2\2\2\u0172\u0173\7\f\2\2\u0173"+
+		"\u0175\5l\67\2\u0174\u016d\3\2\2\2\u0174\u0172\3\2\2\2\u0175?\3\2\2\2"+
+		"\u0176\u0177\5\34\17\2\u0177\u0178\7\6\2\2\u0178\u0179\7\24\2\2\u0179"+
+		"\u017a\5(\25\2\u017a\u017c\3\2\2\2\u017b\u0176\3\2\2\2\u017b\u017c\3\2"+
+		"\2\2\u017c\u0182\3\2\2\2\u017d\u017e\5\34\17\2\u017e\u017f\7\7\2\2\u017f"+
+		"\u0180\7\24\2\2\u0180\u0181\5(\25\2\u0181\u0183\3\2\2\2\u0182\u017d\3"+
+		"\2\2\2\u0182\u0183\3\2\2\2\u0183\u0189\3\2\2\2\u0184\u0185\5\34\17\2\u0185"+
+		"\u0186\7\t\2\2\u0186\u0187\7\24\2\2\u0187\u0188\5(\25\2\u0188\u018a\3"+
+		"\2\2\2\u0189\u0184\3\2\2\2\u0189\u018a\3\2\2\2\u018a\u0190\3\2\2\2\u018b"+
+		"\u018c\5\34\17\2\u018c\u018d\7\25\2\2\u018d\u018e\7\24\2\2\u018e\u018f"+
+		"\5(\25\2\u018f\u0191\3\2\2\2\u0190\u018b\3\2\2\2\u0190\u0191\3\2\2\2\u0191"+
+		"\u0198\3\2\2\2\u0192\u0193\5\34\17\2\u0193\u0196\7\34\2\2\u0194\u0197"+
+		"\5h\65\2\u0195\u0197\7X\2\2\u0196\u0194\3\2\2\2\u0196\u0195\3\2\2\2\u0197"+
+		"\u0199\3\2\2\2\u0198\u0192\3\2\2\2\u0198\u0199\3\2\2\2\u0199A\3\2\2\2"+
+		"\u019a\u019d\5D#\2\u019b\u019d\5F$\2\u019c\u019a\3\2\2\2\u019c\u019b\3"+
+		"\2\2\2\u019dC\3\2\2\2\u019e\u019f\7&\2\2\u019f\u01a0\7\33\2\2\u01a0E\3"+
+		"\2\2\2\u01a1\u01a2\7%\2\2\u01a2\u01a3\7\33\2\2\u01a3\u01a4\5(\25\2\u01a4"+
+		"G\3\2\2\2\u01a5\u01a6\7\16\2\2\u01a6\u01ab\7X\2\2\u01a7\u01a8\7H\2\2\u01a8"+
+		"\u01aa\7X\2\2\u01a9\u01a7\3\2\2\2\u01aa\u01ad\3\2\2\2\u01ab\u01a9\3\2"+
+		"\2\2\u01ab\u01ac\3\2\2\2\u01ac\u01b0\3\2\2\2\u01ad\u01ab\3\2\2\2\u01ae"+
+		"\u01af\7\4\2\2\u01af\u01b1\7V\2\2\u01b0\u01ae\3\2\2\2\u01b0\u01b1\3\2"+
+		"\2\2\u01b1\u01b4\3\2\2\2\u01b2\u01b3\7\5\2\2\u01b3\u01b5\7V\2\2\u01b4"+
+		"\u01b2\3\2\2\2\u01b4\u01b5\3\2\2\2\u01b5\u01b8\3\2\2\2\u01b6\u01b7\7,"+
+		"\2\2\u01b7\u01b9\7X\2\2\u01b8\u01b6\3\2\2\2\u01b8\u01b9\3\2\2\2\u01b9"+
+		"\u01be\3\2\2\2\u01ba\u01bb\5\34\17\2\u01bb\u01bc\7\24\2\2\u01bc\u01bd"+
+		"\5(\25\2\u01bd\u01bf\3\2\2\2\u01be\u01ba\3\2\2\2\u01be\u01bf\3\2\2\2\u01bf"+
+		"\u01c2\3\2\2\2\u01c0\u01c1\7(\2\2\u01c1\u01c3\5X-\2\u01c2\u01c0\3\2\2"+
+		"\2\u01c2\u01c3\3\2\2\2\u01c3I\3\2\2\2\u01c4\u01c9\7%\2\2\u01c5\u01ca\5"+
+		"L\'\2\u01c6\u01ca\5N(\2\u01c7\u01ca\5P)\2\u01c8\u01ca\5R*\2\u01c9\u01c5"+
+		"\3\2\2\2\u01c9\u01c6\3\2\2\2\u01c9\u01c7\3\2\2\2\u01c9\u01c8\3\2\2\2\u01ca"+
+		"K\3\2\2\2\u01cb\u01cc\7\'\2\2\u01cc\u01cd\7U\2\2\u01cd\u01ce\7\21\2\2"+
+		"\u01ce\u01cf\5h\65\2\u01cfM\3\2\2\2\u01d0\u01d1\7\62\2\2\u01d1\u01d2\5"+
+		"(\25\2\u01d2O\3\2\2\2\u01d3\u01d4\7\36\2\2\u01d4\u01d5\7\63\2\2\u01d5"+
+		"\u01d6\5(\25\2\u01d6Q\3\2\2\2\u01d7\u01d8\7\36\2\2\u01d8\u01d9\7\64\2"+
+		"\2\u01d9\u01da\5(\25\2\u01daS\3\2\2\2\u01db\u01e3\7&\2\2\u01dc\u01e4\5"+
+		"V,\2\u01dd\u01e4\7\23\2\2\u01de\u01e4\7\62\2\2\u01df\u01e0\7\36\2\2\u01e0"+
+		"\u01e4\7\63\2\2\u01e1\u01e2\7\36\2\2\u01e2\u01e4\7\64\2\2\u01e3\u01dc"+
+		"\3\2\2\2\u01e3\u01dd\3\2\2\2\u01e3\u01de\3\2\2\2\u01e3\u01df\3\2\2\2\u01e3"+
+		"\u01e1\3\2\2\2\u01e4U\3\2\2\2\u01e5\u01e6\7\'\2\2\u01e6\u01e7\7U\2\2\u01e7"+
+		"W\3\2\2\2\u01e8\u01e9\7F\2\2\u01e9\u01ea\5l\67\2\u01eaY\3\2\2\2\u01eb"+
+		"\u01ec\7G\2\2\u01ec\u01ed\7U\2\2\u01ed[\3\2\2\2\u01ee\u01f1\7X\2\2\u01ef"+
+		"\u01f1\7U\2\2\u01f0\u01ee\3\2\2\2\u01f0\u01ef\3\2\2\2\u01f1]\3\2\2\2\u01f2"+
+		"\u01f3\7\35\2\2\u01f3\u01f4\7\36\2\2\u01f4\u01f5\7X\2\2\u01f5_\3\2\2\2"+
+		"\u01f6\u01f7\7\35\2\2\u01f7\u01f8\7\65\2\2\u01f8\u01fa\7X\2\2\u01f9\u01fb"+
+		"\7@\2\2\u01fa\u01f9\3\2\2\2\u01fa\u01fb\3\2\2\2\u01fba\3\2\2\2\u01fc\u01fd"+
+		"\7\36\2\2\u01fd\u01fe\t\3\2\2\u01fec\3\2\2\2\u01ff\u0202\7X\2\2\u0200"+
+		"\u0202\5l\67\2\u0201\u01ff\3\2\2\2\u0201\u0200\3\2\2\2\u0202\u0203\3\2"+
+		"\2\2\u0203\u0204\7M\2\2\u0204\u0205\5f\64\2\u0205e\3\2\2\2\u0206\u020a"+
+		"\7X\2\2\u0207\u020a\7V\2\2\u0208\u020a\5j\66\2\u0209\u0206\3\2\2\2\u0209"+
+		"\u0207\3\2\2\2\u0209\u0208\3\2\2\2\u020ag\3\2\2\2\u020b\u020c\7\32\2\2"+
+		"\u020c\u020d\t\4\2\2\u020di\3\2\2\2\u020e\u020f\t\5\2\2\u020fk\3\2\2\2"+
+		"\u0210\u0211\t\6\2\2\u0211m\3\2\2\29prwz\u0086\u0089\u0095\u00a3\u00a6"+
+		"\u00ad\u00b7\u00be\u00c0\u00ca\u00ce\u00d3\u00d5\u00d9\u00e0\u00e7\u00f8"+
+		"\u00fb\u0101\u0111\u0116\u011f\u0127\u0131\u0137\u0145\u014c\u0150\u015c"+
+		"\u016a\u0170\u0174\u017b\u0182\u0189\u0190\u0196\u0198\u019c\u01ab\u01b0"+
+		"\u01b4\u01b8\u01be\u01c2\u01c9\u01e3\u01f0\u01fa\u0201\u0209";
 	public static final ATN _ATN =
 		ATNSimulator.deserialize(_serializedATN.toCharArray());
 	static {
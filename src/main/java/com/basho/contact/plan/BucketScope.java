@@ -0,0 +1,98 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.plan;
+
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.commands.RiakCommand;
+import com.basho.contact.commands.core.DeleteCommand;
+import com.basho.contact.commands.core.FetchCommand;
+import com.basho.contact.commands.core.MultiFetchCommand;
+import com.basho.contact.commands.core.Query2iCommand;
+import com.basho.contact.commands.core.StoreCommand;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// The current bucket and use bucket options at a point in a plan. A command
+// without "using bucket" runs against the current bucket, and its options are
+// laid over the use bucket options for that kind of command.
+public class BucketScope {
+    private String bucket;
+    private Map<String, String> fetchOptions;
+    private Map<String, String> storeOptions;
+    private Map<String, String> deleteOptions;
+    private Map<String, String> query2iOptions;
+
+    public static BucketScope current(RuntimeContext ctx) {
+        BucketScope scope = new BucketScope();
+        scope.bucket = ctx.getCurrentBucket();
+        scope.fetchOptions = ctx.getCurrentFetchOptions();
+        scope.storeOptions = ctx.getCurrentStoreOptions();
+        scope.deleteOptions = ctx.getCurrentDeleteOptions();
+        scope.query2iOptions = ctx.getCurrentQuery2iOptions();
+        return scope;
+    }
+
+    public void use(UseNode use) {
+        bucket = use.getBucket();
+        if (use.hasOptions()) {
+            fetchOptions = use.getFetchOptions();
+            storeOptions = use.getStoreOptions();
+            deleteOptions = use.getDeleteOptions();
+            query2iOptions = use.getQuery2iOptions();
+        }
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void resolve(CommandNode node) {
+        RiakCommand<?, ?> cmd = node.getCommand();
+        if (cmd.params.bucket == null) {
+            cmd.params.bucket = bucket;
+        }
+        Map<String, String> bucketOptions = optionsFor(cmd);
+        if (bucketOptions != null && !bucketOptions.isEmpty()) {
+            Map<String, String> combined = new HashMap<String, String>(bucketOptions);
+            if (cmd.params.options != null) {
+                combined.putAll(cmd.params.options);
+            }
+            cmd.params.options = combined;
+        }
+        node.setResolved();
+    }
+
+    private Map<String, String> optionsFor(RiakCommand<?, ?> cmd) {
+        if (cmd instanceof FetchCommand || cmd instanceof MultiFetchCommand) {
+            return fetchOptions;
+        } else if (cmd instanceof StoreCommand) {
+            return storeOptions;
+        } else if (cmd instanceof DeleteCommand) {
+            return deleteOptions;
+        } else if (cmd instanceof Query2iCommand) {
+            return query2iOptions;
+        }
+        return null;
+    }
+}
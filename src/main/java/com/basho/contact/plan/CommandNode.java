@@ -0,0 +1,197 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.plan;
+
+import com.basho.contact.ParallelScheduler;
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.commands.RiakCommand;
+import com.basho.contact.commands.core.ListKeysCommand;
+import com.basho.contact.commands.core.MultiFetchCommand;
+import com.basho.contact.symbols.ContactSymbol;
+import com.basho.contact.symbols.KeyIterator;
+import com.basho.contact.symbols.PendingSymbol;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+// A Riak command, with what the statement around it asked for: a let binding,
+// a connection, async. The bucket and use bucket options are filled in by
+// ResolveBucketsPass, or when the node runs if no pass has done it.
+public class CommandNode extends PlanNode {
+    private final RiakCommand<?, ?> command;
+    private final String assignment;
+    private final String connectionId;
+    private final boolean async;
+    private final boolean schedulable;
+    // fetch keys from $binding, the keys are read when the node runs
+    private String keyBinding;
+    private boolean resolved = false;
+
+    public CommandNode(RiakCommand<?, ?> command, String assignment, String connectionId,
+                       boolean async, boolean schedulable) {
+        super(command.getClass().getSimpleName());
+        this.command = command;
+        this.assignment = assignment;
+        this.connectionId = connectionId;
+        this.async = async;
+        this.schedulable = schedulable;
+    }
+
+    public RiakCommand<?, ?> getCommand() {
+        return command;
+    }
+
+    public String getAssignment() {
+        return assignment;
+    }
+
+    public String getConnectionId() {
+        return connectionId;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public String getKeyBinding() {
+        return keyBinding;
+    }
+
+    public void setKeyBinding(String keyBinding) {
+        this.keyBinding = keyBinding;
+    }
+
+    public boolean isResolved() {
+        return resolved;
+    }
+
+    void setResolved() {
+        resolved = true;
+    }
+
+    @Override
+    public boolean isSchedulable() {
+        return schedulable && !async;
+    }
+
+    @Override
+    public void run(RuntimeContext ctx) {
+        run(ctx, false);
+    }
+
+    // runs the command on the calling thread instead of handing it to the
+    // ContactExecutor, for threads that are already one of its workers
+    public void runInline(RuntimeContext ctx) {
+        run(ctx, true);
+    }
+
+    private void run(RuntimeContext ctx, boolean inline) {
+        if (!resolved) {
+            BucketScope.current(ctx).resolve(this);
+        }
+        if (keyBinding != null && !readKeys(ctx)) {
+            return;
+        }
+        if (connectionId != null) {
+            System.out.println("Using connection " + connectionId);
+            command.params.connection_id = connectionId;
+        }
+        if (command instanceof ListKeysCommand && assignment != null) {
+            // keep the keys on disk so the binding can be used later
+            ((ListKeysCommand) command).params.spool = true;
+        }
+        command.params.ctx = ctx;
+        ContactSymbol<?> sym;
+        ParallelScheduler scheduler = ctx.getScheduler();
+        if (inline && !async) {
+            sym = call(ctx);
+        } else if (scheduler != null && isSchedulable()) {
+            sym = new PendingSymbol(scheduler.schedule(command));
+        } else if (async) {
+            Future<? extends ContactSymbol<?>> future = command.doExecAsync(ctx);
+            sym = future == null ? null : new PendingSymbol(future);
+        } else {
+            sym = command.doExec(ctx);
+        }
+        ctx.lastResult = sym;
+        if (assignment != null) {
+            ctx.bind(assignment, sym);
+        }
+    }
+
+    private ContactSymbol<?> call(RuntimeContext ctx) {
+        Callable<? extends ContactSymbol<?>> task = command.newTask(ctx);
+        if (task == null) {
+            return null;
+        }
+        try {
+            return task.call();
+        } catch (Exception e) {
+            ctx.appendError("Command failed", e);
+            return null;
+        }
+    }
+
+    private boolean readKeys(RuntimeContext ctx) {
+        ContactSymbol<?> sym = ctx.getBinding(keyBinding);
+        if (sym == null) {
+            return false;
+        }
+        KeyIterator keys;
+        try {
+            keys = MultiFetchCommand.keysFromSymbol(sym);
+        } catch (IOException e) {
+            ctx.appendError("Can't read keys from " + keyBinding, e);
+            return false;
+        }
+        if (keys == null) {
+            ctx.appendError("Binding " + keyBinding + " doesn't contain a list of keys");
+            return false;
+        }
+        ((MultiFetchCommand) command).setKeys(keys);
+        return true;
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (assignment != null) {
+            sb.append("let ").append(assignment).append(" = ");
+        }
+        if (async) {
+            sb.append("async ");
+        }
+        sb.append(super.toString());
+        if (command.params.bucket != null) {
+            sb.append(" bucket ").append(command.params.bucket);
+        }
+        if (command.params.options != null && !command.params.options.isEmpty()) {
+            sb.append(" options ").append(command.params.options);
+        }
+        if (connectionId != null) {
+            sb.append(" @").append(connectionId);
+        }
+        return sb.toString();
+    }
+}
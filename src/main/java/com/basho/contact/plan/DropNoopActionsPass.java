@@ -0,0 +1,84 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.plan;
+
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.actions.JSActionListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Drops set action statements that can't change anything: one that sets an
+// action that is already empty to empty, or one that is set again before
+// anything that could run it. Each set action compiles its Javascript, so a
+// script that sets up its actions in several steps only pays for the last.
+public class DropNoopActionsPass implements PlanPass {
+    public Plan apply(Plan plan, RuntimeContext ctx) {
+        JSActionListener js = ctx.getJSActionListener();
+        // the action bodies as of the current node, null once a node has
+        // run Javascript that could have changed them
+        Map<String, String> bodies = new HashMap<String, String>();
+        for (String action : js.getAvailableActions()) {
+            bodies.put(action, js.getJSBody(action));
+        }
+        List<PlanNode> nodes = plan.getNodes();
+        Plan result = new Plan();
+        for (int i = 0; i < nodes.size(); i++) {
+            PlanNode node = nodes.get(i);
+            if (node instanceof SetActionNode) {
+                SetActionNode set = (SetActionNode) node;
+                boolean valid = js.getAvailableActions().contains(set.getAction());
+                boolean alreadyEmpty = bodies != null && isEmpty(set.getBody()) && isEmpty(bodies.get(set.getAction()));
+                if (valid && (alreadyEmpty || isOverwritten(nodes, i))) {
+                    continue;
+                }
+                if (bodies != null) {
+                    bodies.put(set.getAction(), set.getBody());
+                }
+            } else if (node.runsScripts()) {
+                bodies = null;
+            }
+            result.add(node);
+        }
+        return result;
+    }
+
+    private boolean isOverwritten(List<PlanNode> nodes, int index) {
+        String action = ((SetActionNode) nodes.get(index)).getAction();
+        for (int i = index + 1; i < nodes.size(); i++) {
+            PlanNode node = nodes.get(i);
+            if (node instanceof SetActionNode && ((SetActionNode) node).getAction().equals(action)) {
+                return true;
+            }
+            if (node.runsScripts()) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEmpty(String body) {
+        return body == null || body.trim().isEmpty();
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.plan;
+
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.commands.core.MultiFetchCommand;
+import com.basho.contact.symbols.ContactSymbol;
+import com.basho.contact.symbols.KeyIterator;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Semaphore;
+
+// for name in $binding { ... } and for name in from..to { ... }. The body is
+// compiled again for each value with the loop variable bound, from the parse
+// tree, and runs through the passes like any other plan. With parallel N up
+// to N iterations run at once on the ContactExecutor's bulk lane, each one
+// running its statements in order. The loop stops after the first iteration
+// that reports an error.
+public class LoopNode extends PlanNode {
+
+    public interface Body {
+        public Plan compile(Map<String, String> vars);
+    }
+
+    // a loop inside a parallel loop runs its iterations one at a time and
+    // inline, rather than waiting on bulk lane tasks or the scheduler from a
+    // bulk lane thread
+    private static final ThreadLocal<Boolean> IN_PARALLEL_LOOP = new ThreadLocal<Boolean>();
+
+    private final String var;
+    private final String binding;
+    private final long from;
+    private final long to;
+    private final int parallelism;
+    // the loop variables of any loops around this one
+    private final Map<String, String> outerVars;
+    private final Body body;
+
+    private LoopNode(String description, String var, String binding, long from, long to, int parallelism,
+                     Map<String, String> outerVars, Body body) {
+        super(description);
+        this.var = var;
+        this.binding = binding;
+        this.from = from;
+        this.to = to;
+        this.parallelism = parallelism;
+        this.outerVars = outerVars;
+        this.body = body;
+    }
+
+    public static LoopNode overBinding(String var, String binding, int parallelism,
+                                      Map<String, String> outerVars, Body body) {
+        return new LoopNode("for " + var + " in $" + binding, var, binding, 0, 0, parallelism, outerVars, body);
+    }
+
+    public static LoopNode overRange(String var, long from, long to, int parallelism,
+                                    Map<String, String> outerVars, Body body) {
+        return new LoopNode("for " + var + " in " + from + ".." + to, var, null, from, to, parallelism, outerVars, body);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    // true on a thread running an iteration of a parallel loop, where
+    // commands must run inline
+    public static boolean inParallelIteration() {
+        return IN_PARALLEL_LOOP.get() != null;
+    }
+
+    @Override
+    public void run(RuntimeContext ctx) {
+        KeyIterator values = values(ctx);
+        if (values == null) {
+            return;
+        }
+        try {
+            PlanExecutor executor = new PlanExecutor(ctx);
+            if (parallelism > 1 && !inParallelIteration()) {
+                runParallel(ctx, executor, values);
+            } else {
+                runSequential(ctx, executor, values);
+            }
+        } finally {
+            values.close();
+        }
+    }
+
+    private void runSequential(RuntimeContext ctx, PlanExecutor executor, Iterator<String> values) {
+        boolean inline = inParallelIteration();
+        int errors = ctx.getErrors().size();
+        while (values.hasNext() && ctx.getErrors().size() == errors) {
+            Plan plan = body.compile(bind(values.next()));
+            if (ctx.getErrors().size() != errors) {
+                return;
+            }
+            if (inline) {
+                runNodes(ctx, executor.optimize(plan));
+            } else {
+                executor.execute(plan);
+            }
+        }
+    }
+
+    private void runParallel(final RuntimeContext ctx, PlanExecutor executor, Iterator<String> values) {
+        final Semaphore running = new Semaphore(parallelism);
+        int errors = ctx.getErrors().size();
+        try {
+            while (values.hasNext() && ctx.getErrors().size() == errors) {
+                Plan compiled = body.compile(bind(values.next()));
+                if (ctx.getErrors().size() != errors) {
+                    break;
+                }
+                final Plan plan = executor.optimize(compiled);
+                running.acquire();
+                try {
+                    ctx.getExecutor().execute(new Runnable() {
+                        public void run() {
+                            try {
+                                runIteration(ctx, plan);
+                            } finally {
+                                running.release();
+                            }
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    running.release();
+                    throw e;
+                }
+            }
+        } catch (InterruptedException e) {
+            ctx.appendError("Loop interrupted");
+        } finally {
+            running.acquireUninterruptibly(parallelism);
+        }
+    }
+
+    private void runIteration(RuntimeContext ctx, Plan plan) {
+        IN_PARALLEL_LOOP.set(Boolean.TRUE);
+        try {
+            runNodes(ctx, plan);
+        } catch (RuntimeException e) {
+            ctx.appendError("Loop iteration failed", e);
+        } finally {
+            IN_PARALLEL_LOOP.remove();
+        }
+    }
+
+    // commands run on this thread, it is already one of the executor's
+    private static void runNodes(RuntimeContext ctx, Plan plan) {
+        for (PlanNode node : plan.getNodes()) {
+            if (node instanceof CommandNode) {
+                ((CommandNode) node).runInline(ctx);
+            } else {
+                node.run(ctx);
+            }
+        }
+    }
+
+    private Map<String, String> bind(String value) {
+        Map<String, String> vars = new HashMap<String, String>(outerVars);
+        vars.put(var, value);
+        return vars;
+    }
+
+    private KeyIterator values(RuntimeContext ctx) {
+        if (binding == null) {
+            return KeyIterator.of(new RangeIterator(from, to), Math.abs(to - from) + 1);
+        }
+        ContactSymbol<?> sym = ctx.getBinding(binding);
+        if (sym == null) {
+            return null;
+        }
+        KeyIterator keys;
+        try {
+            keys = MultiFetchCommand.keysFromSymbol(sym);
+        } catch (IOException e) {
+            ctx.appendError("Can't read keys from " + binding, e);
+            return null;
+        }
+        if (keys == null) {
+            ctx.appendError("Binding " + binding + " doesn't contain a list of keys");
+        }
+        return keys;
+    }
+
+    // counts down if to < from, both ends included
+    static class RangeIterator implements Iterator<String> {
+        private final long to;
+        private final long step;
+        private long next;
+        private boolean done = false;
+
+        RangeIterator(long from, long to) {
+            this.next = from;
+            this.to = to;
+            this.step = to < from ? -1 : 1;
+        }
+
+        public boolean hasNext() {
+            return !done;
+        }
+
+        public String next() {
+            if (done) {
+                throw new NoSuchElementException();
+            }
+            long value = next;
+            if (value == to) {
+                done = true;
+            } else {
+                next += step;
+            }
+            return Long.toString(value);
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.plan;
+
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.actions.JSActionListener;
+import com.basho.contact.commands.core.FetchCommand;
+import com.basho.contact.commands.core.MultiFetchCommand;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+// Turns a run of single key fetches from the same bucket, with the same
+// options, into one multi-key fetch, so the keys are fetched concurrently
+// rather than one round trip at a time. The postfetch action still runs once
+// per key, in order, and a key that can't be fetched still gets its own
+// error. The merged fetch runs on the bulk lane like any multi-key fetch. Fetches bound with let, sent to a named connection, run
+// async or given options a single key fetch doesn't take (concurrency would
+// stop being an error) are left alone, and so is everything while a prefetch
+// action or a plugin is in place, since those would see one fetch instead of
+// several.
+// Needs ResolveBucketsPass to have run first.
+public class MergeFetchesPass implements PlanPass {
+    public Plan apply(Plan plan, RuntimeContext ctx) {
+        if (!ctx.getPlugins().isEmpty()) {
+            return plan;
+        }
+        boolean prefetch = !isEmpty(ctx.getJSActionListener().getJSBody(JSActionListener.PREFETCH));
+        Plan result = new Plan();
+        List<CommandNode> run = new ArrayList<CommandNode>();
+        for (PlanNode node : plan.getNodes()) {
+            if (!prefetch && isMergeable(node)) {
+                CommandNode fetch = (CommandNode) node;
+                if (!run.isEmpty() && !isCompatible(run.get(0), fetch)) {
+                    flush(run, result);
+                }
+                run.add(fetch);
+                continue;
+            }
+            flush(run, result);
+            if (node instanceof SetActionNode) {
+                SetActionNode set = (SetActionNode) node;
+                if (set.getAction().equals(JSActionListener.PREFETCH)) {
+                    prefetch = !isEmpty(set.getBody());
+                }
+            } else if (node.runsScripts() && !(node instanceof CommandNode)) {
+                // a script could have set the prefetch action
+                prefetch = true;
+            }
+            result.add(node);
+        }
+        flush(run, result);
+        return result;
+    }
+
+    private static boolean isMergeable(PlanNode node) {
+        if (!(node instanceof CommandNode)) {
+            return false;
+        }
+        CommandNode c = (CommandNode) node;
+        return c.getCommand().getClass() == FetchCommand.class && c.isResolved() && !c.isAsync()
+                && c.getAssignment() == null && c.getConnectionId() == null
+                && ((FetchCommand) c.getCommand()).params.key != null
+                && (c.getCommand().params.options == null || FetchCommand.commandOptions.getOptionsMap().keySet()
+                        .containsAll(c.getCommand().params.options.keySet()));
+    }
+
+    private static boolean isCompatible(CommandNode a, CommandNode b) {
+        FetchCommand fa = (FetchCommand) a.getCommand();
+        FetchCommand fb = (FetchCommand) b.getCommand();
+        return a.isSchedulable() == b.isSchedulable()
+                && equal(fa.params.bucket, fb.params.bucket)
+                && equal(emptyIfNull(fa.params.options), emptyIfNull(fb.params.options))
+                && equal(fa.params.fetchMetadataSelection, fb.params.fetchMetadataSelection);
+    }
+
+    private static void flush(List<CommandNode> run, Plan result) {
+        if (run.size() == 1) {
+            result.add(run.get(0));
+        } else if (run.size() > 1) {
+            FetchCommand first = (FetchCommand) run.get(0).getCommand();
+            MultiFetchCommand fetch = new MultiFetchCommand();
+            fetch.params.bucket = first.params.bucket;
+            fetch.params.options = first.params.options;
+            fetch.params.fetchMetadataSelection = first.params.fetchMetadataSelection;
+            fetch.setReportEachKey(true);
+            fetch.params.keys = new ArrayList<String>();
+            for (CommandNode c : run) {
+                fetch.params.keys.add(((FetchCommand) c.getCommand()).params.key);
+            }
+            CommandNode merged = new CommandNode(fetch, null, null, false, run.get(0).isSchedulable());
+            merged.setResolved();
+            result.add(merged);
+        }
+        run.clear();
+    }
+
+    private static Object emptyIfNull(Object o) {
+        return o == null ? new HashMap<String, String>() : o;
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static boolean isEmpty(String body) {
+        return body == null || body.trim().isEmpty();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.plan;
+
+import com.basho.contact.ParallelScheduler;
+import com.basho.contact.RuntimeContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Runs the passes over a plan, then runs its nodes in order. When --parallel
+// has set up a ParallelScheduler, Riak commands are handed to it and anything
+// else waits for the scheduled commands to finish first.
+public class PlanExecutor {
+    private final RuntimeContext ctx;
+    private final List<PlanPass> passes = new ArrayList<PlanPass>();
+
+    public PlanExecutor(RuntimeContext ctx) {
+        this.ctx = ctx;
+        passes.add(new ResolveBucketsPass());
+        passes.add(new DropNoopActionsPass());
+        passes.add(new MergeFetchesPass());
+    }
+
+    public List<PlanPass> getPasses() {
+        return passes;
+    }
+
+    public Plan optimize(Plan plan) {
+        for (PlanPass pass : passes) {
+            plan = pass.apply(plan, ctx);
+        }
+        return plan;
+    }
+
+    public void execute(Plan plan) {
+        if (ctx.isParseError() || plan.isEmpty()) {
+            return;
+        }
+        plan = optimize(plan);
+        if (ctx.trace) {
+            System.out.print("TRACE:plan\n" + plan);
+        }
+        for (PlanNode node : plan.getNodes()) {
+            ParallelScheduler scheduler = ctx.getScheduler();
+            if (scheduler != null && !node.isSchedulable()) {
+                scheduler.barrier();
+            }
+            node.run(ctx);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.plan;
+
+import com.basho.contact.RuntimeContext;
+
+// One statement of a compiled script. ContactWalker turns each statement into
+// a node, the passes may rewrite the list, and PlanExecutor runs the nodes in
+// order.
+public abstract class PlanNode {
+    private final String description;
+
+    protected PlanNode(String description) {
+        this.description = description;
+    }
+
+    public abstract void run(RuntimeContext ctx);
+
+    // only plain Riak commands can be handed to the ParallelScheduler, the
+    // executor waits for everything scheduled before running anything else
+    public boolean isSchedulable() {
+        return false;
+    }
+
+    // false if running the node can't run Javascript, so a pass can assume
+    // the actions haven't been changed behind its back
+    public boolean runsScripts() {
+        return true;
+    }
+
+    public String toString() {
+        return description;
+    }
+}
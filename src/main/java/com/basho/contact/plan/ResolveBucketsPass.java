@@ -0,0 +1,43 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.plan;
+
+import com.basho.contact.RuntimeContext;
+
+// Works out each command's bucket and options before anything runs, following
+// the use bucket statements through the plan, rather than looking them up
+// from the RuntimeContext as each command runs. Later passes rely on it to
+// compare buckets and options.
+public class ResolveBucketsPass implements PlanPass {
+    public Plan apply(Plan plan, RuntimeContext ctx) {
+        BucketScope scope = BucketScope.current(ctx);
+        for (PlanNode node : plan.getNodes()) {
+            if (node instanceof UseNode) {
+                scope.use((UseNode) node);
+            } else if (node instanceof CommandNode && !((CommandNode) node).isResolved()) {
+                scope.resolve((CommandNode) node);
+            }
+        }
+        return plan;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.plan;
+
+import com.basho.contact.RuntimeContext;
+
+// set action name with "body"
+public class SetActionNode extends PlanNode {
+    private final String action;
+    private final String body;
+
+    public SetActionNode(String action, String body) {
+        super("set action " + action);
+        this.action = action;
+        this.body = body;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    @Override
+    public void run(RuntimeContext ctx) {
+        if (ctx.getJSActionListener().getAvailableActions().contains(action)) {
+            ctx.getJSActionListener().setJSBody(action, body);
+        } else {
+            ctx.appendError(action + " is an invalid action");
+        }
+    }
+
+    @Override
+    public boolean runsScripts() {
+        return false;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.plan;
+
+import com.basho.contact.RuntimeContext;
+
+import java.util.Map;
+
+// use bucket "name" [with fetch options ... with resolver ...]. Without a with
+// clause only the bucket changes, otherwise every option map is replaced,
+// empty if it wasn't given.
+public class UseNode extends PlanNode {
+    private final String bucket;
+    private final boolean withOptions;
+    private final Map<String, String> fetchOptions;
+    private final Map<String, String> storeOptions;
+    private final Map<String, String> deleteOptions;
+    private final Map<String, String> query2iOptions;
+    private String resolverName;
+    private String resolverBody;
+
+    public UseNode(String bucket) {
+        this(bucket, false, null, null, null, null);
+    }
+
+    public UseNode(String bucket, boolean withOptions, Map<String, String> fetchOptions, Map<String, String> storeOptions,
+                   Map<String, String> deleteOptions, Map<String, String> query2iOptions) {
+        super("use bucket " + bucket);
+        this.bucket = bucket;
+        this.withOptions = withOptions;
+        this.fetchOptions = fetchOptions;
+        this.storeOptions = storeOptions;
+        this.deleteOptions = deleteOptions;
+        this.query2iOptions = query2iOptions;
+    }
+
+    public void setResolverName(String resolverName) {
+        this.resolverName = resolverName;
+    }
+
+    public void setResolverBody(String resolverBody) {
+        this.resolverBody = resolverBody;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public boolean hasOptions() {
+        return withOptions;
+    }
+
+    public Map<String, String> getFetchOptions() {
+        return fetchOptions;
+    }
+
+    public Map<String, String> getStoreOptions() {
+        return storeOptions;
+    }
+
+    public Map<String, String> getDeleteOptions() {
+        return deleteOptions;
+    }
+
+    public Map<String, String> getQuery2iOptions() {
+        return query2iOptions;
+    }
+
+    @Override
+    public void run(RuntimeContext ctx) {
+        ctx.setCurrentBucket(bucket);
+        if (withOptions) {
+            ctx.setCurrentFetchOptions(fetchOptions);
+            ctx.setCurrentStoreOptions(storeOptions);
+            ctx.setCurrentDeleteOptions(deleteOptions);
+            ctx.setCurrentQuery2iOptions(query2iOptions);
+            printOptions("Fetch", fetchOptions);
+            printOptions("Store", storeOptions);
+            printOptions("Delete", deleteOptions);
+            printOptions("Query2i", query2iOptions);
+        }
+        if (resolverName != null) {
+            ctx.getActionListener().getResolverMill().useResolver(bucket, resolverName);
+        } else if (resolverBody != null) {
+            ctx.getActionListener().getResolverMill().defineResolver(bucket, resolverBody);
+        }
+    }
+
+    private void printOptions(String name, Map<String, String> options) {
+        if (!options.isEmpty()) {
+            System.out.println(name + " options =" + options);
+        }
+    }
+
+    @Override
+    public boolean runsScripts() {
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.resolvers;
+
+import com.basho.riak.client.IRiakObject;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+// Deep-merges JSON objects. Fields present in several siblings are merged
+// recursively when both are objects, otherwise the newest sibling wins.
+public class JsonMergeResolver extends JsonResolver {
+
+    public String getName() {
+        return "json_merge";
+    }
+
+    @Override
+    protected JsonNode merge(JsonNode merged, JsonNode value, Collection<IRiakObject> siblings) {
+        if (!merged.isObject() || !value.isObject()) {
+            return value;
+        }
+        ObjectNode result = (ObjectNode) merged;
+        Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode existing = result.get(field.getKey());
+            result.put(field.getKey(), existing == null ? field.getValue() : merge(existing, field.getValue(), siblings));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.resolvers;
+
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.builders.RiakObjectBuilder;
+import com.basho.riak.client.cap.UnresolvedConflictException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+// Combines the JSON values of all live siblings, oldest first. Deleted and
+// empty siblings are skipped.
+public abstract class JsonResolver implements NamedResolver {
+    protected static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final Comparator<IRiakObject> byLastModified = new Comparator<IRiakObject>() {
+        public int compare(IRiakObject a, IRiakObject b) {
+            long diff = LastWriteWinsResolver.lastModified(a) - LastWriteWinsResolver.lastModified(b);
+            return diff < 0 ? -1 : (diff > 0 ? 1 : 0);
+        }
+    };
+
+    protected abstract JsonNode merge(JsonNode merged, JsonNode value, Collection<IRiakObject> siblings);
+
+    public IRiakObject resolve(Collection<IRiakObject> siblings) {
+        List<IRiakObject> live = new ArrayList<IRiakObject>();
+        for (IRiakObject sibling : siblings) {
+            if (!sibling.isDeleted() && sibling.getValue() != null && sibling.getValue().length > 0) {
+                live.add(sibling);
+            }
+        }
+        if (live.isEmpty()) {
+            return siblings.isEmpty() ? null : siblings.iterator().next();
+        }
+        if (live.size() == 1) {
+            return live.get(0);
+        }
+        Collections.sort(live, byLastModified);
+
+        JsonNode merged = null;
+        for (IRiakObject sibling : live) {
+            JsonNode value;
+            try {
+                value = mapper.readTree(sibling.getValue());
+            } catch (IOException e) {
+                throw new UnresolvedConflictException(e, "Sibling isn't valid JSON", siblings);
+            }
+            merged = merged == null ? value : merge(merged, value, siblings);
+        }
+
+        IRiakObject latest = live.get(live.size() - 1);
+        try {
+            return RiakObjectBuilder.from(latest)
+                    .withValue(mapper.writeValueAsBytes(merged))
+                    .withContentType("application/json")
+                    .build();
+        } catch (IOException e) {
+            throw new UnresolvedConflictException(e, "Can't write merged JSON", siblings);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.resolvers;
+
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.cap.VClock;
+
+import java.util.Collection;
+
+// Picks the sibling with the largest vclock, the one that has seen the most
+// updates. Vclocks are opaque to the client, so their encoded size is used,
+// with last-modified time breaking ties.
+public class LargestVClockResolver implements NamedResolver {
+
+    public String getName() {
+        return "largest_vclock";
+    }
+
+    public IRiakObject resolve(Collection<IRiakObject> siblings) {
+        IRiakObject largest = null;
+        for (IRiakObject sibling : siblings) {
+            if (largest == null) {
+                largest = sibling;
+                continue;
+            }
+            int diff = vclockSize(sibling) - vclockSize(largest);
+            if (diff > 0 || (diff == 0 &&
+                    LastWriteWinsResolver.lastModified(sibling) > LastWriteWinsResolver.lastModified(largest))) {
+                largest = sibling;
+            }
+        }
+        return largest;
+    }
+
+    private static int vclockSize(IRiakObject o) {
+        VClock vclock = o.getVClock();
+        if (vclock == null || vclock.getBytes() == null) {
+            return 0;
+        }
+        return vclock.getBytes().length;
+    }
+}
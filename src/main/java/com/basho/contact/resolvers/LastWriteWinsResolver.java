@@ -0,0 +1,51 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.resolvers;
+
+import com.basho.riak.client.IRiakObject;
+
+import java.util.Collection;
+import java.util.Date;
+
+// picks the sibling with the latest last-modified time
+public class LastWriteWinsResolver implements NamedResolver {
+
+    public String getName() {
+        return "last_write_wins";
+    }
+
+    public IRiakObject resolve(Collection<IRiakObject> siblings) {
+        IRiakObject latest = null;
+        for (IRiakObject sibling : siblings) {
+            if (latest == null || lastModified(sibling) > lastModified(latest)) {
+                latest = sibling;
+            }
+        }
+        return latest;
+    }
+
+    static long lastModified(IRiakObject o) {
+        Date d = o.getLastModified();
+        return d == null ? 0 : d.getTime();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.resolvers;
+
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.cap.ConflictResolver;
+
+// A conflict resolver written in Java, selected with
+//   use bucket "Foo" with resolver "name";
+// Implementations are found with java.util.ServiceLoader, list the class in
+// META-INF/services/com.basho.contact.resolvers.NamedResolver.
+// One instance is shared by every bucket using it, so it must be thread safe.
+public interface NamedResolver extends ConflictResolver<IRiakObject> {
+    public String getName();
+}
@@ -0,0 +1,47 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.resolvers;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.TreeMap;
+
+public class Resolvers {
+    private static Map<String, NamedResolver> resolvers = null;
+
+    public static synchronized Map<String, NamedResolver> getResolvers() {
+        if (resolvers == null) {
+            Map<String, NamedResolver> loaded = new TreeMap<String, NamedResolver>();
+            for (NamedResolver r : ServiceLoader.load(NamedResolver.class)) {
+                loaded.put(r.getName(), r);
+            }
+            resolvers = Collections.unmodifiableMap(loaded);
+        }
+        return resolvers;
+    }
+
+    public static NamedResolver get(String name) {
+        return getResolvers().get(name);
+    }
+}
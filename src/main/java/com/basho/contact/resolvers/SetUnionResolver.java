@@ -0,0 +1,58 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.resolvers;
+
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.cap.UnresolvedConflictException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Treats each sibling as a JSON array and keeps every distinct element,
+// in the order they were first seen.
+public class SetUnionResolver extends JsonResolver {
+
+    public String getName() {
+        return "set_union";
+    }
+
+    @Override
+    protected JsonNode merge(JsonNode merged, JsonNode value, Collection<IRiakObject> siblings) {
+        if (!merged.isArray() || !value.isArray()) {
+            throw new UnresolvedConflictException("set_union needs JSON arrays", siblings);
+        }
+        Set<JsonNode> elements = new LinkedHashSet<JsonNode>();
+        for (JsonNode n : merged) {
+            elements.add(n);
+        }
+        for (JsonNode n : value) {
+            elements.add(n);
+        }
+        ArrayNode result = mapper.createArrayNode();
+        result.addAll(elements);
+        return result;
+    }
+}
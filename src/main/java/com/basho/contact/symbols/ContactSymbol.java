@@ -31,6 +31,8 @@ public class ContactSymbol<V> {
         RESULTS,
         OPTIONSLIST,
         QUERY2IRESULTS,
+        PENDING,
+        KEYS,
     }
 
     public String name;
@@ -0,0 +1,115 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.symbols;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.LineIterator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// The keys held by a binding, one at a time. Keys that list keys spooled to
+// a file are read as the iterator advances, so close it when done.
+public class KeyIterator implements Iterator<String> {
+    private final Iterator<String> keys;
+    private final LineIterator lines;
+    private final long count;
+    // told when the file is closed, so a released spool file can be deleted
+    private final KeysSymbol owner;
+    private String peeked = null;
+    private boolean closed = false;
+
+    private KeyIterator(Iterator<String> keys, LineIterator lines, long count, KeysSymbol owner) {
+        this.keys = keys;
+        this.lines = lines;
+        this.count = count;
+        this.owner = owner;
+    }
+
+    public static KeyIterator of(Collection<String> keys) {
+        return new KeyIterator(keys.iterator(), null, keys.size(), null);
+    }
+
+    public static KeyIterator of(Iterator<String> keys, long count) {
+        return new KeyIterator(keys, null, count, null);
+    }
+
+    // a file with one key per line, and how many lines it has
+    public static KeyIterator fromFile(File keyFile, long count) throws IOException {
+        return fromFile(keyFile, count, null);
+    }
+
+    static KeyIterator fromFile(File keyFile, long count, KeysSymbol owner) throws IOException {
+        if (keyFile == null) {
+            return of(Collections.<String>emptyList());
+        }
+        LineIterator lines = FileUtils.lineIterator(keyFile, "UTF-8");
+        return new KeyIterator(lines, lines, count, owner);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    // the next key without moving past it
+    public String peek() {
+        if (peeked == null) {
+            peeked = keys.next();
+        }
+        return peeked;
+    }
+
+    public boolean hasNext() {
+        return peeked != null || keys.hasNext();
+    }
+
+    public String next() {
+        if (peeked != null) {
+            String key = peeked;
+            peeked = null;
+            return key;
+        }
+        if (!keys.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return keys.next();
+    }
+
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    public void close() {
+        if (lines != null && !closed) {
+            closed = true;
+            lines.close();
+            if (owner != null) {
+                owner.closed();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.symbols;
+
+import java.io.File;
+import java.io.IOException;
+
+// The result of list keys. Keys are never held in memory: if they were
+// kept at all, they're in a file with one key per line.
+public class KeysSymbol extends ContactSymbol<File> {
+    private final long count;
+    // a temporary file rather than a to_file the user asked for
+    private final boolean spooled;
+    private int readers = 0;
+    private boolean released = false;
+
+    public KeysSymbol(File keyFile, long count) {
+        this(keyFile, count, false);
+    }
+
+    public KeysSymbol(File keyFile, long count, boolean spooled) {
+        this.value = keyFile;
+        this.count = count;
+        this.spooled = spooled;
+        this.type = SymbolType.KEYS;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    // the keys are read from the file as the iterator advances
+    public synchronized KeyIterator iterateKeys() throws IOException {
+        KeyIterator keys = KeyIterator.fromFile(value, count, this);
+        if (value != null) {
+            readers++;
+        }
+        return keys;
+    }
+
+    // nothing is bound to the symbol any more. A spool file is deleted once
+    // the last iterator reading it has been closed.
+    public synchronized void release() {
+        released = true;
+        deleteIfUnused();
+    }
+
+    synchronized void closed() {
+        readers--;
+        deleteIfUnused();
+    }
+
+    private void deleteIfUnused() {
+        if (released && spooled && readers == 0 && value != null) {
+            value.delete();
+        }
+    }
+
+    public String toString() {
+        if (value == null) {
+            return count + " keys";
+        } else {
+            return count + " keys in " + value.getPath();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.symbols;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+// the result of an "async" command that may still be running
+public class PendingSymbol extends ContactSymbol<Future<? extends ContactSymbol<?>>> {
+    public PendingSymbol(Future<? extends ContactSymbol<?>> f) {
+        this.value = f;
+        this.type = ContactSymbol.SymbolType.PENDING;
+    }
+
+    public boolean isDone() {
+        return value.isDone();
+    }
+
+    public ContactSymbol<?> await() throws InterruptedException, ExecutionException {
+        return value.get();
+    }
+
+    public String toString() {
+        if (value.isCancelled()) {
+            return "<cancelled>";
+        } else if (value.isDone()) {
+            return "<done>";
+        } else {
+            return "<pending>";
+        }
+    }
+}
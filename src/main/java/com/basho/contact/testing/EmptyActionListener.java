@@ -50,6 +50,10 @@ public class EmptyActionListener implements ContactActionListener {
     public void postFetchAction(FetchParams.Post params) {
     }
 
+    @Override
+    public void postFetchBatchAction(FetchParams.Batch params) {
+    }
+
     @Override
     public void preStoreAction(StoreParams.Pre params) {
     }
@@ -24,10 +24,12 @@ package com.basho.contact.testing;
 
 
 import com.basho.contact.ConnectionInfo;
+import com.basho.contact.ConnectionPool;
 import com.basho.contact.ContactConnectionProvider;
 import com.basho.contact.RuntimeContext;
 import com.basho.riak.client.IRiakClient;
 
+import java.util.List;
 import java.util.Map;
 
 public class EmptyConnectionProvider implements ContactConnectionProvider {
@@ -47,6 +49,23 @@ public class EmptyConnectionProvider implements ContactConnectionProvider {
         return null;
     }
 
+    public IRiakClient createNamedConnection(List<String> hosts, int poolSize, ConnectionPool.Strategy strategy,
+                                             String name, RuntimeContext ctx) {
+        return null;
+    }
+
+    public void releaseClient(IRiakClient client) {
+    }
+
+    public void reportFailure(IRiakClient client) {
+    }
+
+    public void startHealthChecks(long intervalMillis) {
+    }
+
+    public void stopHealthChecks() {
+    }
+
     public Map<String, ConnectionInfo> getAllConnections() {
         return null;
     }
@@ -0,0 +1,145 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.security.AccessPolicy;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.bucket.Bucket;
+import com.basho.riak.client.bucket.FetchBucket;
+import com.basho.riak.client.operations.FetchObject;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AsyncOperationsTest {
+
+    private static ScriptFuture future(final Object value) {
+        return new ScriptFuture(new Callable<Object>() {
+            public Object call() throws Exception {
+                if (value instanceof Exception) {
+                    throw (Exception) value;
+                }
+                return value;
+            }
+        });
+    }
+
+    @Test
+    public void testAllAndAny() throws Exception {
+        // nothing runs these, waiting on them runs them
+        ScriptFuture all = ScriptFuture.all(Arrays.asList(future("a"), future("b")));
+        assertEquals(Arrays.asList("a", "b"), all.get());
+
+        ScriptFuture any = ScriptFuture.any(Arrays.asList(future(new Exception("boom")), future("b")));
+        assertEquals("b", any.get(1000));
+
+        ScriptFuture failed = ScriptFuture.all(Arrays.asList(future("a"), future(new Exception("boom"))));
+        try {
+            failed.get();
+            fail("expected an exception");
+        } catch (Exception e) {
+            assertEquals("boom", e.getMessage());
+        }
+        assertEquals("boom", failed.getError().getMessage());
+        assertEquals(Collections.emptyList(), ScriptFuture.all(Collections.emptyList()).get());
+    }
+
+    private RuntimeContext context(PrintStream out) throws Exception {
+        final IRiakObject a = mock(IRiakObject.class);
+        when(a.getValueAsString()).thenReturn("value of A");
+        final Bucket bucket = mock(Bucket.class);
+        when(bucket.fetch(anyString())).thenAnswer(new org.mockito.stubbing.Answer<FetchObject<IRiakObject>>() {
+            public FetchObject<IRiakObject> answer(org.mockito.invocation.InvocationOnMock invocation) {
+                final String key = (String) invocation.getArguments()[0];
+                return new FetchObject<IRiakObject>(null, null, null, null) {
+                    @Override
+                    public IRiakObject execute() {
+                        return key.equals("A") ? a : null;
+                    }
+                };
+            }
+        });
+        final FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+        return new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                return client;
+            }
+        }, out, System.err);
+    }
+
+    @Test
+    public void testFetchFromScript() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuntimeContext ctx = context(new PrintStream(bytes, true));
+        ctx.getJSActionListener().evalScript(
+                "var fetches = [];" +
+                "for (var i = 0; i < 20; i++) { fetches.push(contact.fetchAsync('Foo', i == 7 ? 'A' : 'missing')); }" +
+                "var objs = contact.all(fetches).get();" +
+                "print(objs.size() + ':' + objs.get(7).getValueAsString() + ':' + objs.get(0));");
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals("20:value of A:null", bytes.toString());
+    }
+
+    @Test
+    public void testNotConnected() throws Exception {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        ScriptFuture f = ctx.fetchAsync("Foo", "A");
+        try {
+            f.get();
+            fail("expected an exception");
+        } catch (IllegalStateException e) {
+            assertEquals("Not connected to Riak", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testAccessDenied() throws Exception {
+        RuntimeContext ctx = context(System.out);
+        ctx.setAccessPolicy(new AccessPolicy() {
+            public boolean canAccess(Class<?> command, String subcommand) {
+                return false;
+            }
+        });
+        List<?> futures = Arrays.asList(ctx.deleteAsync("Foo", "A"));
+        assertTrue(ctx.all(futures).getError() instanceof SecurityException);
+        assertEquals(0, ctx.getErrors().size());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.bucket.Bucket;
+import com.basho.riak.client.bucket.FetchBucket;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.*;
+
+public class BucketCacheTest {
+
+    private IRiakClient mockClient(String bucketName, Bucket bucket) throws Exception {
+        IRiakClient client = mock(IRiakClient.class);
+        FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        when(client.fetchBucket(bucketName)).thenReturn(fb);
+        return client;
+    }
+
+    @Test
+    public void testHitsAndMisses() throws Exception {
+        Bucket bucket = mock(Bucket.class);
+        IRiakClient client = mockClient("Foo", bucket);
+        BucketCache cache = new BucketCache();
+
+        assertSame(bucket, cache.fetchBucket(client, "Foo"));
+        assertSame(bucket, cache.fetchBucket(client, "Foo"));
+        assertSame(bucket, cache.fetchBucket(client, "Foo"));
+        assertEquals(1, cache.getMisses());
+        assertEquals(2, cache.getHits());
+        verify(client, times(1)).fetchBucket("Foo");
+    }
+
+    @Test
+    public void testKeyedByConnection() throws Exception {
+        Bucket bucket = mock(Bucket.class);
+        IRiakClient a = mockClient("Foo", bucket);
+        IRiakClient b = mockClient("Foo", bucket);
+        BucketCache cache = new BucketCache();
+
+        cache.fetchBucket(a, "Foo");
+        cache.fetchBucket(b, "Foo");
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        Bucket bucket = mock(Bucket.class);
+        IRiakClient client = mockClient("Foo", bucket);
+        BucketCache cache = new BucketCache();
+
+        cache.fetchBucket(client, "Foo");
+        cache.invalidate("Foo");
+        cache.fetchBucket(client, "Foo");
+        assertEquals(2, cache.getMisses());
+        verify(client, times(2)).fetchBucket("Foo");
+    }
+
+    @Test
+    public void testInvalidateClient() throws Exception {
+        Bucket bucket = mock(Bucket.class);
+        IRiakClient replaced = mockClient("Foo", bucket);
+        IRiakClient other = mockClient("Foo", bucket);
+        BucketCache cache = new BucketCache();
+
+        cache.fetchBucket(replaced, "Foo");
+        cache.fetchBucket(other, "Foo");
+        cache.invalidate(replaced);
+        cache.fetchBucket(replaced, "Foo");
+        cache.fetchBucket(other, "Foo");
+        assertEquals(3, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        Bucket bucket = mock(Bucket.class);
+        IRiakClient client = mockClient("Foo", bucket);
+        BucketCache cache = new BucketCache();
+        cache.setTtlMillis(0);
+
+        cache.fetchBucket(client, "Foo");
+        cache.fetchBucket(client, "Foo");
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void testExpiry() throws Exception {
+        Bucket bucket = mock(Bucket.class);
+        IRiakClient client = mockClient("Foo", bucket);
+        BucketCache cache = new BucketCache();
+        cache.setTtlMillis(1);
+
+        cache.fetchBucket(client, "Foo");
+        Thread.sleep(5);
+        cache.fetchBucket(client, "Foo");
+        assertEquals(2, cache.getMisses());
+    }
+}
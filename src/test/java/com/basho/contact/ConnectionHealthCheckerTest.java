@@ -0,0 +1,96 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.RiakException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class ConnectionHealthCheckerTest {
+
+    @Test
+    public void testEjectAndRecover() throws Exception {
+        IRiakClient client = mock(IRiakClient.class);
+        doThrow(new RiakException("down")).doNothing().when(client).ping();
+        ConnectionPool.Node node = new ConnectionPool.Node("127.0.0.1", 10017, client);
+        List<ConnectionPool> pools = new ArrayList<ConnectionPool>();
+        ConnectionHealthChecker checker = new ConnectionHealthChecker(pools, 1000);
+
+        checker.checkNode(node, 0);
+        assertFalse(node.isHealthy());
+        assertEquals(1, node.getFailures());
+
+        // still backing off, no ping
+        checker.checkNode(node, 500);
+        verify(client, times(1)).ping();
+
+        checker.checkNode(node, 1000);
+        assertTrue(node.isHealthy());
+        assertEquals(0, node.getFailures());
+    }
+
+    @Test
+    public void testExponentialBackoff() throws Exception {
+        IRiakClient client = mock(IRiakClient.class);
+        doThrow(new RiakException("down")).when(client).ping();
+        ConnectionPool.Node node = new ConnectionPool.Node("127.0.0.1", 10017, client);
+        ConnectionHealthChecker checker = new ConnectionHealthChecker(new ArrayList<ConnectionPool>(), 1000);
+
+        checker.checkNode(node, 0);
+        checker.checkNode(node, 1000);
+        checker.checkNode(node, 3000);
+        verify(client, times(3)).ping();
+        // next attempt is 4 seconds out
+        checker.checkNode(node, 6999);
+        verify(client, times(3)).ping();
+        checker.checkNode(node, 7000);
+        verify(client, times(4)).ping();
+    }
+
+    @Test
+    public void testUnhealthyNodesSkipped() throws Exception {
+        IRiakClient up = mock(IRiakClient.class);
+        IRiakClient down = mock(IRiakClient.class);
+        doThrow(new RiakException("down")).when(down).ping();
+        List<ConnectionPool.Node> nodes = new ArrayList<ConnectionPool.Node>();
+        nodes.add(new ConnectionPool.Node("127.0.0.1", 10017, down));
+        nodes.add(new ConnectionPool.Node("127.0.0.1", 10027, up));
+        ConnectionPool pool = new ConnectionPool(nodes, 4, ConnectionPool.Strategy.ROUND_ROBIN);
+        List<ConnectionPool> pools = new ArrayList<ConnectionPool>();
+        pools.add(pool);
+
+        new ConnectionHealthChecker(pools, 1000).run();
+        for (int i = 0; i < 4; i++) {
+            assertSame(up, pool.acquire().getClient());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.riak.client.IRiakClient;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ConnectionPoolTest {
+
+    private List<ConnectionPool.Node> nodes(int count) {
+        List<ConnectionPool.Node> nodes = new ArrayList<ConnectionPool.Node>();
+        for (int i = 0; i < count; i++) {
+            nodes.add(new ConnectionPool.Node("127.0.0.1", 10017 + (i * 10), mock(IRiakClient.class)));
+        }
+        return nodes;
+    }
+
+    @Test
+    public void testRoundRobin() {
+        List<ConnectionPool.Node> nodes = nodes(3);
+        ConnectionPool pool = new ConnectionPool(nodes, 4, ConnectionPool.Strategy.ROUND_ROBIN);
+        for (int i = 0; i < 6; i++) {
+            ConnectionPool.Node n = pool.acquire();
+            assertSame(nodes.get(i % 3), n);
+            pool.release(n.getClient());
+        }
+        for (ConnectionPool.Node n : nodes) {
+            assertEquals(2, n.getRequests());
+            assertEquals(0, n.getOutstanding());
+        }
+    }
+
+    @Test
+    public void testLeastOutstanding() {
+        List<ConnectionPool.Node> nodes = nodes(3);
+        ConnectionPool pool = new ConnectionPool(nodes, 4, ConnectionPool.Strategy.LEAST_OUTSTANDING);
+        // hold on to one node, the others should be picked until they catch up
+        ConnectionPool.Node busy = pool.acquire();
+        for (int i = 0; i < 2; i++) {
+            ConnectionPool.Node n = pool.acquire();
+            assertTrue(n != busy);
+        }
+        assertEquals(3, pool.getInUse());
+        for (ConnectionPool.Node n : nodes) {
+            assertEquals(1, n.getOutstanding());
+        }
+    }
+
+    @Test
+    public void testMarkFailed() {
+        List<ConnectionPool.Node> nodes = nodes(3);
+        ConnectionPool pool = new ConnectionPool(nodes, 4, ConnectionPool.Strategy.ROUND_ROBIN);
+        ConnectionPool.Node failed = nodes.get(1);
+        assertTrue(pool.markFailed(failed.getClient(), 0, 1000, 60000));
+        // more errors from the same outage don't add to the backoff
+        assertTrue(pool.markFailed(failed.getClient(), 0, 1000, 60000));
+        assertFalse(failed.isHealthy());
+        assertEquals(1, failed.getFailures());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(pool.acquire() != failed);
+        }
+        assertFalse(pool.markFailed(mock(IRiakClient.class), 0, 1000, 60000));
+    }
+
+    @Test
+    public void testStrategyFromString() {
+        assertEquals(ConnectionPool.Strategy.LEAST_OUTSTANDING,
+                ConnectionPool.Strategy.fromString("least_outstanding"));
+        assertEquals(ConnectionPool.Strategy.ROUND_ROBIN,
+                ConnectionPool.Strategy.fromString(null));
+    }
+}
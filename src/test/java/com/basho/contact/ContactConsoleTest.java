@@ -0,0 +1,150 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.commands.core.MultiFetchCommand;
+import com.basho.contact.parser.ContactBaseListener;
+import com.basho.contact.plan.CommandNode;
+import com.basho.contact.plan.Plan;
+import com.basho.contact.plan.PlanExecutor;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.bucket.Bucket;
+import com.basho.riak.client.bucket.FetchBucket;
+import com.basho.riak.client.builders.RiakObjectBuilder;
+import com.basho.riak.client.operations.FetchObject;
+import org.junit.Test;
+
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ContactConsoleTest {
+
+    private final List<String> fetched = Collections.synchronizedList(new ArrayList<String>());
+    private final List<Plan> windows = new ArrayList<Plan>();
+
+    private RuntimeContext context() throws Exception {
+        final Bucket bucket = mock(Bucket.class);
+        when(bucket.fetch(anyString())).thenAnswer(new org.mockito.stubbing.Answer<FetchObject<IRiakObject>>() {
+            public FetchObject<IRiakObject> answer(org.mockito.invocation.InvocationOnMock invocation) {
+                final String key = (String) invocation.getArguments()[0];
+                return new FetchObject<IRiakObject>(null, null, null, null) {
+                    @Override
+                    public IRiakObject execute() {
+                        fetched.add(key);
+                        return RiakObjectBuilder.newBuilder("Foo", key).withValue(key).build();
+                    }
+                };
+            }
+        });
+        final FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+        return new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                return client;
+            }
+        }, System.out, System.err);
+    }
+
+    // runs the script as --infile does, keeping each window's plan
+    private PlanExecutor runScript(RuntimeContext ctx, String script) throws Exception {
+        PlanExecutor executor = new PlanExecutor(ctx) {
+            @Override
+            public void execute(Plan plan) {
+                windows.add(plan);
+                super.execute(plan);
+            }
+        };
+        ContactConsole.runScript(new StatementReader(new StringReader(script)), "test", new ParserPipeline(ctx),
+                new ContactWalker(ctx), executor, new ArrayList<ContactBaseListener>(), ctx,
+                new PrintWriter(new StringWriter()), false);
+        return executor;
+    }
+
+    @Test
+    public void testWindows() throws Exception {
+        RuntimeContext ctx = context();
+        PlanExecutor executor = runScript(ctx,
+                "use bucket \"Foo\";\n" +
+                "fetch \"A\";\n" +
+                "fetch \"B\";\n" +
+                "fetch \"C\";\n" +
+                "use bucket \"Bar\";\n" +
+                "fetch \"D\";\n" +
+                "for i in 1..2 { fetch \"k\" + i; }\n" +
+                "fetch \"E\";\n");
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(new HashSet<String>(Arrays.asList("A", "B", "C", "D", "k1", "k2", "E")),
+                new HashSet<String>(fetched));
+
+        // a use or a loop starts a new window
+        assertEquals(3, windows.size());
+        assertEquals(4, windows.get(0).size());
+        assertEquals(2, windows.get(1).size());
+        assertEquals(2, windows.get(2).size());
+
+        // the fetches in the first window are merged
+        Plan optimized = executor.optimize(windows.get(0));
+        assertEquals(2, optimized.size());
+        assertTrue(((CommandNode) optimized.getNodes().get(1)).getCommand() instanceof MultiFetchCommand);
+    }
+
+    @Test
+    public void testWindowSize() throws Exception {
+        RuntimeContext ctx = context();
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < ContactConsole.SCRIPT_WINDOW * 2 + 5; i++) {
+            script.append("using bucket \"Foo\" fetch \"k").append(i).append("\";\n");
+        }
+        runScript(ctx, script.toString());
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(ContactConsole.SCRIPT_WINDOW * 2 + 5, fetched.size());
+        assertEquals(3, windows.size());
+        assertEquals(ContactConsole.SCRIPT_WINDOW, windows.get(0).size());
+        assertEquals(5, windows.get(2).size());
+    }
+
+    @Test
+    public void testSyntaxErrorRunsEarlierStatements() throws Exception {
+        RuntimeContext ctx = context();
+        runScript(ctx, "use bucket \"Foo\"; fetch \"A\"; fetch ; fetch \"B\";");
+        assertEquals(Arrays.asList("A"), fetched);
+        assertEquals(1, windows.size());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.symbols.ResultSymbol;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+public class ContactExecutorTest {
+
+    // lane counters are updated just after the task's future completes
+    private static void waitForCompleted(ContactExecutor.Lane lane, long count) throws InterruptedException {
+        for (int i = 0; i < 100 && lane.getCompleted() < count; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testBulkWorkDoesntBlockInteractive() throws Exception {
+        ContactExecutor executor = new ContactExecutor();
+        executor.configure(ContactExecutor.PoolType.FIXED, 2, 10);
+        final CountDownLatch release = new CountDownLatch(1);
+        Callable<ResultSymbol> blocked = new Callable<ResultSymbol>() {
+            public ResultSymbol call() throws Exception {
+                release.await(5, TimeUnit.SECONDS);
+                return new ResultSymbol(null);
+            }
+        };
+        // fill the bulk lane and part of its queue
+        for (int i = 0; i < 4; i++) {
+            executor.submitAsyncTask(blocked);
+        }
+        Thread.sleep(50);
+        assertEquals(2, executor.getBulkLane().getActive());
+        assertEquals(2, executor.getBulkLane().getQueued());
+
+        Future<?> f = executor.submitTask(new Callable<ResultSymbol>() {
+            public ResultSymbol call() throws Exception {
+                return new ResultSymbol(null);
+            }
+        });
+        assertNotNull(f.get(1, TimeUnit.SECONDS));
+        waitForCompleted(executor.getInteractiveLane(), 1);
+        assertEquals(1, executor.getInteractiveLane().getCompleted());
+
+        release.countDown();
+        executor.awaitAsyncTasks();
+        waitForCompleted(executor.getBulkLane(), 4);
+        assertEquals(4, executor.getBulkLane().getCompleted());
+        assertEquals(0, executor.getBulkLane().getQueued());
+    }
+
+    @Test
+    public void testFullQueueRunsOnCaller() throws Exception {
+        ContactExecutor executor = new ContactExecutor();
+        executor.configure(ContactExecutor.PoolType.FIXED, 1, 1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread caller = Thread.currentThread();
+        final Thread[] ranOn = new Thread[1];
+        executor.submitAsyncTask(new Callable<ResultSymbol>() {
+            public ResultSymbol call() throws Exception {
+                release.await(5, TimeUnit.SECONDS);
+                return null;
+            }
+        });
+        executor.submitAsyncTask(new Callable<ResultSymbol>() {
+            public ResultSymbol call() throws Exception {
+                return null;
+            }
+        });
+        executor.submitAsyncTask(new Callable<ResultSymbol>() {
+            public ResultSymbol call() throws Exception {
+                ranOn[0] = Thread.currentThread();
+                return null;
+            }
+        });
+        assertEquals(caller, ranOn[0]);
+        release.countDown();
+        executor.awaitAsyncTasks();
+    }
+
+    @Test
+    public void testConfigure() throws Exception {
+        ContactExecutor executor = new ContactExecutor();
+        assertEquals(ContactExecutor.PoolType.FIXED, executor.getPoolType());
+        assertEquals(ContactExecutor.DEFAULT_POOL_SIZE, executor.getPoolSize());
+
+        executor.configure(ContactExecutor.PoolType.WORKSTEALING, 4, 100);
+        assertEquals(ContactExecutor.PoolType.WORKSTEALING, executor.getPoolType());
+        Future<?> f = executor.submitTask(new Callable<ResultSymbol>() {
+            public ResultSymbol call() throws Exception {
+                return new ResultSymbol(null);
+            }
+        });
+        assertNotNull(f.get(1, TimeUnit.SECONDS));
+
+        try {
+            executor.configure(ContactExecutor.PoolType.FIXED, 0, 100);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // settings are unchanged
+            assertEquals(4, executor.getPoolSize());
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void testConfigureWhileSubmitting() throws Exception {
+        final ContactExecutor executor = new ContactExecutor();
+        executor.configure(ContactExecutor.PoolType.FIXED, 2, 4);
+        final AtomicInteger ran = new AtomicInteger();
+        final List<Future<ResultSymbol>> futures = new ArrayList<Future<ResultSymbol>>();
+        final Callable<ResultSymbol> task = new Callable<ResultSymbol>() {
+            public ResultSymbol call() throws Exception {
+                ran.incrementAndGet();
+                return new ResultSymbol(null);
+            }
+        };
+        Thread submitter = new Thread() {
+            public void run() {
+                for (int i = 0; i < 5000; i++) {
+                    futures.add(executor.submitAsyncTask(task));
+                }
+            }
+        };
+        submitter.start();
+        while (submitter.isAlive()) {
+            executor.configure(ContactExecutor.PoolType.FIXED, 2, 4);
+        }
+        submitter.join();
+        // tasks that reached a lane after it was replaced still run
+        for (Future<ResultSymbol> f : futures) {
+            assertNotNull(f.get());
+        }
+        assertEquals(5000, ran.get());
+        executor.awaitAsyncTasks();
+        assertEquals(0, executor.getBulkLane().getQueued());
+    }
+}
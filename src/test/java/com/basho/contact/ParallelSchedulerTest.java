@@ -0,0 +1,204 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.commands.RiakCommand;
+import com.basho.contact.commands.core.FetchCommand;
+import com.basho.contact.commands.core.ListKeysCommand;
+import com.basho.contact.commands.core.StoreCommand;
+import com.basho.contact.symbols.KeysSymbol;
+import com.basho.contact.symbols.ResultSymbol;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelSchedulerTest {
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static RiakCommand<?, ?> store(String bucket, String key, final Runnable body) {
+        StoreCommand cmd = new StoreCommand() {
+            @Override
+            protected boolean requiresConnection() {
+                return false;
+            }
+
+            @Override
+            protected ResultSymbol exec(RuntimeContext runtimeCtx) {
+                body.run();
+                return new ResultSymbol(null);
+            }
+        };
+        cmd.params.bucket = bucket;
+        cmd.params.key = key;
+        return cmd;
+    }
+
+    private static RiakCommand<?, ?> fetch(String bucket, String key, final Runnable body) {
+        FetchCommand cmd = new FetchCommand() {
+            @Override
+            protected boolean requiresConnection() {
+                return false;
+            }
+
+            @Override
+            protected ResultSymbol exec(RuntimeContext runtimeCtx) {
+                body.run();
+                return new ResultSymbol(null);
+            }
+        };
+        cmd.params.bucket = bucket;
+        cmd.params.key = key;
+        return cmd;
+    }
+
+    private static RiakCommand<?, ?> listKeys(String bucket, final Runnable body) {
+        ListKeysCommand cmd = new ListKeysCommand() {
+            @Override
+            protected boolean requiresConnection() {
+                return false;
+            }
+
+            @Override
+            protected KeysSymbol exec(RuntimeContext runtimeCtx) {
+                body.run();
+                return new KeysSymbol(null, 0);
+            }
+        };
+        cmd.params.bucket = bucket;
+        return cmd;
+    }
+
+    @Test
+    public void testIndependentStatementsRunConcurrently() {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        ParallelScheduler scheduler = new ParallelScheduler(ctx, 4, System.out);
+        final CountDownLatch latch = new CountDownLatch(4);
+        final List<Boolean> results = Collections.synchronizedList(new ArrayList<Boolean>());
+        Runnable body = new Runnable() {
+            public void run() {
+                latch.countDown();
+                try {
+                    // only succeeds if all 4 are running at the same time
+                    results.add(latch.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    results.add(false);
+                }
+            }
+        };
+        for (int i = 0; i < 4; i++) {
+            scheduler.schedule(store("Foo", "key" + i, body));
+        }
+        scheduler.barrier();
+        assertEquals(4, results.size());
+        assertTrue(!results.contains(false));
+        assertEquals(4, scheduler.getMaxRunning());
+        assertEquals(0, ctx.getErrors().size());
+    }
+
+    @Test
+    public void testDependentStatementsRunInOrder() {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        ParallelScheduler scheduler = new ParallelScheduler(ctx, 4, System.out);
+        final List<String> order = Collections.synchronizedList(new ArrayList<String>());
+
+        scheduler.schedule(store("Foo", "A", new Runnable() {
+            public void run() {
+                pause(100);
+                order.add("store A");
+            }
+        }));
+        scheduler.schedule(fetch("Foo", "A", new Runnable() {
+            public void run() {
+                order.add("fetch A");
+            }
+        }));
+        scheduler.schedule(store("Foo", "B", new Runnable() {
+            public void run() {
+                pause(50);
+                order.add("store B");
+            }
+        }));
+        scheduler.schedule(listKeys("Foo", new Runnable() {
+            public void run() {
+                order.add("list keys");
+            }
+        }));
+        scheduler.schedule(store("Foo", "C", new Runnable() {
+            public void run() {
+                order.add("store C");
+            }
+        }));
+        scheduler.barrier();
+
+        assertEquals(5, order.size());
+        assertTrue(order.indexOf("store A") < order.indexOf("fetch A"));
+        assertTrue(order.indexOf("store A") < order.indexOf("list keys"));
+        assertTrue(order.indexOf("store B") < order.indexOf("list keys"));
+        assertTrue(order.indexOf("list keys") < order.indexOf("store C"));
+        // store B doesn't have to wait for store A
+        assertTrue(order.indexOf("store B") < order.indexOf("store A"));
+    }
+
+    @Test
+    public void testOutputIsWrittenInStatementOrder() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream underlying = new PrintStream(bytes, true);
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        ParallelScheduler scheduler = new ParallelScheduler(ctx, 4, underlying);
+        final PrintStream out = scheduler.getOutputStream();
+
+        scheduler.schedule(store("Foo", "A", new Runnable() {
+            public void run() {
+                pause(100);
+                out.println("first");
+            }
+        }));
+        scheduler.schedule(store("Foo", "B", new Runnable() {
+            public void run() {
+                out.println("second");
+            }
+        }));
+        scheduler.barrier();
+        out.println("third");
+
+        String nl = System.getProperty("line.separator");
+        assertEquals("first" + nl + "second" + nl + "third" + nl, bytes.toString());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.parser.ContactParserTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Times parsing with a new lexer and parser per input and full LL prediction
+// (how ContactConsole used to parse) against ParserPipeline. Not a unit test, run with
+//   java -cp target/classes:target/test-classes:<deps> com.basho.contact.ParserBenchmark [copies]
+// The test scripts are parsed once as a single big --infile style input
+// of that many copies, and once as one input per script, like console lines.
+public class ParserBenchmark {
+
+    interface Parse {
+        void parse(String input);
+    }
+
+    static long time(Parse p, List<String> inputs, int rounds) {
+        for (int i = 0; i < rounds / 5 + 1; i++) {
+            for (String input : inputs) {
+                p.parse(input);
+            }
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            for (String input : inputs) {
+                p.parse(input);
+            }
+        }
+        return (System.nanoTime() - start) / 1000000;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int copies = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        final RuntimeContext ctx = new RuntimeContext(null, System.out, System.err);
+        List<String> scripts = new ArrayList<String>();
+        StringBuilder big = new StringBuilder();
+        for (String name : ParserPipelineTest.SCRIPTS) {
+            scripts.add(ContactParserTest.loadResource(name));
+        }
+        for (int i = 0; i < copies; i++) {
+            for (String script : scripts) {
+                big.append(script).append("\n");
+            }
+        }
+        List<String> infile = new ArrayList<String>();
+        infile.add(big.toString());
+
+        Parse ll = new Parse() {
+            public void parse(String input) {
+                ParserPipelineTest.parseLL(ctx, input);
+            }
+        };
+        final ParserPipeline pipeline = new ParserPipeline(ctx);
+        Parse sll = new Parse() {
+            public void parse(String input) {
+                pipeline.parse(input);
+            }
+        };
+
+        System.out.println("infile (" + big.length() / 1024 + "KB), 5 rounds");
+        System.out.println("  new parser, LL:  " + time(ll, infile, 5) + "ms");
+        System.out.println("  ParserPipeline:  " + time(sll, infile, 5) + "ms");
+        System.out.println("lines (" + scripts.size() + " inputs), " + copies + " rounds");
+        System.out.println("  new parser, LL:  " + time(ll, scripts, copies) + "ms");
+        System.out.println("  ParserPipeline:  " + time(sll, scripts, copies) + "ms");
+        System.out.println(pipeline);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.parser.ContactLexer;
+import com.basho.contact.parser.ContactParser;
+import com.basho.contact.parser.ContactParserTest;
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParserPipelineTest {
+
+    static final String[] SCRIPTS = {
+            "actions.test", "async.test", "connection.test", "delete.test", "fetch.test",
+            "here_doc.test", "keywords.test", "misc.test", "query.test", "resolver.test", "store.test"
+    };
+
+    static ContactParser.ProgContext parseLL(RuntimeContext ctx, String script) {
+        ContactParser parser = new ContactParser(new CommonTokenStream(new ContactLexer(new ANTLRInputStream(script))));
+        parser.addErrorListener(new ContactErrorListener(ctx));
+        return parser.prog();
+    }
+
+    @Test
+    public void testSameTreeAsLL() throws Exception {
+        RuntimeContext ctx = new RuntimeContext(null, System.out, System.err);
+        ParserPipeline pipeline = new ParserPipeline(ctx);
+        for (String name : SCRIPTS) {
+            String script = ContactParserTest.loadResource(name);
+            assertEquals(name, parseLL(ctx, script).toStringTree(), pipeline.parse(script).toStringTree());
+        }
+        assertEquals(SCRIPTS.length, pipeline.getParses());
+        assertEquals(0, pipeline.getLLParses());
+    }
+
+    @Test
+    public void testSyntaxError() {
+        RuntimeContext ctx = new RuntimeContext(null, System.out, System.err);
+        ParserPipeline pipeline = new ParserPipeline(ctx);
+        try {
+            pipeline.parse("fetch fetch;");
+            fail("expected a syntax error");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage().startsWith("Syntax error"));
+        }
+        assertTrue(ctx.isParseError());
+        assertEquals(1, pipeline.getLLParses());
+
+        // the next input starts from a clean parser
+        ctx.reset();
+        assertEquals(2, pipeline.parse("use bucket \"Foo\"; fetch \"A\";").stat().size());
+        assertEquals(1, pipeline.getLLParses());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.plan.Plan;
+import com.basho.contact.plan.PlanExecutor;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.bucket.Bucket;
+import com.basho.riak.client.bucket.FetchBucket;
+import com.basho.riak.client.builders.RiakObjectBuilder;
+import com.basho.riak.client.operations.FetchObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PreparedStatementTest {
+
+    private final List<String> fetched = Collections.synchronizedList(new ArrayList<String>());
+    private final List<String> connections = Collections.synchronizedList(new ArrayList<String>());
+
+    private RuntimeContext context() throws Exception {
+        final Bucket bucket = mock(Bucket.class);
+        when(bucket.fetch(anyString())).thenAnswer(new org.mockito.stubbing.Answer<FetchObject<IRiakObject>>() {
+            public FetchObject<IRiakObject> answer(org.mockito.invocation.InvocationOnMock invocation) {
+                final String key = (String) invocation.getArguments()[0];
+                return new FetchObject<IRiakObject>(null, null, null, null) {
+                    @Override
+                    public IRiakObject execute() {
+                        fetched.add(key);
+                        return RiakObjectBuilder.newBuilder("Foo", key).withValue(key).build();
+                    }
+                };
+            }
+        });
+        final FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+        return new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                return client;
+            }
+
+            @Override
+            public IRiakClient getClientByName(String name, RuntimeContext ctx) {
+                connections.add(name);
+                return client;
+            }
+        }, System.out, System.err);
+    }
+
+    private void run(RuntimeContext ctx, String script) {
+        Plan plan = new ContactWalker(ctx).compile(new ParserPipeline(ctx).parse(script));
+        new PlanExecutor(ctx).execute(plan);
+    }
+
+    @Test
+    public void testExecute() throws Exception {
+        RuntimeContext ctx = context();
+        run(ctx, "use bucket \"Foo\";" +
+                 "prepare lookup = fetch ?;" +
+                 "execute lookup with \"A\";" +
+                 "execute lookup with \"B\";");
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(Arrays.asList("A", "B"), fetched);
+        assertEquals(1, ctx.getPreparedStatement("lookup").getParameterCount());
+    }
+
+    @Test
+    public void testExecuteOverBinding() throws Exception {
+        RuntimeContext ctx = context();
+        run(ctx, "use bucket \"Foo\";" +
+                 "let found = fetch [\"A\", \"B\", \"C\"];" +
+                 "prepare lookup = using bucket \"Bar\" fetch ?;");
+        fetched.clear();
+        run(ctx, "execute lookup with keys from $found;");
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(Arrays.asList("A", "B", "C"), fetched);
+    }
+
+    @Test
+    public void testExecuteWithAssignment() throws Exception {
+        RuntimeContext ctx = context();
+        run(ctx, "use bucket \"Foo\";" +
+                 "prepare lookup = fetch ?;" +
+                 "let r = execute lookup with \"A\";");
+        assertEquals(0, ctx.getErrors().size());
+        assertNotNull(ctx.getBinding("r"));
+        assertEquals(Arrays.asList("A"), fetched);
+    }
+
+    @Test
+    public void testExecuteWithConnection() throws Exception {
+        RuntimeContext ctx = context();
+        run(ctx, "use bucket \"Foo\";" +
+                 "prepare lookup = fetch ?;" +
+                 "execute lookup with \"A\" @$other;");
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(Arrays.asList("$other"), connections);
+        assertEquals(Arrays.asList("A"), fetched);
+    }
+
+    @Test
+    public void testErrors() throws Exception {
+        RuntimeContext ctx = context();
+        run(ctx, "use bucket \"Foo\"; fetch ?;");
+        assertEquals(1, ctx.getErrors().size());
+        ctx.reset();
+
+        run(ctx, "prepare lookup = fetch ?; execute lookup with \"A\", \"B\";");
+        assertEquals(1, ctx.getErrors().size());
+        ctx.reset();
+
+        run(ctx, "execute nothing;");
+        assertEquals(1, ctx.getErrors().size());
+        assertEquals(0, fetched.size());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.actions.ChainedActionListener;
+import com.basho.contact.commands.core.params.GetBucketParams;
+import com.basho.contact.symbols.ContactSymbol;
+import com.basho.contact.symbols.KeyIterator;
+import com.basho.contact.symbols.KeysSymbol;
+import com.basho.contact.symbols.PendingSymbol;
+import com.basho.contact.symbols.ResultSymbol;
+import com.basho.contact.testing.EmptyActionListener;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RuntimeContextTest {
+
+    @Test
+    public void testImplicitAwait() {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        final ResultSymbol result = new ResultSymbol(null);
+        FutureTask<ResultSymbol> task = new FutureTask<ResultSymbol>(new Callable<ResultSymbol>() {
+            public ResultSymbol call() throws Exception {
+                return result;
+            }
+        });
+        ctx.bind("f", new PendingSymbol(task));
+        task.run();
+
+        ContactSymbol<?> sym = ctx.getBinding("f", ContactSymbol.SymbolType.RESULT);
+        assertSame(result, sym);
+        // the pending binding has been replaced
+        assertSame(result, ctx.getBinding("f", ContactSymbol.SymbolType.RESULT));
+        assertEquals(0, ctx.getErrors().size());
+    }
+
+    @Test
+    public void testRebindDeletesSpoolFile() throws Exception {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        File spool = File.createTempFile("contact-keys", ".txt");
+        File toFile = File.createTempFile("contact-keys", ".txt");
+        try {
+            ctx.bind("k", new KeysSymbol(spool, 0, true));
+            ctx.bind("t", new KeysSymbol(toFile, 0, false));
+            KeyIterator keys = ((KeysSymbol) ctx.getBinding("k")).iterateKeys();
+
+            ctx.bind("k", new KeysSymbol(null, 0, true));
+            // still being read
+            assertTrue(spool.exists());
+            keys.close();
+            assertFalse(spool.exists());
+
+            // a to_file is the user's to keep
+            ctx.bind("t", new KeysSymbol(null, 0, false));
+            assertTrue(toFile.exists());
+        } finally {
+            spool.delete();
+            toFile.delete();
+        }
+    }
+
+    @Test
+    public void testAwaitFailedCommand() {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        FutureTask<ResultSymbol> task = new FutureTask<ResultSymbol>(new Callable<ResultSymbol>() {
+            public ResultSymbol call() throws Exception {
+                throw new Exception("boom");
+            }
+        });
+        ctx.bind("f", new PendingSymbol(task));
+        task.run();
+
+        assertNull(ctx.awaitBinding("f"));
+        assertEquals(1, ctx.getErrors().size());
+        // the failed binding is gone rather than bound to null
+        assertNull(ctx.getBinding("f", ContactSymbol.SymbolType.RESULT));
+        assertEquals("Unknown binding f", ctx.getErrors().get(1).getMessage());
+    }
+
+    @Test
+    public void testNullBinding() {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        // what a failed command leaves behind
+        ctx.bind("f", null);
+        assertNull(ctx.getBinding("f", ContactSymbol.SymbolType.RESULT));
+        assertEquals(1, ctx.getErrors().size());
+    }
+
+    @Test
+    public void testAwaitAll() throws Exception {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        Future<ResultSymbol> f = ctx.getExecutor().submitAsyncTask(new Callable<ResultSymbol>() {
+            public ResultSymbol call() throws Exception {
+                Thread.sleep(50);
+                return new ResultSymbol(null);
+            }
+        });
+        ctx.bind("f", new PendingSymbol(f));
+        ctx.awaitAll();
+        assertEquals(ContactSymbol.SymbolType.RESULT, ctx.getBinding("f", ContactSymbol.SymbolType.RESULT).type);
+        assertEquals(0, ctx.getExecutor().getAsyncTaskCount());
+    }
+
+    static class CountingListener extends EmptyActionListener {
+        int inits = 0;
+        int calls = 0;
+
+        @Override
+        public void init() {
+            inits++;
+        }
+
+        @Override
+        public void postGetBucket(GetBucketParams.Post params) {
+            calls++;
+        }
+    }
+
+    private String postGetBucket(RuntimeContext ctx, ByteArrayOutputStream bytes) {
+        bytes.reset();
+        GetBucketParams.Post params = new GetBucketParams.Post();
+        params.bucket = "Foo";
+        ctx.getActionListener().postGetBucket(params);
+        return bytes.toString().trim();
+    }
+
+    @Test
+    public void testPlugins() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), new PrintStream(bytes, true), System.err);
+        assertSame(ctx.getJSActionListener(), ctx.getActionListener());
+
+        CountingListener chained = new CountingListener();
+        ctx.addActionListener(chained, false);
+        assertTrue(ctx.getActionListener() instanceof ChainedActionListener);
+        assertEquals("Foo", postGetBucket(ctx, bytes));
+        assertEquals(1, chained.inits);
+        assertEquals(1, chained.calls);
+
+        CountingListener replacing = new CountingListener();
+        ctx.addActionListener(replacing, true);
+        assertEquals("", postGetBucket(ctx, bytes));
+        assertEquals(2, chained.calls);
+        assertEquals(1, replacing.calls);
+        // resolvers still come from the Javascript listener
+        assertSame(ctx.getJSActionListener(), ctx.getActionListener().getResolverMill());
+
+        // plugins survive the Javascript listener being recreated
+        ctx.resetIO(new PrintStream(bytes, true), System.err);
+        assertEquals("", postGetBucket(ctx, bytes));
+        assertEquals(2, replacing.calls);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact;
+
+import com.basho.contact.parser.ContactParser;
+import com.basho.contact.parser.ContactParserTest;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class StatementReaderTest {
+
+    private static List<String> split(String script) throws Exception {
+        StatementReader reader = new StatementReader(new StringReader(script));
+        List<String> statements = new ArrayList<String>();
+        String s;
+        while ((s = reader.next()) != null) {
+            statements.add(s);
+        }
+        return statements;
+    }
+
+    @Test
+    public void testSplit() throws Exception {
+        String script =
+                "// a comment; with a semicolon\n" +
+                "fetch \"a;b\";\n" +
+                "/* another; */ store \"k\" with text \"\\\";\";\n" +
+                "script ~%~ var x = 1; \\~%~; ~%~;\n" +
+                "fetch \"c\"; // trailing; comment\n";
+        assertEquals(Arrays.asList(
+                "fetch \"a;b\";",
+                "store \"k\" with text \"\\\";\";",
+                "script ~%~ var x = 1; \\~%~; ~%~;",
+                "fetch \"c\";"), split(script));
+    }
+
+    @Test
+    public void testLoops() throws Exception {
+        String script =
+                "for i in 1..2 { store \"k\" + i with text \"}\"; for j in 1..2 { fetch \"k\" + j; } };\n" +
+                "for k in $keys { delete k; }\n" +
+                "fetch \"a\";";
+        assertEquals(Arrays.asList(
+                "for i in 1..2 { store \"k\" + i with text \"}\"; for j in 1..2 { fetch \"k\" + j; } }",
+                "for k in $keys { delete k; }",
+                "fetch \"a\";"), split(script));
+    }
+
+    @Test
+    public void testLines() throws Exception {
+        StatementReader reader = new StatementReader(new StringReader("fetch \"a\";\n\n  fetch\n\"b\";\nfetch \"c\""));
+        reader.next();
+        assertEquals(1, reader.getLine());
+        assertEquals("fetch\n\"b\";", reader.next());
+        assertEquals(3, reader.getLine());
+        // no ; at the end, left for the parser to report
+        assertEquals("fetch \"c\"", reader.next());
+        assertNull(reader.next());
+    }
+
+    private static int count(ContactParser.ProgContext prog) {
+        return prog.stat().size() + prog.for_loop().size();
+    }
+
+    @Test
+    public void testTestScripts() throws Exception {
+        RuntimeContext ctx = new RuntimeContext(null, System.out, System.err);
+        ParserPipeline pipeline = new ParserPipeline(ctx);
+        for (String name : ParserPipelineTest.SCRIPTS) {
+            String script = ContactParserTest.loadResource(name);
+            int expected = count(pipeline.parse(script));
+            int statements = 0;
+            for (String statement : split(script)) {
+                statements += count(pipeline.parse(statement));
+            }
+            assertEquals(name, expected, statements);
+            assertEquals(name, expected, split(script).size());
+        }
+    }
+}
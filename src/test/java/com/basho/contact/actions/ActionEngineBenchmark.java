@@ -0,0 +1,89 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.actions;
+
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.commands.core.params.FetchParams;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.builders.RiakObjectBuilder;
+import org.apache.commons.io.output.NullOutputStream;
+
+import java.io.PrintStream;
+import java.util.HashMap;
+
+// Times the postfetch path for each script engine. Not a unit test, run with
+//   java -cp target/classes:target/test-classes:<deps> com.basho.contact.actions.ActionEngineBenchmark [iterations]
+public class ActionEngineBenchmark {
+    static final String POSTFETCH =
+            "if(riak_object != undefined) { var j = JSON.parse(riak_object.getValueAsString()); println(j.name + ' ' + key); }";
+
+    static long run(String engine, int optimizationLevel, int iterations) {
+        PrintStream out = new PrintStream(new NullOutputStream());
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), out, out);
+        ctx.configureScripting(engine, optimizationLevel);
+        JSActionListener listener = ctx.getJSActionListener();
+        listener.setJSBody(JSActionListener.POSTFETCH, POSTFETCH);
+
+        IRiakObject o = RiakObjectBuilder.newBuilder("Foo", "k")
+                .withValue("{\"name\":\"dave\",\"age\":99}").build();
+        FetchParams.Post params = new FetchParams.Post();
+        params.bucket = "Foo";
+        params.key = "k";
+        params.object = o;
+        params.fetchMetadata = new HashMap<String, String>();
+        params.ctx = ctx;
+
+        // warm up
+        for (int i = 0; i < iterations / 10; i++) {
+            listener.postFetchAction(params);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            listener.postFetchAction(params);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (!ctx.getErrors().isEmpty()) {
+            throw new RuntimeException(ctx.getErrors().get(0));
+        }
+        return elapsed;
+    }
+
+    static void report(String engine, int optimizationLevel, int iterations) {
+        try {
+            long nanos = run(engine, optimizationLevel, iterations);
+            System.out.printf("%-10s opt %2d  %8d ops/s  %6.2f us/op%n", engine, optimizationLevel,
+                    iterations * 1000000000L / nanos, nanos / 1000.0 / iterations);
+        } catch (Exception e) {
+            System.out.println(engine + " unavailable: " + e.getMessage());
+        }
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        report("rhino", -1, iterations);
+        report("rhino", 0, iterations);
+        report("rhino", 9, iterations);
+        report("nashorn", 0, iterations);
+    }
+}
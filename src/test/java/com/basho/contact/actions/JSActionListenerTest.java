@@ -0,0 +1,295 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.actions;
+
+import com.basho.contact.ContactWalker;
+import com.basho.contact.ParserPipeline;
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.commands.core.params.FetchParams;
+import com.basho.contact.commands.core.params.GetBucketParams;
+import com.basho.contact.plan.Plan;
+import com.basho.contact.plan.PlanExecutor;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.cap.ConflictResolver;
+import org.junit.Assume;
+import org.junit.Test;
+import org.mozilla.javascript.Scriptable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngineManager;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class JSActionListenerTest {
+
+    private GetBucketParams.Post params(String bucket) {
+        GetBucketParams.Post params = new GetBucketParams.Post();
+        params.bucket = bucket;
+        return params;
+    }
+
+    @Test
+    public void testCompiledOnce() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), new PrintStream(bytes, true), System.err);
+        JSActionListener listener = ctx.getJSActionListener();
+
+        listener.setJSBody(JSActionListener.POSTGETBUCKET, "print(bucket + ';');");
+        Object script = listener.compileAction(JSActionListener.POSTGETBUCKET);
+        listener.postGetBucket(params("a"));
+        listener.postGetBucket(params("b"));
+        assertSame(script, listener.compileAction(JSActionListener.POSTGETBUCKET));
+        assertEquals("a;b;", bytes.toString());
+
+        // changing the body replaces the compiled script
+        listener.setJSBody(JSActionListener.POSTGETBUCKET, "print(bucket.toUpperCase() + ';');");
+        assertNotSame(script, listener.compileAction(JSActionListener.POSTGETBUCKET));
+        listener.postGetBucket(params("c"));
+        assertEquals("a;b;C;", bytes.toString());
+        assertEquals(0, ctx.getErrors().size());
+    }
+
+    @Test
+    public void testEmptyBody() throws Exception {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        JSActionListener listener = ctx.getJSActionListener();
+        listener.setJSBody(JSActionListener.POSTGETBUCKET, "");
+        assertNull(listener.compileAction(JSActionListener.POSTGETBUCKET));
+        listener.postGetBucket(params("a"));
+        assertEquals(0, ctx.getErrors().size());
+    }
+
+    @Test
+    public void testCompileError() {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        ctx.getJSActionListener().setJSBody(JSActionListener.POSTGETBUCKET, "println(");
+        assertEquals(1, ctx.getErrors().size());
+    }
+
+    @Test
+    public void testResolverDefinedOnce() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), new PrintStream(bytes, true), System.err);
+        JSActionListener listener = ctx.getJSActionListener();
+        // the closure state survives between calls only if the definition isn't re-evaluated
+        listener.defineResolver("Foo", "(function() { var calls = 0; " +
+                "return function(siblings) { calls++; print('' + calls + ';'); return siblings.iterator().next(); }; })();");
+        ConflictResolver<IRiakObject> resolver = listener.getResolverForBucket("Foo");
+
+        IRiakObject first = mock(IRiakObject.class);
+        List<IRiakObject> siblings = Arrays.asList(first, mock(IRiakObject.class));
+        assertSame(first, resolver.resolve(siblings));
+        assertSame(first, resolver.resolve(siblings));
+        assertEquals("1;2;", bytes.toString());
+
+        assertEquals(2, listener.getResolverStats().getCalls());
+        assertEquals(4, listener.getResolverStats().getSiblings());
+        assertEquals(0, ctx.getErrors().size());
+    }
+
+    @Test
+    public void testInvalidResolver() {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        JSActionListener listener = ctx.getJSActionListener();
+        listener.defineResolver("Foo", "42;");
+        assertEquals(1, ctx.getErrors().size());
+        assertSame(listener.defaultResolver, listener.getResolverForBucket("Foo"));
+    }
+
+    @Test
+    public void testBindingPlan() {
+        BindingPlan plan = BindingPlan.forClass(FetchParams.Post.class);
+        assertSame(plan, BindingPlan.forClass(FetchParams.Post.class));
+        assertEquals(7, plan.getNames().length);
+
+        BindingPlan referenced = plan.referencedBy("if(riak_object != undefined) { println(key + bucketname); }");
+        String[] names = referenced.getNames();
+        Arrays.sort(names);
+        assertArrayEquals(new String[] { "key", "riak_object" }, names);
+    }
+
+    @Test
+    public void testConcurrentActions() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), new PrintStream(bytes, true), System.err);
+        final JSActionListener listener = ctx.getJSActionListener();
+        listener.setJSBody(JSActionListener.POSTGETBUCKET,
+                "var b = bucket; for (var i = 0; i < 1000; i++) { } " +
+                "if (b != bucket) { println('clobbered'); } println(bucket);");
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        Set<String> expected = new HashSet<String>();
+        for (int i = 0; i < 200; i++) {
+            final String bucket = "b" + i;
+            expected.add(bucket);
+            futures.add(pool.submit(new Callable<Object>() {
+                public Object call() {
+                    listener.postGetBucket(params(bucket));
+                    return null;
+                }
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        pool.shutdown();
+
+        Set<String> printed = new HashSet<String>();
+        Collections.addAll(printed, bytes.toString().trim().split("\\s+"));
+        assertEquals(expected, printed);
+        assertEquals(0, ctx.getErrors().size());
+        // bindings stay in the per-invocation scope
+        Scriptable shared = ((RhinoActionEngine) listener.getEngine()).scope;
+        assertSame(Scriptable.NOT_FOUND, shared.get("bucket", shared));
+    }
+
+    @Test
+    public void testInterpretedRhino() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), new PrintStream(bytes, true), System.err);
+        ctx.configureScripting("rhino", -1);
+        ctx.getJSActionListener().postGetBucket(params("a"));
+        assertEquals("a", bytes.toString().trim());
+    }
+
+    @Test
+    public void testSetScriptEngine() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), new PrintStream(bytes, true), System.err);
+        // what a ~/.contact.config could hold
+        Plan plan = new ContactWalker(ctx).compile(new ParserPipeline(ctx).parse(
+                "set action postgetbucket with javascript \"print(bucket);\";" +
+                "set script engine name = \"rhino\", optimization_level = 9;"));
+        new PlanExecutor(ctx).execute(plan);
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals("rhino", ctx.getScriptEngine());
+        assertEquals(9, ctx.getOptimizationLevel());
+        // actions set earlier carry over to the new engine
+        ctx.getJSActionListener().postGetBucket(params("a"));
+        assertEquals("a", bytes.toString());
+
+        new PlanExecutor(ctx).execute(new ContactWalker(ctx).compile(new ParserPipeline(ctx).parse(
+                "set script engine optimization_level = 42;")));
+        assertEquals(1, ctx.getErrors().size());
+        assertEquals(9, ctx.getOptimizationLevel());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidScriptingConfig() {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        ctx.configureScripting("rhino", 42);
+    }
+
+    @Test
+    public void testScriptEngine() throws Exception {
+        // JSR-223 Javascript is only bundled with some JDKs
+        Assume.assumeNotNull(new ScriptEngineManager().getEngineByName("nashorn"));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), new PrintStream(bytes, true), System.err);
+        ctx.configureScripting("nashorn", 0);
+        JSActionListener listener = ctx.getJSActionListener();
+
+        listener.setJSBody(JSActionListener.POSTGETBUCKET, "print(bucket + ';');");
+        assertTrue(listener.compileAction(JSActionListener.POSTGETBUCKET) instanceof CompiledScript);
+        listener.postGetBucket(params("a"));
+        listener.postGetBucket(params("b"));
+        assertEquals("a;b;", bytes.toString());
+
+        listener.defineResolver("Foo", "function(siblings) { return siblings.iterator().next(); }");
+        IRiakObject first = mock(IRiakObject.class);
+        assertSame(first, listener.getResolverForBucket("Foo").resolve(Arrays.asList(first, mock(IRiakObject.class))));
+        assertEquals(0, ctx.getErrors().size());
+    }
+
+    @Test
+    public void testInstructionLimit() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), new PrintStream(bytes, true), System.err);
+        ctx.getScriptLimits().setMaxInstructions(100000);
+        ctx.getScriptLimits().setDisableAfter(2);
+        JSActionListener listener = ctx.getJSActionListener();
+        // scripts can't catch the abort
+        listener.setJSBody(JSActionListener.POSTGETBUCKET, "while(true) { try { for(;;) {} } catch(e) {} }");
+
+        listener.postGetBucket(params("a"));
+        assertEquals(1, ctx.getErrors().size());
+        assertEquals(1, ctx.getScriptLimits().getAborted(JSActionListener.POSTGETBUCKET));
+
+        // the second abort disables the action
+        listener.postGetBucket(params("a"));
+        assertEquals("", listener.getJSBody(JSActionListener.POSTGETBUCKET));
+        listener.postGetBucket(params("a"));
+        assertEquals(2, ctx.getScriptLimits().getAborted());
+
+        // a new body is enabled again, and cheap scripts still run
+        listener.setJSBody(JSActionListener.POSTGETBUCKET, "print(bucket);");
+        assertEquals(0, ctx.getScriptLimits().getAborted(JSActionListener.POSTGETBUCKET));
+        listener.postGetBucket(params("b"));
+        assertEquals("b", bytes.toString());
+    }
+
+    @Test
+    public void testTimeout() {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        ctx.configureScripting(JSActionListener.DEFAULT_ENGINE, -1);
+        ctx.getScriptLimits().setTimeoutMillis(50);
+        ctx.getJSActionListener().evalScript("while(true) {}");
+        assertEquals(1, ctx.getErrors().size());
+        assertEquals(1, ctx.getScriptLimits().getAborted());
+    }
+
+    @Test
+    public void testResolverLimit() {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+        ctx.getScriptLimits().setMaxInstructions(100000);
+        ctx.getScriptLimits().setDisableAfter(1);
+        JSActionListener listener = ctx.getJSActionListener();
+        listener.defineResolver("Foo", "function(siblings) { while(true) {} }");
+        ConflictResolver<IRiakObject> resolver = listener.getResolverForBucket("Foo");
+
+        // an aborted resolver falls back to the first sibling
+        IRiakObject first = mock(IRiakObject.class);
+        assertSame(first, resolver.resolve(Arrays.asList(first, mock(IRiakObject.class))));
+        assertSame(listener.defaultResolver, listener.getResolverForBucket("Foo"));
+    }
+}
@@ -22,7 +22,29 @@
 
 package com.basho.contact.commands;
 
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.actions.JSActionListener;
 import com.basho.contact.commands.core.CountKeysCommand;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.bucket.Bucket;
+import com.basho.riak.client.bucket.FetchBucket;
+import com.basho.riak.client.query.indexes.BucketIndex;
+import com.basho.riak.client.query.indexes.FetchIndex;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class CountKeysCommandTest extends AbstractBucketCommandTest {
     @Override
@@ -34,4 +56,127 @@ public class CountKeysCommandTest extends AbstractBucketCommandTest {
     public String getCommandName() {
         return "count keys";
     }
+
+    private RuntimeContext newContext(PrintStream out) throws Exception {
+        List<String> keys = new ArrayList<String>();
+        for (int i = 0; i < 1234; i++) {
+            keys.add("key" + i);
+        }
+        Bucket bucket = mock(Bucket.class);
+        when(bucket.keys()).thenReturn(keys);
+        FetchIndex<String> index = mock(FetchIndex.class);
+        when(index.withValue(anyString())).thenReturn(index);
+        when(index.execute()).thenReturn(keys);
+        when(bucket.fetchIndex(BucketIndex.index)).thenReturn(index);
+        FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                return client;
+            }
+        }, out, System.err);
+        ctx.getJSActionListener().setJSBody(JSActionListener.PRECOUNTKEYS, "");
+        ctx.getJSActionListener().setJSBody(JSActionListener.POSTCOUNTKEYS,
+                "println(strategy + ' ' + keycount + ' ' + approximate);");
+        return ctx;
+    }
+
+    private String count(String strategy) throws Exception {
+        return count(strategy, null, null);
+    }
+
+    // preHook and postHook replace the default count keys actions when set
+    private String count(String strategy, String preHook, String postHook) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuntimeContext ctx = newContext(new PrintStream(bytes, true));
+        if (preHook != null) {
+            ctx.getJSActionListener().setJSBody(JSActionListener.PRECOUNTKEYS, preHook);
+        }
+        if (postHook != null) {
+            ctx.getJSActionListener().setJSBody(JSActionListener.POSTCOUNTKEYS, postHook);
+        }
+        CountKeysCommand cmd = new CountKeysCommand();
+        cmd.params.bucket = "Foo";
+        if (strategy != null) {
+            Map<String, String> options = new HashMap<String, String>();
+            options.put("strategy", strategy);
+            cmd.params.options = options;
+        }
+        cmd.doExec(ctx);
+        assertEquals(0, ctx.getErrors().size());
+        return bytes.toString().trim();
+    }
+
+    @Test
+    public void testStreamStrategy() throws Exception {
+        assertEquals("stream 1234 false", count(null));
+        assertEquals("stream 1234 false", count("stream"));
+    }
+
+    @Test
+    public void testApproximateStrategy() throws Exception {
+        String[] result = count("approximate").split(" ");
+        assertEquals("approximate", result[0]);
+        long estimate = Long.parseLong(result[1]);
+        assertEquals(1234, estimate, 1234 * 0.03);
+        assertEquals("true", result[2]);
+    }
+
+    @Test
+    public void testUnknownStrategy() throws Exception {
+        RuntimeContext ctx = newContext(System.out);
+        CountKeysCommand cmd = new CountKeysCommand();
+        cmd.params.bucket = "Foo";
+        Map<String, String> options = new HashMap<String, String>();
+        options.put("strategy", "guess");
+        cmd.params.options = options;
+        cmd.doExec(ctx);
+        assertEquals("Unknown count keys strategy:guess", ctx.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    public void testStrategyFromString() {
+        assertEquals(CountKeysCommand.Strategy.STREAM, CountKeysCommand.Strategy.fromString(null));
+        assertEquals(CountKeysCommand.Strategy.INDEX, CountKeysCommand.Strategy.fromString("index"));
+        assertEquals(CountKeysCommand.Strategy.ERLANG, CountKeysCommand.Strategy.fromString(" Erlang "));
+        assertEquals(CountKeysCommand.Strategy.JAVASCRIPT, CountKeysCommand.Strategy.fromString("JAVASCRIPT"));
+        assertEquals(CountKeysCommand.Strategy.APPROXIMATE, CountKeysCommand.Strategy.fromString("approximate"));
+        try {
+            CountKeysCommand.Strategy.fromString("guess");
+            fail("expected an unknown strategy to be rejected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testIndexStrategy() throws Exception {
+        assertEquals("index 1234 false", count("index"));
+    }
+
+    @Test
+    public void testUnknownOption() throws Exception {
+        RuntimeContext ctx = newContext(System.out);
+        CountKeysCommand cmd = new CountKeysCommand();
+        cmd.params.bucket = "Foo";
+        Map<String, String> options = new HashMap<String, String>();
+        options.put("precision", "12");
+        cmd.params.options = options;
+        cmd.doExec(ctx);
+        assertEquals(1, ctx.getErrors().size());
+        assertEquals("Unknown count keys option:precision", ctx.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    public void testHookBindings() throws Exception {
+        String out = count("approximate", "println('pre ' + strategy);",
+                "println(bucket + ' ' + strategy + ' ' + approximate + ' ' + (elapsed_ms >= 0));");
+        assertEquals("pre approximate\nFoo approximate true true", out.replace("\r", ""));
+        out = count(null, "println('pre ' + strategy);",
+                "println(bucket + ' ' + strategy + ' ' + approximate + ' ' + (elapsed_ms >= 0));");
+        assertEquals("pre stream\nFoo stream false true", out.replace("\r", ""));
+    }
 }
@@ -24,19 +24,32 @@ package com.basho.contact.commands;
 
 import com.basho.contact.ContactConnectionProvider;
 import com.basho.contact.RuntimeContext;
+import com.basho.contact.actions.JSActionListener;
 import com.basho.contact.commands.core.FetchCommand;
 import com.basho.contact.security.DefaultAccessPolicy;
+import com.basho.contact.symbols.ResultSymbol;
 import com.basho.contact.testing.EmptyConnectionProvider;
 import com.basho.riak.client.IRiakClient;
 import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.RiakRetryFailedException;
+import com.basho.riak.client.bucket.Bucket;
 import com.basho.riak.client.bucket.FetchBucket;
 import com.basho.riak.client.operations.FetchObject;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -135,5 +148,138 @@ public class FetchCommandTest extends AbstractBucketCommandTest {
         }
 
     }
-}
 
+    private IRiakClient client(boolean up) throws Exception {
+        FetchBucket fb = mock(FetchBucket.class);
+        if (up) {
+            Bucket bucket = mock(Bucket.class);
+            when(bucket.fetch(anyString())).thenReturn(new FetchObject<IRiakObject>(null, null, null, null) {
+                @Override
+                public IRiakObject execute() {
+                    return mock(IRiakObject.class);
+                }
+            });
+            when(fb.execute()).thenReturn(bucket);
+        } else {
+            when(fb.execute()).thenThrow(new RiakRetryFailedException(new IOException("Connection refused")));
+        }
+        IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+        return client;
+    }
+
+    // the bucket can be fetched, but the node goes away before the object is
+    private IRiakClient clientLostAfterBucket() throws Exception {
+        Bucket bucket = mock(Bucket.class);
+        when(bucket.fetch(anyString())).thenReturn(new FetchObject<IRiakObject>(null, null, null, null) {
+            @Override
+            public IRiakObject execute() throws RiakRetryFailedException {
+                throw new RiakRetryFailedException(new IOException("Connection reset"));
+            }
+        });
+        FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+        return client;
+    }
+
+    private RuntimeContext context(final List<IRiakClient> nodes, final List<IRiakClient> reported,
+                                   final AtomicInteger inUse) {
+        return context(nodes, reported, inUse, System.out);
+    }
+
+    private RuntimeContext context(final List<IRiakClient> nodes, final List<IRiakClient> reported,
+                                   final AtomicInteger inUse, PrintStream out) {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                inUse.incrementAndGet();
+                for (IRiakClient c : nodes) {
+                    if (!reported.contains(c)) {
+                        return c;
+                    }
+                }
+                return nodes.get(0);
+            }
+
+            @Override
+            public void releaseClient(IRiakClient client) {
+                inUse.decrementAndGet();
+            }
+
+            @Override
+            public void reportFailure(IRiakClient client) {
+                reported.add(client);
+            }
+        }, out, System.err);
+        ctx.getJSActionListener().setJSBody(JSActionListener.PREFETCH, "println('prefetch');");
+        ctx.getJSActionListener().setJSBody(JSActionListener.POSTFETCH, "");
+        return ctx;
+    }
+
+    @Test
+    public void testRetryOnAnotherNode() throws Exception {
+        IRiakClient down = client(false);
+        List<IRiakClient> reported = new ArrayList<IRiakClient>();
+        AtomicInteger inUse = new AtomicInteger();
+        RuntimeContext ctx = context(Arrays.asList(down, client(true)), reported, inUse);
+        FetchCommand command = new FetchCommand();
+        command.params.bucket = "Foo";
+        command.params.key = "Bar";
+        ResultSymbol result = command.doExec(ctx);
+        assertNotNull(result);
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(Arrays.asList(down), reported);
+        assertEquals(0, inUse.get());
+    }
+
+    @Test
+    public void testNoOtherNode() throws Exception {
+        IRiakClient down = client(false);
+        List<IRiakClient> reported = new ArrayList<IRiakClient>();
+        AtomicInteger inUse = new AtomicInteger();
+        RuntimeContext ctx = context(Arrays.asList(down), reported, inUse);
+        FetchCommand command = new FetchCommand();
+        command.params.bucket = "Foo";
+        command.params.key = "Bar";
+        assertNull(command.doExec(ctx));
+        assertEquals(1, ctx.getErrors().size());
+        assertEquals(Arrays.asList(down), reported);
+        assertEquals(0, inUse.get());
+    }
+
+    @Test
+    public void testRetryRunsPrefetchOnce() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        List<IRiakClient> reported = new ArrayList<IRiakClient>();
+        RuntimeContext ctx = context(Arrays.asList(client(false), client(true)), reported,
+                new AtomicInteger(), new PrintStream(bytes, true));
+        FetchCommand command = new FetchCommand();
+        command.params.bucket = "Foo";
+        command.params.key = "Bar";
+        assertNotNull(command.doExec(ctx));
+        assertEquals(1, reported.size());
+        assertEquals("prefetch", bytes.toString().trim());
+    }
+
+    @Test
+    public void testNoRetryAfterPrefetch() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        IRiakClient lost = clientLostAfterBucket();
+        IRiakClient up = client(true);
+        List<IRiakClient> reported = new ArrayList<IRiakClient>();
+        AtomicInteger inUse = new AtomicInteger();
+        RuntimeContext ctx = context(Arrays.asList(lost, up), reported, inUse, new PrintStream(bytes, true));
+        FetchCommand command = new FetchCommand();
+        command.params.bucket = "Foo";
+        command.params.key = "Bar";
+        assertNull(command.doExec(ctx));
+        // the node is still reported, but the fetch isn't sent again
+        assertEquals(Arrays.asList(lost), reported);
+        assertEquals(1, ctx.getErrors().size());
+        assertEquals("prefetch", bytes.toString().trim());
+        verify(up, never()).fetchBucket(anyString());
+        assertEquals(0, inUse.get());
+    }
+}
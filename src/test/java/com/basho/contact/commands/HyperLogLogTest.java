@@ -0,0 +1,71 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.commands;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HyperLogLogTest {
+
+    private static void assertWithin(long expected, long actual, double error) {
+        double diff = Math.abs(actual - expected) / (double) expected;
+        assertTrue("expected about " + expected + " but was " + actual, diff <= error);
+    }
+
+    @Test
+    public void testEstimate() {
+        HyperLogLog hll = new HyperLogLog();
+        for (int i = 0; i < 200000; i++) {
+            hll.add("key" + i);
+        }
+        // 3 standard errors
+        assertWithin(200000, hll.estimate(), 3 * hll.getStandardError());
+    }
+
+    @Test
+    public void testHundredThousandKeys() {
+        HyperLogLog hll = new HyperLogLog();
+        for (int i = 0; i < 100000; i++) {
+            hll.add("user:" + Integer.toHexString(i * 7919));
+        }
+        assertWithin(100000, hll.estimate(), 3 * hll.getStandardError());
+    }
+
+    @Test
+    public void testDuplicates() {
+        HyperLogLog hll = new HyperLogLog();
+        for (int n = 0; n < 5; n++) {
+            for (int i = 0; i < 1000; i++) {
+                hll.add("key" + i);
+            }
+        }
+        assertWithin(1000, hll.estimate(), 0.02);
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+}
@@ -22,7 +22,31 @@
 
 package com.basho.contact.commands;
 
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.actions.JSActionListener;
 import com.basho.contact.commands.core.ListKeysCommand;
+import com.basho.contact.symbols.KeyIterator;
+import com.basho.contact.symbols.KeysSymbol;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.bucket.Bucket;
+import com.basho.riak.client.bucket.FetchBucket;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class ListKeysCommandTest extends AbstractBucketCommandTest {
     @Override
@@ -34,4 +58,75 @@ public class ListKeysCommandTest extends AbstractBucketCommandTest {
     public String getCommandName() {
         return "list keys";
     }
+
+    private RuntimeContext newContext(int keyCount, PrintStream out) throws Exception {
+        List<String> keys = new ArrayList<String>();
+        for (int i = 0; i < keyCount; i++) {
+            keys.add("key" + i);
+        }
+        Bucket bucket = mock(Bucket.class);
+        when(bucket.keys()).thenReturn(keys);
+        FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+        return new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                return client;
+            }
+        }, out, System.err);
+    }
+
+    @Test
+    public void testChunks() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RuntimeContext ctx = newContext(2500, new PrintStream(bytes, true));
+        ctx.getJSActionListener().setJSBody(JSActionListener.POSTLISTKEYS,
+                "println(keys.size() + ' ' + key_count + ' ' + last_chunk);");
+
+        ListKeysCommand cmd = new ListKeysCommand();
+        cmd.params.bucket = "Foo";
+        Map<String, String> options = new HashMap<String, String>();
+        options.put("chunk_size", "1000");
+        cmd.params.options = options;
+        KeysSymbol result = cmd.doExec(ctx);
+
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(2500, result.getCount());
+        // nothing kept
+        assertNull(result.value);
+        String nl = System.getProperty("line.separator");
+        assertEquals("1000 1000 false" + nl + "1000 2000 false" + nl + "500 2500 true" + nl, bytes.toString());
+    }
+
+    @Test
+    public void testToFile() throws Exception {
+        RuntimeContext ctx = newContext(10, new PrintStream(new ByteArrayOutputStream()));
+        File f = File.createTempFile("contact-test", ".txt");
+        f.deleteOnExit();
+
+        ListKeysCommand cmd = new ListKeysCommand();
+        cmd.params.bucket = "Foo";
+        Map<String, String> options = new HashMap<String, String>();
+        options.put("to_file", f.getPath());
+        options.put("chunk_size", "3");
+        cmd.params.options = options;
+        KeysSymbol result = cmd.doExec(ctx);
+
+        assertNotNull(result);
+        assertEquals(f, result.value);
+        KeyIterator keys = result.iterateKeys();
+        assertEquals(10, keys.getCount());
+        assertEquals("key0", keys.peek());
+        int read = 0;
+        String last = null;
+        while (keys.hasNext()) {
+            last = keys.next();
+            read++;
+        }
+        keys.close();
+        assertEquals(10, read);
+        assertEquals("key9", last);
+    }
 }
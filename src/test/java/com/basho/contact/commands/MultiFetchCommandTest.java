@@ -0,0 +1,455 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.commands;
+
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.commands.core.MultiFetchCommand;
+import com.basho.contact.commands.core.params.FetchParams;
+import com.basho.contact.symbols.KeyIterator;
+import com.basho.contact.symbols.KeysSymbol;
+import com.basho.contact.symbols.ResultsSymbol;
+import com.basho.contact.testing.EmptyActionListener;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.RiakRetryFailedException;
+import com.basho.riak.client.bucket.Bucket;
+import com.basho.riak.client.bucket.FetchBucket;
+import com.basho.riak.client.operations.FetchObject;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MultiFetchCommandTest extends AbstractBucketCommandTest {
+    @Override
+    public BucketCommand<?, ?> getCommand() {
+        MultiFetchCommand cmd = new MultiFetchCommand();
+        cmd.params.keys = Arrays.asList("A", "B");
+        return cmd;
+    }
+
+    @Override
+    public String getCommandName() {
+        return "fetch";
+    }
+
+    @Test
+    public void testFetchKeys() throws Exception {
+        final IRiakObject a = mock(IRiakObject.class);
+        final Bucket bucket = mock(Bucket.class);
+        when(bucket.fetch(anyString())).thenAnswer(new org.mockito.stubbing.Answer<FetchObject<IRiakObject>>() {
+            public FetchObject<IRiakObject> answer(org.mockito.invocation.InvocationOnMock invocation) {
+                final String key = (String) invocation.getArguments()[0];
+                return new FetchObject<IRiakObject>(null, null, null, null) {
+                    @Override
+                    public IRiakObject execute() {
+                        if (key.equals("bad")) {
+                            throw new RuntimeException("timeout");
+                        }
+                        return key.equals("A") ? a : null;
+                    }
+                };
+            }
+        });
+        final FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                return client;
+            }
+        }, System.out, System.err);
+
+        MultiFetchCommand cmd = new MultiFetchCommand();
+        cmd.params.bucket = "Foo";
+        cmd.params.keys = Arrays.asList("A", "missing", "bad");
+        Map<String, String> options = new HashMap<String, String>();
+        options.put("concurrency", "2");
+        cmd.params.options = options;
+
+        ResultsSymbol results = cmd.doExec(ctx);
+        List<MultiFetchCommand.KeyResult> keyResults = new ArrayList<MultiFetchCommand.KeyResult>();
+        for (Object o : results.value) {
+            keyResults.add((MultiFetchCommand.KeyResult) o);
+        }
+        assertEquals(3, keyResults.size());
+        assertEquals("A", keyResults.get(0).getKey());
+        assertSame(a, keyResults.get(0).getObject());
+        assertTrue(keyResults.get(1).isSuccess());
+        assertNull(keyResults.get(1).getObject());
+        assertFalse(keyResults.get(2).isSuccess());
+        assertEquals("timeout", keyResults.get(2).getError().getMessage());
+        assertEquals("1 of 3 keys could not be fetched", ctx.getErrors().get(0).getMessage());
+
+        // one bucket for all of the keys
+        verify(fb, times(1)).execute();
+        KeyIterator keys = MultiFetchCommand.keysFromSymbol(results);
+        List<String> read = new ArrayList<String>();
+        while (keys.hasNext()) {
+            read.add(keys.next());
+        }
+        assertEquals(Arrays.asList("A", "missing", "bad"), read);
+    }
+
+    @Test
+    public void testReportEachKey() throws Exception {
+        final Bucket bucket = mock(Bucket.class);
+        when(bucket.fetch(anyString())).thenAnswer(new Answer<FetchObject<IRiakObject>>() {
+            public FetchObject<IRiakObject> answer(InvocationOnMock invocation) {
+                final String key = (String) invocation.getArguments()[0];
+                return new FetchObject<IRiakObject>(null, null, null, null) {
+                    @Override
+                    public IRiakObject execute() {
+                        if (key.startsWith("bad")) {
+                            throw new RuntimeException("timeout");
+                        }
+                        return mock(IRiakObject.class);
+                    }
+                };
+            }
+        });
+        final FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket("Foo")).thenReturn(fb);
+        FetchBucket noBucket = mock(FetchBucket.class);
+        when(noBucket.execute()).thenThrow(new RiakRetryFailedException(new Exception("no such bucket")));
+        when(client.fetchBucket("Bar")).thenReturn(noBucket);
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                return client;
+            }
+        }, System.out, System.err);
+
+        // what consecutive single key fetches are merged into
+        MultiFetchCommand cmd = new MultiFetchCommand();
+        cmd.setReportEachKey(true);
+        cmd.params.bucket = "Foo";
+        cmd.params.keys = Arrays.asList("A", "bad1", "B", "bad2");
+        assertEquals(4, cmd.doExec(ctx).value.size());
+        assertEquals(2, ctx.getErrors().size());
+        assertEquals("Can't fetch object from bucket:timeout (key bad1)", ctx.getErrors().get(0).getMessage());
+        assertEquals("Can't fetch object from bucket:timeout (key bad2)", ctx.getErrors().get(1).getMessage());
+
+        ctx.getErrors().clear();
+        cmd = new MultiFetchCommand();
+        cmd.setReportEachKey(true);
+        cmd.params.bucket = "Bar";
+        cmd.params.keys = Arrays.asList("A", "B");
+        assertNull(cmd.doExec(ctx));
+        assertEquals(2, ctx.getErrors().size());
+        assertTrue(ctx.getErrors().get(1).getMessage().endsWith("(key B)"));
+    }
+
+    @Test
+    public void testBatches() throws Exception {
+        final Bucket bucket = mock(Bucket.class);
+        when(bucket.fetch(anyString())).thenReturn(new FetchObject<IRiakObject>(null, null, null, null) {
+            @Override
+            public IRiakObject execute() {
+                return mock(IRiakObject.class);
+            }
+        });
+        final FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                return client;
+            }
+        }, System.out, System.err);
+
+        final List<String> batches = new ArrayList<String>();
+        ctx.addActionListener(new EmptyActionListener() {
+            @Override
+            public void postFetchAction(FetchParams.Post params) {
+                batches.add("postfetch");
+            }
+
+            @Override
+            public void postFetchBatchAction(FetchParams.Batch params) {
+                batches.add(params.results.size() + (params.lastBatch ? " last" : ""));
+            }
+        }, true);
+
+        MultiFetchCommand cmd = new MultiFetchCommand();
+        cmd.params.bucket = "Foo";
+        cmd.params.keys = Arrays.asList("A", "B", "C", "D", "E");
+        Map<String, String> options = new HashMap<String, String>();
+        options.put("batch_size", "2");
+        cmd.params.options = options;
+        cmd.doExec(ctx);
+
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(Arrays.asList("2", "2", "1 last"), batches);
+
+        // a full final batch is still flagged as the last
+        batches.clear();
+        cmd = new MultiFetchCommand();
+        cmd.params.bucket = "Foo";
+        cmd.params.keys = Arrays.asList("A", "B", "C", "D");
+        cmd.params.options = options;
+        cmd.doExec(ctx);
+        assertEquals(Arrays.asList("2", "2 last"), batches);
+    }
+
+    @Test
+    public void testActionsRunAsBatchesArrive() throws Exception {
+        final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+        final Bucket bucket = mock(Bucket.class);
+        when(bucket.fetch(anyString())).thenAnswer(new Answer<FetchObject<IRiakObject>>() {
+            public FetchObject<IRiakObject> answer(InvocationOnMock invocation) {
+                final String key = (String) invocation.getArguments()[0];
+                return new FetchObject<IRiakObject>(null, null, null, null) {
+                    @Override
+                    public IRiakObject execute() {
+                        events.add("fetch " + key);
+                        return mock(IRiakObject.class);
+                    }
+                };
+            }
+        });
+        final FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                return client;
+            }
+        }, System.out, System.err);
+        final List<String> posted = new ArrayList<String>();
+        ctx.addActionListener(new EmptyActionListener() {
+            @Override
+            public void postFetchAction(FetchParams.Post params) {
+                events.add("post " + params.key);
+                posted.add(params.key);
+            }
+        }, true);
+
+        MultiFetchCommand cmd = new MultiFetchCommand();
+        cmd.params.bucket = "Foo";
+        cmd.params.keys = new ArrayList<String>();
+        for (int i = 0; i < 100; i++) {
+            cmd.params.keys.add("k" + i);
+        }
+        Map<String, String> options = new HashMap<String, String>();
+        options.put("concurrency", "3");
+        cmd.params.options = options;
+        ResultsSymbol results = cmd.doExec(ctx);
+
+        assertEquals(100, results.value.size());
+        assertEquals(cmd.params.keys, posted);
+        // workers only get a few batches ahead of postfetch
+        assertTrue(events.indexOf("post k0") < events.indexOf("fetch k99"));
+    }
+
+    @Test
+    public void testClientPerBatch() throws Exception {
+        final Bucket bucket = mock(Bucket.class);
+        when(bucket.fetch(anyString())).thenReturn(new FetchObject<IRiakObject>(null, null, null, null) {
+            @Override
+            public IRiakObject execute() {
+                return mock(IRiakObject.class);
+            }
+        });
+        final FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+        final AtomicInteger acquired = new AtomicInteger();
+        final AtomicInteger released = new AtomicInteger();
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                acquired.incrementAndGet();
+                return client;
+            }
+
+            @Override
+            public void releaseClient(IRiakClient c) {
+                released.incrementAndGet();
+            }
+        }, System.out, System.err);
+
+        MultiFetchCommand cmd = new MultiFetchCommand();
+        cmd.params.bucket = "Foo";
+        cmd.params.keys = new ArrayList<String>();
+        for (int i = 0; i < 25; i++) {
+            cmd.params.keys.add("k" + i);
+        }
+        Map<String, String> options = new HashMap<String, String>();
+        options.put("concurrency", "2");
+        cmd.params.options = options;
+        ResultsSymbol results = cmd.doExec(ctx);
+
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(25, results.value.size());
+        assertEquals("k24", ((MultiFetchCommand.KeyResult) results.value.get(24)).getKey());
+        // the command's own client, then one for each batch of 10
+        assertEquals(4, acquired.get());
+        assertEquals(4, released.get());
+    }
+
+    @Test
+    public void testBatchMovesToAnotherNode() throws Exception {
+        final Bucket bucket = mock(Bucket.class);
+        when(bucket.fetch(anyString())).thenReturn(new FetchObject<IRiakObject>(null, null, null, null) {
+            @Override
+            public IRiakObject execute() {
+                return mock(IRiakObject.class);
+            }
+        });
+        FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient up = mock(IRiakClient.class);
+        when(up.fetchBucket(anyString())).thenReturn(fb);
+        FetchBucket refused = mock(FetchBucket.class);
+        when(refused.execute()).thenThrow(new RiakRetryFailedException(new IOException("Connection refused")));
+        final IRiakClient down = mock(IRiakClient.class);
+        when(down.fetchBucket(anyString())).thenReturn(refused);
+        final List<IRiakClient> reported = new ArrayList<IRiakClient>();
+        final AtomicInteger acquired = new AtomicInteger();
+        final AtomicInteger released = new AtomicInteger();
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                // the command's own client is fine, the batch's isn't
+                return acquired.incrementAndGet() == 2 ? down : up;
+            }
+
+            @Override
+            public void releaseClient(IRiakClient c) {
+                released.incrementAndGet();
+            }
+
+            @Override
+            public void reportFailure(IRiakClient c) {
+                reported.add(c);
+            }
+        }, System.out, System.err);
+
+        MultiFetchCommand cmd = new MultiFetchCommand();
+        cmd.params.bucket = "Foo";
+        cmd.params.keys = Arrays.asList("A", "B", "C");
+        Map<String, String> options = new HashMap<String, String>();
+        options.put("concurrency", "1");
+        cmd.params.options = options;
+        ResultsSymbol results = cmd.doExec(ctx);
+
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(3, results.value.size());
+        for (Object o : results.value) {
+            assertTrue(((MultiFetchCommand.KeyResult) o).isSuccess());
+        }
+        assertEquals(Arrays.asList(down), reported);
+        assertEquals(acquired.get(), released.get());
+    }
+
+    @Test
+    public void testBadConcurrency() throws Exception {
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                return mock(IRiakClient.class);
+            }
+        }, System.out, System.err);
+        MultiFetchCommand cmd = new MultiFetchCommand();
+        cmd.params.bucket = "Foo";
+        cmd.params.keys = Arrays.asList("A");
+        Map<String, String> options = new HashMap<String, String>();
+        options.put("concurrency", "0");
+        cmd.params.options = options;
+        assertNull(cmd.doExec(ctx));
+        assertEquals(1, ctx.getErrors().size());
+    }
+
+    @Test
+    public void testFetchKeysFromFile() throws Exception {
+        final Bucket bucket = mock(Bucket.class);
+        when(bucket.fetch(anyString())).thenReturn(new FetchObject<IRiakObject>(null, null, null, null) {
+            @Override
+            public IRiakObject execute() {
+                return mock(IRiakObject.class);
+            }
+        });
+        final FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                return client;
+            }
+        }, System.out, System.err);
+
+        File f = File.createTempFile("contact-test", ".txt");
+        f.deleteOnExit();
+        List<String> keys = new ArrayList<String>();
+        for (int i = 0; i < 35; i++) {
+            keys.add("key" + i);
+        }
+        FileUtils.writeLines(f, "UTF-8", keys);
+
+        MultiFetchCommand cmd = new MultiFetchCommand();
+        cmd.params.bucket = "Foo";
+        cmd.setKeys(new KeysSymbol(f, keys.size()).iterateKeys());
+        ResultsSymbol results = cmd.doExec(ctx);
+
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(35, results.value.size());
+        for (int i = 0; i < 35; i++) {
+            assertEquals("key" + i, ((MultiFetchCommand.KeyResult) results.value.get(i)).getKey());
+        }
+    }
+}
@@ -19,9 +19,97 @@
  * under the License.
  * -------------------------------------------------------------------
  */
-
 package com.basho.contact.commands;
 
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.commands.core.Query2iCommand;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.bucket.Bucket;
+import com.basho.riak.client.bucket.FetchBucket;
+import com.basho.riak.client.operations.FetchObject;
+import com.basho.riak.client.query.indexes.BinIndex;
+import com.basho.riak.client.query.indexes.FetchIndex;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class QueryCommandTest {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testQueryAndFetchWithLimit() throws Exception {
+        final Bucket bucket = mock(Bucket.class);
+        FetchIndex<String> index = mock(FetchIndex.class);
+        List<String> keys = Arrays.asList("k1", "k2", "k3", "bad", "k5");
+        when(bucket.fetchIndex(any(BinIndex.class))).thenReturn(index);
+        when(index.withValue(anyString())).thenReturn(index);
+        when(index.execute()).thenReturn(keys);
+        when(bucket.fetch(anyString())).thenAnswer(new Answer<FetchObject<IRiakObject>>() {
+            public FetchObject<IRiakObject> answer(InvocationOnMock invocation) {
+                final String key = (String) invocation.getArguments()[0];
+                return new FetchObject<IRiakObject>(null, null, null, null) {
+                    @Override
+                    public IRiakObject execute() {
+                        if (key.equals("bad")) {
+                            throw new RuntimeException("timeout");
+                        }
+                        return mock(IRiakObject.class);
+                    }
+                };
+            }
+        });
+        FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+
+        final AtomicInteger inUse = new AtomicInteger();
+        RuntimeContext ctx = new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                inUse.incrementAndGet();
+                return client;
+            }
+
+            @Override
+            public void releaseClient(IRiakClient c) {
+                inUse.decrementAndGet();
+            }
+        }, System.out, System.err);
+
+        Query2iCommand cmd = new Query2iCommand();
+        cmd.params.bucket = "Foo";
+        cmd.params.indexName = "email_bin";
+        cmd.params.indexVal = "foo@bar.com";
+        cmd.params.doFetch = true;
+        Map<String, String> options = new HashMap<String, String>();
+        options.put("limit", "4");
+        options.put("page_size", "2");
+        options.put("concurrency", "2");
+        cmd.params.options = options;
+
+        assertEquals(keys, cmd.doExec(ctx).value);
+        // k5 is past the limit
+        verify(bucket, times(4)).fetch(anyString());
+        assertEquals(1, ctx.getErrors().size());
+        assertEquals("Can't fetch bad:timeout", ctx.getErrors().get(0).getMessage());
+        // every client borrowed for a batch went back
+        assertEquals(0, inUse.get());
+    }
 }
@@ -113,6 +113,23 @@ public class ContactParserTest {
     }
 
 
+    @Test
+    public void testAsync() {
+        try {
+            String script = ContactParserTest.loadResource("async.test");
+            testScript(script);
+        } catch (Throwable e) {
+            e.printStackTrace();
+            Assert.fail();
+        }
+    }
+
+    @Test
+    public void testKeywordsAsNames() throws Exception {
+        String script = ContactParserTest.loadResource("keywords.test");
+        Assert.assertFalse(testScript(script).isParseError());
+    }
+
     @Test
     public void testMisc() {
         try {
@@ -125,7 +142,7 @@ public class ContactParserTest {
     }
 
 
-    private void testScript(String script) throws Throwable {
+    private RuntimeContext testScript(String script) throws Exception {
         RuntimeContext ctx = new RuntimeContext(null, System.out, System.err);
         ANTLRInputStream input = new ANTLRInputStream(script);
         ContactLexer lexer = new ContactLexer(input);
@@ -134,6 +151,7 @@ public class ContactParserTest {
         // combine these two into one
         parser.addErrorListener(new ContactErrorListener(ctx));
         parser.prog();
+        return ctx;
     }
 
     public static String loadResource(String name) throws Exception {
@@ -0,0 +1,163 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.plan;
+
+import com.basho.contact.ContactExecutor;
+import com.basho.contact.ContactWalker;
+import com.basho.contact.ParallelScheduler;
+import com.basho.contact.ParserPipeline;
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.symbols.KeysSymbol;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import com.basho.riak.client.IRiakClient;
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.bucket.Bucket;
+import com.basho.riak.client.bucket.FetchBucket;
+import com.basho.riak.client.builders.RiakObjectBuilder;
+import com.basho.riak.client.operations.FetchObject;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LoopNodeTest {
+
+    private final List<String> fetched = Collections.synchronizedList(new ArrayList<String>());
+
+    private RuntimeContext context() throws Exception {
+        final Bucket bucket = mock(Bucket.class);
+        when(bucket.fetch(anyString())).thenAnswer(new org.mockito.stubbing.Answer<FetchObject<IRiakObject>>() {
+            public FetchObject<IRiakObject> answer(org.mockito.invocation.InvocationOnMock invocation) {
+                final String key = (String) invocation.getArguments()[0];
+                return new FetchObject<IRiakObject>(null, null, null, null) {
+                    @Override
+                    public IRiakObject execute() {
+                        fetched.add(key);
+                        return RiakObjectBuilder.newBuilder("Foo", key).withValue(key).build();
+                    }
+                };
+            }
+        });
+        final FetchBucket fb = mock(FetchBucket.class);
+        when(fb.execute()).thenReturn(bucket);
+        final IRiakClient client = mock(IRiakClient.class);
+        when(client.fetchBucket(anyString())).thenReturn(fb);
+        return new RuntimeContext(new EmptyConnectionProvider() {
+            @Override
+            public IRiakClient getDefaultClient(RuntimeContext ctx) {
+                return client;
+            }
+        }, System.out, System.err);
+    }
+
+    private void run(RuntimeContext ctx, String script) {
+        Plan plan = new ContactWalker(ctx).compile(new ParserPipeline(ctx).parse(script));
+        new PlanExecutor(ctx).execute(plan);
+    }
+
+    @Test
+    public void testRange() throws Exception {
+        RuntimeContext ctx = context();
+        run(ctx, "use bucket \"Foo\"; for i in 1..3 { fetch \"k\" + i; } for i in 2..1 { fetch \"r\" + i; }");
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(Arrays.asList("k1", "k2", "k3", "r2", "r1"), fetched);
+    }
+
+    @Test
+    public void testBindingAndNestedLoops() throws Exception {
+        RuntimeContext ctx = context();
+        run(ctx, "use bucket \"Foo\"; let found = fetch [\"A\", \"B\"];");
+        fetched.clear();
+        run(ctx, "for k in $found { for n in 1..2 { fetch k + \":\" + n; } }");
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(Arrays.asList("A:1", "A:2", "B:1", "B:2"), fetched);
+    }
+
+    @Test
+    public void testParallel() throws Exception {
+        RuntimeContext ctx = context();
+        run(ctx, "use bucket \"Foo\"; for i in 1..200 parallel 8 { fetch \"k\" + i; }");
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(200, fetched.size());
+        HashSet<String> keys = new HashSet<String>(fetched);
+        assertEquals(200, keys.size());
+        assertTrue(keys.contains("k1") && keys.contains("k200"));
+    }
+
+    @Test(timeout = 30000)
+    public void testNestedLoopInParallelLoop() throws Exception {
+        RuntimeContext ctx = context();
+        // fewer bulk lane threads than outer iterations, as with --parallel
+        ctx.getExecutor().configure(ContactExecutor.PoolType.FIXED, 2, 100);
+        ctx.setScheduler(new ParallelScheduler(ctx, 4, System.out));
+        run(ctx, "for i in 1..6 parallel 2 { for j in 1..3 { use bucket \"Foo\"; fetch \"k\" + i + \":\" + j; } }");
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(18, new HashSet<String>(fetched).size());
+        // the inner loop still runs in order within each iteration
+        for (int i = 1; i <= 6; i++) {
+            assertTrue(fetched.indexOf("k" + i + ":1") < fetched.indexOf("k" + i + ":3"));
+        }
+    }
+
+    @Test
+    public void testKeysFromFile() throws Exception {
+        RuntimeContext ctx = context();
+        File f = File.createTempFile("contact-test", ".txt");
+        f.deleteOnExit();
+        FileUtils.writeLines(f, "UTF-8", Arrays.asList("A", "B", "C"));
+        ctx.bind("all_keys", new KeysSymbol(f, 3));
+        run(ctx, "use bucket \"Foo\"; for k in $all_keys { fetch k; }");
+        assertEquals(0, ctx.getErrors().size());
+        assertEquals(Arrays.asList("A", "B", "C"), fetched);
+    }
+
+    @Test
+    public void testUnknownVariableStopsLoop() throws Exception {
+        RuntimeContext ctx = context();
+        run(ctx, "use bucket \"Foo\"; for i in 1..3 { fetch \"k\" + j; }");
+        assertEquals(1, ctx.getErrors().size());
+        assertTrue(fetched.isEmpty());
+    }
+
+    @Test
+    public void testBodyCompiledPerIteration() throws Exception {
+        RuntimeContext ctx = context();
+        Plan plan = new ContactWalker(ctx).compile(new ParserPipeline(ctx).parse(
+                "for i in 1..1000000 { fetch \"k\" + i; }"));
+        // the body isn't compiled until the loop runs
+        assertEquals(1, plan.size());
+        assertTrue(plan.getNodes().get(0) instanceof LoopNode);
+        assertEquals(0, ctx.getErrors().size());
+    }
+}
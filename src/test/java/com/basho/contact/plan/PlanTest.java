@@ -0,0 +1,167 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.plan;
+
+import com.basho.contact.ContactWalker;
+import com.basho.contact.ParserPipeline;
+import com.basho.contact.RuntimeContext;
+import com.basho.contact.commands.core.DeleteCommand;
+import com.basho.contact.commands.core.FetchCommand;
+import com.basho.contact.commands.core.MultiFetchCommand;
+import com.basho.contact.testing.EmptyConnectionProvider;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PlanTest {
+
+    private RuntimeContext context() {
+        return new RuntimeContext(new EmptyConnectionProvider(), System.out, System.err);
+    }
+
+    private Plan compile(RuntimeContext ctx, String script) {
+        return new ContactWalker(ctx).compile(new ParserPipeline(ctx).parse(script));
+    }
+
+    private CommandNode command(Plan plan, int index) {
+        return (CommandNode) plan.getNodes().get(index);
+    }
+
+    @Test
+    public void testCompileRunsNothing() {
+        RuntimeContext ctx = context();
+        String postfetch = ctx.getJSActionListener().getJSBody("postfetch");
+        Plan plan = compile(ctx, "use bucket \"Foo\";" +
+                                 "set action postfetch with javascript \"println(1);\";" +
+                                 "fetch \"A\";" +
+                                 "let x = fetch \"B\";");
+        assertEquals(4, plan.size());
+        assertEquals(0, ctx.getErrors().size());
+        assertNull(ctx.getCurrentBucket());
+        assertEquals(postfetch, ctx.getJSActionListener().getJSBody("postfetch"));
+        assertNull(ctx.getBinding("x"));
+        assertEquals("x", command(plan, 3).getAssignment());
+    }
+
+    @Test
+    public void testResolveBuckets() {
+        RuntimeContext ctx = context();
+        Plan plan = compile(ctx, "use bucket \"A\" with fetch options r=1;" +
+                                 "fetch \"k\" with options pr=2;" +
+                                 "using bucket \"B\" fetch \"x\";" +
+                                 "use bucket \"C\";" +
+                                 "delete \"d\";");
+        plan = new ResolveBucketsPass().apply(plan, ctx);
+
+        FetchCommand k = (FetchCommand) command(plan, 1).getCommand();
+        assertEquals("A", k.params.bucket);
+        assertEquals("1", k.params.options.get("r"));
+        assertEquals("2", k.params.options.get("pr"));
+
+        FetchCommand x = (FetchCommand) command(plan, 2).getCommand();
+        assertEquals("B", x.params.bucket);
+        assertEquals("1", x.params.options.get("r"));
+
+        DeleteCommand d = (DeleteCommand) command(plan, 4).getCommand();
+        assertEquals("C", d.params.bucket);
+        assertTrue(command(plan, 4).isResolved());
+        // nothing has run
+        assertNull(ctx.getCurrentBucket());
+    }
+
+    @Test
+    public void testKeywordsAsNames() {
+        RuntimeContext ctx = context();
+        Plan plan = compile(ctx, "use bucket \"A\";" +
+                                 "let async = async fetch \"a\";" +
+                                 "fetch \"b\" with options engine = \"x\";" +
+                                 "fetch \"c\" @ $executor;");
+        assertFalse(ctx.isParseError());
+        assertEquals("async", command(plan, 1).getAssignment());
+        assertTrue(command(plan, 1).isAsync());
+        FetchCommand b = (FetchCommand) command(plan, 2).getCommand();
+        assertEquals("x", b.params.options.get("engine"));
+        assertEquals("$executor", command(plan, 3).getConnectionId());
+    }
+
+    @Test
+    public void testMergeFetches() {
+        RuntimeContext ctx = context();
+        PlanExecutor executor = new PlanExecutor(ctx);
+        Plan plan = executor.optimize(compile(ctx, "use bucket \"A\";" +
+                                                   "fetch \"a\";" +
+                                                   "fetch \"b\";" +
+                                                   "fetch \"c\";" +
+                                                   "fetch \"d\" with options r=1;" +
+                                                   "let x = fetch \"e\";" +
+                                                   "using bucket \"B\" fetch \"f\";" +
+                                                   "using bucket \"B\" fetch \"g\";"));
+        assertEquals(5, plan.size());
+        MultiFetchCommand abc = (MultiFetchCommand) command(plan, 1).getCommand();
+        assertEquals(Arrays.asList("a", "b", "c"), abc.params.keys);
+        assertTrue(abc.isReportEachKey());
+        assertEquals("A", abc.params.bucket);
+        assertEquals(FetchCommand.class, command(plan, 2).getCommand().getClass());
+        assertEquals("x", command(plan, 3).getAssignment());
+        MultiFetchCommand fg = (MultiFetchCommand) command(plan, 4).getCommand();
+        assertEquals(Arrays.asList("f", "g"), fg.params.keys);
+        assertEquals("B", fg.params.bucket);
+    }
+
+    @Test
+    public void testPrefetchActionStopsMerge() {
+        RuntimeContext ctx = context();
+        Plan plan = new PlanExecutor(ctx).optimize(compile(ctx,
+                "fetch \"a\";" +
+                "fetch \"b\";" +
+                "set action prefetch with javascript \"println(key);\";" +
+                "fetch \"c\";" +
+                "fetch \"d\";"));
+        assertEquals(4, plan.size());
+        assertEquals(MultiFetchCommand.class, command(plan, 0).getCommand().getClass());
+        assertEquals(FetchCommand.class, command(plan, 2).getCommand().getClass());
+        assertEquals(FetchCommand.class, command(plan, 3).getCommand().getClass());
+    }
+
+    @Test
+    public void testDropNoopActions() {
+        RuntimeContext ctx = context();
+        Plan plan = new DropNoopActionsPass().apply(compile(ctx,
+                "set action prestore with javascript \"\";" +
+                "set action postfetch with javascript \"println(1);\";" +
+                "set action postfetch with javascript \"println(2);\";" +
+                "fetch \"a\";" +
+                "set action postfetch with javascript \"println(3);\";"), ctx);
+        List<PlanNode> nodes = plan.getNodes();
+        assertEquals(3, nodes.size());
+        assertEquals("println(2);", ((SetActionNode) nodes.get(0)).getBody());
+        assertTrue(nodes.get(1) instanceof CommandNode);
+        assertEquals("println(3);", ((SetActionNode) nodes.get(2)).getBody());
+    }
+}
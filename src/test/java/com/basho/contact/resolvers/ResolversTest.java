@@ -0,0 +1,99 @@
+/*
+ * -------------------------------------------------------------------
+ * Contact: a language and interactive shell for Riak
+ *
+ * Copyright (c) 2013 Dave Parfitt
+ *
+ * This file is provided to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License.  You may obtain
+ * a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ * -------------------------------------------------------------------
+ */
+
+package com.basho.contact.resolvers;
+
+import com.basho.riak.client.IRiakObject;
+import com.basho.riak.client.builders.RiakObjectBuilder;
+import com.basho.riak.client.cap.UnresolvedConflictException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ResolversTest {
+
+    private static IRiakObject sibling(String value, long lastModified, int vclockSize) {
+        return RiakObjectBuilder.newBuilder("Foo", "k")
+                .withValue(value)
+                .withLastModified(lastModified)
+                .withVClock(new byte[vclockSize])
+                .build();
+    }
+
+    @Test
+    public void testServiceLoader() {
+        assertEquals(Arrays.asList("json_merge", "largest_vclock", "last_write_wins", "set_union"),
+                Arrays.asList(Resolvers.getResolvers().keySet().toArray()));
+        assertNotNull(Resolvers.get("last_write_wins"));
+        assertNull(Resolvers.get("nope"));
+    }
+
+    @Test
+    public void testLastWriteWins() {
+        IRiakObject a = sibling("a", 1000, 10);
+        IRiakObject b = sibling("b", 3000, 5);
+        IRiakObject c = sibling("c", 2000, 20);
+        assertSame(b, new LastWriteWinsResolver().resolve(Arrays.asList(a, b, c)));
+        assertNull(new LastWriteWinsResolver().resolve(Collections.<IRiakObject>emptyList()));
+    }
+
+    @Test
+    public void testLargestVClock() {
+        IRiakObject a = sibling("a", 1000, 10);
+        IRiakObject b = sibling("b", 3000, 5);
+        IRiakObject c = sibling("c", 2000, 20);
+        IRiakObject d = sibling("d", 4000, 20);
+        assertSame(c, new LargestVClockResolver().resolve(Arrays.asList(a, b, c)));
+        // ties go to the latest write
+        assertSame(d, new LargestVClockResolver().resolve(Arrays.asList(a, c, d)));
+    }
+
+    @Test
+    public void testJsonMerge() {
+        IRiakObject a = sibling("{\"name\":\"dave\",\"address\":{\"city\":\"Buffalo\",\"zip\":14222}}", 1000, 1);
+        IRiakObject b = sibling("{\"age\":99,\"address\":{\"city\":\"Albany\"}}", 2000, 1);
+        IRiakObject resolved = new JsonMergeResolver().resolve(Arrays.asList(b, a));
+        assertEquals("{\"name\":\"dave\",\"address\":{\"city\":\"Albany\",\"zip\":14222},\"age\":99}",
+                resolved.getValueAsString());
+        assertEquals("application/json", resolved.getContentType());
+    }
+
+    @Test
+    public void testSetUnion() {
+        IRiakObject a = sibling("[1,2,{\"x\":1}]", 1000, 1);
+        IRiakObject b = sibling("[2,3,{\"x\":1}]", 2000, 1);
+        IRiakObject deleted = RiakObjectBuilder.newBuilder("Foo", "k").withDeleted(true).build();
+        IRiakObject resolved = new SetUnionResolver().resolve(Arrays.asList(a, deleted, b));
+        assertEquals("[1,2,{\"x\":1},3]", resolved.getValueAsString());
+    }
+
+    @Test(expected = UnresolvedConflictException.class)
+    public void testSetUnionNeedsArrays() {
+        new SetUnionResolver().resolve(Arrays.asList(sibling("[1]", 1000, 1), sibling("{}", 2000, 1)));
+    }
+}